@@ -0,0 +1,315 @@
+package com.gebogebo.kronology.indian;
+
+import static com.gebogebo.kronology.indian.IndianYearInfo.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Maps instants, given as epoch milliseconds or epoch seconds, to Saka day, month and year buckets.
+ *
+ * <p>
+ * The buckets are primitive values that can be used directly as keys or array indexes for aggregation:
+ * <ul>
+ * <li>day bucket - the epoch day of the local date, where day 0 is 1970-01-01 (ISO)
+ * <li>month bucket - the proleptic month of the local Saka date, {@code year * 12 + month - 1}
+ * <li>year bucket - the proleptic year of the local Saka date
+ * </ul>
+ * The local date is computed with a fixed offset or with the rules of a {@link ZoneId}. For a zone with a changing
+ * offset, the transitions from 1800 to 2200 (ISO) are copied into primitive arrays when the bucketer is created and
+ * the last used transition is remembered, so that bucketing a timestamp is a handful of arithmetic operations and no
+ * objects are created. Instants outside of that window use the zone rules directly.
+ * <p>
+ * The bulk methods also remember the last month, so that runs of timestamps from the same month, as is typical for
+ * event streams, skip the month computation entirely.
+ *
+ * @implSpec
+ * This class is thread-safe. Its only mutable state is a cache of the last used offset, written by the lookups without
+ * synchronization, which is benign as the cached index is validated before use.
+ * All the methods accept and return non-null values.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianBucketer {
+
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final long MILLIS_PER_DAY = SECONDS_PER_DAY * 1000L;
+
+    /**
+     * The window, in epoch seconds, for which the offset transitions of a zone are cached.
+     */
+    private static final long WINDOW_START = LocalDateTime.of(1800, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final long WINDOW_END = LocalDateTime.of(2200, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    /**
+     * A bucketer for the Indian Standard Time, a fixed offset of +05:30.
+     */
+    public static final IndianBucketer IST = of(ZoneOffset.ofHoursMinutes(5, 30));
+
+    private final ZoneId zone;
+    private final int fixedOffsetSeconds;
+    private final ZoneRules rules;
+    private final long[] transitions;
+    private final int[] offsets;
+
+    /**
+     * Index of the last used offset. Races are harmless as the index is always validated before use.
+     */
+    private int lastSegment;
+
+    /**
+     * Creates a bucketer for the given zone.
+     *
+     * @param zone         zone used to compute the local date
+     * @param fixedOffset  offset of the zone if it's fixed, null otherwise
+     */
+    private IndianBucketer(ZoneId zone, ZoneOffset fixedOffset) {
+        this.zone = zone;
+        if (fixedOffset != null) {
+            this.fixedOffsetSeconds = fixedOffset.getTotalSeconds();
+            this.rules = null;
+            this.transitions = null;
+            this.offsets = null;
+            return;
+        }
+        this.fixedOffsetSeconds = 0;
+        this.rules = zone.getRules();
+        long[] transitions = new long[64];
+        int[] offsets = new int[65];
+        offsets[0] = rules.getOffset(Instant.ofEpochSecond(WINDOW_START)).getTotalSeconds();
+        int count = 0;
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(WINDOW_START));
+        while (transition != null && transition.toEpochSecond() < WINDOW_END) {
+            if (count == transitions.length) {
+                transitions = Arrays.copyOf(transitions, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2 + 1);
+            }
+            transitions[count] = transition.toEpochSecond();
+            offsets[++count] = transition.getOffsetAfter().getTotalSeconds();
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        this.transitions = Arrays.copyOf(transitions, count);
+        this.offsets = Arrays.copyOf(offsets, count + 1);
+    }
+
+    /**
+     * Obtains a bucketer for the given fixed offset.
+     *
+     * @param offset  offset used to compute the local date
+     * @return        a bucketer for the offset
+     */
+    public static IndianBucketer of(ZoneOffset offset) {
+        return new IndianBucketer(offset, offset);
+    }
+
+    /**
+     * Obtains a bucketer for the given zone.
+     *
+     * @param zone  zone used to compute the local date
+     * @return      a bucketer for the zone
+     */
+    public static IndianBucketer of(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        ZoneRules rules = zone.getRules();
+        return new IndianBucketer(zone, rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null);
+    }
+
+    /**
+     * Gets the zone of this bucketer.
+     *
+     * @return  zone used to compute the local date
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Gets the day bucket, the local epoch day, of the given instant.
+     *
+     * @param epochMilli  milliseconds from 1970-01-01T00:00:00Z
+     * @return            epoch day of the local date
+     */
+    public long dayOfEpochMilli(long epochMilli) {
+        if (rules == null) {
+            return Math.floorDiv(epochMilli + fixedOffsetSeconds * 1000L, MILLIS_PER_DAY);
+        }
+        long epochSecond = Math.floorDiv(epochMilli, 1000L);
+        return Math.floorDiv(epochSecond + offsetSeconds(epochSecond), SECONDS_PER_DAY);
+    }
+
+    /**
+     * Gets the day bucket, the local epoch day, of the given instant.
+     *
+     * @param epochSecond  seconds from 1970-01-01T00:00:00Z
+     * @return             epoch day of the local date
+     */
+    public long dayOfEpochSecond(long epochSecond) {
+        return Math.floorDiv(epochSecond + offsetSeconds(epochSecond), SECONDS_PER_DAY);
+    }
+
+    /**
+     * Gets the month bucket, the proleptic month of the local Saka date, of the given instant.
+     *
+     * @param epochMilli  milliseconds from 1970-01-01T00:00:00Z
+     * @return            {@code year * 12 + month - 1} of the local Saka date
+     */
+    public long monthOfEpochMilli(long epochMilli) {
+        return monthOfEpochDay(dayOfEpochMilli(epochMilli));
+    }
+
+    /**
+     * Gets the month bucket, the proleptic month of the local Saka date, of the given instant.
+     *
+     * @param epochSecond  seconds from 1970-01-01T00:00:00Z
+     * @return             {@code year * 12 + month - 1} of the local Saka date
+     */
+    public long monthOfEpochSecond(long epochSecond) {
+        return monthOfEpochDay(dayOfEpochSecond(epochSecond));
+    }
+
+    /**
+     * Gets the year bucket, the proleptic year of the local Saka date, of the given instant.
+     *
+     * @param epochMilli  milliseconds from 1970-01-01T00:00:00Z
+     * @return            proleptic year of the local Saka date
+     */
+    public int yearOfEpochMilli(long epochMilli) {
+        return IndianYearInfo.DEFAULT.prolepticYear(dayOfEpochMilli(epochMilli));
+    }
+
+    /**
+     * Gets the year bucket, the proleptic year of the local Saka date, of the given instant.
+     *
+     * @param epochSecond  seconds from 1970-01-01T00:00:00Z
+     * @return             proleptic year of the local Saka date
+     */
+    public int yearOfEpochSecond(long epochSecond) {
+        return IndianYearInfo.DEFAULT.prolepticYear(dayOfEpochSecond(epochSecond));
+    }
+
+    /**
+     * Writes the day buckets of the instants from {@code from} (inclusive) to {@code to} (exclusive) into the
+     * destination, starting at index 0.
+     *
+     * @param epochMillis  milliseconds from 1970-01-01T00:00:00Z
+     * @param from         first index to bucket, inclusive
+     * @param to           last index to bucket, exclusive
+     * @param dest         the array to write the day buckets to
+     */
+    public void daysOfEpochMillis(long[] epochMillis, int from, int to, long[] dest) {
+        Objects.checkFromToIndex(from, to, epochMillis.length);
+        Objects.checkFromToIndex(0, to - from, dest.length);
+        for (int i = from; i < to; i++) {
+            dest[i - from] = dayOfEpochMilli(epochMillis[i]);
+        }
+    }
+
+    /**
+     * Writes the month buckets of the instants from {@code from} (inclusive) to {@code to} (exclusive) into the
+     * destination, starting at index 0.
+     *
+     * @param epochMillis  milliseconds from 1970-01-01T00:00:00Z
+     * @param from         first index to bucket, inclusive
+     * @param to           last index to bucket, exclusive
+     * @param dest         the array to write the month buckets to
+     */
+    public void monthsOfEpochMillis(long[] epochMillis, int from, int to, long[] dest) {
+        Objects.checkFromToIndex(from, to, epochMillis.length);
+        Objects.checkFromToIndex(0, to - from, dest.length);
+        // the epoch days from monthStart (inclusive) to monthEnd (exclusive) belong to the month
+        long monthStart = 0;
+        long monthEnd = 0;
+        long month = 0;
+        for (int i = from; i < to; i++) {
+            long epochDay = dayOfEpochMilli(epochMillis[i]);
+            if (epochDay < monthStart || epochDay >= monthEnd) {
+                int year = IndianYearInfo.DEFAULT.prolepticYear(epochDay);
+                boolean isLeapYear = IndianYearInfo.DEFAULT.isLeapYear(year);
+                long yearStart = IndianYearInfo.DEFAULT.yearStartEpochDay(year);
+                int monthOfYear = monthOfDayOfYear((int) (epochDay - yearStart), isLeapYear);
+                monthStart = yearStart + monthStartDayOfYear(monthOfYear, isLeapYear);
+                monthEnd = monthStart + lengthOfMonth(monthOfYear, isLeapYear);
+                month = year * 12L + monthOfYear - 1;
+            }
+            dest[i - from] = month;
+        }
+    }
+
+    /**
+     * Writes the year buckets of the instants from {@code from} (inclusive) to {@code to} (exclusive) into the
+     * destination, starting at index 0.
+     *
+     * @param epochMillis  milliseconds from 1970-01-01T00:00:00Z
+     * @param from         first index to bucket, inclusive
+     * @param to           last index to bucket, exclusive
+     * @param dest         the array to write the year buckets to
+     */
+    public void yearsOfEpochMillis(long[] epochMillis, int from, int to, int[] dest) {
+        Objects.checkFromToIndex(from, to, epochMillis.length);
+        Objects.checkFromToIndex(0, to - from, dest.length);
+        long yearStart = 0;
+        long yearEnd = 0;
+        int year = 0;
+        for (int i = from; i < to; i++) {
+            long epochDay = dayOfEpochMilli(epochMillis[i]);
+            if (epochDay < yearStart || epochDay >= yearEnd) {
+                year = IndianYearInfo.DEFAULT.prolepticYear(epochDay);
+                yearStart = IndianYearInfo.DEFAULT.yearStartEpochDay(year);
+                yearEnd = IndianYearInfo.DEFAULT.yearStartEpochDay(year + 1L);
+            }
+            dest[i - from] = year;
+        }
+    }
+
+    /**
+     * Gets the first day of the given month bucket.
+     *
+     * @param month  month bucket, {@code year * 12 + month - 1}
+     * @return       the first day of the month
+     */
+    public static IndianNationalDate startOfMonth(long month) {
+        return new IndianNationalDate(Math.toIntExact(Math.floorDiv(month, 12)), Math.floorMod(month, 12) + 1, 1);
+    }
+
+    @Override
+    public String toString() {
+        return "IndianBucketer[" + zone + "]";
+    }
+
+    /**
+     * Gets the month bucket of the given epoch day.
+     */
+    private static long monthOfEpochDay(long epochDay) {
+        int year = IndianYearInfo.DEFAULT.prolepticYear(epochDay);
+        int dayOfYear = (int) (epochDay - IndianYearInfo.DEFAULT.yearStartEpochDay(year));
+        return year * 12L + monthOfDayOfYear(dayOfYear, IndianYearInfo.DEFAULT.isLeapYear(year)) - 1;
+    }
+
+    /**
+     * Gets the offset from UTC, in seconds, at the given instant.
+     */
+    private int offsetSeconds(long epochSecond) {
+        if (rules == null) {
+            return fixedOffsetSeconds;
+        }
+        if (epochSecond < WINDOW_START || epochSecond >= WINDOW_END) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        // the segment i holds the instants from transitions[i - 1] (inclusive) to transitions[i] (exclusive)
+        int segment = lastSegment;
+        if ((segment > 0 && epochSecond < transitions[segment - 1]) ||
+                (segment < transitions.length && epochSecond >= transitions[segment])) {
+            segment = Arrays.binarySearch(transitions, epochSecond);
+            segment = segment >= 0 ? segment + 1 : -segment - 1;
+            lastSegment = segment;
+        }
+        return offsets[segment];
+    }
+}
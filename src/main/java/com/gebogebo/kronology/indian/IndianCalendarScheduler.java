@@ -0,0 +1,556 @@
+package com.gebogebo.kronology.indian;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * A scheduler of tasks at times of Saka days, and on Saka calendar boundaries such as the start of every month, 1
+ * Chaitra or the end of every day, for a large number of tasks.
+ *
+ * <p>
+ * The time of a task is given as an epoch day and a time of day in the fixed offset of the scheduler, India Standard
+ * Time (+05:30) by default, and is rounded up to the tick of the scheduler, 100 milliseconds by default. The tasks are
+ * kept in a hierarchical timer wheel of 11 levels of 64 slots: a task is in the level of the highest bit, in groups of
+ * 6, where its tick differs from the current tick, and is moved to the lower levels as the current tick gets closer.
+ * Adding and cancelling a task are O(1), and advancing the wheel to the next tick with a task is O(1) too, using a
+ * bitmap of the non-empty slots of each level, so a scheduler holding hundreds of thousands of tasks over several
+ * years only wakes up once per tick.
+ * <p>
+ * The recurring tasks follow an {@link IndianRecurrenceRule}: the next occurrence is computed arithmetically from the
+ * epoch day of the current one when it fires, without converting any date, and the task is put back in the wheel
+ * before it's run. {@link #atEveryMonthStart(LongConsumer)}, {@link #atEveryYearStart(LongConsumer)} and
+ * {@link #atEveryDayEnd(LongConsumer)} cover the common boundaries.
+ * <p>
+ * The wheel is owned by a single daemon thread; the other threads add and cancel tasks through lock-free queues, which
+ * the wheel thread drains at every tick. The tasks are run on the executor of the scheduler, by default a virtual
+ * thread per task where the runtime supports it, and the {@linkplain ForkJoinPool#commonPool() common pool}
+ * otherwise. A task rejected by the executor is dropped and counted.
+ * <p>
+ * Epoch days used by this class are the same as {@link IndianNationalDate#toEpochDay()}, where day 0 is 1970-01-01
+ * (ISO).
+ *
+ * @implSpec
+ * This class is thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianCalendarScheduler implements AutoCloseable {
+
+    /**
+     * India Standard Time, the default offset of the scheduler.
+     */
+    public static final ZoneOffset IST = ZoneOffset.ofHoursMinutes(5, 30);
+
+    /**
+     * Tick of the scheduler when none is given, in milliseconds.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 100;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * Largest epoch day, before or after 1970-01-01, of which the time in milliseconds can't overflow.
+     */
+    private static final long MAX_EPOCH_DAY = Long.MAX_VALUE / MILLIS_PER_DAY / 2;
+
+    private static final IndianRecurrenceRule DAILY = IndianRecurrenceRule.daily();
+    private static final IndianRecurrenceRule MONTHLY = IndianRecurrenceRule.monthly(1);
+    private static final IndianRecurrenceRule YEARLY = IndianRecurrenceRule.yearly(1, 1);
+
+    private final ZoneOffset offset;
+    private final Clock clock;
+    private final long tickMillis;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final Thread thread;
+
+    private final ConcurrentLinkedQueue<Task> added = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Task> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong firedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private volatile boolean closed;
+
+    // owned by the wheel thread
+    private final Task[] slots = new Task[LEVELS * SLOTS];
+    private final long[] occupied = new long[LEVELS];
+    private final ArrayDeque<Task> due = new ArrayDeque<>();
+    private long currentTick;
+
+    private IndianCalendarScheduler(ZoneOffset offset, Clock clock, long tickMillis, Executor executor,
+                                    boolean ownsExecutor) {
+        this.offset = offset;
+        this.clock = clock;
+        this.tickMillis = tickMillis;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.currentTick = Math.floorDiv(clock.millis(), tickMillis);
+        this.thread = new Thread(this::run, "IndianCalendarScheduler");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Creates a scheduler in India Standard Time with the system clock, the default tick and the default executor.
+     *
+     * @return  a started scheduler
+     */
+    public static IndianCalendarScheduler create() {
+        return create(IST, Clock.systemUTC(), DEFAULT_TICK_MILLIS, null);
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param offset                     the offset of the times of day of the tasks
+     * @param clock                      the clock giving the current instant
+     * @param tickMillis                 the tick in milliseconds, to which the times of the tasks are rounded up
+     * @param executor                   the executor running the tasks, or <code>null</code> for the default one
+     * @return                           a started scheduler
+     * @throws IllegalArgumentException  if the tick is not positive
+     */
+    public static IndianCalendarScheduler create(ZoneOffset offset, Clock clock, long tickMillis, Executor executor) {
+        Objects.requireNonNull(offset, "offset");
+        Objects.requireNonNull(clock, "clock");
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Invalid tick: " + tickMillis);
+        }
+        Executor taskExecutor = executor != null ? executor : defaultExecutor();
+        // only the virtual thread executor created for the scheduler is shut down with it
+        boolean ownsExecutor = executor == null && taskExecutor != ForkJoinPool.commonPool();
+        IndianCalendarScheduler scheduler = new IndianCalendarScheduler(offset, clock, tickMillis, taskExecutor,
+                                                                        ownsExecutor);
+        scheduler.thread.start();
+        return scheduler;
+    }
+
+    /**
+     * Schedules a task once, at the given time of the given day.
+     *
+     * @param epochDay                     the epoch day to run the task on
+     * @param time                         the time of day, in the offset of the scheduler
+     * @param task                         the task, which receives the epoch day
+     * @return                             the scheduled task, run at the next tick if the time is past
+     * @throws DateTimeException           if the epoch day is out of the range of the scheduler
+     * @throws RejectedExecutionException  if the scheduler is closed
+     */
+    public Task schedule(long epochDay, LocalTime time, LongConsumer task) {
+        return add(new Task(this, null, epochDay, time.toNanoOfDay(), task));
+    }
+
+    /**
+     * Schedules a task once, at the given date and time.
+     *
+     * @param dateTime                     the date and time, in the offset of the scheduler
+     * @param task                         the task, which receives the epoch day
+     * @return                             the scheduled task, run at the next tick if the time is past
+     * @throws DateTimeException           if the epoch day is out of the range of the scheduler
+     * @throws RejectedExecutionException  if the scheduler is closed
+     */
+    public Task schedule(IndianDateTime dateTime, LongConsumer task) {
+        return schedule(dateTime.toLocalDate().toEpochDay(), dateTime.toLocalTime(), task);
+    }
+
+    /**
+     * Schedules a task at the given time of every occurrence of a rule, from the next one.
+     *
+     * @param rule  the rule giving the days of the task
+     * @param time  the time of day, in the offset of the scheduler
+     * @param task  the task, which receives the epoch day of each occurrence
+     * @return      the scheduled task, until it's cancelled
+     */
+    public Task scheduleAtEvery(IndianRecurrenceRule rule, LocalTime time, LongConsumer task) {
+        Objects.requireNonNull(rule, "rule");
+        long nanoOfDay = time.toNanoOfDay();
+        long localMillis = clock.millis() + offset.getTotalSeconds() * 1000L;
+        long epochDay = rule.nextEpochDay(Math.floorDiv(localMillis, MILLIS_PER_DAY));
+        if (epochDay * MILLIS_PER_DAY + nanoOfDay / 1_000_000 <= localMillis) {
+            epochDay = rule.nextEpochDay(epochDay + 1);
+        }
+        return add(new Task(this, rule, epochDay, nanoOfDay, task));
+    }
+
+    /**
+     * Schedules a task at the start of every Saka month.
+     *
+     * @param task  the task, which receives the epoch day of the first day of the month
+     * @return      the scheduled task, until it's cancelled
+     */
+    public Task atEveryMonthStart(LongConsumer task) {
+        return scheduleAtEvery(MONTHLY, LocalTime.MIDNIGHT, task);
+    }
+
+    /**
+     * Schedules a task at the start of every Saka year, on 1 Chaitra.
+     *
+     * @param task  the task, which receives the epoch day of 1 Chaitra
+     * @return      the scheduled task, until it's cancelled
+     */
+    public Task atEveryYearStart(LongConsumer task) {
+        return scheduleAtEvery(YEARLY, LocalTime.MIDNIGHT, task);
+    }
+
+    /**
+     * Schedules a task at the end of every Saka day, at the midnight starting the next day.
+     *
+     * @param task  the task, which receives the epoch day of the day that ended
+     * @return      the scheduled task, until it's cancelled
+     */
+    public Task atEveryDayEnd(LongConsumer task) {
+        Objects.requireNonNull(task, "task");
+        return scheduleAtEvery(DAILY, LocalTime.MIDNIGHT, epochDay -> task.accept(epochDay - 1));
+    }
+
+    /**
+     * Gets the number of scheduled tasks, including the recurring ones, which are not cancelled or done.
+     *
+     * @return  the number of pending tasks
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Gets the number of times a task was handed to the executor.
+     *
+     * @return  the number of fired tasks
+     */
+    public long getFiredCount() {
+        return firedCount.get();
+    }
+
+    /**
+     * Gets the number of times a task was rejected by the executor.
+     *
+     * @return  the number of rejected tasks
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Stops the scheduler. The pending tasks are not run, and the default executor is shut down.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(thread);
+        if (ownsExecutor && executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IndianCalendarScheduler[" + offset + ", tick=" + tickMillis + "ms, pending=" + getPendingCount() + "]";
+    }
+
+    private Task add(Task task) {
+        if (closed) {
+            throw new RejectedExecutionException("Scheduler is closed");
+        }
+        if (Math.abs(task.epochDay) > MAX_EPOCH_DAY) {
+            throw new DateTimeException("Epoch day out of the range of the scheduler: " + task.epochDay);
+        }
+        task.deadlineTick = deadlineTick(task.epochDay, task.nanoOfDay);
+        pendingCount.incrementAndGet();
+        added.add(task);
+        return task;
+    }
+
+    /**
+     * Gets the first tick at or after the given time.
+     */
+    private long deadlineTick(long epochDay, long nanoOfDay) {
+        long millis = epochDay * MILLIS_PER_DAY + (nanoOfDay + 999_999) / 1_000_000 - offset.getTotalSeconds() * 1000L;
+        return -Math.floorDiv(-millis, tickMillis);
+    }
+
+    /**
+     * Runs the wheel until the scheduler is closed, waking up at every tick.
+     */
+    private void run() {
+        while (!closed) {
+            for (Task task; (task = cancelled.poll()) != null; ) {
+                unlink(task);
+            }
+            for (Task task; (task = added.poll()) != null; ) {
+                if (task.state == Task.WAITING) {
+                    insert(task);
+                }
+            }
+            fireDue();
+            long millis = clock.millis();
+            advance(Math.floorDiv(millis, tickMillis));
+            long sleepMillis = tickMillis - Math.floorMod(millis, tickMillis);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(sleepMillis));
+        }
+    }
+
+    /**
+     * Puts a task in the slot of the level of the highest bit where its tick differs from the current tick, or in the
+     * queue of the due tasks.
+     */
+    private void insert(Task task) {
+        long deadline = task.deadlineTick;
+        if (deadline <= currentTick) {
+            due.add(task);
+            return;
+        }
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(deadline ^ currentTick)) / SLOT_BITS;
+        int slot = (int) (deadline >>> (level * SLOT_BITS)) & (SLOTS - 1);
+        int index = level * SLOTS + slot;
+        Task head = slots[index];
+        task.prev = null;
+        task.next = head;
+        if (head != null) {
+            head.prev = task;
+        }
+        slots[index] = task;
+        task.index = index;
+        occupied[level] |= 1L << slot;
+    }
+
+    /**
+     * Removes a task from its slot, if it's in the wheel.
+     */
+    private void unlink(Task task) {
+        int index = task.index;
+        if (index < 0) {
+            return;
+        }
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            slots[index] = task.next;
+            if (task.next == null) {
+                occupied[index / SLOTS] &= ~(1L << (index % SLOTS));
+            }
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.prev = null;
+        task.next = null;
+        task.index = -1;
+    }
+
+    /**
+     * Advances the wheel to the given tick, jumping from one non-empty slot to the next and moving the tasks of the
+     * higher levels down as their slots are reached.
+     */
+    private void advance(long targetTick) {
+        while (currentTick < targetTick) {
+            long next = nextTick();
+            if (next > targetTick) {
+                currentTick = targetTick;
+                return;
+            }
+            currentTick = next;
+            for (int level = LEVELS - 1; level >= 0; level--) {
+                int shift = level * SLOT_BITS;
+                if (level > 0 && (next & ((1L << shift) - 1)) != 0) {
+                    continue;
+                }
+                int slot = (int) (next >>> shift) & (SLOTS - 1);
+                int index = level * SLOTS + slot;
+                Task task = slots[index];
+                if (task == null) {
+                    continue;
+                }
+                slots[index] = null;
+                occupied[level] &= ~(1L << slot);
+                while (task != null) {
+                    Task nextTask = task.next;
+                    task.prev = null;
+                    task.next = null;
+                    task.index = -1;
+                    insert(task);
+                    task = nextTask;
+                }
+            }
+            fireDue();
+        }
+    }
+
+    /**
+     * Gets the first tick after the current tick at which a slot is reached, or {@code Long.MAX_VALUE} if the wheel
+     * is empty.
+     */
+    private long nextTick() {
+        long next = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = level * SLOT_BITS;
+            int current = (int) (currentTick >>> shift) & (SLOTS - 1);
+            long later = current == SLOTS - 1 ? 0 : occupied[level] & (-2L << current);
+            if (later != 0) {
+                long blockStart = level == LEVELS - 1 ? 0 : currentTick & -(1L << (shift + SLOT_BITS));
+                next = Math.min(next, blockStart | ((long) Long.numberOfTrailingZeros(later) << shift));
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Fires the due tasks, including the occurrences of the recurring tasks that became due after a jump of the clock.
+     */
+    private void fireDue() {
+        for (Task task; (task = due.poll()) != null; ) {
+            fire(task);
+        }
+    }
+
+    /**
+     * Hands a due task to the executor, after putting a recurring task back in the wheel at its next occurrence.
+     */
+    private void fire(Task task) {
+        long epochDay = task.epochDay;
+        if (task.state != Task.WAITING) {
+            // cancelled while it was moved down the wheel
+            return;
+        }
+        if (task.rule != null) {
+            task.epochDay = task.rule.nextEpochDay(epochDay + 1);
+            task.deadlineTick = deadlineTick(task.epochDay, task.nanoOfDay);
+            insert(task);
+        } else if (!Task.STATE.compareAndSet(task, Task.WAITING, Task.DONE)) {
+            return;
+        } else {
+            pendingCount.decrementAndGet();
+        }
+        firedCount.incrementAndGet();
+        try {
+            executor.execute(() -> task.task.accept(epochDay));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Gets a virtual thread per task executor where the runtime supports it, the common pool otherwise.
+     */
+    private static Executor defaultExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return ForkJoinPool.commonPool();
+        }
+    }
+
+    /**
+     * A scheduled task, which can be cancelled.
+     */
+    public static final class Task {
+
+        private static final int WAITING = 0;
+        private static final int DONE = 1;
+        private static final int CANCELLED = 2;
+        private static final AtomicIntegerFieldUpdater<Task> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Task.class, "state");
+
+        private final IndianCalendarScheduler scheduler;
+        private final IndianRecurrenceRule rule;
+        private final long nanoOfDay;
+        private final LongConsumer task;
+        private volatile int state;
+        private volatile long epochDay;
+
+        // owned by the wheel thread
+        private long deadlineTick;
+        private Task prev;
+        private Task next;
+        private int index = -1;
+
+        Task(IndianCalendarScheduler scheduler, IndianRecurrenceRule rule, long epochDay, long nanoOfDay,
+             LongConsumer task) {
+            this.scheduler = scheduler;
+            this.rule = rule;
+            this.epochDay = epochDay;
+            this.nanoOfDay = nanoOfDay;
+            this.task = Objects.requireNonNull(task, "task");
+        }
+
+        /**
+         * Gets the epoch day of the next run of the task, or of its last run if it's done.
+         *
+         * @return  the epoch day
+         */
+        public long getEpochDay() {
+            return epochDay;
+        }
+
+        /**
+         * Gets the time of day of the runs of the task.
+         *
+         * @return  the time of day, in the offset of the scheduler
+         */
+        public LocalTime getTime() {
+            return LocalTime.ofNanoOfDay(nanoOfDay);
+        }
+
+        /**
+         * Checks if the task is recurring.
+         *
+         * @return  <code>true</code> if the task follows a recurrence rule
+         */
+        public boolean isRecurring() {
+            return rule != null;
+        }
+
+        /**
+         * Checks if the task was cancelled.
+         *
+         * @return  <code>true</code> if the task was cancelled
+         */
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * Checks if the task was handed to the executor, for a task scheduled once.
+         *
+         * @return  <code>true</code> if the task ran or is running
+         */
+        public boolean isDone() {
+            return state == DONE;
+        }
+
+        /**
+         * Cancels the task, if it's not done. A run already handed to the executor is not interrupted.
+         *
+         * @return  <code>true</code> if the task was cancelled by this call
+         */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, WAITING, CANCELLED)) {
+                return false;
+            }
+            scheduler.pendingCount.decrementAndGet();
+            scheduler.cancelled.add(this);
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "Task[" + IndianNationalDate.ofEpochDay(epochDay) + "T" + getTime()
+                   + (rule != null ? ", " + rule : "") + "]";
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.gebogebo.kronology.indian;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A provider of the current Saka date in a time-zone, which caches the date until the next midnight in the zone.
+ *
+ * <p>
+ * The current date is kept together with the instants of the start of the day and of the next midnight. As long as
+ * the clock is within them, {@link #today()} only reads the clock in milliseconds, without resolving the zone or
+ * converting any date. At the first call after the next midnight, the date and the instants are computed again and
+ * replaced, without any locking; if several threads do this at the same time, they compute the same date. The start
+ * of the day is checked too, so that a clock going backwards, such as one adjusted in a test, is handled.
+ * <p>
+ * {@link #system(ZoneId)} returns a shared instance using the system clock for each zone, which is also used by
+ * {@link IndianNationalChronology#dateNow()} and {@link IndianNationalChronology#dateNow(ZoneId)}. Any other
+ * {@link Clock}, such as a fixed or an offset clock, can be used through {@link #of(Clock)}.
+ *
+ * @implSpec
+ * This class is thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianClock {
+
+    /**
+     * Shared instances using the system clock.
+     */
+    private static final ConcurrentMap<ZoneId, IndianClock> SYSTEM_CLOCKS = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+    private final ZoneId zone;
+    private volatile Today today;
+
+    /**
+     * Creates an instance for the given clock.
+     *
+     * @param clock  the clock providing the instant and the zone
+     */
+    private IndianClock(Clock clock) {
+        this.clock = clock;
+        this.zone = clock.getZone();
+        this.today = computeToday(clock.instant());
+    }
+
+    /**
+     * Obtains an instance using the given clock and its zone.
+     *
+     * @param clock  the clock to use
+     * @return       an {@code IndianClock} for the clock
+     */
+    public static IndianClock of(Clock clock) {
+        return new IndianClock(Objects.requireNonNull(clock, "clock"));
+    }
+
+    /**
+     * Obtains the shared instance using the system clock in the given zone.
+     *
+     * @param zone  the zone to use
+     * @return      the {@code IndianClock} for the zone
+     */
+    public static IndianClock system(ZoneId zone) {
+        IndianClock indianClock = SYSTEM_CLOCKS.get(zone);
+        if (indianClock == null) {
+            indianClock = SYSTEM_CLOCKS.computeIfAbsent(zone, z -> new IndianClock(Clock.system(z)));
+        }
+        return indianClock;
+    }
+
+    /**
+     * Obtains the shared instance using the system clock in the default zone.
+     *
+     * @return  the {@code IndianClock} for the default zone
+     */
+    public static IndianClock systemDefaultZone() {
+        return system(ZoneId.systemDefault());
+    }
+
+    /**
+     * Gets the current Saka date.
+     *
+     * @return  the current date in the zone of the clock
+     */
+    public IndianNationalDate today() {
+        long millis = clock.millis();
+        Today current = today;
+        if (millis < current.startMillis || millis >= current.endMillis) {
+            current = computeToday(clock.instant());
+            today = current;
+        }
+        return current.date;
+    }
+
+    /**
+     * Gets the clock used by this instance.
+     *
+     * @return  the clock
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the zone of the clock.
+     *
+     * @return  the zone
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public String toString() {
+        return "IndianClock[" + clock + "]";
+    }
+
+    /**
+     * Computes the date of the instant and the instants of its start and end.
+     */
+    private Today computeToday(Instant instant) {
+        LocalDate localDate = LocalDate.ofInstant(instant, zone);
+        long startMillis = localDate.atStartOfDay(zone).toInstant().toEpochMilli();
+        long endMillis = localDate.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new Today(IndianNationalDate.of(localDate), startMillis, endMillis);
+    }
+
+    /**
+     * A date and the instants of its start (inclusive) and end (exclusive) in milliseconds.
+     */
+    private static final class Today {
+        private final IndianNationalDate date;
+        private final long startMillis;
+        private final long endMillis;
+
+        private Today(IndianNationalDate date, long startMillis, long endMillis) {
+            this.date = date;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+    }
+}
@@ -0,0 +1,499 @@
+package com.gebogebo.kronology.indian;
+
+/**
+ * Sorting and searching of arrays of {@linkplain IndianPackedDate packed dates} and epoch days.
+ *
+ * <p>
+ * The {@code int[]} arrays hold packed dates and the {@code long[]} arrays hold epoch days, where day 0 is 1970-01-01
+ * (ISO). Both sort in the same order as the dates they represent, so the sorting and the bound methods work on any
+ * {@code int} or {@code long} values, while the range lookups by year and month expect the representation of the array
+ * type. None of the methods creates {@link IndianNationalDate} instances.
+ * <p>
+ * The arrays are sorted with a stable LSD radix sort, one byte per pass, skipping the passes over the bytes that are
+ * the same for all the values (such as the upper bytes of the epoch days, or the year bytes of the dates from a few
+ * years). The payload variants reorder an array of row indexes, or any other {@code int} values, together with the
+ * keys, and the argsort variants return the sorting permutation leaving the keys unchanged.
+ * <p>
+ * The range lookups return the range of indexes, from (inclusive) and to (exclusive), of the matching values in a
+ * sorted array as an array of two elements.
+ *
+ * @implSpec
+ * This class is stateless and thread-safe, the arrays passed to it must not be modified concurrently.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateArrays {
+
+    /**
+     * Arrays shorter than this are sorted with an insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 48;
+
+    private IndianDateArrays() {
+    }
+
+    /**
+     * Sorts the packed dates in ascending order.
+     *
+     * @param packedDates  the array to sort
+     */
+    public static void sort(int[] packedDates) {
+        sort(packedDates, null, 0, packedDates.length);
+    }
+
+    /**
+     * Sorts the packed dates in ascending order, applying the same reordering to the payload.
+     *
+     * @param packedDates                the array to sort
+     * @param payload                    the values to reorder with the dates, at least as many as the dates
+     * @throws IllegalArgumentException  if the payload is shorter than the dates
+     */
+    public static void sort(int[] packedDates, int[] payload) {
+        checkPayload(packedDates.length, payload);
+        sort(packedDates, payload, 0, packedDates.length);
+    }
+
+    /**
+     * Sorts a range of the packed dates in ascending order, applying the same reordering to the same range of the
+     * payload if one is given.
+     *
+     * @param packedDates  the array to sort
+     * @param payload      the values to reorder with the dates, or null
+     * @param from         index of the first element to sort, inclusive
+     * @param to           index of the last element to sort, exclusive
+     */
+    public static void sort(int[] packedDates, int[] payload, int from, int to) {
+        int length = to - from;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(packedDates, payload, from, to);
+            return;
+        }
+        int[] counts = new int[4 * 256];
+        for (int i = from; i < to; i++) {
+            int key = packedDates[i] ^ Integer.MIN_VALUE;
+            counts[key & 0xFF]++;
+            counts[256 + ((key >>> 8) & 0xFF)]++;
+            counts[512 + ((key >>> 16) & 0xFF)]++;
+            counts[768 + (key >>> 24)]++;
+        }
+        int[] keys = packedDates;
+        int[] values = payload;
+        int offset = from;
+        int[] otherKeys = new int[length];
+        int[] otherValues = payload == null ? null : new int[length];
+        int otherOffset = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            int base = shift * 32;
+            if (counts[base + (((keys[offset] ^ Integer.MIN_VALUE) >>> shift) & 0xFF)] == length) {
+                continue;   // all the keys have the same byte
+            }
+            int position = otherOffset;
+            for (int b = base; b < base + 256; b++) {
+                int count = counts[b];
+                counts[b] = position;
+                position += count;
+            }
+            for (int i = offset, end = offset + length; i < end; i++) {
+                int key = keys[i];
+                int target = counts[base + (((key ^ Integer.MIN_VALUE) >>> shift) & 0xFF)]++;
+                otherKeys[target] = key;
+                if (values != null) {
+                    otherValues[target] = values[i];
+                }
+            }
+            int[] swap = keys;
+            keys = otherKeys;
+            otherKeys = swap;
+            swap = values;
+            values = otherValues;
+            otherValues = swap;
+            int swapOffset = offset;
+            offset = otherOffset;
+            otherOffset = swapOffset;
+        }
+        if (keys != packedDates) {
+            System.arraycopy(keys, offset, packedDates, from, length);
+            if (payload != null) {
+                System.arraycopy(values, offset, payload, from, length);
+            }
+        }
+    }
+
+    /**
+     * Gets the permutation that sorts the packed dates, leaving the dates unchanged.
+     *
+     * @param packedDates  the dates to sort
+     * @return             the indexes of the dates in ascending order of the dates, equal dates in the index order
+     */
+    public static int[] argsort(int[] packedDates) {
+        int[] indexes = identity(packedDates.length);
+        sort(packedDates.clone(), indexes, 0, packedDates.length);
+        return indexes;
+    }
+
+    /**
+     * Sorts the epoch days in ascending order.
+     *
+     * @param epochDays  the array to sort
+     */
+    public static void sort(long[] epochDays) {
+        sort(epochDays, null, 0, epochDays.length);
+    }
+
+    /**
+     * Sorts the epoch days in ascending order, applying the same reordering to the payload.
+     *
+     * @param epochDays                  the array to sort
+     * @param payload                    the values to reorder with the epoch days, at least as many as the epoch days
+     * @throws IllegalArgumentException  if the payload is shorter than the epoch days
+     */
+    public static void sort(long[] epochDays, int[] payload) {
+        checkPayload(epochDays.length, payload);
+        sort(epochDays, payload, 0, epochDays.length);
+    }
+
+    /**
+     * Sorts a range of the epoch days in ascending order, applying the same reordering to the same range of the
+     * payload if one is given.
+     *
+     * @param epochDays  the array to sort
+     * @param payload    the values to reorder with the epoch days, or null
+     * @param from       index of the first element to sort, inclusive
+     * @param to         index of the last element to sort, exclusive
+     */
+    public static void sort(long[] epochDays, int[] payload, int from, int to) {
+        int length = to - from;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(epochDays, payload, from, to);
+            return;
+        }
+        int[] counts = new int[8 * 256];
+        for (int i = from; i < to; i++) {
+            long key = epochDays[i] ^ Long.MIN_VALUE;
+            for (int shift = 0, base = 0; shift < 64; shift += 8, base += 256) {
+                counts[base + (int) ((key >>> shift) & 0xFF)]++;
+            }
+        }
+        long[] keys = epochDays;
+        int[] values = payload;
+        int offset = from;
+        long[] otherKeys = new long[length];
+        int[] otherValues = payload == null ? null : new int[length];
+        int otherOffset = 0;
+        for (int shift = 0; shift < 64; shift += 8) {
+            int base = shift * 32;
+            if (counts[base + (int) (((keys[offset] ^ Long.MIN_VALUE) >>> shift) & 0xFF)] == length) {
+                continue;   // all the keys have the same byte
+            }
+            int position = otherOffset;
+            for (int b = base; b < base + 256; b++) {
+                int count = counts[b];
+                counts[b] = position;
+                position += count;
+            }
+            for (int i = offset, end = offset + length; i < end; i++) {
+                long key = keys[i];
+                int target = counts[base + (int) (((key ^ Long.MIN_VALUE) >>> shift) & 0xFF)]++;
+                otherKeys[target] = key;
+                if (values != null) {
+                    otherValues[target] = values[i];
+                }
+            }
+            long[] swapKeys = keys;
+            keys = otherKeys;
+            otherKeys = swapKeys;
+            int[] swapValues = values;
+            values = otherValues;
+            otherValues = swapValues;
+            int swapOffset = offset;
+            offset = otherOffset;
+            otherOffset = swapOffset;
+        }
+        if (keys != epochDays) {
+            System.arraycopy(keys, offset, epochDays, from, length);
+            if (payload != null) {
+                System.arraycopy(values, offset, payload, from, length);
+            }
+        }
+    }
+
+    /**
+     * Gets the permutation that sorts the epoch days, leaving the epoch days unchanged.
+     *
+     * @param epochDays  the epoch days to sort
+     * @return           the indexes of the epoch days in ascending order of the days, equal days in the index order
+     */
+    public static int[] argsort(long[] epochDays) {
+        int[] indexes = identity(epochDays.length);
+        sort(epochDays.clone(), indexes, 0, epochDays.length);
+        return indexes;
+    }
+
+    /**
+     * Gets the index of the first value that is not less than the key in a sorted array.
+     *
+     * @param sorted  the sorted array
+     * @param key     the value to search for
+     * @return        index of the first value not less than the key, or the length of the array if there is none
+     */
+    public static int lowerBound(int[] sorted, int key) {
+        return lowerBound(sorted, 0, sorted.length, key);
+    }
+
+    /**
+     * Gets the index of the first value that is not less than the key in a sorted range of an array.
+     *
+     * @param sorted  the array
+     * @param from    index of the first element of the sorted range, inclusive
+     * @param to      index of the last element of the sorted range, exclusive
+     * @param key     the value to search for
+     * @return        index of the first value not less than the key, or {@code to} if there is none
+     */
+    public static int lowerBound(int[] sorted, int from, int to, int key) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (sorted[middle] < key) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Gets the index of the first value that is greater than the key in a sorted array.
+     *
+     * @param sorted  the sorted array
+     * @param key     the value to search for
+     * @return        index of the first value greater than the key, or the length of the array if there is none
+     */
+    public static int upperBound(int[] sorted, int key) {
+        return upperBound(sorted, 0, sorted.length, key);
+    }
+
+    /**
+     * Gets the index of the first value that is greater than the key in a sorted range of an array.
+     *
+     * @param sorted  the array
+     * @param from    index of the first element of the sorted range, inclusive
+     * @param to      index of the last element of the sorted range, exclusive
+     * @param key     the value to search for
+     * @return        index of the first value greater than the key, or {@code to} if there is none
+     */
+    public static int upperBound(int[] sorted, int from, int to, int key) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (sorted[middle] <= key) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Gets the index of the first value that is not less than the key in a sorted array.
+     *
+     * @param sorted  the sorted array
+     * @param key     the value to search for
+     * @return        index of the first value not less than the key, or the length of the array if there is none
+     */
+    public static int lowerBound(long[] sorted, long key) {
+        return lowerBound(sorted, 0, sorted.length, key);
+    }
+
+    /**
+     * Gets the index of the first value that is not less than the key in a sorted range of an array.
+     *
+     * @param sorted  the array
+     * @param from    index of the first element of the sorted range, inclusive
+     * @param to      index of the last element of the sorted range, exclusive
+     * @param key     the value to search for
+     * @return        index of the first value not less than the key, or {@code to} if there is none
+     */
+    public static int lowerBound(long[] sorted, int from, int to, long key) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (sorted[middle] < key) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Gets the index of the first value that is greater than the key in a sorted array.
+     *
+     * @param sorted  the sorted array
+     * @param key     the value to search for
+     * @return        index of the first value greater than the key, or the length of the array if there is none
+     */
+    public static int upperBound(long[] sorted, long key) {
+        return upperBound(sorted, 0, sorted.length, key);
+    }
+
+    /**
+     * Gets the index of the first value that is greater than the key in a sorted range of an array.
+     *
+     * @param sorted  the array
+     * @param from    index of the first element of the sorted range, inclusive
+     * @param to      index of the last element of the sorted range, exclusive
+     * @param key     the value to search for
+     * @return        index of the first value greater than the key, or {@code to} if there is none
+     */
+    public static int upperBound(long[] sorted, int from, int to, long key) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (sorted[middle] <= key) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Gets the range of the dates in the given year in sorted packed dates.
+     *
+     * @param sortedPackedDates  the sorted packed dates
+     * @param prolepticYear      Indian proleptic-year
+     * @return                   the range of indexes of the dates in the year, from inclusive and to exclusive
+     */
+    public static int[] rangeOfYear(int[] sortedPackedDates, int prolepticYear) {
+        return range(sortedPackedDates, IndianPackedDate.pack(prolepticYear, 0, 0),
+                IndianPackedDate.pack(prolepticYear + 1, 0, 0));
+    }
+
+    /**
+     * Gets the range of the dates in the given month in sorted packed dates.
+     *
+     * @param sortedPackedDates  the sorted packed dates
+     * @param prolepticYear      Indian proleptic-year
+     * @param month              Indian month-of-year, from 1 to 12
+     * @return                   the range of indexes of the dates in the month, from inclusive and to exclusive
+     */
+    public static int[] rangeOfMonth(int[] sortedPackedDates, int prolepticYear, int month) {
+        // the month after Phalguna packs to 13, which is still before the next year
+        return range(sortedPackedDates, IndianPackedDate.pack(prolepticYear, month, 0),
+                IndianPackedDate.pack(prolepticYear, month + 1, 0));
+    }
+
+    /**
+     * Gets the range of the dates in the given window in sorted packed dates.
+     *
+     * @param sortedPackedDates  the sorted packed dates
+     * @param fromPackedDate     the first date of the window, inclusive
+     * @param toPackedDate       the last date of the window, inclusive
+     * @return                   the range of indexes of the dates in the window, from inclusive and to exclusive
+     */
+    public static int[] rangeOfDates(int[] sortedPackedDates, int fromPackedDate, int toPackedDate) {
+        int from = lowerBound(sortedPackedDates, fromPackedDate);
+        return new int[] {from, upperBound(sortedPackedDates, from, sortedPackedDates.length, toPackedDate)};
+    }
+
+    /**
+     * Gets the range of the dates in the given year in sorted epoch days.
+     *
+     * @param sortedEpochDays  the sorted epoch days
+     * @param prolepticYear    Indian proleptic-year
+     * @return                 the range of indexes of the dates in the year, from inclusive and to exclusive
+     */
+    public static int[] rangeOfYear(long[] sortedEpochDays, int prolepticYear) {
+        IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+        return range(sortedEpochDays, yearInfo.yearStartEpochDay(prolepticYear),
+                yearInfo.yearStartEpochDay(prolepticYear + 1L));
+    }
+
+    /**
+     * Gets the range of the dates in the given month in sorted epoch days.
+     *
+     * @param sortedEpochDays  the sorted epoch days
+     * @param prolepticYear    Indian proleptic-year
+     * @param month            Indian month-of-year, from 1 to 12
+     * @return                 the range of indexes of the dates in the month, from inclusive and to exclusive
+     */
+    public static int[] rangeOfMonth(long[] sortedEpochDays, int prolepticYear, int month) {
+        IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+        long monthStart = yearInfo.monthStartEpochDay(prolepticYear, month);
+        return range(sortedEpochDays, monthStart, monthStart + yearInfo.lengthOfMonth(prolepticYear, month));
+    }
+
+    /**
+     * Gets the range of the dates in the given window in sorted epoch days.
+     *
+     * @param sortedEpochDays  the sorted epoch days
+     * @param fromEpochDay     the first day of the window, inclusive
+     * @param toEpochDay       the last day of the window, inclusive
+     * @return                 the range of indexes of the dates in the window, from inclusive and to exclusive
+     */
+    public static int[] rangeOfDates(long[] sortedEpochDays, long fromEpochDay, long toEpochDay) {
+        int from = lowerBound(sortedEpochDays, fromEpochDay);
+        return new int[] {from, upperBound(sortedEpochDays, from, sortedEpochDays.length, toEpochDay)};
+    }
+
+    private static int[] range(int[] sorted, int fromKey, int toKeyExclusive) {
+        int from = lowerBound(sorted, fromKey);
+        return new int[] {from, lowerBound(sorted, from, sorted.length, toKeyExclusive)};
+    }
+
+    private static int[] range(long[] sorted, long fromKey, long toKeyExclusive) {
+        int from = lowerBound(sorted, fromKey);
+        return new int[] {from, lowerBound(sorted, from, sorted.length, toKeyExclusive)};
+    }
+
+    private static void insertionSort(int[] keys, int[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            int value = payload == null ? 0 : payload[i];
+            int j = i - 1;
+            for (; j >= from && keys[j] > key; j--) {
+                keys[j + 1] = keys[j];
+                if (payload != null) {
+                    payload[j + 1] = payload[j];
+                }
+            }
+            keys[j + 1] = key;
+            if (payload != null) {
+                payload[j + 1] = value;
+            }
+        }
+    }
+
+    private static void insertionSort(long[] keys, int[] payload, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = keys[i];
+            int value = payload == null ? 0 : payload[i];
+            int j = i - 1;
+            for (; j >= from && keys[j] > key; j--) {
+                keys[j + 1] = keys[j];
+                if (payload != null) {
+                    payload[j + 1] = payload[j];
+                }
+            }
+            keys[j + 1] = key;
+            if (payload != null) {
+                payload[j + 1] = value;
+            }
+        }
+    }
+
+    private static int[] identity(int length) {
+        int[] indexes = new int[length];
+        for (int i = 0; i < length; i++) {
+            indexes[i] = i;
+        }
+        return indexes;
+    }
+
+    private static void checkPayload(int length, int[] payload) {
+        if (payload.length < length) {
+            throw new IllegalArgumentException("The payload must have at least " + length + " elements");
+        }
+    }
+}
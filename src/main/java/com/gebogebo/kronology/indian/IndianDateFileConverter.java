@@ -0,0 +1,413 @@
+package com.gebogebo.kronology.indian;
+
+import static java.nio.file.StandardOpenOption.*;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A command line tool that converts the dates in one or more columns of a delimited (CSV, TSV etc.) file between the
+ * ISO and the Saka calendar.
+ *
+ * <p>
+ * The input file is read through memory mapped segments that are split at line boundaries. Every segment is converted
+ * by a worker thread directly on bytes, without creating a {@code String} per line or per date, and the converted
+ * segments are written to the output file in their original order. Dates are expected in the {@code yyyy-MM-dd}
+ * format, optionally in quotes. Fields that don't hold a valid date, such as a header, are copied unchanged. Quoted
+ * fields may contain the delimiter but not line breaks.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -jar indian-national-calendar.jar --columns=1,3 [--to-iso] [--delimiter=tab] [--threads=8] input output
+ * </pre>
+ *
+ * @implSpec
+ * This class is immutable and thread-safe, a single instance can convert several files at the same time.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateFileConverter {
+
+    /**
+     * Direction of the conversion.
+     */
+    public enum Direction {
+        ISO_TO_SAKA,
+        SAKA_TO_ISO
+    }
+
+    /**
+     * Default size of a mapped segment.
+     */
+    private static final int DEFAULT_SEGMENT_SIZE = 8 << 20;
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -jar indian-national-calendar.jar [options] <input> <output>",
+            "  --columns=<n,...>    1 based columns that hold dates (required)",
+            "  --to-iso             convert Saka dates to ISO dates instead of ISO dates to Saka dates",
+            "  --delimiter=<c>      field delimiter, a single character or 'tab' (default: tab for .tsv, comma otherwise)",
+            "  --threads=<n>        number of worker threads (default: number of processors)",
+            "  --segment-size=<mb>  size of a mapped segment in MiB, a line can't be longer (default: 8)");
+
+    private final Direction direction;
+    private final byte delimiter;
+    private final boolean[] columns;
+    private final int threads;
+    private final int segmentSize;
+
+    /**
+     * Creates a converter with the given settings.
+     *
+     * @param direction    direction of the conversion
+     * @param delimiter    field delimiter, an ASCII character
+     * @param columns      zero based indexes of the columns that hold dates
+     * @param threads      number of worker threads
+     * @param segmentSize  size of a mapped segment in bytes, also the maximum length of a line
+     * @throws IllegalArgumentException  if any of the settings is invalid
+     */
+    public IndianDateFileConverter(Direction direction, char delimiter, int[] columns, int threads, int segmentSize) {
+        if (delimiter > 127 || delimiter == '\n' || delimiter == '\r' || delimiter == '"') {
+            throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+        }
+        int maxColumn = -1;
+        for (int column : columns) {
+            if (column < 0) {
+                maxColumn = -1;
+                break;
+            }
+            maxColumn = Math.max(maxColumn, column);
+        }
+        if (maxColumn < 0) {
+            throw new IllegalArgumentException("Invalid columns: " + Arrays.toString(columns));
+        }
+        if (threads < 1 || segmentSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid threads (%d) or segment size (%d)",
+                                                threads, segmentSize));
+        }
+        this.direction = direction;
+        this.delimiter = (byte) delimiter;
+        this.columns = new boolean[maxColumn + 1];
+        for (int column : columns) {
+            this.columns[column] = true;
+        }
+        this.threads = threads;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Runs the converter from the command line. A summary with the throughput is printed to the standard error.
+     *
+     * @param args  command line arguments, see the class documentation
+     */
+    public static void main(String[] args) {
+        Direction direction = Direction.ISO_TO_SAKA;
+        Character delimiter = null;
+        int[] columns = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int segmentSize = DEFAULT_SEGMENT_SIZE;
+        String[] paths = new String[2];
+        int pathCount = 0;
+        try {
+            for (String arg : args) {
+                if (arg.equals("--to-iso")) {
+                    direction = Direction.SAKA_TO_ISO;
+                } else if (arg.startsWith("--columns=")) {
+                    String[] values = value(arg).split(",");
+                    columns = new int[values.length];
+                    for (int i = 0; i < values.length; i++) {
+                        columns[i] = Integer.parseInt(values[i].trim()) - 1;
+                    }
+                } else if (arg.startsWith("--delimiter=")) {
+                    String value = value(arg);
+                    if (!value.equals("tab") && value.length() != 1) {
+                        throw new IllegalArgumentException("Invalid delimiter: " + value);
+                    }
+                    delimiter = value.equals("tab") ? '\t' : value.charAt(0);
+                } else if (arg.startsWith("--threads=")) {
+                    threads = Integer.parseInt(value(arg));
+                } else if (arg.startsWith("--segment-size=")) {
+                    segmentSize = Math.multiplyExact(Integer.parseInt(value(arg)), 1 << 20);
+                } else if (!arg.startsWith("--") && pathCount < 2) {
+                    paths[pathCount++] = arg;
+                } else {
+                    throw new IllegalArgumentException("Unexpected argument: " + arg);
+                }
+            }
+            if (columns == null || pathCount != 2) {
+                throw new IllegalArgumentException("Columns, input and output are required");
+            }
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (delimiter == null) {
+            delimiter = paths[0].toLowerCase(Locale.ROOT).endsWith(".tsv") ? '\t' : ',';
+        }
+
+        try {
+            IndianDateFileConverter converter = new IndianDateFileConverter(direction, delimiter, columns, threads,
+                                                                            segmentSize);
+            System.err.println(converter.convert(Paths.get(paths[0]), Paths.get(paths[1])));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Conversion failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Converts the input file into the output file. The output file is created or replaced.
+     *
+     * @param input         the file to read
+     * @param output        the file to write
+     * @return              summary of the conversion
+     * @throws IOException  if a file can't be read or written, or a line is longer than the segment size
+     */
+    public Summary convert(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        Summary summary = new Summary();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "indian-date-file-converter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (FileChannel in = FileChannel.open(input, READ);
+             FileChannel out = FileChannel.open(output, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            long size = in.size();
+            long position = 0;
+            Queue<Future<Segment>> pending = new ArrayDeque<>();
+            while (position < size) {
+                int length = (int) Math.min(segmentSize, size - position);
+                MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+                if (position + length < size) {
+                    length = lastLineEnd(mapped, length);
+                    if (length == 0) {
+                        throw new IOException("Line at byte " + position + " is longer than the segment size");
+                    }
+                }
+                int segmentLength = length;
+                pending.add(executor.submit(() -> convertSegment(mapped, segmentLength)));
+                position += length;
+                // bounds the memory held by the converted segments waiting to be written
+                while (pending.size() > 2 * threads) {
+                    write(pending.remove(), out, summary);
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(pending.remove(), out, summary);
+            }
+            summary.bytes = size;
+        } finally {
+            executor.shutdownNow();
+        }
+        summary.elapsedNanos = System.nanoTime() - start;
+        return summary;
+    }
+
+    /**
+     * Converts the dates of a single segment.
+     *
+     * @param mapped  the mapped segment
+     * @param length  number of bytes of the segment to convert, ends at a line boundary
+     * @return        the converted segment
+     */
+    private Segment convertSegment(ByteBuffer mapped, int length) {
+        byte[] src = new byte[length];
+        mapped.get(src, 0, length);
+        byte[] dest = new byte[length + length / 8 + 16];
+        int position = 0;
+        int copied = 0;
+        int column = 0;
+        long lines = 0;
+        long converted = 0;
+        int i = 0;
+        while (i < length) {
+            int fieldStart = i;
+            boolean quoted = src[i] == '"';
+            if (quoted) {
+                i = closingQuote(src, i + 1, length);
+            }
+            while (i < length && src[i] != delimiter && src[i] != '\n') {
+                i++;
+            }
+            int fieldEnd = i > fieldStart && src[i - 1] == '\r' ? i - 1 : i;
+            if (column < columns.length && columns[column]) {
+                int from = fieldStart;
+                int to = fieldEnd;
+                if (quoted && to - from >= 2 && src[to - 1] == '"') {
+                    from++;
+                    to--;
+                }
+                long epochDay = direction == Direction.ISO_TO_SAKA ?
+                        IndianDateText.parseIso(src, from, to) : IndianDateText.parseIndian(src, from, to);
+                if (epochDay != IndianDateText.INVALID) {
+                    if (dest.length - position < (from - copied) + 16) {
+                        dest = Arrays.copyOf(dest, Math.max(dest.length * 2, position + (from - copied) + 16));
+                    }
+                    System.arraycopy(src, copied, dest, position, from - copied);
+                    position += from - copied;
+                    position = direction == Direction.ISO_TO_SAKA ?
+                            IndianDateText.formatIndian(epochDay, dest, position) :
+                            IndianDateText.formatIso(epochDay, dest, position);
+                    copied = to;
+                    converted++;
+                }
+            }
+            if (i < length && src[i] == '\n') {
+                column = 0;
+                lines++;
+            } else {
+                column++;
+            }
+            i++;
+        }
+        if (length > 0 && src[length - 1] != '\n') {
+            lines++;
+        }
+        if (dest.length - position < length - copied) {
+            dest = Arrays.copyOf(dest, position + length - copied);
+        }
+        System.arraycopy(src, copied, dest, position, length - copied);
+        position += length - copied;
+        return new Segment(dest, position, lines, converted);
+    }
+
+    /**
+     * Waits for the given segment to be converted and writes it to the output.
+     */
+    private static void write(Future<Segment> future, FileChannel out, Summary summary) throws IOException {
+        Segment segment;
+        try {
+            segment = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while converting");
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to convert a segment", e.getCause());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(segment.bytes, 0, segment.length);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        summary.lines += segment.lines;
+        summary.convertedFields += segment.convertedFields;
+    }
+
+    /**
+     * Gets the length of the segment up to and including its last line break, or 0 if it doesn't have one.
+     */
+    private static int lastLineEnd(ByteBuffer mapped, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (mapped.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the index after the quote that closes a quoted field, skipping the escaped (doubled) quotes.
+     */
+    private static int closingQuote(byte[] src, int from, int length) {
+        int i = from;
+        while (i < length && src[i] != '\n') {
+            if (src[i++] == '"') {
+                if (i < length && src[i] == '"') {
+                    i++;
+                } else {
+                    return i;
+                }
+            }
+        }
+        return i;
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+
+    /**
+     * A converted segment, ready to be written.
+     */
+    private static final class Segment {
+        private final byte[] bytes;
+        private final int length;
+        private final long lines;
+        private final long convertedFields;
+
+        private Segment(byte[] bytes, int length, long lines, long convertedFields) {
+            this.bytes = bytes;
+            this.length = length;
+            this.lines = lines;
+            this.convertedFields = convertedFields;
+        }
+    }
+
+    /**
+     * Summary of a conversion, including its throughput.
+     */
+    public static final class Summary {
+        private long bytes;
+        private long lines;
+        private long convertedFields;
+        private long elapsedNanos;
+
+        private Summary() {
+        }
+
+        /**
+         * @return  number of bytes read from the input
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return  number of lines read from the input
+         */
+        public long getLines() {
+            return lines;
+        }
+
+        /**
+         * @return  number of dates converted
+         */
+        public long getConvertedFields() {
+            return convertedFields;
+        }
+
+        /**
+         * @return  time taken by the conversion in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = Math.max(elapsedNanos, 1) / 1e9;
+            return String.format(Locale.ROOT,
+                    "Converted %d dates in %d lines (%.1f MiB) in %.3f s: %.1f MiB/s, %.0f lines/s",
+                    convertedFields, lines, bytes / 1048576.0, seconds, bytes / 1048576.0 / seconds, lines / seconds);
+        }
+    }
+}
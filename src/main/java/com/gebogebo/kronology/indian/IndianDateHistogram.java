@@ -0,0 +1,732 @@
+package com.gebogebo.kronology.indian;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+
+/**
+ * A concurrent histogram of events per Saka day over a fixed window of dates, with rollups to Saka months and years.
+ *
+ * <p>
+ * The counters are indexed by the offset of the epoch day from the first day of the window, and striped: each thread
+ * increments the counters of one of several stripes, chosen by its thread id, and the count of a day is the sum of its
+ * counters in all the stripes. The stripes are contiguous ranges of counters separated by padding, so threads on
+ * different stripes don't write to the same cache line. An increment is a few atomic operations on the stripe of the
+ * thread, without any allocation and without ever waiting for a snapshot; dates outside of the window are counted
+ * separately and otherwise ignored.
+ * <p>
+ * A {@link Snapshot} is an immutable copy of the counts, from which the counts per day, per month and per year are
+ * computed on the fly. A snapshot sees every increment, including every bulk increment of
+ * {@link #incrementAll(long[], int, int)}, either entirely or not at all: each stripe has two buffers of counters, and
+ * an increment adds to the active one. A snapshot makes the other buffer active, waits for the increments already
+ * started on the retired buffer, which new increments no longer enter, and drains it into the counts settled by the
+ * previous snapshots. Snapshots can be merged, written in a compact binary form with
+ * {@link Snapshot#writeTo(DataOutput)} to ship partial histograms between nodes, and added back into a histogram with
+ * {@link #add(Snapshot)}.
+ * <p>
+ * Epoch days used by this class are the same as {@link IndianNationalDate#toEpochDay()}, where day 0 is 1970-01-01
+ * (ISO).
+ *
+ * @implSpec
+ * This class is thread-safe. A {@link Snapshot} is immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateHistogram {
+
+    /**
+     * Largest number of days in a window, about 2700 years.
+     */
+    public static final int MAX_DAYS = 1 << 20;
+
+    /**
+     * Number of counters in a cache line.
+     */
+    private static final int LINE = 8;
+
+    /**
+     * Number of counters before the buffers of a stripe. The control words are each on a cache line of their own, so
+     * they don't share one with each other, with the counts of the stripe or with the counts of the previous stripe.
+     */
+    private static final int HEADER = 4 * LINE;
+
+    /**
+     * The word holding the index of the active buffer of a stripe, 0 or 1. It's read by every increment and written
+     * by the snapshots only.
+     */
+    private static final int ACTIVE_OFFSET = LINE;
+
+    /**
+     * The words holding the number of increments in progress on each buffer of a stripe, one cache line apart.
+     */
+    private static final int IN_PROGRESS_OFFSET = 2 * LINE;
+
+    private final long firstEpochDay;
+    private final int days;
+    private final int stripeMask;
+    private final int bufferLength;
+    private final int stride;
+    private final AtomicLongArray cells;
+    private final LongAdder outOfWindow = new LongAdder();
+
+    /**
+     * The counts drained from the retired buffers by the snapshots, guarded by the snapshot lock.
+     */
+    private final long[] settled;
+    private final Object snapshotLock = new Object();
+
+    private IndianDateHistogram(long firstEpochDay, int days, int stripes) {
+        this.firstEpochDay = firstEpochDay;
+        this.days = days;
+        this.stripeMask = stripes - 1;
+        // the counts are rounded up to whole cache lines
+        this.bufferLength = (days + LINE - 1) & -LINE;
+        this.stride = HEADER + 2 * bufferLength;
+        this.cells = new AtomicLongArray(stripes * stride);
+        this.settled = new long[days];
+    }
+
+    /**
+     * Obtains a histogram of the dates from {@code first} to {@code last}, inclusive, with a stripe per available
+     * processor.
+     *
+     * @param first               the first date of the window
+     * @param last                the last date of the window
+     * @return                    an empty histogram
+     * @throws DateTimeException  if the window is empty or longer than {@link #MAX_DAYS}
+     */
+    public static IndianDateHistogram of(IndianNationalDate first, IndianNationalDate last) {
+        return of(first.toEpochDay(), last.toEpochDay());
+    }
+
+    /**
+     * Obtains a histogram of the epoch days from {@code firstEpochDay} to {@code lastEpochDay}, inclusive, with a
+     * stripe per available processor.
+     *
+     * @param firstEpochDay       the first epoch day of the window
+     * @param lastEpochDay        the last epoch day of the window
+     * @return                    an empty histogram
+     * @throws DateTimeException  if the window is empty or longer than {@link #MAX_DAYS}
+     */
+    public static IndianDateHistogram of(long firstEpochDay, long lastEpochDay) {
+        return of(firstEpochDay, lastEpochDay, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Obtains a histogram of the epoch days from {@code firstEpochDay} to {@code lastEpochDay}, inclusive, with the
+     * given number of stripes, rounded up to a power of two.
+     *
+     * @param firstEpochDay              the first epoch day of the window
+     * @param lastEpochDay               the last epoch day of the window
+     * @param stripes                    number of stripes, from 1 to 1024
+     * @return                           an empty histogram
+     * @throws DateTimeException         if the window is empty or longer than {@link #MAX_DAYS}
+     * @throws IllegalArgumentException  if the number of stripes is out of range
+     */
+    public static IndianDateHistogram of(long firstEpochDay, long lastEpochDay, int stripes) {
+        int days = checkWindow(firstEpochDay, lastEpochDay);
+        if (stripes < 1 || stripes > 1024) {
+            throw new IllegalArgumentException("Invalid number of stripes: " + stripes);
+        }
+        int roundedStripes = Integer.highestOneBit(stripes) == stripes ? stripes : Integer.highestOneBit(stripes) << 1;
+        if ((long) roundedStripes * (HEADER + 2L * (days + LINE)) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many stripes for " + days + " days: " + stripes);
+        }
+        return new IndianDateHistogram(firstEpochDay, days, roundedStripes);
+    }
+
+    /**
+     * Gets the first epoch day of the window.
+     *
+     * @return  the first epoch day, inclusive
+     */
+    public long getFirstEpochDay() {
+        return firstEpochDay;
+    }
+
+    /**
+     * Gets the last epoch day of the window.
+     *
+     * @return  the last epoch day, inclusive
+     */
+    public long getLastEpochDay() {
+        return firstEpochDay + days - 1;
+    }
+
+    /**
+     * Gets the number of stripes of the counters.
+     *
+     * @return  the number of stripes, a power of two
+     */
+    public int getStripes() {
+        return stripeMask + 1;
+    }
+
+    /**
+     * Counts an event on the given date.
+     *
+     * @param date  the date of the event
+     * @return      <code>true</code> if the date is in the window
+     */
+    public boolean increment(IndianNationalDate date) {
+        return add(date.toEpochDay(), 1);
+    }
+
+    /**
+     * Counts an event on the given epoch day.
+     *
+     * @param epochDay  the epoch day of the event
+     * @return          <code>true</code> if the epoch day is in the window
+     */
+    public boolean increment(long epochDay) {
+        return add(epochDay, 1);
+    }
+
+    /**
+     * Counts events on the given epoch day.
+     *
+     * @param epochDay  the epoch day of the events
+     * @param count     number of events, may be negative to undo counts
+     * @return          <code>true</code> if the epoch day is in the window
+     */
+    public boolean add(long epochDay, long count) {
+        long offset = epochDay - firstEpochDay;
+        if (offset < 0 || offset >= days) {
+            outOfWindow.add(count);
+            return false;
+        }
+        int base = stripe() * stride;
+        int buffer = enter(base);
+        cells.getAndAdd(counters(base, buffer) + (int) offset, count);
+        leave(base, buffer);
+        return true;
+    }
+
+    /**
+     * Counts an event on each of the epoch days from {@code from} (inclusive) to {@code to} (exclusive), as a single
+     * increment that a snapshot sees entirely or not at all.
+     *
+     * @param epochDays  the epoch days of the events
+     * @param from       first index to count, inclusive
+     * @param to         last index to count, exclusive
+     * @return           number of epoch days in the window
+     */
+    public int incrementAll(long[] epochDays, int from, int to) {
+        if (from < 0 || to > epochDays.length || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range: " + from + " - " + to);
+        }
+        int counted = 0;
+        int base = stripe() * stride;
+        int buffer = enter(base);
+        try {
+            int counters = counters(base, buffer);
+            for (int i = from; i < to; i++) {
+                long offset = epochDays[i] - firstEpochDay;
+                if (offset >= 0 && offset < days) {
+                    cells.getAndIncrement(counters + (int) offset);
+                    counted++;
+                }
+            }
+        } finally {
+            leave(base, buffer);
+        }
+        outOfWindow.add(to - from - counted);
+        return counted;
+    }
+
+    /**
+     * Adds the counts of a snapshot, such as a partial histogram received from another node. The counts of the days
+     * outside of the window are added to the {@linkplain #getOutOfWindowCount() out of window count}.
+     *
+     * @param snapshot  the counts to add
+     */
+    public void add(Snapshot snapshot) {
+        long dropped = 0;
+        int base = stripe() * stride;
+        int buffer = enter(base);
+        try {
+            int counters = counters(base, buffer);
+            for (int i = 0; i < snapshot.counts.length; i++) {
+                long count = snapshot.counts[i];
+                long offset = snapshot.firstEpochDay + i - firstEpochDay;
+                if (count == 0) {
+                    continue;
+                }
+                if (offset >= 0 && offset < days) {
+                    cells.getAndAdd(counters + (int) offset, count);
+                } else {
+                    dropped += count;
+                }
+            }
+        } finally {
+            leave(base, buffer);
+        }
+        outOfWindow.add(dropped);
+    }
+
+    /**
+     * Gets the current count of the given epoch day, summing the buffers of the stripes without taking a snapshot.
+     *
+     * @param epochDay  the epoch day
+     * @return          the count of the day, 0 if it's outside of the window
+     */
+    public long count(long epochDay) {
+        long offset = epochDay - firstEpochDay;
+        if (offset < 0 || offset >= days) {
+            return 0;
+        }
+        synchronized (snapshotLock) {
+            long count = settled[(int) offset];
+            for (int base = HEADER + (int) offset; base < cells.length(); base += stride) {
+                count += cells.get(base) + cells.get(base + bufferLength);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Gets the number of events counted outside of the window.
+     *
+     * @return  the count of the events that were ignored
+     */
+    public long getOutOfWindowCount() {
+        return outOfWindow.sum();
+    }
+
+    /**
+     * Takes a snapshot of the counts. The active buffer of each stripe is switched, and the retired buffer is drained
+     * once the increments in progress on it are complete, so the snapshot sees each increment entirely or not at all.
+     * The increments never wait for a snapshot: they go on in the newly active buffers, and only the snapshots wait
+     * for each other.
+     *
+     * @return  an immutable copy of the counts
+     */
+    public Snapshot snapshot() {
+        synchronized (snapshotLock) {
+            for (int base = 0; base < cells.length(); base += stride) {
+                drain(base);
+            }
+            return new Snapshot(firstEpochDay, settled.clone());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IndianDateHistogram[" + IndianNationalDate.ofEpochDay(firstEpochDay) + " - "
+               + IndianNationalDate.ofEpochDay(getLastEpochDay()) + "]";
+    }
+
+    /**
+     * Makes the other buffer of a stripe active, waits for the increments in progress on the retired buffer and adds
+     * its counts to the settled counts, leaving it empty for the next snapshot.
+     */
+    private void drain(int base) {
+        int retired = (int) cells.get(base + ACTIVE_OFFSET);
+        cells.set(base + ACTIVE_OFFSET, 1 - retired);
+        for (int attempt = 0; cells.get(inProgress(base, retired)) != 0; attempt++) {
+            backOff(attempt);
+        }
+        int counters = counters(base, retired);
+        for (int i = 0; i < days; i++) {
+            long count = cells.get(counters + i);
+            if (count != 0) {
+                settled[i] += count;
+                cells.set(counters + i, 0);
+            }
+        }
+    }
+
+    /**
+     * Starts an increment on the active buffer of a stripe. The increment is registered on the buffer before the
+     * active buffer is read again, and a snapshot switches the active buffer before waiting for the increments
+     * registered on the retired one, so either the snapshot waits for the increment or the increment moves to the
+     * newly active buffer. An increment only tries again when a snapshot switched the buffers in between.
+     *
+     * @param base  the index of the first counter of the stripe
+     * @return      the index of the buffer to increment
+     */
+    private int enter(int base) {
+        while (true) {
+            int buffer = (int) cells.get(base + ACTIVE_OFFSET);
+            cells.getAndIncrement(inProgress(base, buffer));
+            if (cells.get(base + ACTIVE_OFFSET) == buffer) {
+                return buffer;
+            }
+            cells.getAndDecrement(inProgress(base, buffer));
+        }
+    }
+
+    private void leave(int base, int buffer) {
+        cells.getAndDecrement(inProgress(base, buffer));
+    }
+
+    private static int inProgress(int base, int buffer) {
+        return base + IN_PROGRESS_OFFSET + buffer * LINE;
+    }
+
+    private int counters(int base, int buffer) {
+        return base + HEADER + buffer * bufferLength;
+    }
+
+    private static void backOff(int attempt) {
+        if (attempt > 16) {
+            Thread.yield();
+        } else {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Gets the stripe of the current thread.
+     */
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & stripeMask;
+    }
+
+    /**
+     * Checks the window and returns its number of days.
+     */
+    private static int checkWindow(long firstEpochDay, long lastEpochDay) {
+        EPOCH_DAY.checkValidValue(firstEpochDay);
+        EPOCH_DAY.checkValidValue(lastEpochDay);
+        if (lastEpochDay < firstEpochDay || lastEpochDay - firstEpochDay >= MAX_DAYS) {
+            throw new DateTimeException("Invalid window of " + (lastEpochDay - firstEpochDay + 1) + " days (valid "
+                                        + "values 1 - " + MAX_DAYS + ")");
+        }
+        return (int) (lastEpochDay - firstEpochDay + 1);
+    }
+
+    /**
+     * An immutable copy of the counts of a histogram, with rollups to months and years.
+     */
+    public static final class Snapshot {
+
+        /**
+         * Version of the serialized form.
+         */
+        private static final byte SERIAL_VERSION = 1;
+
+        private final long firstEpochDay;
+        private final long[] counts;
+
+        private Snapshot(long firstEpochDay, long[] counts) {
+            this.firstEpochDay = firstEpochDay;
+            this.counts = counts;
+        }
+
+        /**
+         * Gets the first epoch day of the window.
+         *
+         * @return  the first epoch day, inclusive
+         */
+        public long getFirstEpochDay() {
+            return firstEpochDay;
+        }
+
+        /**
+         * Gets the last epoch day of the window.
+         *
+         * @return  the last epoch day, inclusive
+         */
+        public long getLastEpochDay() {
+            return firstEpochDay + counts.length - 1;
+        }
+
+        /**
+         * Gets the count of the given epoch day.
+         *
+         * @param epochDay  the epoch day
+         * @return          the count of the day, 0 if it's outside of the window
+         */
+        public long count(long epochDay) {
+            long offset = epochDay - firstEpochDay;
+            return offset < 0 || offset >= counts.length ? 0 : counts[(int) offset];
+        }
+
+        /**
+         * Gets the count of the given date.
+         *
+         * @param date  the date
+         * @return      the count of the date, 0 if it's outside of the window
+         */
+        public long count(IndianNationalDate date) {
+            return count(date.toEpochDay());
+        }
+
+        /**
+         * Gets the sum of the counts of the epoch days from {@code fromEpochDay} to {@code toEpochDay}, inclusive.
+         *
+         * @param fromEpochDay  the first epoch day, inclusive
+         * @param toEpochDay    the last epoch day, inclusive
+         * @return              the sum of the counts of the days in the window
+         */
+        public long count(long fromEpochDay, long toEpochDay) {
+            long from = Math.max(fromEpochDay - firstEpochDay, 0);
+            long to = Math.min(toEpochDay - firstEpochDay, counts.length - 1);
+            long sum = 0;
+            for (long i = from; i <= to; i++) {
+                sum += counts[(int) i];
+            }
+            return sum;
+        }
+
+        /**
+         * Gets the count of the given month.
+         *
+         * @param yearMonth  the month
+         * @return           the sum of the counts of the days of the month in the window
+         */
+        public long countOfMonth(IndianYearMonth yearMonth) {
+            return count(yearMonth.startEpochDay(), yearMonth.endEpochDay());
+        }
+
+        /**
+         * Gets the count of the given year.
+         *
+         * @param prolepticYear  Indian proleptic-year
+         * @return               the sum of the counts of the days of the year in the window
+         */
+        public long countOfYear(int prolepticYear) {
+            IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+            return count(yearInfo.yearStartEpochDay(prolepticYear), yearInfo.yearStartEpochDay(prolepticYear + 1L) - 1);
+        }
+
+        /**
+         * Gets the sum of all the counts.
+         *
+         * @return  the total count
+         */
+        public long total() {
+            long sum = 0;
+            for (long count : counts) {
+                sum += count;
+            }
+            return sum;
+        }
+
+        /**
+         * Gets the month of the first day of the window, the first month of {@link #monthCounts()}.
+         *
+         * @return  the first month
+         */
+        public IndianYearMonth firstMonth() {
+            return IndianYearMonth.ofEpochDay(firstEpochDay);
+        }
+
+        /**
+         * Gets the counts of the months of the window, from the {@linkplain #firstMonth() first month}, in one pass
+         * over the days.
+         *
+         * @return  the count of each month in the window
+         */
+        public long[] monthCounts() {
+            IndianYearMonth month = firstMonth();
+            long[] monthCounts = new long[(int) (IndianYearMonth.ofEpochDay(getLastEpochDay()).getProlepticMonth()
+                                                 - month.getProlepticMonth() + 1)];
+            long monthEnd = month.endEpochDay();
+            int index = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (firstEpochDay + i > monthEnd) {
+                    month = month.plusMonths(1);
+                    monthEnd = month.endEpochDay();
+                    index++;
+                }
+                monthCounts[index] += counts[i];
+            }
+            return monthCounts;
+        }
+
+        /**
+         * Gets the year of the first day of the window, the first year of {@link #yearCounts()}.
+         *
+         * @return  Indian proleptic-year of the first day
+         */
+        public int firstYear() {
+            return IndianYearInfo.DEFAULT.prolepticYear(firstEpochDay);
+        }
+
+        /**
+         * Gets the counts of the years of the window, from the {@linkplain #firstYear() first year}, in one pass over
+         * the days.
+         *
+         * @return  the count of each year in the window
+         */
+        public long[] yearCounts() {
+            IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+            int year = firstYear();
+            long[] yearCounts = new long[yearInfo.prolepticYear(getLastEpochDay()) - year + 1];
+            long nextYearStart = yearInfo.yearStartEpochDay(year + 1L);
+            int index = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (firstEpochDay + i >= nextYearStart) {
+                    nextYearStart = yearInfo.yearStartEpochDay(++year + 1L);
+                    index++;
+                }
+                yearCounts[index] += counts[i];
+            }
+            return yearCounts;
+        }
+
+        /**
+         * Gets the counts of the days of the window.
+         *
+         * @return  a copy of the count of each day, from the first day of the window
+         */
+        public long[] dayCounts() {
+            return counts.clone();
+        }
+
+        /**
+         * Merges this snapshot with another one, summing the counts of the same days.
+         *
+         * @param other               the other snapshot
+         * @return                    a snapshot over the span of both windows
+         * @throws DateTimeException  if the span is longer than {@link #MAX_DAYS}
+         */
+        public Snapshot merge(Snapshot other) {
+            long first = Math.min(firstEpochDay, other.firstEpochDay);
+            long last = Math.max(getLastEpochDay(), other.getLastEpochDay());
+            long[] merged = new long[checkWindow(first, last)];
+            for (int i = 0; i < counts.length; i++) {
+                merged[(int) (firstEpochDay - first) + i] += counts[i];
+            }
+            for (int i = 0; i < other.counts.length; i++) {
+                merged[(int) (other.firstEpochDay - first) + i] += other.counts[i];
+            }
+            return new Snapshot(first, merged);
+        }
+
+        /**
+         * Writes this snapshot in a compact binary form: the days with a count of 0 at the start and the end of the
+         * window are skipped, and the counts are written as variable length integers.
+         *
+         * @param out           output to write to
+         * @throws IOException  if the output can't be written
+         */
+        public void writeTo(DataOutput out) throws IOException {
+            out.writeByte(SERIAL_VERSION);
+            out.writeLong(firstEpochDay);
+            out.writeInt(counts.length);
+            int from = 0;
+            int to = counts.length;
+            while (from < to && counts[from] == 0) {
+                from++;
+            }
+            while (to > from && counts[to - 1] == 0) {
+                to--;
+            }
+            out.writeInt(from);
+            out.writeInt(to);
+            for (int i = from; i < to; i++) {
+                // zig-zag, so that negative counts stay small
+                long value = (counts[i] << 1) ^ (counts[i] >> 63);
+                while ((value & ~0x7FL) != 0) {
+                    out.writeByte((int) ((value & 0x7F) | 0x80));
+                    value >>>= 7;
+                }
+                out.writeByte((int) value);
+            }
+        }
+
+        /**
+         * Reads a snapshot written by {@link #writeTo(DataOutput)}.
+         *
+         * @param in            input to read from
+         * @return              the snapshot that was read
+         * @throws IOException  if the input can't be read or is not a valid snapshot
+         */
+        public static Snapshot readFrom(DataInput in) throws IOException {
+            byte version = in.readByte();
+            if (version != SERIAL_VERSION) {
+                throw new IOException("Unsupported IndianDateHistogram version: " + version);
+            }
+            long firstEpochDay = in.readLong();
+            int days = in.readInt();
+            int from = in.readInt();
+            int to = in.readInt();
+            try {
+                checkWindow(firstEpochDay, firstEpochDay + days - 1);
+            } catch (DateTimeException e) {
+                throw new IOException("Invalid IndianDateHistogram window", e);
+            }
+            if (from < 0 || to > days || from > to) {
+                throw new IOException("Invalid IndianDateHistogram range: " + from + " - " + to);
+            }
+            long[] counts = new long[days];
+            for (int i = from; i < to; i++) {
+                long value = 0;
+                int shift = 0;
+                int b;
+                do {
+                    b = in.readUnsignedByte();
+                    value |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0 && shift < 64);
+                counts[i] = (value >>> 1) ^ -(value & 1);
+            }
+            return new Snapshot(firstEpochDay, counts);
+        }
+
+        /**
+         * Gets the compact binary form of this snapshot.
+         *
+         * @return  bytes written by {@link #writeTo(DataOutput)}
+         */
+        public byte[] toByteArray() {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                writeTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bytes.toByteArray();
+        }
+
+        /**
+         * Reads a snapshot from its compact binary form.
+         *
+         * @param bytes         bytes returned by {@link #toByteArray()}
+         * @return              the snapshot that was read
+         * @throws IOException  if the bytes are not a valid snapshot
+         */
+        public static Snapshot fromByteArray(byte[] bytes) throws IOException {
+            return readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Snapshot)) {
+                return false;
+            }
+            Snapshot other = (Snapshot) o;
+            return firstEpochDay == other.firstEpochDay && Arrays.equals(counts, other.counts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(firstEpochDay) * 31 + Arrays.hashCode(counts);
+        }
+
+        @Override
+        public String toString() {
+            return "IndianDateHistogram.Snapshot[" + IndianNationalDate.ofEpochDay(firstEpochDay) + " - "
+                   + IndianNationalDate.ofEpochDay(getLastEpochDay()) + ", total=" + total() + "]";
+        }
+    }
+}
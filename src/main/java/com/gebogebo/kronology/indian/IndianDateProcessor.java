@@ -0,0 +1,483 @@
+package com.gebogebo.kronology.indian;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link Flow.Processor} that converts a stream of dates to Saka dates.
+ *
+ * <p>
+ * Each item received from the upstream publisher is mapped to its epoch day, where day 0 is 1970-01-01 (ISO), and the
+ * epoch days are converted in batches to {@link IndianNationalDate}s, {@linkplain IndianPackedDate packed dates} or
+ * {@code yyyy-MM-dd} strings, depending on the factory used. For example, the ISO dates and the epoch days are
+ * converted with:
+ * <pre>{@code
+ *     IndianDateProcessor<LocalDate, IndianNationalDate> dates = IndianDateProcessor.toDates(LocalDate::toEpochDay);
+ *     IndianDateProcessor<Long, String> strings = IndianDateProcessor.toStrings(Long::longValue, executor, 1024);
+ * }</pre>
+ * <p>
+ * The items are emitted only when they are requested by the subscriber. The processor requests at most two batches
+ * ahead from the upstream publisher, so the number of buffered items is bounded by twice the batch size. The
+ * conversion and the delivery to the subscriber run on the given executor, one task at a time; any executor can be
+ * used, including a virtual thread per task executor where it's available. An item that can't be converted cancels the
+ * upstream subscription and is reported to the subscriber through {@code onError}.
+ * <p>
+ * The processor supports a single subscriber, and keeps counters of the received, emitted and converted items which
+ * can be used to measure the throughput of the stage.
+ *
+ * @implSpec
+ * This class is thread-safe.
+ *
+ * @param <T> the type of the items received from the upstream publisher
+ * @param <R> the type of the converted items
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateProcessor<T, R> implements Flow.Processor<T, R> {
+
+    /**
+     * Batch size used when none is given.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final ToLongFunction<? super T> epochDayOf;
+    private final BatchConverter<R> converter;
+    private final Executor executor;
+    private final int batchSize;
+
+    private final ConcurrentLinkedQueue<T> input = new ConcurrentLinkedQueue<>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger pendingSignals = new AtomicInteger();
+    private boolean subscribed;
+    private volatile Flow.Subscriber<? super R> downstream;
+    private volatile Flow.Subscription upstream;
+    private volatile boolean completed;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+
+    /**
+     * State accessed only by the drain task, which never runs concurrently with itself.
+     */
+    private final long[] epochDays;
+    private final Object[] output;
+    private int outputIndex;
+    private int outputCount;
+    private long requested;
+    private long taken;
+    private boolean terminated;
+
+    /**
+     * Counters, written by a single thread at a time.
+     */
+    private volatile long received;
+    private volatile long emitted;
+    private volatile long batches;
+    private volatile long conversionNanos;
+
+    /**
+     * Creates a processor.
+     *
+     * @param epochDayOf  function giving the epoch day of an item
+     * @param converter   converter of a batch of epoch days
+     * @param executor    executor to run the conversion and the delivery on
+     * @param batchSize   maximum number of items converted in a batch
+     */
+    private IndianDateProcessor(ToLongFunction<? super T> epochDayOf, BatchConverter<R> converter, Executor executor,
+                                int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.epochDayOf = Objects.requireNonNull(epochDayOf, "epochDayOf");
+        this.converter = converter;
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.batchSize = batchSize;
+        this.epochDays = new long[batchSize];
+        this.output = new Object[batchSize];
+    }
+
+    /**
+     * Creates a processor converting to {@link IndianNationalDate}s, with the default batch size on the common pool.
+     *
+     * @param epochDayOf  function giving the epoch day (1970-01-01 ISO is 0) of an item
+     * @param <T>         the type of the received items
+     * @return            a processor converting the items to {@code IndianNationalDate}s
+     */
+    public static <T> IndianDateProcessor<T, IndianNationalDate> toDates(ToLongFunction<? super T> epochDayOf) {
+        return toDates(epochDayOf, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a processor converting to {@link IndianNationalDate}s.
+     *
+     * @param epochDayOf                 function giving the epoch day (1970-01-01 ISO is 0) of an item
+     * @param executor                   executor to run the conversion and the delivery on
+     * @param batchSize                  maximum number of items converted in a batch
+     * @param <T>                        the type of the received items
+     * @return                           a processor converting the items to {@code IndianNationalDate}s
+     * @throws IllegalArgumentException  if the batch size is not positive
+     */
+    public static <T> IndianDateProcessor<T, IndianNationalDate> toDates(ToLongFunction<? super T> epochDayOf,
+                                                                         Executor executor, int batchSize) {
+        BatchConverter<IndianNationalDate> converter = (source, count, dest) -> {
+            for (int i = 0; i < count; i++) {
+                dest[i] = IndianNationalDate.ofEpochDay(source[i]);
+            }
+        };
+        return new IndianDateProcessor<>(epochDayOf, converter, executor, batchSize);
+    }
+
+    /**
+     * Creates a processor converting to {@linkplain IndianPackedDate packed dates}, with the default batch size on the
+     * common pool.
+     *
+     * @param epochDayOf  function giving the epoch day (1970-01-01 ISO is 0) of an item
+     * @param <T>         the type of the received items
+     * @return            a processor converting the items to packed dates
+     */
+    public static <T> IndianDateProcessor<T, Integer> toPackedDates(ToLongFunction<? super T> epochDayOf) {
+        return toPackedDates(epochDayOf, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a processor converting to {@linkplain IndianPackedDate packed dates}.
+     *
+     * @param epochDayOf                 function giving the epoch day (1970-01-01 ISO is 0) of an item
+     * @param executor                   executor to run the conversion and the delivery on
+     * @param batchSize                  maximum number of items converted in a batch
+     * @param <T>                        the type of the received items
+     * @return                           a processor converting the items to packed dates
+     * @throws IllegalArgumentException  if the batch size is not positive
+     */
+    public static <T> IndianDateProcessor<T, Integer> toPackedDates(ToLongFunction<? super T> epochDayOf,
+                                                                    Executor executor, int batchSize) {
+        BatchConverter<Integer> converter = (source, count, dest) -> {
+            for (int i = 0; i < count; i++) {
+                dest[i] = IndianPackedDate.ofEpochDay(source[i]);
+            }
+        };
+        return new IndianDateProcessor<>(epochDayOf, converter, executor, batchSize);
+    }
+
+    /**
+     * Creates a processor converting to Saka dates formatted as {@link IndianNationalDate#toString()}, with the
+     * default batch size on the common pool.
+     *
+     * @param epochDayOf  function giving the epoch day (1970-01-01 ISO is 0) of an item
+     * @param <T>         the type of the received items
+     * @return            a processor converting the items to strings
+     */
+    public static <T> IndianDateProcessor<T, String> toStrings(ToLongFunction<? super T> epochDayOf) {
+        return toStrings(epochDayOf, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a processor converting to Saka dates formatted as {@link IndianNationalDate#toString()}.
+     *
+     * @param epochDayOf                 function giving the epoch day (1970-01-01 ISO is 0) of an item
+     * @param executor                   executor to run the conversion and the delivery on
+     * @param batchSize                  maximum number of items converted in a batch
+     * @param <T>                        the type of the received items
+     * @return                           a processor converting the items to strings
+     * @throws IllegalArgumentException  if the batch size is not positive
+     */
+    public static <T> IndianDateProcessor<T, String> toStrings(ToLongFunction<? super T> epochDayOf,
+                                                               Executor executor, int batchSize) {
+        // the drain task never runs concurrently with itself, so the buffer can be shared by the batches
+        byte[] buffer = new byte[32];
+        BatchConverter<String> converter = (source, count, dest) -> {
+            for (int i = 0; i < count; i++) {
+                String text = IndianDateStringTable.string(source[i]);
+                if (text == null) {
+                    text = new String(buffer, 0, IndianDateText.renderIndian(source[i], buffer, 0),
+                                      StandardCharsets.ISO_8859_1);
+                }
+                dest[i] = text;
+            }
+        };
+        return new IndianDateProcessor<>(epochDayOf, converter, executor, batchSize);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        signal();
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item, "item");
+        input.offer(item);
+        received++;
+        signal();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = Objects.requireNonNull(throwable, "throwable");
+        signal();
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+        signal();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        boolean accepted;
+        synchronized (this) {
+            accepted = !subscribed;
+            subscribed = true;
+        }
+        if (!accepted) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("IndianDateProcessor supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Subscription());
+        // published after onSubscribe returns, so that no other signal can precede it
+        downstream = subscriber;
+        signal();
+    }
+
+    /**
+     * Gets the number of items received from the upstream publisher.
+     *
+     * @return  number of received items
+     */
+    public long getReceivedCount() {
+        return received;
+    }
+
+    /**
+     * Gets the number of items emitted to the subscriber.
+     *
+     * @return  number of emitted items
+     */
+    public long getEmittedCount() {
+        return emitted;
+    }
+
+    /**
+     * Gets the number of batches converted.
+     *
+     * @return  number of converted batches
+     */
+    public long getBatchCount() {
+        return batches;
+    }
+
+    /**
+     * Gets the time spent in converting the batches.
+     *
+     * @return  conversion time in nanoseconds
+     */
+    public long getConversionNanos() {
+        return conversionNanos;
+    }
+
+    @Override
+    public String toString() {
+        long nanos = conversionNanos;
+        return String.format("IndianDateProcessor[received=%d, emitted=%d, batches=%d, %.1f M items/s]",
+                received, emitted, batches, nanos == 0 ? 0.0 : emitted * 1000.0 / nanos);
+    }
+
+    /**
+     * Schedules the drain task, unless it's already scheduled, in which case it will run once more.
+     */
+    private void signal() {
+        if (pendingSignals.getAndIncrement() == 0) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // the pending signals are left non-zero, so no other drain task is scheduled after this
+                Flow.Subscription subscription = upstream;
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+                Flow.Subscriber<? super R> subscriber = downstream;
+                if (subscriber != null) {
+                    subscriber.onError(e);
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        do {
+            drainOnce();
+            missed = pendingSignals.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Emits the converted items as long as there is demand, converting the next batch when the previous one has been
+     * emitted, and requests more items from the upstream publisher.
+     */
+    @SuppressWarnings("unchecked")
+    private void drainOnce() {
+        Flow.Subscriber<? super R> subscriber = downstream;
+        if (terminated || subscriber == null) {
+            return;
+        }
+        if (cancelled) {
+            terminate();
+            return;
+        }
+        Throwable failure = error;
+        if (failure != null) {
+            terminate();
+            subscriber.onError(failure);
+            return;
+        }
+        while (true) {
+            while (outputIndex < outputCount && demand.get() > 0) {
+                R item = (R) output[outputIndex];
+                output[outputIndex++] = null;
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                emitted++;
+                subscriber.onNext(item);
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+            }
+            // completion doesn't need any demand, so it's checked first
+            boolean done = completed;
+            if (outputIndex == outputCount && done && input.isEmpty()) {
+                terminate();
+                subscriber.onComplete();
+                return;
+            }
+            if (outputIndex < outputCount || demand.get() == 0) {
+                break;
+            }
+            // the previous batch has been emitted and there is demand for more
+            int count;
+            try {
+                count = convertBatch();
+            } catch (RuntimeException e) {
+                terminate();
+                subscriber.onError(e);
+                return;
+            }
+            if (count == 0) {
+                if (done && input.isEmpty()) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                break;
+            }
+        }
+        Flow.Subscription subscription = upstream;
+        long buffered = requested - taken + outputCount - outputIndex;
+        if (subscription != null && !completed && buffered <= batchSize) {
+            long n = 2L * batchSize - buffered;
+            requested += n;
+            subscription.request(n);
+        }
+    }
+
+    /**
+     * Converts the next batch of received items.
+     *
+     * @return  number of items converted
+     */
+    private int convertBatch() {
+        int count = 0;
+        T item;
+        while (count < batchSize && (item = input.poll()) != null) {
+            epochDays[count++] = EPOCH_DAY.checkValidValue(epochDayOf.applyAsLong(item));
+        }
+        taken += count;
+        if (count > 0) {
+            long start = System.nanoTime();
+            converter.convert(epochDays, count, output);
+            conversionNanos += System.nanoTime() - start;
+            batches++;
+            outputIndex = 0;
+            outputCount = count;
+        }
+        return count;
+    }
+
+    private void terminate() {
+        terminated = true;
+        Flow.Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        input.clear();
+        for (int i = outputIndex; i < outputCount; i++) {
+            output[i] = null;
+        }
+        outputIndex = outputCount = 0;
+    }
+
+    /**
+     * Converts a batch of epoch days.
+     */
+    private interface BatchConverter<R> {
+
+        /**
+         * Converts the first {@code count} epoch days of the source into the destination.
+         */
+        void convert(long[] source, int count, Object[] dest);
+    }
+
+    /**
+     * The subscription given to the subscriber.
+     */
+    private final class Subscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Non-positive request: " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.gebogebo.kronology.indian;
+
+import static java.time.temporal.ChronoField.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.util.Locale;
+
+/**
+ * Renders Saka dates with the month and day of week names of an Indian language, such as
+ * {@code 24 Vaishakha 1869} or {@code Wednesday, 24 Vaishakha 1869}.
+ *
+ * <p>
+ * The renderers are available for English, Hindi, Marathi, Gujarati and Bengali, with ASCII or native digits. Their
+ * month names, day of week names and digits are precomputed once as UTF-16 {@code char} arrays and as UTF-8 byte
+ * arrays, and the dates are written directly to a {@link StringBuilder} or a {@link ByteBuffer}, without creating any
+ * intermediate {@code String}s. The dates can be given as {@link IndianNationalDate}s or as epoch days, where day 0 is
+ * 1970-01-01 (ISO).
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateRenderer {
+
+    /**
+     * Languages of the renderers, with the month names, the day of week names (Monday first) and the native zero digit
+     * of each language, in the same order.
+     */
+    private static final String[] LANGUAGES = {"en", "hi", "mr", "gu", "bn"};
+    private static final String[][] MONTH_NAMES = {
+        // English
+        {
+            "Chaitra", "Vaishakha", "Jyeshtha", "Ashadha", "Shravana", "Bhadra", "Ashwin", "Kartika",
+            "Agrahayana", "Pausha", "Magha", "Phalguna"
+        },
+        // Hindi
+        {
+            "\u091a\u0948\u0924\u094d\u0930", "\u0935\u0948\u0936\u093e\u0916",
+            "\u091c\u094d\u092f\u0947\u0937\u094d\u0920", "\u0906\u0937\u093e\u0922\u093c",
+            "\u0936\u094d\u0930\u093e\u0935\u0923", "\u092d\u093e\u0926\u094d\u0930",
+            "\u0906\u0936\u094d\u0935\u093f\u0928", "\u0915\u093e\u0930\u094d\u0924\u093f\u0915",
+            "\u0905\u0917\u094d\u0930\u0939\u093e\u092f\u0923", "\u092a\u094c\u0937", "\u092e\u093e\u0918",
+            "\u092b\u093e\u0932\u094d\u0917\u0941\u0928"
+        },
+        // Marathi
+        {
+            "\u091a\u0948\u0924\u094d\u0930", "\u0935\u0948\u0936\u093e\u0916",
+            "\u091c\u094d\u092f\u0947\u0937\u094d\u0920", "\u0906\u0937\u093e\u0922",
+            "\u0936\u094d\u0930\u093e\u0935\u0923", "\u092d\u093e\u0926\u094d\u0930\u092a\u0926",
+            "\u0906\u0936\u094d\u0935\u093f\u0928", "\u0915\u093e\u0930\u094d\u0924\u093f\u0915",
+            "\u092e\u093e\u0930\u094d\u0917\u0936\u0940\u0930\u094d\u0937", "\u092a\u094c\u0937",
+            "\u092e\u093e\u0918", "\u092b\u093e\u0932\u094d\u0917\u0941\u0928"
+        },
+        // Gujarati
+        {
+            "\u0a9a\u0ac8\u0aa4\u0acd\u0ab0", "\u0ab5\u0ac8\u0ab6\u0abe\u0a96",
+            "\u0a9c\u0acd\u0aaf\u0ac7\u0ab7\u0acd\u0aa0", "\u0a85\u0ab7\u0abe\u0aa2",
+            "\u0ab6\u0acd\u0ab0\u0abe\u0ab5\u0aa3", "\u0aad\u0abe\u0aa6\u0acd\u0ab0\u0aaa\u0aa6",
+            "\u0a86\u0ab8\u0acb", "\u0a95\u0abe\u0ab0\u0aa4\u0a95", "\u0aae\u0abe\u0a97\u0ab6\u0ab0",
+            "\u0aaa\u0acb\u0ab7", "\u0aae\u0ab9\u0abe", "\u0aab\u0abe\u0a97\u0aa3"
+        },
+        // Bengali
+        {
+            "\u099a\u09c8\u09a4\u09cd\u09b0", "\u09ac\u09c8\u09b6\u09be\u0996",
+            "\u099c\u09cd\u09af\u09c8\u09b7\u09cd\u09a0", "\u0986\u09b7\u09be\u09a2\u09bc",
+            "\u09b6\u09cd\u09b0\u09be\u09ac\u09a3", "\u09ad\u09be\u09a6\u09cd\u09b0",
+            "\u0986\u09b6\u09cd\u09ac\u09bf\u09a8", "\u0995\u09be\u09b0\u09cd\u09a4\u09bf\u0995",
+            "\u0985\u0997\u09cd\u09b0\u09b9\u09be\u09af\u09bc\u09a3", "\u09aa\u09cc\u09b7", "\u09ae\u09be\u0998",
+            "\u09ab\u09be\u09b2\u09cd\u0997\u09c1\u09a8"
+        }
+    };
+    private static final String[][] DAY_OF_WEEK_NAMES = {
+        // English
+        {
+            "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"
+        },
+        // Hindi
+        {
+            "\u0938\u094b\u092e\u0935\u093e\u0930", "\u092e\u0902\u0917\u0932\u0935\u093e\u0930",
+            "\u092c\u0941\u0927\u0935\u093e\u0930", "\u0917\u0941\u0930\u0941\u0935\u093e\u0930",
+            "\u0936\u0941\u0915\u094d\u0930\u0935\u093e\u0930", "\u0936\u0928\u093f\u0935\u093e\u0930",
+            "\u0930\u0935\u093f\u0935\u093e\u0930"
+        },
+        // Marathi
+        {
+            "\u0938\u094b\u092e\u0935\u093e\u0930", "\u092e\u0902\u0917\u0933\u0935\u093e\u0930",
+            "\u092c\u0941\u0927\u0935\u093e\u0930", "\u0917\u0941\u0930\u0941\u0935\u093e\u0930",
+            "\u0936\u0941\u0915\u094d\u0930\u0935\u093e\u0930", "\u0936\u0928\u093f\u0935\u093e\u0930",
+            "\u0930\u0935\u093f\u0935\u093e\u0930"
+        },
+        // Gujarati
+        {
+            "\u0ab8\u0acb\u0aae\u0ab5\u0abe\u0ab0", "\u0aae\u0a82\u0a97\u0ab3\u0ab5\u0abe\u0ab0",
+            "\u0aac\u0ac1\u0aa7\u0ab5\u0abe\u0ab0", "\u0a97\u0ac1\u0ab0\u0ac1\u0ab5\u0abe\u0ab0",
+            "\u0ab6\u0ac1\u0a95\u0acd\u0ab0\u0ab5\u0abe\u0ab0", "\u0ab6\u0aa8\u0abf\u0ab5\u0abe\u0ab0",
+            "\u0ab0\u0ab5\u0abf\u0ab5\u0abe\u0ab0"
+        },
+        // Bengali
+        {
+            "\u09b8\u09cb\u09ae\u09ac\u09be\u09b0", "\u09ae\u0999\u09cd\u0997\u09b2\u09ac\u09be\u09b0",
+            "\u09ac\u09c1\u09a7\u09ac\u09be\u09b0",
+            "\u09ac\u09c3\u09b9\u09b8\u09cd\u09aa\u09a4\u09bf\u09ac\u09be\u09b0",
+            "\u09b6\u09c1\u0995\u09cd\u09b0\u09ac\u09be\u09b0", "\u09b6\u09a8\u09bf\u09ac\u09be\u09b0",
+            "\u09b0\u09ac\u09bf\u09ac\u09be\u09b0"
+        }
+    };
+    private static final char[] ZERO_DIGITS = {'0', '\u0966', '\u0966', '\u0ae6', '\u09e6'};
+
+    private static final IndianDateRenderer[] RENDERERS = new IndianDateRenderer[2 * LANGUAGES.length];
+    static {
+        for (int i = 0; i < LANGUAGES.length; i++) {
+            RENDERERS[2 * i] = new IndianDateRenderer(i, false);
+            RENDERERS[2 * i + 1] = new IndianDateRenderer(i, true);
+        }
+    }
+
+    /**
+     * Renderers with ASCII digits.
+     */
+    public static final IndianDateRenderer ENGLISH = RENDERERS[0];
+    public static final IndianDateRenderer HINDI = RENDERERS[2];
+    public static final IndianDateRenderer MARATHI = RENDERERS[4];
+    public static final IndianDateRenderer GUJARATI = RENDERERS[6];
+    public static final IndianDateRenderer BENGALI = RENDERERS[8];
+
+    private static final char[] SEPARATOR_CHARS = {',', ' '};
+    private static final byte[] SEPARATOR_BYTES = {',', ' '};
+
+    private final int language;
+    private final boolean nativeDigits;
+    private final char[][] monthChars = new char[12][];
+    private final byte[][] monthBytes = new byte[12][];
+    private final char[][] dayOfWeekChars = new char[7][];
+    private final byte[][] dayOfWeekBytes = new byte[7][];
+    private final char[] digitChars = new char[10];
+    private final byte[][] digitBytes = new byte[10][];
+
+    /**
+     * Creates a renderer, precomputing its tables.
+     *
+     * @param language      index of the language
+     * @param nativeDigits  <code>true</code> to use the digits of the language
+     */
+    private IndianDateRenderer(int language, boolean nativeDigits) {
+        this.language = language;
+        this.nativeDigits = nativeDigits;
+        for (int month = 0; month < 12; month++) {
+            monthChars[month] = MONTH_NAMES[language][month].toCharArray();
+            monthBytes[month] = MONTH_NAMES[language][month].getBytes(StandardCharsets.UTF_8);
+        }
+        for (int day = 0; day < 7; day++) {
+            dayOfWeekChars[day] = DAY_OF_WEEK_NAMES[language][day].toCharArray();
+            dayOfWeekBytes[day] = DAY_OF_WEEK_NAMES[language][day].getBytes(StandardCharsets.UTF_8);
+        }
+        char zero = nativeDigits ? ZERO_DIGITS[language] : '0';
+        for (int digit = 0; digit < 10; digit++) {
+            digitChars[digit] = (char) (zero + digit);
+            digitBytes[digit] = String.valueOf(digitChars[digit]).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Obtains the renderer with ASCII digits for the language of the given locale, or the English renderer if the
+     * language is not supported.
+     *
+     * @param locale  the locale
+     * @return        the renderer for the locale
+     */
+    public static IndianDateRenderer of(Locale locale) {
+        String language = locale.getLanguage();
+        for (int i = 0; i < LANGUAGES.length; i++) {
+            if (LANGUAGES[i].equals(language)) {
+                return RENDERERS[2 * i];
+            }
+        }
+        return ENGLISH;
+    }
+
+    /**
+     * Gets a renderer for the same language with native or ASCII digits. English has only ASCII digits.
+     *
+     * @param nativeDigits  <code>true</code> to use the digits of the language, such as the Devanagari digits in Hindi
+     * @return              the renderer with the given digits
+     */
+    public IndianDateRenderer withNativeDigits(boolean nativeDigits) {
+        return RENDERERS[2 * language + (nativeDigits ? 1 : 0)];
+    }
+
+    /**
+     * Gets the locale of the language of this renderer.
+     *
+     * @return  the locale of the language
+     */
+    public Locale getLocale() {
+        return new Locale(LANGUAGES[language], "IN");
+    }
+
+    /**
+     * Appends the date as day of month, month name and year, such as {@code 24 Vaishakha 1869}.
+     *
+     * @param date     the date to append
+     * @param builder  the builder to append to
+     * @return         the builder
+     */
+    public StringBuilder appendDate(IndianNationalDate date, StringBuilder builder) {
+        return appendDate(date.get(YEAR), date.get(MONTH_OF_YEAR), date.get(DAY_OF_MONTH), builder);
+    }
+
+    /**
+     * Appends the date of the epoch day as day of month, month name and year, such as {@code 24 Vaishakha 1869}.
+     *
+     * @param epochDay  the epoch day of the date
+     * @param builder   the builder to append to
+     * @return          the builder
+     */
+    public StringBuilder appendDate(long epochDay, StringBuilder builder) {
+        int year = IndianYearInfo.DEFAULT.prolepticYear(EPOCH_DAY.checkValidValue(epochDay));
+        int monthAndDay = monthAndDay(epochDay, year);
+        return appendDate(year, monthAndDay >> 5, monthAndDay & 0x1F, builder);
+    }
+
+    /**
+     * Appends the date with the day of week, such as {@code Wednesday, 24 Vaishakha 1869}.
+     *
+     * @param date     the date to append
+     * @param builder  the builder to append to
+     * @return         the builder
+     */
+    public StringBuilder appendFullDate(IndianNationalDate date, StringBuilder builder) {
+        builder.append(dayOfWeekChars[date.get(DAY_OF_WEEK) - 1]).append(SEPARATOR_CHARS);
+        return appendDate(date, builder);
+    }
+
+    /**
+     * Appends the date of the epoch day with the day of week, such as {@code Wednesday, 24 Vaishakha 1869}.
+     *
+     * @param epochDay  the epoch day of the date
+     * @param builder   the builder to append to
+     * @return          the builder
+     */
+    public StringBuilder appendFullDate(long epochDay, StringBuilder builder) {
+        builder.append(dayOfWeekChars[dayOfWeekIndex(epochDay)]).append(SEPARATOR_CHARS);
+        return appendDate(epochDay, builder);
+    }
+
+    /**
+     * Appends the name of the month.
+     *
+     * @param month    Indian month-of-year, from 1 to 12
+     * @param builder  the builder to append to
+     * @return         the builder
+     */
+    public StringBuilder appendMonthName(int month, StringBuilder builder) {
+        return builder.append(monthChars[MONTH_OF_YEAR.checkValidIntValue(month) - 1]);
+    }
+
+    /**
+     * Appends the name of the day of week.
+     *
+     * @param dayOfWeek  the day of week
+     * @param builder    the builder to append to
+     * @return           the builder
+     */
+    public StringBuilder appendDayOfWeekName(DayOfWeek dayOfWeek, StringBuilder builder) {
+        return builder.append(dayOfWeekChars[dayOfWeek.ordinal()]);
+    }
+
+    /**
+     * Appends the number with the digits of this renderer.
+     *
+     * @param value    the number to append
+     * @param builder  the builder to append to
+     * @return         the builder
+     */
+    public StringBuilder appendNumber(long value, StringBuilder builder) {
+        if (value < 0) {
+            builder.append('-');
+        }
+        for (long divisor = divisor(value); divisor != 0; divisor /= 10) {
+            builder.append(digitChars[digit(value, divisor)]);
+        }
+        return builder;
+    }
+
+    /**
+     * Writes the date in UTF-8 as day of month, month name and year, such as {@code 24 Vaishakha 1869}.
+     *
+     * @param date    the date to write
+     * @param buffer  the buffer to write to
+     * @return        the buffer
+     */
+    public ByteBuffer writeDate(IndianNationalDate date, ByteBuffer buffer) {
+        return writeDate(date.get(YEAR), date.get(MONTH_OF_YEAR), date.get(DAY_OF_MONTH), buffer);
+    }
+
+    /**
+     * Writes the date of the epoch day in UTF-8 as day of month, month name and year, such as
+     * {@code 24 Vaishakha 1869}.
+     *
+     * @param epochDay  the epoch day of the date
+     * @param buffer    the buffer to write to
+     * @return          the buffer
+     */
+    public ByteBuffer writeDate(long epochDay, ByteBuffer buffer) {
+        int year = IndianYearInfo.DEFAULT.prolepticYear(EPOCH_DAY.checkValidValue(epochDay));
+        int monthAndDay = monthAndDay(epochDay, year);
+        return writeDate(year, monthAndDay >> 5, monthAndDay & 0x1F, buffer);
+    }
+
+    /**
+     * Writes the date in UTF-8 with the day of week, such as {@code Wednesday, 24 Vaishakha 1869}.
+     *
+     * @param date    the date to write
+     * @param buffer  the buffer to write to
+     * @return        the buffer
+     */
+    public ByteBuffer writeFullDate(IndianNationalDate date, ByteBuffer buffer) {
+        buffer.put(dayOfWeekBytes[date.get(DAY_OF_WEEK) - 1]).put(SEPARATOR_BYTES);
+        return writeDate(date, buffer);
+    }
+
+    /**
+     * Writes the date of the epoch day in UTF-8 with the day of week, such as {@code Wednesday, 24 Vaishakha 1869}.
+     *
+     * @param epochDay  the epoch day of the date
+     * @param buffer    the buffer to write to
+     * @return          the buffer
+     */
+    public ByteBuffer writeFullDate(long epochDay, ByteBuffer buffer) {
+        buffer.put(dayOfWeekBytes[dayOfWeekIndex(epochDay)]).put(SEPARATOR_BYTES);
+        return writeDate(epochDay, buffer);
+    }
+
+    /**
+     * Writes the name of the month in UTF-8.
+     *
+     * @param month   Indian month-of-year, from 1 to 12
+     * @param buffer  the buffer to write to
+     * @return        the buffer
+     */
+    public ByteBuffer writeMonthName(int month, ByteBuffer buffer) {
+        return buffer.put(monthBytes[MONTH_OF_YEAR.checkValidIntValue(month) - 1]);
+    }
+
+    /**
+     * Writes the name of the day of week in UTF-8.
+     *
+     * @param dayOfWeek  the day of week
+     * @param buffer     the buffer to write to
+     * @return           the buffer
+     */
+    public ByteBuffer writeDayOfWeekName(DayOfWeek dayOfWeek, ByteBuffer buffer) {
+        return buffer.put(dayOfWeekBytes[dayOfWeek.ordinal()]);
+    }
+
+    /**
+     * Writes the number in UTF-8 with the digits of this renderer.
+     *
+     * @param value   the number to write
+     * @param buffer  the buffer to write to
+     * @return        the buffer
+     */
+    public ByteBuffer writeNumber(long value, ByteBuffer buffer) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+        }
+        for (long divisor = divisor(value); divisor != 0; divisor /= 10) {
+            buffer.put(digitBytes[digit(value, divisor)]);
+        }
+        return buffer;
+    }
+
+    @Override
+    public String toString() {
+        return "IndianDateRenderer[" + LANGUAGES[language] + (nativeDigits ? ", native digits]" : "]");
+    }
+
+    private StringBuilder appendDate(int year, int month, int dayOfMonth, StringBuilder builder) {
+        appendNumber(dayOfMonth, builder).append(' ').append(monthChars[month - 1]).append(' ');
+        return appendNumber(year, builder);
+    }
+
+    private ByteBuffer writeDate(int year, int month, int dayOfMonth, ByteBuffer buffer) {
+        writeNumber(dayOfMonth, buffer).put((byte) ' ').put(monthBytes[month - 1]).put((byte) ' ');
+        return writeNumber(year, buffer);
+    }
+
+    /**
+     * Gets the month and the day of month of the epoch day in the given year, as {@code month << 5 | dayOfMonth}.
+     */
+    private static int monthAndDay(long epochDay, int year) {
+        boolean isLeapYear = IndianYearInfo.DEFAULT.isLeapYear(year);
+        int dayOfYear = (int) (epochDay - IndianYearInfo.DEFAULT.yearStartEpochDay(year));
+        int month = IndianYearInfo.monthOfDayOfYear(dayOfYear, isLeapYear);
+        return month << 5 | (dayOfYear - IndianYearInfo.monthStartDayOfYear(month, isLeapYear) + 1);
+    }
+
+    /**
+     * Gets the zero based day of week, Monday being 0, of the epoch day. 1970-01-01 (epoch day 0) is a Thursday.
+     */
+    private static int dayOfWeekIndex(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+    /**
+     * Gets the power of ten of the most significant digit of the value.
+     */
+    private static long divisor(long value) {
+        long divisor = 1;
+        // compared as negative values, so that Long.MIN_VALUE doesn't overflow
+        long negative = value < 0 ? value : -value;
+        while (divisor <= Long.MAX_VALUE / 10 && negative <= -divisor * 10) {
+            divisor *= 10;
+        }
+        return divisor;
+    }
+
+    /**
+     * Gets the digit of the value at the given power of ten.
+     */
+    private static int digit(long value, long divisor) {
+        return (int) Math.abs(value / divisor % 10);
+    }
+}
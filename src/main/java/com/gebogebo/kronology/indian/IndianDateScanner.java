@@ -0,0 +1,650 @@
+package com.gebogebo.kronology.indian;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Finds the Saka dates mentioned in free-form text, such as {@code 1946-05-12}, {@code 12 Shravana 1946} or the same
+ * date in Devanagari.
+ *
+ * <p>
+ * Two forms of dates are recognized:
+ * <ul>
+ * <li>numeric - a year of four digits, a month and a day of one or two digits, separated by {@code -}, as written by
+ *  {@link IndianNationalDate#toString()}
+ * <li>named - a day of one or two digits, optionally followed by {@code st}, {@code nd}, {@code rd} or {@code th}, the
+ *  name of a month and a year of up to seven digits, separated by white space and optionally a {@code ,} or a
+ *  {@code .} after the month name
+ * </ul>
+ * The month names are those of all the {@link IndianDateRenderer}s, in English, Hindi, Marathi, Gujarati and Bengali,
+ * and the common English transliterations, such as {@code Sravana} or {@code Bhadrapada}; the English names are
+ * matched regardless of case. The digits can be ASCII digits or the native digits of these languages. A date must
+ * start and end at a word boundary and be valid, otherwise it's ignored.
+ * <p>
+ * The text is scanned once from start to end: the scanner only stops at the digits, where it reads the digit runs,
+ * the separators and walks a trie of the month names. The matches are reported to a {@link MatchHandler} with their
+ * offsets and the {@linkplain IndianPackedDate packed date}, without creating any object per match. The text can be
+ * a {@link CharSequence}, with offsets in {@code char}s, or UTF-8 bytes, with offsets in bytes. The documents of a
+ * corpus can be scanned in parallel on the common fork-join pool.
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateScanner {
+
+    /**
+     * Receives the dates found in a text.
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+
+        /**
+         * Called for every date found, in the order of the text.
+         *
+         * @param start       index of the first char or byte of the date, inclusive
+         * @param end         index of the last char or byte of the date, exclusive
+         * @param packedDate  the {@linkplain IndianPackedDate packed date}
+         */
+        void onMatch(int start, int end, int packedDate);
+    }
+
+    /**
+     * Receives the dates found in the documents of a corpus.
+     */
+    @FunctionalInterface
+    public interface CorpusMatchHandler {
+
+        /**
+         * Called for every date found, in the order of the text within a document. The calls for different
+         * documents may be made concurrently from several threads.
+         *
+         * @param document    index of the document in the corpus
+         * @param start       index of the first char or byte of the date, inclusive
+         * @param end         index of the last char or byte of the date, exclusive
+         * @param packedDate  the {@linkplain IndianPackedDate packed date}
+         */
+        void onMatch(int document, int start, int end, int packedDate);
+    }
+
+    /**
+     * English transliterations of the month names other than the ones of {@link IndianDateRenderer#ENGLISH}, and the
+     * Hindi Ashadha with a precomposed letter.
+     */
+    private static final String[][] OTHER_MONTH_NAMES = {
+        {"Caitra", "Chait", "Chaitr"},
+        {"Vaisakha", "Vaishakh", "Baisakh", "Baishakh"},
+        {"Jyaistha", "Jyeshta", "Jyeshth", "Jyaishtha"},
+        {"Asadha", "Ashadh", "Aashadh", "\u0906\u0937\u093e\u095d"},
+        {"Sravana", "Shravan", "Sawan", "Saawan"},
+        {"Bhadrapada", "Bhadrapad", "Bhadon", "Bhadra"},
+        {"Asvina", "Ashvin", "Ashvina", "Ashwina", "Aswin"},
+        {"Kartik", "Karthika", "Karthik"},
+        {"Agrahayan", "Margashirsha", "Margashirsh", "Margasirsa"},
+        {"Pausa", "Paush", "Pausha", "Posh"},
+        {"Magh"},
+        {"Phalgun", "Falgun"}
+    };
+
+    /**
+     * The first code point of the ten native digits of each language.
+     */
+    private static final int[] NATIVE_ZERO_DIGITS = {'\u0966', '\u09e6', '\u0ae6'};
+
+    /**
+     * Largest number of digits of the year of a named date, enough for all the packed dates.
+     */
+    private static final int MAX_YEAR_DIGITS = 7;
+
+    private static final long NO_MATCH = -1L;
+
+    /**
+     * A scanner recognizing both forms of dates, created after the month names it uses.
+     */
+    public static final IndianDateScanner INSTANCE = new IndianDateScanner();
+
+    private final Trie charTrie = new Trie();
+    private final Trie byteTrie = new Trie();
+
+    private IndianDateScanner() {
+        IndianDateRenderer[] renderers = {IndianDateRenderer.ENGLISH, IndianDateRenderer.HINDI,
+                                          IndianDateRenderer.MARATHI, IndianDateRenderer.GUJARATI,
+                                          IndianDateRenderer.BENGALI};
+        StringBuilder builder = new StringBuilder();
+        for (int month = 1; month <= 12; month++) {
+            for (IndianDateRenderer renderer : renderers) {
+                builder.setLength(0);
+                addMonthName(renderer.appendMonthName(month, builder).toString(), month);
+            }
+            for (String name : OTHER_MONTH_NAMES[month - 1]) {
+                addMonthName(name, month);
+            }
+        }
+    }
+
+    /**
+     * Scans the text for dates.
+     *
+     * @param text     the text to scan
+     * @param handler  handler of the dates found
+     * @return         number of dates found
+     */
+    public int scan(CharSequence text, MatchHandler handler) {
+        return scan(text, 0, text.length(), handler);
+    }
+
+    /**
+     * Scans a range of the text for dates. The dates must be entirely within the range, while the word boundaries
+     * around them are checked against the whole text.
+     *
+     * @param text     the text to scan
+     * @param from     index of the first char to scan, inclusive
+     * @param to       index of the last char to scan, exclusive
+     * @param handler  handler of the dates found
+     * @return         number of dates found
+     */
+    public int scan(CharSequence text, int from, int to, MatchHandler handler) {
+        if (from < 0 || to > text.length() || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range: " + from + " - " + to);
+        }
+        return scan(new CharText(text, to, charTrie), from, handler);
+    }
+
+    /**
+     * Scans the UTF-8 text for dates.
+     *
+     * @param utf8     the text to scan, in UTF-8
+     * @param handler  handler of the dates found
+     * @return         number of dates found
+     */
+    public int scan(byte[] utf8, MatchHandler handler) {
+        return scan(utf8, 0, utf8.length, handler);
+    }
+
+    /**
+     * Scans a range of the UTF-8 text for dates. The dates must be entirely within the range, while the word
+     * boundaries around them are checked against the whole text.
+     *
+     * @param utf8     the text to scan, in UTF-8
+     * @param from     index of the first byte to scan, inclusive
+     * @param to       index of the last byte to scan, exclusive
+     * @param handler  handler of the dates found
+     * @return         number of dates found
+     */
+    public int scan(byte[] utf8, int from, int to, MatchHandler handler) {
+        if (from < 0 || to > utf8.length || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range: " + from + " - " + to);
+        }
+        return scan(new Utf8Text(utf8, to, byteTrie), from, handler);
+    }
+
+    /**
+     * Scans the documents of a corpus for dates, in parallel on the common fork-join pool.
+     *
+     * @param documents  the documents to scan
+     * @param handler    handler of the dates found, called concurrently for different documents
+     * @return           number of dates found
+     */
+    public long scanAll(List<? extends CharSequence> documents, CorpusMatchHandler handler) {
+        return IntStream.range(0, documents.size()).parallel()
+                        .mapToLong(document -> scan(documents.get(document), (start, end, packedDate)
+                                -> handler.onMatch(document, start, end, packedDate)))
+                        .sum();
+    }
+
+    /**
+     * Scans the UTF-8 documents of a corpus for dates, in parallel on the common fork-join pool.
+     *
+     * @param documents  the documents to scan, in UTF-8
+     * @param handler    handler of the dates found, called concurrently for different documents
+     * @return           number of dates found
+     */
+    public long scanAll(byte[][] documents, CorpusMatchHandler handler) {
+        return IntStream.range(0, documents.length).parallel()
+                        .mapToLong(document -> scan(documents[document], (start, end, packedDate)
+                                -> handler.onMatch(document, start, end, packedDate)))
+                        .sum();
+    }
+
+    @Override
+    public String toString() {
+        return "IndianDateScanner";
+    }
+
+    private void addMonthName(String name, int month) {
+        String lowerCase = lowerCaseAscii(name);
+        charTrie.add(lowerCase.chars().toArray(), month);
+        byte[] bytes = lowerCase.getBytes(StandardCharsets.UTF_8);
+        int[] units = new int[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            units[i] = bytes[i] & 0xFF;
+        }
+        byteTrie.add(units, month);
+    }
+
+    private static String lowerCaseAscii(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) lowerCaseAscii(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static int lowerCaseAscii(int unit) {
+        return unit >= 'A' && unit <= 'Z' ? unit | 0x20 : unit;
+    }
+
+    /**
+     * Scans the text from the given index.
+     */
+    private static int scan(Text text, int from, MatchHandler handler) {
+        int count = 0;
+        int i = from;
+        while (i < text.end) {
+            int unit = text.unit(i);
+            if (unit < '0' || (unit > '9' && unit < 0x80)) {
+                i++;
+                continue;
+            }
+            int digit = text.digitAt(i);
+            if (digit < 0) {
+                i++;
+                continue;
+            }
+            long match = i > 0 && isWordCodePoint(text.codePointBefore(i)) ? NO_MATCH : text.matchDate(i);
+            if (match != NO_MATCH) {
+                int end = (int) (match >>> 32);
+                handler.onMatch(i, end, (int) match);
+                count++;
+                i = end;
+            } else {
+                // skips the whole digit run, no date starts within it
+                while (i < text.end && (digit = text.digitAt(i)) >= 0) {
+                    i += digit >>> 4;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if the code point is part of a word, so that a date can't start right after it or end right before it.
+     */
+    private static boolean isWordCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            return (codePoint >= '0' && codePoint <= '9') || (lowerCaseAscii(codePoint) >= 'a'
+                                                              && lowerCaseAscii(codePoint) <= 'z');
+        }
+        int type = Character.getType(codePoint);
+        return Character.isLetterOrDigit(codePoint) || type == Character.NON_SPACING_MARK
+               || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    /**
+     * Gets the value of the given digit code point, or -1 if it isn't a digit.
+     */
+    private static int digitValue(int codePoint) {
+        if (codePoint >= '0' && codePoint <= '9') {
+            return codePoint - '0';
+        }
+        for (int zero : NATIVE_ZERO_DIGITS) {
+            if (codePoint >= zero && codePoint <= zero + 9) {
+                return codePoint - zero;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the code point is white space that can separate the parts of a named date.
+     */
+    private static boolean isSpace(int codePoint) {
+        return codePoint == ' ' || codePoint == '\t' || codePoint == '\n' || codePoint == '\r' || codePoint == '\u00a0';
+    }
+
+    /**
+     * A trie of the month names, over {@code char}s or UTF-8 bytes, in flat arrays.
+     */
+    private static final class Trie {
+        private int[] labels = new int[256];
+        private int[] firstChildren = new int[256];
+        private int[] nextSiblings = new int[256];
+        private byte[] months = new byte[256];
+        private int size = 1;
+
+        private void add(int[] units, int month) {
+            int node = 0;
+            for (int unit : units) {
+                int child = child(node, unit);
+                if (child == 0) {
+                    if (size == labels.length) {
+                        labels = Arrays.copyOf(labels, size * 2);
+                        firstChildren = Arrays.copyOf(firstChildren, size * 2);
+                        nextSiblings = Arrays.copyOf(nextSiblings, size * 2);
+                        months = Arrays.copyOf(months, size * 2);
+                    }
+                    child = size++;
+                    labels[child] = unit;
+                    nextSiblings[child] = firstChildren[node];
+                    firstChildren[node] = child;
+                }
+                node = child;
+            }
+            months[node] = (byte) month;
+        }
+
+        /**
+         * Gets the child of the node with the given label, or 0 (the root) if there's none.
+         */
+        private int child(int node, int unit) {
+            for (int child = firstChildren[node]; child != 0; child = nextSiblings[child]) {
+                if (labels[child] == unit) {
+                    return child;
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * The text being scanned, as a sequence of {@code char}s or bytes.
+     */
+    private abstract static class Text {
+
+        /**
+         * Index after the last unit that can be part of a date, and after the last unit of the whole text.
+         */
+        final int end;
+        final int length;
+        private final Trie trie;
+
+        Text(int end, int length, Trie trie) {
+            this.end = end;
+            this.length = length;
+            this.trie = trie;
+        }
+
+        /**
+         * Gets the char or the unsigned byte at the index, which is before the end.
+         */
+        abstract int unit(int index);
+
+        /**
+         * Gets the code point starting at the index, or -1 if it's after the end of the text or malformed.
+         */
+        abstract int codePointAt(int index);
+
+        /**
+         * Gets the code point ending right before the index, or -1 if it's malformed.
+         */
+        abstract int codePointBefore(int index);
+
+        /**
+         * Gets the number of units of the code point.
+         */
+        abstract int width(int codePoint);
+
+        /**
+         * Gets the digit at the index as {@code value | width << 4}, or -1 if there's no digit.
+         */
+        final int digitAt(int index) {
+            if (index >= end) {
+                return -1;
+            }
+            int unit = unit(index);
+            if (unit >= '0' && unit <= '9') {
+                return (unit - '0') | 1 << 4;
+            }
+            if (unit < 0x80) {
+                return -1;
+            }
+            int codePoint = codePointAt(index);
+            int value = digitValue(codePoint);
+            int width = width(codePoint);
+            return value < 0 || index + width > end ? -1 : value | width << 4;
+        }
+
+        /**
+         * Gets the index after the white space at the index, which is the index itself if there's none.
+         */
+        private int skipSpaces(int index) {
+            while (index < end) {
+                int codePoint = codePointAt(index);
+                if (!isSpace(codePoint)) {
+                    break;
+                }
+                index += width(codePoint);
+            }
+            return index;
+        }
+
+        /**
+         * Checks if a date can end at the index.
+         */
+        private boolean isWordEnd(int index) {
+            return !isWordCodePoint(codePointAt(index));
+        }
+
+        /**
+         * Matches a date starting at the index, which is a digit at a word boundary.
+         *
+         * @return  {@code end << 32 | packedDate}, or {@link #NO_MATCH}
+         */
+        final long matchDate(int index) {
+            int number = 0;
+            int digits = 0;
+            int i = index;
+            for (int digit; digits <= MAX_YEAR_DIGITS && (digit = digitAt(i)) >= 0; digits++) {
+                number = number * 10 + (digit & 0xF);
+                i += digit >>> 4;
+            }
+            if (digits == 4 && i < end && unit(i) == '-') {
+                return matchNumeric(number, i + 1);
+            }
+            if (digits <= 2) {
+                return matchNamed(number, i);
+            }
+            return NO_MATCH;
+        }
+
+        /**
+         * Matches the {@code -MM-dd} of a numeric date after the year.
+         */
+        private long matchNumeric(int year, int index) {
+            int month = 0;
+            int i = index;
+            int digits = 0;
+            for (int digit; digits < 2 && (digit = digitAt(i)) >= 0; digits++) {
+                month = month * 10 + (digit & 0xF);
+                i += digit >>> 4;
+            }
+            if (digits == 0 || i >= end || unit(i) != '-') {
+                return NO_MATCH;
+            }
+            i++;
+            int day = 0;
+            digits = 0;
+            for (int digit; digits < 2 && (digit = digitAt(i)) >= 0; digits++) {
+                day = day * 10 + (digit & 0xF);
+                i += digit >>> 4;
+            }
+            if (digits == 0 || !isWordEnd(i)) {
+                return NO_MATCH;
+            }
+            return toMatch(year, month, day, i);
+        }
+
+        /**
+         * Matches the month name and the year of a named date after the day.
+         */
+        private long matchNamed(int day, int index) {
+            int i = index;
+            if (i + 1 < end) {
+                int first = lowerCaseAscii(unit(i));
+                int second = lowerCaseAscii(unit(i + 1));
+                if ((first == 's' && second == 't') || (first == 'n' && second == 'd')
+                        || (first == 'r' && second == 'd') || (first == 't' && second == 'h')) {
+                    i += 2;
+                }
+            }
+            int monthStart = skipSpaces(i);
+            if (monthStart == i) {
+                return NO_MATCH;
+            }
+            // the longest month name that ends at a word boundary
+            int month = 0;
+            int monthEnd = 0;
+            int node = 0;
+            for (int j = monthStart; j < end; j++) {
+                node = trie.child(node, lowerCaseAscii(unit(j)));
+                if (node == 0) {
+                    break;
+                }
+                if (trie.months[node] != 0 && isWordEnd(j + 1)) {
+                    month = trie.months[node];
+                    monthEnd = j + 1;
+                }
+            }
+            if (month == 0) {
+                return NO_MATCH;
+            }
+            i = monthEnd;
+            if (i < end && (unit(i) == ',' || unit(i) == '.')) {
+                i++;
+            }
+            int yearStart = skipSpaces(i);
+            if (yearStart == i) {
+                return NO_MATCH;
+            }
+            int year = 0;
+            int digits = 0;
+            i = yearStart;
+            for (int digit; digits <= MAX_YEAR_DIGITS && (digit = digitAt(i)) >= 0; digits++) {
+                year = year * 10 + (digit & 0xF);
+                i += digit >>> 4;
+            }
+            if (digits == 0 || digits > MAX_YEAR_DIGITS || !isWordEnd(i)) {
+                return NO_MATCH;
+            }
+            return toMatch(year, month, day, i);
+        }
+
+        private static long toMatch(int year, int month, int day, int end) {
+            if (year > IndianPackedDate.MAX_YEAR || !IndianNationalDate.isValid(year, month, day)) {
+                return NO_MATCH;
+            }
+            return (long) end << 32 | (IndianPackedDate.pack(year, month, day) & 0xFFFFFFFFL);
+        }
+    }
+
+    /**
+     * A {@link CharSequence} being scanned.
+     */
+    private static final class CharText extends Text {
+        private final CharSequence text;
+
+        CharText(CharSequence text, int end, Trie trie) {
+            super(end, text.length(), trie);
+            this.text = text;
+        }
+
+        @Override
+        int unit(int index) {
+            return text.charAt(index);
+        }
+
+        @Override
+        int codePointAt(int index) {
+            if (index >= length) {
+                return -1;
+            }
+            char c = text.charAt(index);
+            if (Character.isHighSurrogate(c) && index + 1 < length) {
+                char low = text.charAt(index + 1);
+                if (Character.isLowSurrogate(low)) {
+                    return Character.toCodePoint(c, low);
+                }
+            }
+            return c;
+        }
+
+        @Override
+        int codePointBefore(int index) {
+            return Character.codePointBefore(text, index);
+        }
+
+        @Override
+        int width(int codePoint) {
+            return codePoint < 0 ? 1 : Character.charCount(codePoint);
+        }
+    }
+
+    /**
+     * UTF-8 bytes being scanned.
+     */
+    private static final class Utf8Text extends Text {
+        private final byte[] bytes;
+
+        Utf8Text(byte[] bytes, int end, Trie trie) {
+            super(end, bytes.length, trie);
+            this.bytes = bytes;
+        }
+
+        @Override
+        int unit(int index) {
+            return bytes[index] & 0xFF;
+        }
+
+        @Override
+        int codePointAt(int index) {
+            return decode(index, length);
+        }
+
+        @Override
+        int codePointBefore(int index) {
+            int start = index - 1;
+            while (start > 0 && start > index - 4 && (bytes[start] & 0xC0) == 0x80) {
+                start--;
+            }
+            int codePoint = decode(start, index);
+            return codePoint >= 0 && start + width(codePoint) == index ? codePoint : -1;
+        }
+
+        @Override
+        int width(int codePoint) {
+            if (codePoint < 0x80) {
+                return 1;
+            }
+            return codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+        }
+
+        /**
+         * Decodes the code point starting at the index and ending before the limit, or returns -1.
+         */
+        private int decode(int index, int limit) {
+            if (index >= limit) {
+                return -1;
+            }
+            int lead = bytes[index] & 0xFF;
+            if (lead < 0x80) {
+                return lead;
+            }
+            int length = lead >= 0xF0 ? (lead < 0xF8 ? 4 : 0) : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 0;
+            if (length == 0 || index + length > limit) {
+                return -1;
+            }
+            int codePoint = lead & (0x7F >> length);
+            for (int i = index + 1; i < index + length; i++) {
+                if ((bytes[i] & 0xC0) != 0x80) {
+                    return -1;
+                }
+                codePoint = codePoint << 6 | (bytes[i] & 0x3F);
+            }
+            return codePoint;
+        }
+    }
+}
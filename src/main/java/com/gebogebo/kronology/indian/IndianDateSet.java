@@ -0,0 +1,1340 @@
+package com.gebogebo.kronology.indian;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A set of Saka dates, keyed by epoch day and stored as a compressed bitmap.
+ *
+ * <p>
+ * The epoch days are split into chunks of 65536 days (about 179 years). Each chunk that holds at least one date is
+ * stored in the smallest of three containers: a sorted array of days for sparse chunks, a bitmap for dense chunks and
+ * a list of runs for chunks made of long consecutive spans, such as blackout windows. The container of a chunk is
+ * re-evaluated whenever a range operation or a set operation changes it.
+ * <p>
+ * Epoch days used by this class are the same as {@link IndianNationalDate#toEpochDay()}, where day 0 is 1970-01-01
+ * (ISO), and are limited to the range of an {@code int} (about 5.8 million years either side of 1970).
+ * <p>
+ * Like {@link java.util.BitSet}, the set operations {@link #or}, {@link #and} and {@link #andNot} modify this set in
+ * place. The set can be written in a compact binary form with {@link #writeTo(DataOutput)} and read back with
+ * {@link #readFrom(DataInput)}.
+ *
+ * @implSpec
+ * This class is mutable and not thread-safe.
+ * All the methods accept and return non-null values.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateSet implements Iterable<IndianNationalDate> {
+
+    /**
+     * Version of the serialized form.
+     */
+    private static final byte SERIAL_VERSION = 1;
+
+    /**
+     * Number of days in a chunk, number of words in a bitmap container and the largest array container.
+     */
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int BITMAP_WORDS = CHUNK_SIZE / 64;
+    private static final int MAX_ARRAY_SIZE = 4096;
+
+    /**
+     * Sorted chunk keys (upper 16 bits of the epoch day) and the corresponding containers.
+     */
+    private int[] keys;
+    private Container[] containers;
+    private int size;
+
+    /**
+     * Creates an empty set.
+     */
+    public IndianDateSet() {
+        this.keys = new int[4];
+        this.containers = new Container[4];
+    }
+
+    /**
+     * Creates a copy of the given set.
+     *
+     * @param other  the set to copy
+     */
+    public IndianDateSet(IndianDateSet other) {
+        this.keys = Arrays.copyOf(other.keys, Math.max(4, other.size));
+        this.containers = new Container[keys.length];
+        for (int i = 0; i < other.size; i++) {
+            containers[i] = other.containers[i].copy();
+        }
+        this.size = other.size;
+    }
+
+    /**
+     * Checks if the set contains the given epoch day.
+     *
+     * @param epochDay  epoch day to look for
+     * @return          <code>true</code> if the set contains the epoch day
+     */
+    public boolean contains(long epochDay) {
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            return false;
+        }
+        int index = indexOf(highBits((int) epochDay));
+        return index >= 0 && containers[index].contains(lowBits((int) epochDay));
+    }
+
+    /**
+     * Checks if the set contains the given date.
+     *
+     * @param date  date to look for
+     * @return      <code>true</code> if the set contains the date
+     */
+    public boolean contains(IndianNationalDate date) {
+        return contains(date.toEpochDay());
+    }
+
+    /**
+     * Adds the given epoch day to this set.
+     *
+     * @param epochDay            epoch day to add
+     * @throws DateTimeException  if the epoch day is outside the range of an {@code int}
+     */
+    public void add(long epochDay) {
+        int day = checkEpochDay(epochDay);
+        int index = indexOf(highBits(day));
+        if (index < 0) {
+            index = insertAt(-index - 1, highBits(day), new ArrayContainer());
+        }
+        containers[index] = containers[index].add(lowBits(day));
+    }
+
+    /**
+     * Adds the given date to this set.
+     *
+     * @param date                date to add
+     * @throws DateTimeException  if the epoch day of the date is outside the range of an {@code int}
+     */
+    public void add(IndianNationalDate date) {
+        add(date.toEpochDay());
+    }
+
+    /**
+     * Removes the given epoch day from this set.
+     *
+     * @param epochDay  epoch day to remove
+     */
+    public void remove(long epochDay) {
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            return;
+        }
+        int index = indexOf(highBits((int) epochDay));
+        if (index >= 0) {
+            replaceAt(index, containers[index].remove(lowBits((int) epochDay)));
+        }
+    }
+
+    /**
+     * Removes the given date from this set.
+     *
+     * @param date  date to remove
+     */
+    public void remove(IndianNationalDate date) {
+        remove(date.toEpochDay());
+    }
+
+    /**
+     * Adds all the epoch days from {@code fromEpochDay} (inclusive) to {@code toEpochDay} (exclusive) to this set.
+     *
+     * @param fromEpochDay        first epoch day to add, inclusive
+     * @param toEpochDay          last epoch day to add, exclusive
+     * @throws DateTimeException  if the range is outside the range of an {@code int}
+     */
+    public void addRange(long fromEpochDay, long toEpochDay) {
+        if (fromEpochDay >= toEpochDay) {
+            return;
+        }
+        int first = checkEpochDay(fromEpochDay);
+        int last = checkEpochDay(toEpochDay - 1);
+        for (int key = highBits(first); key <= highBits(last); key++) {
+            int low = key == highBits(first) ? lowBits(first) : 0;
+            int high = key == highBits(last) ? lowBits(last) : CHUNK_SIZE - 1;
+            int index = indexOf(key);
+            if (index < 0) {
+                insertAt(-index - 1, key, RunContainer.ofRange(low, high));
+            } else {
+                containers[index] = containers[index].addRange(low, high);
+            }
+        }
+    }
+
+    /**
+     * Adds all the dates from {@code from} (inclusive) to {@code to} (exclusive) to this set.
+     *
+     * @param from                first date to add, inclusive
+     * @param to                  last date to add, exclusive
+     * @throws DateTimeException  if the range is outside the supported range of epoch days
+     */
+    public void addRange(IndianNationalDate from, IndianNationalDate to) {
+        addRange(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * Removes all the epoch days from {@code fromEpochDay} (inclusive) to {@code toEpochDay} (exclusive) from this set.
+     *
+     * @param fromEpochDay  first epoch day to remove, inclusive
+     * @param toEpochDay    last epoch day to remove, exclusive
+     */
+    public void removeRange(long fromEpochDay, long toEpochDay) {
+        long first = Math.max(fromEpochDay, Integer.MIN_VALUE);
+        long last = Math.min(toEpochDay - 1, Integer.MAX_VALUE);
+        if (first > last) {
+            return;
+        }
+        int firstKey = highBits((int) first);
+        int lastKey = highBits((int) last);
+        for (int i = size - 1; i >= 0; i--) {
+            int key = keys[i];
+            if (key < firstKey || key > lastKey) {
+                continue;
+            }
+            int low = key == firstKey ? lowBits((int) first) : 0;
+            int high = key == lastKey ? lowBits((int) last) : CHUNK_SIZE - 1;
+            replaceAt(i, containers[i].removeRange(low, high));
+        }
+    }
+
+    /**
+     * Removes all the dates from {@code from} (inclusive) to {@code to} (exclusive) from this set.
+     *
+     * @param from  first date to remove, inclusive
+     * @param to    last date to remove, exclusive
+     */
+    public void removeRange(IndianNationalDate from, IndianNationalDate to) {
+        removeRange(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * Adds all the dates of the given set to this set.
+     *
+     * @param other  the set to union with
+     */
+    public void or(IndianDateSet other) {
+        for (int j = 0; j < other.size; j++) {
+            int index = indexOf(other.keys[j]);
+            if (index < 0) {
+                insertAt(-index - 1, other.keys[j], other.containers[j].copy());
+            } else {
+                containers[index] = containers[index].or(other.containers[j]);
+            }
+        }
+    }
+
+    /**
+     * Retains only the dates of this set that are also in the given set.
+     *
+     * @param other  the set to intersect with
+     */
+    public void and(IndianDateSet other) {
+        for (int i = size - 1; i >= 0; i--) {
+            int index = other.indexOf(keys[i]);
+            replaceAt(i, index < 0 ? null : containers[i].and(other.containers[index]));
+        }
+    }
+
+    /**
+     * Removes all the dates of the given set from this set.
+     *
+     * @param other  the set whose dates are to be removed
+     */
+    public void andNot(IndianDateSet other) {
+        for (int i = size - 1; i >= 0; i--) {
+            int index = other.indexOf(keys[i]);
+            if (index >= 0) {
+                replaceAt(i, containers[i].andNot(other.containers[index]));
+            }
+        }
+    }
+
+    /**
+     * Checks if this set has at least one date in common with the given set.
+     *
+     * @param other  the set to check
+     * @return       <code>true</code> if the sets intersect
+     */
+    public boolean intersects(IndianDateSet other) {
+        for (int i = 0; i < size; i++) {
+            int index = other.indexOf(keys[i]);
+            if (index >= 0 && containers[i].intersects(other.containers[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of dates in this set.
+     *
+     * @return  number of dates in this set
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Checks if this set is empty.
+     *
+     * @return  <code>true</code> if this set doesn't have any date
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the dates from this set.
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Gets the first epoch day in this set that is on or after the given epoch day.
+     *
+     * @param fromEpochDay  the epoch day to start from, inclusive
+     * @return              the next epoch day in this set, or {@code Long.MIN_VALUE} if there is none
+     */
+    public long nextEpochDay(long fromEpochDay) {
+        if (fromEpochDay > Integer.MAX_VALUE) {
+            return Long.MIN_VALUE;
+        }
+        int from = (int) Math.max(fromEpochDay, Integer.MIN_VALUE);
+        int index = indexOf(highBits(from));
+        int low = lowBits(from);
+        if (index < 0) {
+            index = -index - 1;
+            low = 0;
+        }
+        for (; index < size; index++, low = 0) {
+            int next = containers[index].nextValue(low);
+            if (next >= 0) {
+                return ((long) keys[index] << 16) | next;
+            }
+        }
+        return Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets an iterator over the epoch days in this set, in ascending order.
+     *
+     * @return  an iterator over the epoch days
+     */
+    public PrimitiveIterator.OfInt epochDays() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = 0;
+            private int next = size > 0 ? containers[0].nextValue(0) : -1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                int current = (keys[index] << 16) | next;
+                next = next + 1 < CHUNK_SIZE ? containers[index].nextValue(next + 1) : -1;
+                while (next < 0 && ++index < size) {
+                    next = containers[index].nextValue(0);
+                }
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Gets an ordered stream of the epoch days in this set.
+     *
+     * @return  a stream of the epoch days
+     */
+    public IntStream epochDayStream() {
+        return StreamSupport.intStream(Spliterators.spliterator(epochDays(), cardinality(),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Gets all the epoch days in this set as a sorted array.
+     *
+     * @return  sorted epoch days
+     */
+    public int[] toEpochDayArray() {
+        int[] result = new int[Math.toIntExact(cardinality())];
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            position = containers[i].copyTo(result, position, keys[i] << 16);
+        }
+        return result;
+    }
+
+    /**
+     * Gets an iterator over the dates in this set, in ascending order.
+     *
+     * @return  an iterator over the dates
+     */
+    @Override
+    public Iterator<IndianNationalDate> iterator() {
+        PrimitiveIterator.OfInt epochDays = epochDays();
+        return new Iterator<IndianNationalDate>() {
+            @Override
+            public boolean hasNext() {
+                return epochDays.hasNext();
+            }
+
+            @Override
+            public IndianNationalDate next() {
+                return IndianNationalDate.ofEpochDay(epochDays.nextInt());
+            }
+        };
+    }
+
+    /**
+     * Writes this set in its compact binary form.
+     *
+     * @param out          output to write to
+     * @throws IOException if the output can't be written
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeByte(SERIAL_VERSION);
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(keys[i]);
+            containers[i].writeTo(out);
+        }
+    }
+
+    /**
+     * Reads a set written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in            input to read from
+     * @return              the set that was read
+     * @throws IOException  if the input can't be read or is not a valid set
+     */
+    public static IndianDateSet readFrom(DataInput in) throws IOException {
+        byte version = in.readByte();
+        if (version != SERIAL_VERSION) {
+            throw new IOException("Unsupported IndianDateSet version: " + version);
+        }
+        int count = in.readInt();
+        if (count < 0 || count > CHUNK_SIZE) {
+            throw new IOException("Invalid IndianDateSet container count: " + count);
+        }
+        IndianDateSet set = new IndianDateSet();
+        for (int i = 0; i < count; i++) {
+            int key = in.readInt();
+            if (key < Short.MIN_VALUE || key > Short.MAX_VALUE || (i > 0 && key <= set.keys[i - 1])) {
+                throw new IOException("Invalid IndianDateSet container key: " + key);
+            }
+            set.insertAt(i, key, Container.readFrom(in));
+        }
+        return set;
+    }
+
+    /**
+     * Gets the compact binary form of this set.
+     *
+     * @return  bytes written by {@link #writeTo(DataOutput)}
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a set from its compact binary form.
+     *
+     * @param bytes         bytes returned by {@link #toByteArray()}
+     * @return              the set that was read
+     * @throws IOException  if the bytes are not a valid set
+     */
+    public static IndianDateSet fromByteArray(byte[] bytes) throws IOException {
+        return readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IndianDateSet that = (IndianDateSet) o;
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] != that.keys[i] || !containers[i].sameValues(that.containers[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * (31 * hash + keys[i]) + containers[i].valuesHash();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "IndianDateSet{cardinality=" + cardinality() + ", containers=" + size + "}";
+    }
+
+    /**
+     * Gets the index of the container for the given key.
+     *
+     * @param key  upper 16 bits of an epoch day
+     * @return     index of the container, or {@code -(insertion point) - 1} if there is none
+     */
+    private int indexOf(int key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private int insertAt(int index, int key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+        return index;
+    }
+
+    /**
+     * Replaces the container at the given index, removing the chunk if the new container is {@code null}.
+     */
+    private void replaceAt(int index, Container container) {
+        if (container != null) {
+            containers[index] = container;
+            return;
+        }
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private static int highBits(int epochDay) {
+        return epochDay >> 16;
+    }
+
+    private static int lowBits(int epochDay) {
+        return epochDay & 0xFFFF;
+    }
+
+    private static int checkEpochDay(long epochDay) {
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            throw new DateTimeException("Epoch day is out of range for IndianDateSet: " + epochDay);
+        }
+        return (int) epochDay;
+    }
+
+    /**
+     * Holds the days of a single chunk, as values from 0 to 65535.
+     *
+     * <p>
+     * The methods that modify a container return the container to use afterwards, which is either the same instance,
+     * a different kind of container or {@code null} if the container became empty.
+     */
+    private abstract static class Container {
+        static final byte ARRAY = 0;
+        static final byte BITMAP = 1;
+        static final byte RUN = 2;
+
+        abstract boolean contains(int value);
+
+        abstract Container add(int value);
+
+        abstract Container remove(int value);
+
+        abstract int cardinality();
+
+        /**
+         * Gets the smallest value that is greater than or equal to the given value, or -1 if there is none.
+         */
+        abstract int nextValue(int from);
+
+        /**
+         * Copies the values, combined with the given upper bits, into the array and returns the next position.
+         */
+        abstract int copyTo(int[] dest, int position, int upperBits);
+
+        /**
+         * Sets the bits of this container's values in the given bitmap words.
+         */
+        abstract void orInto(long[] words);
+
+        abstract Container copy();
+
+        abstract void writeTo(DataOutput out) throws IOException;
+
+        /**
+         * Checks if this container has at least one value in common with the other container.
+         */
+        abstract boolean intersects(Container other);
+
+        /**
+         * Gets a hash code of the values, which is the same for every kind of container holding them: the values and
+         * their squares are summed, so that runs can be hashed without visiting their values.
+         */
+        abstract int valuesHash();
+
+        /**
+         * Checks if this container holds the same values as the other container, which can be of another kind.
+         */
+        boolean sameValues(Container other) {
+            if (cardinality() != other.cardinality()) {
+                return false;
+            }
+            for (int value = nextValue(0); value >= 0; value = value == CHUNK_SIZE - 1 ? -1 : nextValue(value + 1)) {
+                if (!other.contains(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static int valuesHash(long sum, long squares) {
+            long hash = 31 * sum + squares;
+            return (int) (hash ^ (hash >>> 32));
+        }
+
+        Container addRange(int low, int high) {
+            long[] words = toWords();
+            setRange(words, low, high);
+            return fromWords(words);
+        }
+
+        Container removeRange(int low, int high) {
+            long[] words = toWords();
+            clearRange(words, low, high);
+            return fromWords(words);
+        }
+
+        Container or(Container other) {
+            long[] words = toWords();
+            other.orInto(words);
+            return fromWords(words);
+        }
+
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return ((ArrayContainer) other).filter(this, true);
+            }
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= otherWords[i];
+            }
+            return fromWords(words);
+        }
+
+        Container andNot(Container other) {
+            long[] words = toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] &= ~otherWords[i];
+            }
+            return fromWords(words);
+        }
+
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+            orInto(words);
+            return words;
+        }
+
+        /**
+         * Creates the smallest container for the given bitmap words, or returns {@code null} if no bit is set.
+         */
+        static Container fromWords(long[] words) {
+            int cardinality = 0;
+            int runs = 0;
+            long carry = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+                runs += Long.bitCount(word & ~((word << 1) | carry));
+                carry = word >>> 63;
+            }
+            if (cardinality == 0) {
+                return null;
+            }
+            int runBytes = 4 * runs;
+            if (runBytes < 2 * cardinality && runBytes < 8 * BITMAP_WORDS) {
+                return RunContainer.ofWords(words, runs);
+            }
+            if (cardinality <= MAX_ARRAY_SIZE) {
+                return ArrayContainer.ofWords(words, cardinality);
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+
+        static Container readFrom(DataInput in) throws IOException {
+            byte type = in.readByte();
+            switch (type) {
+                case ARRAY:
+                    return ArrayContainer.read(in);
+                case BITMAP:
+                    return BitmapContainer.read(in);
+                case RUN:
+                    return RunContainer.read(in);
+                default:
+                    throw new IOException("Invalid IndianDateSet container type: " + type);
+            }
+        }
+
+        static void setRange(long[] words, int low, int high) {
+            for (int i = low >>> 6; i <= high >>> 6; i++) {
+                words[i] |= rangeMask(i, low, high);
+            }
+        }
+
+        static void clearRange(long[] words, int low, int high) {
+            for (int i = low >>> 6; i <= high >>> 6; i++) {
+                words[i] &= ~rangeMask(i, low, high);
+            }
+        }
+
+        /**
+         * Gets the bits of the word at the given index that fall in the range from low to high (inclusive).
+         */
+        private static long rangeMask(int wordIndex, int low, int high) {
+            long mask = -1L;
+            if (wordIndex == low >>> 6) {
+                mask &= -1L << low;
+            }
+            if (wordIndex == high >>> 6) {
+                mask &= -1L >>> (63 - (high & 63));
+            }
+            return mask;
+        }
+    }
+
+    /**
+     * A container for sparse chunks that holds up to 4096 values in a sorted array.
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        private static ArrayContainer ofWords(long[] words, int cardinality) {
+            char[] values = new char[cardinality];
+            int position = 0;
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[position++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        private static ArrayContainer read(DataInput in) throws IOException {
+            int cardinality = in.readUnsignedShort() + 1;
+            if (cardinality > MAX_ARRAY_SIZE) {
+                throw new IOException("Invalid IndianDateSet array container size: " + cardinality);
+            }
+            char[] values = new char[cardinality];
+            for (int i = 0; i < cardinality; i++) {
+                values[i] = in.readChar();
+                if (i > 0 && values[i] <= values[i - 1]) {
+                    throw new IOException("IndianDateSet array container is not sorted");
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+
+        @Override
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, cardinality, (char) value) >= 0;
+        }
+
+        @Override
+        Container add(int value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == MAX_ARRAY_SIZE) {
+                long[] words = toWords();
+                words[value >>> 6] |= 1L << value;
+                return new BitmapContainer(words, cardinality + 1);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_SIZE, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = (char) value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(int value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) value);
+            if (index < 0) {
+                return this;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            return --cardinality == 0 ? null : this;
+        }
+
+        @Override
+        Container removeRange(int low, int high) {
+            int from = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            from = from < 0 ? -from - 1 : from;
+            int to = Arrays.binarySearch(values, 0, cardinality, (char) high);
+            to = to < 0 ? -to - 1 : to + 1;
+            System.arraycopy(values, to, values, from, cardinality - to);
+            cardinality -= to - from;
+            return cardinality == 0 ? null : this;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer) ||
+                    cardinality + ((ArrayContainer) other).cardinality > MAX_ARRAY_SIZE) {
+                return super.or(other);
+            }
+            ArrayContainer that = (ArrayContainer) other;
+            char[] merged = new char[cardinality + that.cardinality];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < cardinality && j < that.cardinality) {
+                char a = values[i];
+                char b = that.values[j];
+                merged[k++] = a <= b ? a : b;
+                i += a <= b ? 1 : 0;
+                j += b <= a ? 1 : 0;
+            }
+            while (i < cardinality) merged[k++] = values[i++];
+            while (j < that.cardinality) merged[k++] = that.values[j++];
+            return new ArrayContainer(merged, k);
+        }
+
+        @Override
+        Container and(Container other) {
+            return filter(other, true);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            return filter(other, false);
+        }
+
+        /**
+         * Keeps the values of this container that are, or are not, contained in the other container.
+         */
+        private Container filter(Container other, boolean contained) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == contained) {
+                    result[count++] = values[i];
+                }
+            }
+            return count == 0 ? null : new ArrayContainer(result, count);
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int nextValue(int from) {
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) from);
+            index = index < 0 ? -index - 1 : index;
+            return index < cardinality ? values[index] : -1;
+        }
+
+        @Override
+        int copyTo(int[] dest, int position, int upperBits) {
+            for (int i = 0; i < cardinality; i++) {
+                dest[position++] = upperBits | values[i];
+            }
+            return position;
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        boolean intersects(Container other) {
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean sameValues(Container other) {
+            if (other instanceof ArrayContainer) {
+                ArrayContainer that = (ArrayContainer) other;
+                return Arrays.equals(values, 0, cardinality, that.values, 0, that.cardinality);
+            }
+            return super.sameValues(other);
+        }
+
+        @Override
+        int valuesHash() {
+            long sum = 0;
+            long squares = 0;
+            for (int i = 0; i < cardinality; i++) {
+                sum += values[i];
+                squares += (long) values[i] * values[i];
+            }
+            return valuesHash(sum, squares);
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(ARRAY);
+            out.writeShort(cardinality - 1);
+            for (int i = 0; i < cardinality; i++) {
+                out.writeChar(values[i]);
+            }
+        }
+    }
+
+    /**
+     * A container for dense chunks that holds one bit for each of the 65536 days.
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        private static BitmapContainer read(DataInput in) throws IOException {
+            long[] words = new long[BITMAP_WORDS];
+            int cardinality = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] = in.readLong();
+                cardinality += Long.bitCount(words[i]);
+            }
+            if (cardinality == 0) {
+                throw new IOException("IndianDateSet bitmap container is empty");
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+
+        @Override
+        boolean contains(int value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container add(int value) {
+            long word = words[value >>> 6];
+            words[value >>> 6] = word | (1L << value);
+            cardinality += (word & (1L << value)) == 0 ? 1 : 0;
+            return this;
+        }
+
+        @Override
+        Container remove(int value) {
+            long word = words[value >>> 6];
+            words[value >>> 6] = word & ~(1L << value);
+            cardinality -= (word & (1L << value)) != 0 ? 1 : 0;
+            return cardinality <= MAX_ARRAY_SIZE ? fromWords(words) : this;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int nextValue(int from) {
+            int index = from >>> 6;
+            long word = words[index] & (-1L << from);
+            while (word == 0) {
+                if (++index == BITMAP_WORDS) {
+                    return -1;
+                }
+                word = words[index];
+            }
+            return (index << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        int copyTo(int[] dest, int position, int upperBits) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    dest[position++] = upperBits | ((i << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return position;
+        }
+
+        @Override
+        void orInto(long[] dest) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                dest[i] |= words[i];
+            }
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        boolean intersects(Container other) {
+            if (!(other instanceof BitmapContainer)) {
+                return other.intersects(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                if ((words[i] & otherWords[i]) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean sameValues(Container other) {
+            if (other instanceof BitmapContainer) {
+                return Arrays.equals(words, ((BitmapContainer) other).words);
+            }
+            return super.sameValues(other);
+        }
+
+        @Override
+        int valuesHash() {
+            long sum = 0;
+            long squares = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    long value = (i << 6) + Long.numberOfTrailingZeros(word);
+                    sum += value;
+                    squares += value * value;
+                }
+            }
+            return valuesHash(sum, squares);
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(BITMAP);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    /**
+     * A container for chunks made of long spans that holds the sorted, non-adjacent runs of values.
+     */
+    private static final class RunContainer extends Container {
+        /**
+         * Start and length minus one of every run, one after the other.
+         */
+        private final char[] runs;
+        private final int runCount;
+
+        private RunContainer(char[] runs, int runCount) {
+            this.runs = runs;
+            this.runCount = runCount;
+        }
+
+        private static RunContainer ofRange(int low, int high) {
+            return new RunContainer(new char[] {(char) low, (char) (high - low)}, 1);
+        }
+
+        private static RunContainer ofWords(long[] words, int runCount) {
+            char[] runs = new char[2 * runCount];
+            int run = 0;
+            int value = -1;
+            while ((value = nextSetBit(words, value + 1)) >= 0) {
+                int end = nextClearBit(words, value);
+                runs[2 * run] = (char) value;
+                runs[2 * run + 1] = (char) (end - 1 - value);
+                run++;
+                value = end;
+            }
+            return new RunContainer(runs, runCount);
+        }
+
+        private static RunContainer read(DataInput in) throws IOException {
+            int runCount = in.readUnsignedShort() + 1;
+            char[] runs = new char[2 * runCount];
+            int previousEnd = -2;
+            for (int i = 0; i < runCount; i++) {
+                runs[2 * i] = in.readChar();
+                runs[2 * i + 1] = in.readChar();
+                if (runs[2 * i] <= previousEnd + 1 || runs[2 * i] + runs[2 * i + 1] >= CHUNK_SIZE) {
+                    throw new IOException("Invalid IndianDateSet run container");
+                }
+                previousEnd = runs[2 * i] + runs[2 * i + 1];
+            }
+            return new RunContainer(runs, runCount);
+        }
+
+        /**
+         * Gets the index of the last run that starts on or before the given value, or -1 if there is none.
+         */
+        private int runIndex(int value) {
+            int low = 0;
+            int high = runCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (runs[2 * mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        @Override
+        boolean contains(int value) {
+            int index = runIndex(value);
+            return index >= 0 && value <= runs[2 * index] + runs[2 * index + 1];
+        }
+
+        @Override
+        Container add(int value) {
+            return contains(value) ? this : addRange(value, value);
+        }
+
+        @Override
+        Container remove(int value) {
+            return contains(value) ? removeRange(value, value) : this;
+        }
+
+        @Override
+        Container addRange(int low, int high) {
+            // runs before the new range that don't touch it, and runs after it
+            int before = runIndex(low - 1);
+            if (before >= 0 && runs[2 * before] + runs[2 * before + 1] >= low - 1) {
+                low = runs[2 * before];
+                before--;
+            }
+            int after = runIndex(high + 1);
+            if (after >= 0 && runs[2 * after] + runs[2 * after + 1] > high) {
+                high = runs[2 * after] + runs[2 * after + 1];
+            }
+            int newCount = (before + 1) + 1 + (runCount - after - 1);
+            char[] result = new char[2 * newCount];
+            System.arraycopy(runs, 0, result, 0, 2 * (before + 1));
+            result[2 * (before + 1)] = (char) low;
+            result[2 * (before + 1) + 1] = (char) (high - low);
+            System.arraycopy(runs, 2 * (after + 1), result, 2 * (before + 2), 2 * (runCount - after - 1));
+            return optimized(result, newCount);
+        }
+
+        @Override
+        Container removeRange(int low, int high) {
+            char[] result = new char[2 * (runCount + 1)];
+            int count = 0;
+            for (int i = 0; i < runCount; i++) {
+                int start = runs[2 * i];
+                int end = start + runs[2 * i + 1];
+                if (end < low || start > high) {
+                    result[2 * count] = (char) start;
+                    result[2 * count++ + 1] = (char) (end - start);
+                    continue;
+                }
+                if (start < low) {
+                    result[2 * count] = (char) start;
+                    result[2 * count++ + 1] = (char) (low - 1 - start);
+                }
+                if (end > high) {
+                    result[2 * count] = (char) (high + 1);
+                    result[2 * count++ + 1] = (char) (end - high - 1);
+                }
+            }
+            return count == 0 ? null : optimized(result, count);
+        }
+
+        @Override
+        int cardinality() {
+            int cardinality = 0;
+            for (int i = 0; i < runCount; i++) {
+                cardinality += runs[2 * i + 1] + 1;
+            }
+            return cardinality;
+        }
+
+        @Override
+        int nextValue(int from) {
+            int index = runIndex(from);
+            if (index >= 0 && from <= runs[2 * index] + runs[2 * index + 1]) {
+                return from;
+            }
+            return index + 1 < runCount ? runs[2 * (index + 1)] : -1;
+        }
+
+        @Override
+        int copyTo(int[] dest, int position, int upperBits) {
+            for (int i = 0; i < runCount; i++) {
+                for (int value = runs[2 * i], end = value + runs[2 * i + 1]; value <= end; value++) {
+                    dest[position++] = upperBits | value;
+                }
+            }
+            return position;
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int i = 0; i < runCount; i++) {
+                setRange(words, runs[2 * i], runs[2 * i] + runs[2 * i + 1]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new RunContainer(runs.clone(), runCount);
+        }
+
+        @Override
+        boolean intersects(Container other) {
+            for (int i = 0; i < runCount; i++) {
+                int next = other.nextValue(runs[2 * i]);
+                if (next >= 0 && next <= runs[2 * i] + runs[2 * i + 1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean sameValues(Container other) {
+            if (other instanceof RunContainer) {
+                RunContainer that = (RunContainer) other;
+                return Arrays.equals(runs, 0, 2 * runCount, that.runs, 0, 2 * that.runCount);
+            }
+            return super.sameValues(other);
+        }
+
+        @Override
+        int valuesHash() {
+            long sum = 0;
+            long squares = 0;
+            for (int i = 0; i < runCount; i++) {
+                // sums of start + k and (start + k)^2 for k from 0 to length - 1
+                long start = runs[2 * i];
+                long length = runs[2 * i + 1] + 1;
+                long triangle = length * (length - 1) / 2;
+                sum += length * start + triangle;
+                squares += length * start * start + 2 * start * triangle + (length - 1) * length * (2 * length - 1) / 6;
+            }
+            return valuesHash(sum, squares);
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(RUN);
+            out.writeShort(runCount - 1);
+            for (int i = 0; i < 2 * runCount; i++) {
+                out.writeChar(runs[i]);
+            }
+        }
+
+        /**
+         * Creates a run container from the given runs, unless an array or a bitmap container would be smaller.
+         */
+        private static Container optimized(char[] runs, int runCount) {
+            RunContainer container = new RunContainer(runs, runCount);
+            if (4 * runCount > 8 * BITMAP_WORDS || 2 * runCount > container.cardinality()) {
+                return fromWords(container.toWords());
+            }
+            return container;
+        }
+
+        private static int nextSetBit(long[] words, int from) {
+            if (from >= CHUNK_SIZE) {
+                return -1;
+            }
+            int index = from >>> 6;
+            long word = words[index] & (-1L << from);
+            while (word == 0) {
+                if (++index == words.length) {
+                    return -1;
+                }
+                word = words[index];
+            }
+            return (index << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        private static int nextClearBit(long[] words, int from) {
+            int index = from >>> 6;
+            long word = ~words[index] & (-1L << from);
+            while (word == 0) {
+                if (++index == words.length) {
+                    return CHUNK_SIZE;
+                }
+                word = ~words[index];
+            }
+            return (index << 6) + Long.numberOfTrailingZeros(word);
+        }
+    }
+}
@@ -0,0 +1,768 @@
+package com.gebogebo.kronology.indian;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A compact binary codec for sequences of Saka dates, such as the mostly sorted dates of events shipped between
+ * services or spilled to disk.
+ *
+ * <p>
+ * The dates are encoded as epoch days in blocks of a fixed number of dates, with one of two {@link Encoding}s:
+ * <ul>
+ * <li>{@link Encoding#VARINT_DELTA} - the difference of each date from the previous one as a zig-zag variable length
+ *  integer, which takes one byte per date as long as consecutive dates are within 63 days of each other.
+ * <li>{@link Encoding#BIT_PACKED} - the difference of each date from the earliest date of its block (frame of
+ *  reference) with as many bits as the largest difference needs, which also allows reading any single date without
+ *  decoding its block.
+ * </ul>
+ * The stream starts with a header and an index holding the reference date and the offset of every block, so a
+ * decoder can start at any block:
+ * <pre>
+ *     byte     version
+ *     byte     encoding
+ *     int      number of dates
+ *     int      dates per block
+ *     int      length of the block data in bytes
+ *     [long    reference epoch day, the first date (varint) or the earliest date (bit packed) of the block
+ *      int     offset of the block in the block data] for every block
+ *     byte[]   block data
+ * </pre>
+ * All the numbers of the header are big-endian, whatever the order of the {@link ByteBuffer}.
+ * <p>
+ * A codec counts the dates and the bytes it has encoded and decoded and the time it took, which can be read as
+ * {@link #getStatistics() statistics} with the bytes per date and the throughput.
+ *
+ * @implSpec
+ * This class is thread-safe. An {@link EncodedDates} must not be used by several threads while its buffer is
+ * changed.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateStreamCodec {
+
+    /**
+     * The encoding of the dates within a block.
+     */
+    public enum Encoding {
+        VARINT_DELTA,
+        BIT_PACKED
+    }
+
+    /**
+     * Number of dates per block unless given otherwise.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 128;
+
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = 14;
+    private static final int INDEX_ENTRY_LENGTH = 12;
+
+    /**
+     * Largest number of bytes of an encoded date. The epoch days are within 40 bits, so a zig-zag delta takes at most
+     * 6 bytes and a bit packed difference at most 5.
+     */
+    private static final int MAX_BYTES_PER_DATE = 6;
+
+    /**
+     * Largest bit width of a bit packed block, that of the difference between the smallest and the largest epoch day.
+     */
+    private static final int MAX_BIT_WIDTH = 64 - Long.numberOfLeadingZeros(EPOCH_DAY.range().getMaximum()
+                                                                             - EPOCH_DAY.range().getMinimum());
+
+    private final Encoding encoding;
+    private final int blockSize;
+
+    private final LongAdder encodedDates = new LongAdder();
+    private final LongAdder encodedBytes = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder decodedDates = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+
+    private IndianDateStreamCodec(Encoding encoding, int blockSize) {
+        this.encoding = encoding;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Obtains a codec with the given encoding and {@link #DEFAULT_BLOCK_SIZE} dates per block.
+     *
+     * @param encoding  the encoding of the blocks
+     * @return          a new codec
+     */
+    public static IndianDateStreamCodec of(Encoding encoding) {
+        return of(encoding, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Obtains a codec with the given encoding and block size.
+     *
+     * @param encoding                   the encoding of the blocks
+     * @param blockSize                  number of dates per block, positive
+     * @return                           a new codec
+     * @throws IllegalArgumentException  if the block size isn't positive
+     */
+    public static IndianDateStreamCodec of(Encoding encoding, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        if (encoding == null) {
+            throw new NullPointerException("encoding");
+        }
+        return new IndianDateStreamCodec(encoding, blockSize);
+    }
+
+    /**
+     * Gets the encoding of the blocks written by this codec.
+     *
+     * @return  the encoding
+     */
+    public Encoding getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Gets the number of dates per block written by this codec.
+     *
+     * @return  the block size
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Gets the largest number of bytes the given number of dates can be encoded into.
+     *
+     * @param count                      number of dates
+     * @return                           the largest encoded length in bytes
+     * @throws IllegalArgumentException  if the length would exceed the size of an array
+     */
+    public int maxEncodedLength(int count) {
+        long blocks = blocks(count);
+        long length = HEADER_LENGTH + blocks * (INDEX_ENTRY_LENGTH + 1) + (long) count * MAX_BYTES_PER_DATE;
+        if (count < 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many dates: " + count);
+        }
+        return (int) length;
+    }
+
+    /**
+     * Encodes the epoch days into the buffer, from its position, which is advanced past the encoded dates.
+     *
+     * @param epochDays                 the epoch days, where day 0 is 1970-01-01 (ISO)
+     * @param from                      index of the first epoch day to encode, inclusive
+     * @param to                        index of the last epoch day to encode, exclusive
+     * @param out                       the buffer to write to
+     * @throws java.time.DateTimeException  if an epoch day is out of the supported range
+     * @throws BufferOverflowException  if the buffer doesn't have enough space, in which case its position is
+     *                                  unchanged
+     */
+    public void encode(long[] epochDays, int from, int to, ByteBuffer out) {
+        if (from < 0 || to > epochDays.length || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range: " + from + " - " + to);
+        }
+        long start = System.nanoTime();
+        int count = to - from;
+        int blocks = (int) blocks(count);
+        ByteBuffer buffer = out.slice().order(ByteOrder.BIG_ENDIAN);
+        int dataStart = HEADER_LENGTH + blocks * INDEX_ENTRY_LENGTH;
+        if (buffer.remaining() < dataStart) {
+            throw new BufferOverflowException();
+        }
+        buffer.put(VERSION).put((byte) encoding.ordinal()).putInt(count).putInt(blockSize);
+        buffer.position(dataStart);
+        for (int block = 0; block < blocks; block++) {
+            int blockFrom = from + block * blockSize;
+            int blockTo = Math.min(blockFrom + blockSize, to);
+            int offset = buffer.position() - dataStart;
+            long reference = encoding == Encoding.VARINT_DELTA
+                             ? writeVarintBlock(epochDays, blockFrom, blockTo, buffer)
+                             : writeBitPackedBlock(epochDays, blockFrom, blockTo, buffer);
+            buffer.putLong(HEADER_LENGTH + block * INDEX_ENTRY_LENGTH, reference);
+            buffer.putInt(HEADER_LENGTH + block * INDEX_ENTRY_LENGTH + 8, offset);
+        }
+        int length = buffer.position();
+        buffer.putInt(10, length - dataStart);
+        out.position(out.position() + length);
+        encodedDates.add(count);
+        encodedBytes.add(length);
+        encodeNanos.add(System.nanoTime() - start);
+    }
+
+    /**
+     * Encodes all the epoch days into the buffer, from its position, which is advanced past the encoded dates.
+     *
+     * @param epochDays                 the epoch days, where day 0 is 1970-01-01 (ISO)
+     * @param out                       the buffer to write to
+     * @throws java.time.DateTimeException  if an epoch day is out of the supported range
+     * @throws BufferOverflowException  if the buffer doesn't have enough space
+     */
+    public void encode(long[] epochDays, ByteBuffer out) {
+        encode(epochDays, 0, epochDays.length, out);
+    }
+
+    /**
+     * Encodes the epoch days into a new array.
+     *
+     * @param epochDays  the epoch days, where day 0 is 1970-01-01 (ISO)
+     * @return           the encoded dates
+     * @throws java.time.DateTimeException  if an epoch day is out of the supported range
+     */
+    public byte[] encode(long[] epochDays) {
+        ByteBuffer buffer = ByteBuffer.allocate(maxEncodedLength(epochDays.length));
+        encode(epochDays, buffer);
+        byte[] bytes = new byte[buffer.position()];
+        System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Encodes the epoch days into the output stream.
+     *
+     * @param epochDays     the epoch days, where day 0 is 1970-01-01 (ISO)
+     * @param out           the stream to write to
+     * @throws IOException  if the stream can't be written
+     * @throws java.time.DateTimeException  if an epoch day is out of the supported range
+     */
+    public void encode(long[] epochDays, OutputStream out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(maxEncodedLength(epochDays.length));
+        encode(epochDays, buffer);
+        out.write(buffer.array(), 0, buffer.position());
+    }
+
+    /**
+     * Encodes the dates into the buffer, from its position, which is advanced past the encoded dates.
+     *
+     * @param dates                     the dates to encode
+     * @param out                       the buffer to write to
+     * @throws BufferOverflowException  if the buffer doesn't have enough space
+     */
+    public void encodeDates(List<IndianNationalDate> dates, ByteBuffer out) {
+        long[] epochDays = new long[dates.size()];
+        int i = 0;
+        for (IndianNationalDate date : dates) {
+            epochDays[i++] = date.toEpochDay();
+        }
+        encode(epochDays, out);
+    }
+
+    /**
+     * Opens the encoded dates at the position of the buffer for random access, and advances the position past them.
+     * The returned view reads the bytes of the buffer, without copying them. The header and the index are checked
+     * against the length of the encoded dates, so every block starts and, when bit packed, ends within them.
+     *
+     * @param in            the buffer to read from
+     * @return              a view of the encoded dates
+     * @throws IOException  if the bytes aren't valid encoded dates
+     */
+    public EncodedDates open(ByteBuffer in) throws IOException {
+        ByteBuffer buffer = in.slice().order(ByteOrder.BIG_ENDIAN);
+        EncodedDates dates = new EncodedDates(buffer);
+        in.position(in.position() + dates.length);
+        return dates;
+    }
+
+    /**
+     * Decodes the epoch days at the position of the buffer, and advances the position past them.
+     *
+     * @param in            the buffer to read from
+     * @return              the decoded epoch days
+     * @throws IOException  if the bytes aren't valid encoded dates
+     */
+    public long[] decode(ByteBuffer in) throws IOException {
+        EncodedDates dates = open(in);
+        try {
+            return dates.toEpochDayArray();
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated block of encoded dates", e);
+        }
+    }
+
+    /**
+     * Decodes the epoch days from the array.
+     *
+     * @param bytes         the encoded dates
+     * @return              the decoded epoch days
+     * @throws IOException  if the bytes aren't valid encoded dates
+     */
+    public long[] decode(byte[] bytes) throws IOException {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes the epoch days from the input stream, reading exactly the bytes of the encoded dates.
+     *
+     * @param in            the stream to read from
+     * @return              the decoded epoch days
+     * @throws IOException  if the stream can't be read or doesn't have valid encoded dates
+     */
+    public long[] decode(InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(in);
+        byte[] header = new byte[HEADER_LENGTH];
+        dataIn.readFully(header);
+        ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+        int count = headerBuffer.getInt(2);
+        int blockSize = headerBuffer.getInt(6);
+        int dataLength = headerBuffer.getInt(10);
+        if (count < 0 || blockSize < 1 || dataLength < 0) {
+            throw new IOException("Invalid encoded dates header");
+        }
+        long length = HEADER_LENGTH + blocks(count, blockSize) * INDEX_ENTRY_LENGTH + dataLength;
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IOException("Invalid encoded dates length: " + length);
+        }
+        byte[] bytes = new byte[(int) length];
+        System.arraycopy(header, 0, bytes, 0, HEADER_LENGTH);
+        dataIn.readFully(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        return decode(bytes);
+    }
+
+    /**
+     * Decodes the dates at the position of the buffer, and advances the position past them.
+     *
+     * @param in            the buffer to read from
+     * @return              the decoded dates
+     * @throws IOException  if the bytes aren't valid encoded dates
+     */
+    public List<IndianNationalDate> decodeDates(ByteBuffer in) throws IOException {
+        long[] epochDays = decode(in);
+        IndianNationalDate[] dates = new IndianNationalDate[epochDays.length];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = IndianNationalDate.ofEpochDay(epochDays[i]);
+        }
+        return List.of(dates);
+    }
+
+    /**
+     * Gets the counters of this codec since it was created.
+     *
+     * @return  a snapshot of the counters
+     */
+    public Statistics getStatistics() {
+        return new Statistics(encodedDates.sum(), encodedBytes.sum(), encodeNanos.sum(), decodedDates.sum(),
+                              decodeNanos.sum());
+    }
+
+    private long blocks(int count) {
+        return blocks(count, blockSize);
+    }
+
+    private static long blocks(int count, int blockSize) {
+        return ((long) count + blockSize - 1) / blockSize;
+    }
+
+    private static long checkEpochDay(long epochDay) {
+        return EPOCH_DAY.checkValidValue(epochDay);
+    }
+
+    /**
+     * Writes the zig-zag deltas of a block and returns its first epoch day.
+     */
+    private static long writeVarintBlock(long[] epochDays, int from, int to, ByteBuffer buffer) {
+        long previous = checkEpochDay(epochDays[from]);
+        for (int i = from + 1; i < to; i++) {
+            long epochDay = checkEpochDay(epochDays[i]);
+            long delta = epochDay - previous;
+            long zigZag = (delta << 1) ^ (delta >> 63);
+            while ((zigZag & ~0x7FL) != 0) {
+                buffer.put((byte) ((zigZag & 0x7F) | 0x80));
+                zigZag >>>= 7;
+            }
+            buffer.put((byte) zigZag);
+            previous = epochDay;
+        }
+        return epochDays[from];
+    }
+
+    /**
+     * Writes the bit width and the packed differences from the minimum of a block and returns the minimum.
+     */
+    private static long writeBitPackedBlock(long[] epochDays, int from, int to, ByteBuffer buffer) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            long epochDay = checkEpochDay(epochDays[i]);
+            min = Math.min(min, epochDay);
+            max = Math.max(max, epochDay);
+        }
+        int bitWidth = 64 - Long.numberOfLeadingZeros(max - min);
+        buffer.put((byte) bitWidth);
+        if (bitWidth == 0) {
+            return min;
+        }
+        long bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            bits = (bits << bitWidth) | (epochDays[i] - min);
+            bitCount += bitWidth;
+            while (bitCount >= 8) {
+                bitCount -= 8;
+                buffer.put((byte) (bits >>> bitCount));
+            }
+        }
+        if (bitCount > 0) {
+            buffer.put((byte) (bits << (8 - bitCount)));
+        }
+        return min;
+    }
+
+    /**
+     * A read-only view of encoded dates, with random access to the dates and the blocks.
+     */
+    public final class EncodedDates extends AbstractList<IndianNationalDate> implements RandomAccess {
+        private final ByteBuffer buffer;
+        private final Encoding encoding;
+        private final int count;
+        private final int blockSize;
+        private final int blocks;
+        private final int dataStart;
+        private final int length;
+
+        private EncodedDates(ByteBuffer buffer) throws IOException {
+            try {
+                byte version = buffer.get(0);
+                if (version != VERSION) {
+                    throw new IOException("Unsupported encoded dates version: " + version);
+                }
+                int encodingOrdinal = buffer.get(1);
+                if (encodingOrdinal < 0 || encodingOrdinal >= Encoding.values().length) {
+                    throw new IOException("Unsupported encoding of dates: " + encodingOrdinal);
+                }
+                this.buffer = buffer;
+                this.encoding = Encoding.values()[encodingOrdinal];
+                this.count = buffer.getInt(2);
+                this.blockSize = buffer.getInt(6);
+                int dataLength = buffer.getInt(10);
+                if (count < 0 || blockSize < 1 || dataLength < 0) {
+                    throw new IOException("Invalid encoded dates header");
+                }
+                long blockCount = blocks(count, blockSize);
+                long start = HEADER_LENGTH + blockCount * INDEX_ENTRY_LENGTH;
+                if (start + dataLength > buffer.limit()) {
+                    throw new IOException("Truncated encoded dates: " + (start + dataLength) + " bytes expected, "
+                                          + buffer.limit() + " available");
+                }
+                this.blocks = (int) blockCount;
+                this.dataStart = (int) start;
+                this.length = dataStart + dataLength;
+                buffer.limit(length);
+            } catch (IndexOutOfBoundsException e) {
+                throw new IOException("Truncated encoded dates header", e);
+            }
+            checkIndex();
+        }
+
+        /**
+         * Checks the reference epoch day and the offset of every block, and the bit width and the length of every bit
+         * packed block. The end of a varint block is only known by decoding it, which stops at the next block.
+         */
+        private void checkIndex() throws IOException {
+            int dataLength = length - dataStart;
+            int previousOffset = 0;
+            for (int block = 0; block < blocks; block++) {
+                long reference = buffer.getLong(HEADER_LENGTH + block * INDEX_ENTRY_LENGTH);
+                int offset = buffer.getInt(HEADER_LENGTH + block * INDEX_ENTRY_LENGTH + 8);
+                if (!EPOCH_DAY.range().isValidValue(reference)) {
+                    throw new IOException("Invalid reference epoch day of block " + block + ": " + reference);
+                }
+                if (offset < previousOffset || offset > dataLength) {
+                    throw new IOException("Invalid offset of block " + block + ": " + offset + " (valid values "
+                                          + previousOffset + " - " + dataLength + ")");
+                }
+                if (encoding == Encoding.BIT_PACKED) {
+                    if (offset == dataLength) {
+                        throw new IOException("Truncated block " + block + " of encoded dates");
+                    }
+                    int bitWidth = buffer.get(dataStart + offset);
+                    if (bitWidth < 0 || bitWidth > MAX_BIT_WIDTH) {
+                        throw new IOException("Invalid bit width of block " + block + ": " + bitWidth
+                                              + " (valid values 0 - " + MAX_BIT_WIDTH + ")");
+                    }
+                    long end = offset + 1L + ((long) blockLength(block) * bitWidth + 7) / 8;
+                    if (end > dataLength) {
+                        throw new IOException("Truncated block " + block + " of encoded dates: " + end
+                                              + " bytes expected, " + dataLength + " available");
+                    }
+                }
+                previousOffset = offset;
+            }
+        }
+
+        /**
+         * Gets the encoding of the blocks.
+         *
+         * @return  the encoding
+         */
+        public Encoding getEncoding() {
+            return encoding;
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        /**
+         * Gets the number of blocks.
+         *
+         * @return  the number of blocks
+         */
+        public int blockCount() {
+            return blocks;
+        }
+
+        /**
+         * Gets the number of dates per block. The last block may have fewer dates.
+         *
+         * @return  the block size
+         */
+        public int getBlockSize() {
+            return blockSize;
+        }
+
+        /**
+         * Gets the length of the encoded dates in bytes.
+         *
+         * @return  the encoded length
+         */
+        public int encodedLength() {
+            return length;
+        }
+
+        @Override
+        public IndianNationalDate get(int index) {
+            return IndianNationalDate.ofEpochDay(getEpochDay(index));
+        }
+
+        /**
+         * Gets the epoch day at the given index. A bit packed date is read directly, and a varint date by decoding its
+         * block up to it.
+         *
+         * @param index                      index of the date
+         * @return                           the epoch day, where day 0 is 1970-01-01 (ISO)
+         * @throws BufferUnderflowException  if the varint block runs past its end
+         */
+        public long getEpochDay(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + count);
+            }
+            int block = index / blockSize;
+            int indexInBlock = index - block * blockSize;
+            long reference = buffer.getLong(HEADER_LENGTH + block * INDEX_ENTRY_LENGTH);
+            int position = dataStart + buffer.getInt(HEADER_LENGTH + block * INDEX_ENTRY_LENGTH + 8);
+            if (encoding == Encoding.BIT_PACKED) {
+                return reference + readBits(position + 1, buffer.get(position), indexInBlock);
+            }
+            int end = blockEnd(block);
+            long epochDay = reference;
+            for (int i = 0; i < indexInBlock; i++) {
+                long zigZag = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    if (position == end) {
+                        throw new BufferUnderflowException();
+                    }
+                    b = buffer.get(position++);
+                    zigZag |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                epochDay += (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+            return epochDay;
+        }
+
+        /**
+         * Decodes a block into the array.
+         *
+         * @param block                      index of the block
+         * @param dest                       the array to write the epoch days to
+         * @param destOffset                 index of the first epoch day in the array
+         * @return                           number of epoch days decoded
+         * @throws BufferUnderflowException  if the varint block runs past its end
+         */
+        public int decodeBlock(int block, long[] dest, int destOffset) {
+            if (block < 0 || block >= blocks) {
+                throw new IndexOutOfBoundsException("Block: " + block + ", blocks: " + blocks);
+            }
+            long start = System.nanoTime();
+            int blockCount = blockLength(block);
+            long reference = buffer.getLong(HEADER_LENGTH + block * INDEX_ENTRY_LENGTH);
+            int position = dataStart + buffer.getInt(HEADER_LENGTH + block * INDEX_ENTRY_LENGTH + 8);
+            if (encoding == Encoding.BIT_PACKED) {
+                int bitWidth = buffer.get(position);
+                for (int i = 0; i < blockCount; i++) {
+                    dest[destOffset + i] = reference + readBits(position + 1, bitWidth, i);
+                }
+            } else {
+                int end = blockEnd(block);
+                long epochDay = reference;
+                dest[destOffset] = epochDay;
+                for (int i = 1; i < blockCount; i++) {
+                    long zigZag = 0;
+                    int shift = 0;
+                    byte b;
+                    do {
+                        if (position == end) {
+                            throw new BufferUnderflowException();
+                        }
+                        b = buffer.get(position++);
+                        zigZag |= (long) (b & 0x7F) << shift;
+                        shift += 7;
+                    } while (b < 0);
+                    epochDay += (zigZag >>> 1) ^ -(zigZag & 1);
+                    dest[destOffset + i] = epochDay;
+                }
+            }
+            decodedDates.add(blockCount);
+            decodeNanos.add(System.nanoTime() - start);
+            return blockCount;
+        }
+
+        /**
+         * Decodes all the blocks.
+         *
+         * @return                           the epoch days, where day 0 is 1970-01-01 (ISO)
+         * @throws BufferUnderflowException  if a varint block runs past its end
+         */
+        public long[] toEpochDayArray() {
+            long[] epochDays = new long[count];
+            for (int block = 0, offset = 0; block < blocks; block++) {
+                offset += decodeBlock(block, epochDays, offset);
+            }
+            return epochDays;
+        }
+
+        /**
+         * Gets the number of dates of a block, which is less than the block size for the last one.
+         */
+        private int blockLength(int block) {
+            return Math.min(blockSize, count - block * blockSize);
+        }
+
+        /**
+         * Gets the position after the last byte of a block, the start of the next block or the end of the data.
+         */
+        private int blockEnd(int block) {
+            return block + 1 < blocks
+                   ? dataStart + buffer.getInt(HEADER_LENGTH + (block + 1) * INDEX_ENTRY_LENGTH + 8)
+                   : length;
+        }
+
+        /**
+         * Reads the bits of the value at the given index of a bit packed block.
+         */
+        private long readBits(int position, int bitWidth, int index) {
+            if (bitWidth == 0) {
+                return 0;
+            }
+            long bitOffset = (long) index * bitWidth;
+            int bytePosition = position + (int) (bitOffset >>> 3);
+            int bits = (int) (bitOffset & 7) + bitWidth;
+            int bytes = (bits + 7) >>> 3;
+            long value = 0;
+            for (int i = 0; i < bytes; i++) {
+                value = (value << 8) | (buffer.get(bytePosition + i) & 0xFF);
+            }
+            return (value >>> (bytes * 8 - bits)) & ((1L << bitWidth) - 1);
+        }
+    }
+
+    /**
+     * A snapshot of the counters of a codec.
+     */
+    public static final class Statistics {
+        private final long encodedDates;
+        private final long encodedBytes;
+        private final long encodeNanos;
+        private final long decodedDates;
+        private final long decodeNanos;
+
+        private Statistics(long encodedDates, long encodedBytes, long encodeNanos, long decodedDates,
+                           long decodeNanos) {
+            this.encodedDates = encodedDates;
+            this.encodedBytes = encodedBytes;
+            this.encodeNanos = encodeNanos;
+            this.decodedDates = decodedDates;
+            this.decodeNanos = decodeNanos;
+        }
+
+        /**
+         * @return  number of dates encoded
+         */
+        public long getEncodedDates() {
+            return encodedDates;
+        }
+
+        /**
+         * @return  number of bytes written, including the headers
+         */
+        public long getEncodedBytes() {
+            return encodedBytes;
+        }
+
+        /**
+         * @return  time spent encoding in nanoseconds
+         */
+        public long getEncodeNanos() {
+            return encodeNanos;
+        }
+
+        /**
+         * @return  number of dates decoded, by blocks
+         */
+        public long getDecodedDates() {
+            return decodedDates;
+        }
+
+        /**
+         * @return  time spent decoding blocks in nanoseconds
+         */
+        public long getDecodeNanos() {
+            return decodeNanos;
+        }
+
+        /**
+         * @return  average number of bytes per encoded date, including the headers
+         */
+        public double getBytesPerDate() {
+            return encodedDates == 0 ? 0 : (double) encodedBytes / encodedDates;
+        }
+
+        /**
+         * @return  number of dates encoded per second
+         */
+        public double getEncodeThroughput() {
+            return encodedDates * 1e9 / Math.max(encodeNanos, 1);
+        }
+
+        /**
+         * @return  number of dates decoded per second
+         */
+        public double getDecodeThroughput() {
+            return decodedDates * 1e9 / Math.max(decodeNanos, 1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "Encoded %d dates in %d bytes (%.2f bytes/date) at %.0f dates/s, decoded %d dates at %.0f dates/s",
+                    encodedDates, encodedBytes, getBytesPerDate(), getEncodeThroughput(), decodedDates,
+                    getDecodeThroughput());
+        }
+    }
+}
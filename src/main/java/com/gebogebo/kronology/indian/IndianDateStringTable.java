@@ -0,0 +1,245 @@
+package com.gebogebo.kronology.indian;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * An optional table of the {@code yyyy-MM-dd} strings and UTF-8 bytes of the Saka dates in a window around today,
+ * used by {@link IndianNationalDate#toString()} and the other {@code yyyy-MM-dd} formatting of the library.
+ *
+ * <p>
+ * Logs and API responses mostly render the same few thousand recent dates. With the table enabled, the text of a date
+ * in the window is a single array load, indexed by the offset of its epoch day from the first day of the window, and
+ * the same {@code String} instance is returned every time. The dates outside of the window are rendered as usual.
+ * <p>
+ * The table is disabled by default. It's enabled with {@link #enable(int, int)}, or with the
+ * {@code com.gebogebo.kronology.indian.IndianDateStringTable.daysBefore} and
+ * {@code com.gebogebo.kronology.indian.IndianDateStringTable.daysAfter} system properties, which are read once. The
+ * window is built at the first lookup after the table is enabled, rendering the dates in parallel, and is only
+ * published once complete. A lookup of a date outside of the window checks the current date with
+ * {@link IndianClock#today()}, which only reads the clock in milliseconds; when the date has changed since the window
+ * was built, the window is rebased on the new date, reusing the strings of the days it keeps.
+ * <p>
+ * Epoch days used by this class are the same as {@link IndianNationalDate#toEpochDay()}, where day 0 is 1970-01-01
+ * (ISO).
+ *
+ * @implSpec
+ * This class is thread-safe. Lookups don't lock; building and rebasing the window are done under a lock.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateStringTable {
+
+    /**
+     * Largest number of days before or after today in the window.
+     */
+    public static final int MAX_DAYS = 1 << 20;
+
+    private static final Object LOCK = new Object();
+
+    /**
+     * The settings of the enabled table, <code>null</code> if it's disabled.
+     */
+    private static volatile Settings settings;
+
+    /**
+     * The current window, <code>null</code> if it's not built yet.
+     */
+    private static volatile Window window;
+
+    static {
+        int daysBefore = Integer.getInteger("com.gebogebo.kronology.indian.IndianDateStringTable.daysBefore", 0);
+        int daysAfter = Integer.getInteger("com.gebogebo.kronology.indian.IndianDateStringTable.daysAfter", 0);
+        if (daysBefore > 0 || daysAfter > 0) {
+            enable(daysBefore, daysAfter);
+        }
+    }
+
+    private IndianDateStringTable() {
+    }
+
+    /**
+     * Enables the table with a window around today in the default zone.
+     *
+     * @param daysBefore                 number of days before today in the window
+     * @param daysAfter                  number of days after today in the window
+     * @throws IllegalArgumentException  if a number of days is negative or larger than {@link #MAX_DAYS}
+     */
+    public static void enable(int daysBefore, int daysAfter) {
+        enable(daysBefore, daysAfter, IndianClock.systemDefaultZone());
+    }
+
+    /**
+     * Enables the table with a window around today according to the given clock, replacing the current window.
+     *
+     * @param daysBefore                 number of days before today in the window
+     * @param daysAfter                  number of days after today in the window
+     * @param clock                      clock giving today's date
+     * @throws IllegalArgumentException  if a number of days is negative or larger than {@link #MAX_DAYS}
+     */
+    public static void enable(int daysBefore, int daysAfter, IndianClock clock) {
+        if (daysBefore < 0 || daysBefore > MAX_DAYS || daysAfter < 0 || daysAfter > MAX_DAYS) {
+            throw new IllegalArgumentException("Invalid window: " + daysBefore + " days before, " + daysAfter
+                                               + " days after (valid values 0 - " + MAX_DAYS + ")");
+        }
+        Settings newSettings = new Settings(daysBefore, daysAfter, Objects.requireNonNull(clock, "clock"));
+        synchronized (LOCK) {
+            window = null;
+            settings = newSettings;
+        }
+    }
+
+    /**
+     * Disables the table and releases the window.
+     */
+    public static void disable() {
+        synchronized (LOCK) {
+            settings = null;
+            window = null;
+        }
+    }
+
+    /**
+     * Checks if the table is enabled.
+     *
+     * @return  <code>true</code> if the table is enabled
+     */
+    public static boolean isEnabled() {
+        return settings != null;
+    }
+
+    /**
+     * Gets the string of the given epoch day from the table.
+     *
+     * @param epochDay  the epoch day
+     * @return          the {@code yyyy-MM-dd} text of the Saka date, or <code>null</code> if the table is disabled or
+     *                  the date is outside of the window
+     */
+    /* pkg pvt */ static String string(long epochDay) {
+        Window current = window;
+        if (current != null) {
+            long offset = epochDay - current.firstEpochDay;
+            if (offset >= 0 && offset < current.strings.length) {
+                return current.strings[(int) offset];
+            }
+        }
+        current = miss(current);
+        return current == null ? null : current.string(epochDay);
+    }
+
+    /**
+     * Gets the UTF-8 bytes of the given epoch day from the table. The returned array is shared and must not be
+     * modified.
+     *
+     * @param epochDay  the epoch day
+     * @return          the {@code yyyy-MM-dd} text of the Saka date, or <code>null</code> if the table is disabled or
+     *                  the date is outside of the window
+     */
+    /* pkg pvt */ static byte[] utf8(long epochDay) {
+        Window current = window;
+        if (current != null) {
+            long offset = epochDay - current.firstEpochDay;
+            if (offset >= 0 && offset < current.utf8.length) {
+                return current.utf8[(int) offset];
+            }
+        }
+        current = miss(current);
+        return current == null ? null : current.utf8(epochDay);
+    }
+
+    /**
+     * Handles a lookup outside of the window: builds the window if there's none, or rebases it if today's date has
+     * changed since it was built.
+     *
+     * @return  the window to look the date up in again, or <code>null</code> if the date is not in the table
+     */
+    private static Window miss(Window current) {
+        Settings currentSettings = settings;
+        if (currentSettings == null) {
+            return null;
+        }
+        long today = currentSettings.clock.today().toEpochDay();
+        if (current != null && current.today == today) {
+            return null;
+        }
+        synchronized (LOCK) {
+            Window latest = window;
+            if (settings != currentSettings || (latest != null && latest.today == today)) {
+                // disabled, re-enabled or rebased by another thread in the meantime
+                return null;
+            }
+            latest = new Window(currentSettings, today, latest);
+            window = latest;
+            return latest;
+        }
+    }
+
+    /**
+     * Renders the text of a date without the table.
+     */
+    private static byte[] render(long epochDay) {
+        byte[] text = new byte[16];
+        int length = IndianDateText.renderIndian(epochDay, text, 0);
+        byte[] utf8 = new byte[length];
+        System.arraycopy(text, 0, utf8, 0, length);
+        return utf8;
+    }
+
+    /**
+     * The settings of the enabled table.
+     */
+    private static final class Settings {
+
+        private final int daysBefore;
+        private final int daysAfter;
+        private final IndianClock clock;
+
+        Settings(int daysBefore, int daysAfter, IndianClock clock) {
+            this.daysBefore = daysBefore;
+            this.daysAfter = daysAfter;
+            this.clock = clock;
+        }
+    }
+
+    /**
+     * The strings and bytes of the dates of a window, which are never modified once the window is published.
+     */
+    private static final class Window {
+
+        private final long today;
+        private final long firstEpochDay;
+        private final String[] strings;
+        private final byte[][] utf8;
+
+        Window(Settings settings, long today, Window previous) {
+            this.today = today;
+            this.firstEpochDay = today - settings.daysBefore;
+            int days = settings.daysBefore + settings.daysAfter + 1;
+            this.strings = new String[days];
+            this.utf8 = new byte[days][];
+            IntStream.range(0, days).parallel().forEach(i -> {
+                long epochDay = firstEpochDay + i;
+                long previousOffset = previous == null ? -1 : epochDay - previous.firstEpochDay;
+                if (previousOffset >= 0 && previousOffset < previous.strings.length) {
+                    strings[i] = previous.strings[(int) previousOffset];
+                    utf8[i] = previous.utf8[(int) previousOffset];
+                } else {
+                    utf8[i] = render(epochDay);
+                    strings[i] = new String(utf8[i], StandardCharsets.ISO_8859_1);
+                }
+            });
+        }
+
+        String string(long epochDay) {
+            long offset = epochDay - firstEpochDay;
+            return offset >= 0 && offset < strings.length ? strings[(int) offset] : null;
+        }
+
+        byte[] utf8(long epochDay) {
+            long offset = epochDay - firstEpochDay;
+            return offset >= 0 && offset < utf8.length ? utf8[(int) offset] : null;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.gebogebo.kronology.indian;
+
+import static com.gebogebo.kronology.indian.IndianYearInfo.*;
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+
+/**
+ * Allocation free parsing and formatting of {@code yyyy-MM-dd} dates held in byte arrays.
+ *
+ * <p>
+ * The Saka dates use the same format as {@link IndianNationalDate#toString()} and the ISO dates use the same format
+ * as {@link java.time.LocalDate#toString()} for the years from 0 to 9999. Both are converted through the epoch day,
+ * where day 0 is 1970-01-01 (ISO), without creating any intermediate objects.
+ *
+ * @implSpec
+ * This class is stateless and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+/* pkg pvt */ final class IndianDateText {
+
+    /**
+     * Returned by the parse methods when the text is not a valid date.
+     */
+    /* pkg pvt */ static final long INVALID = Long.MIN_VALUE;
+
+    /**
+     * Maximum number of digits accepted in a year, enough for the Saka years before -999999999.
+     */
+    private static final int MAX_YEAR_DIGITS = 10;
+
+    private IndianDateText() {
+    }
+
+    /**
+     * Parses a Saka date in the {@code yyyy-MM-dd} format.
+     *
+     * @param src   bytes holding the text
+     * @param from  index of the first byte of the text, inclusive
+     * @param to    index of the last byte of the text, exclusive
+     * @return      epoch day of the date, or {@link #INVALID} if the text is not a valid Saka date
+     */
+    /* pkg pvt */ static long parseIndian(byte[] src, int from, int to) {
+        long fields = parseFields(src, from, to);
+        if (fields == INVALID) {
+            return INVALID;
+        }
+        long year = fields >> 9;
+        int month = (int) (fields >> 5) & 0xF;
+        int day = (int) fields & 0x1F;
+        if (year < Integer.MIN_VALUE || year > Integer.MAX_VALUE) {
+            return INVALID;
+        }
+        boolean isLeapYear = IndianYearInfo.DEFAULT.isLeapYear(year);
+        if (month < 1 || day < 1 || day > lengthOfMonth(month, isLeapYear)) {
+            return INVALID;
+        }
+        return checkEpochDay(IndianYearInfo.DEFAULT.toEpochDay(year, month, day));
+    }
+
+    /**
+     * Parses an ISO date in the {@code yyyy-MM-dd} format.
+     *
+     * @param src   bytes holding the text
+     * @param from  index of the first byte of the text, inclusive
+     * @param to    index of the last byte of the text, exclusive
+     * @return      epoch day of the date, or {@link #INVALID} if the text is not a valid ISO date
+     */
+    /* pkg pvt */ static long parseIso(byte[] src, int from, int to) {
+        long fields = parseFields(src, from, to);
+        if (fields == INVALID) {
+            return INVALID;
+        }
+        long year = fields >> 9;
+        int month = (int) (fields >> 5) & 0xF;
+        int day = (int) fields & 0x1F;
+        if (month < 1 || day < 1 || day > isoLengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        return checkEpochDay(isoEpochDay(year, month, day));
+    }
+
+    /**
+     * Formats the given epoch day as a Saka date in the {@code yyyy-MM-dd} format.
+     *
+     * @param epochDay  epoch day of the date
+     * @param dest      bytes to write the text to, with room for at least 11 bytes from the position
+     * @param position  index to start writing at
+     * @return          index after the last written byte
+     */
+    /* pkg pvt */ static int formatIndian(long epochDay, byte[] dest, int position) {
+        byte[] text = IndianDateStringTable.utf8(epochDay);
+        if (text != null) {
+            System.arraycopy(text, 0, dest, position, text.length);
+            return position + text.length;
+        }
+        return renderIndian(epochDay, dest, position);
+    }
+
+    /**
+     * Formats the given epoch day as a Saka date in the {@code yyyy-MM-dd} format, without the
+     * {@linkplain IndianDateStringTable table} of the dates around today.
+     *
+     * @param epochDay  epoch day of the date
+     * @param dest      bytes to write the text to, with room for at least 11 bytes from the position
+     * @param position  index to start writing at
+     * @return          index after the last written byte
+     */
+    /* pkg pvt */ static int renderIndian(long epochDay, byte[] dest, int position) {
+        int year = IndianYearInfo.DEFAULT.prolepticYear(epochDay);
+        boolean isLeapYear = IndianYearInfo.DEFAULT.isLeapYear(year);
+        int dayOfYear = (int) (epochDay - IndianYearInfo.DEFAULT.yearStartEpochDay(year));
+        int month = monthOfDayOfYear(dayOfYear, isLeapYear);
+        int day = dayOfYear - monthStartDayOfYear(month, isLeapYear) + 1;
+        return formatFields(year, month, day, dest, position);
+    }
+
+    /**
+     * Formats the given epoch day as an ISO date in the {@code yyyy-MM-dd} format.
+     *
+     * @param epochDay  epoch day of the date
+     * @param dest      bytes to write the text to, with room for at least 11 bytes from the position
+     * @param position  index to start writing at
+     * @return          index after the last written byte
+     */
+    /* pkg pvt */ static int formatIso(long epochDay, byte[] dest, int position) {
+        // same arithmetic as LocalDate.ofEpochDay(), with years starting in March
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_400_YEARS - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_400_YEARS;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_400_YEARS;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        long year = yearEst + adjust + marchMonth0 / 10;
+        return formatFields((int) year, month, day, dest, position);
+    }
+
+    /**
+     * Gets the epoch day of the given ISO date. The date is expected to be valid.
+     */
+    /* pkg pvt */ static long isoEpochDay(long year, int month, int day) {
+        // same arithmetic as LocalDate.toEpochDay()
+        long total = isoYearStartEpochDay(year);
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isIsoLeapYear(year)) {
+                total--;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Writes the given fields in the same format as {@code String.format("%04d-%02d-%02d", ...)}.
+     */
+    /* pkg pvt */ static int formatFields(int year, int month, int day, byte[] dest, int position) {
+        if (year < 0) {
+            dest[position++] = '-';
+            position = writeDigits(-(long) year, 3, dest, position);
+        } else {
+            position = writeDigits(year, 4, dest, position);
+        }
+        dest[position++] = '-';
+        dest[position++] = (byte) ('0' + month / 10);
+        dest[position++] = (byte) ('0' + month % 10);
+        dest[position++] = '-';
+        dest[position++] = (byte) ('0' + day / 10);
+        dest[position++] = (byte) ('0' + day % 10);
+        return position;
+    }
+
+    /**
+     * Parses the text into a year, a month and a day, packed as {@code year << 9 | month << 5 | day}. The month and
+     * the day are only checked to fit in their bits, the caller validates them against the calendar.
+     */
+    private static long parseFields(byte[] src, int from, int to) {
+        // the month and the day always take the last 6 bytes: -MM-dd
+        int yearEnd = to - 6;
+        if (yearEnd - from < 1 || src[yearEnd] != '-' || src[yearEnd + 3] != '-') {
+            return INVALID;
+        }
+        int month = twoDigits(src, yearEnd + 1);
+        int day = twoDigits(src, yearEnd + 4);
+        boolean negative = src[from] == '-';
+        int yearStart = negative ? from + 1 : from;
+        if (month < 0 || month > 12 || day < 0 || day > 31 || yearEnd - yearStart < (negative ? 3 : 4) || yearEnd - yearStart > MAX_YEAR_DIGITS) {
+            return INVALID;
+        }
+        long year = 0;
+        for (int i = yearStart; i < yearEnd; i++) {
+            int digit = src[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            year = year * 10 + digit;
+        }
+        return ((negative ? -year : year) << 9) | (month << 5) | day;
+    }
+
+    /**
+     * Returns the epoch day if it's within the supported range, {@link #INVALID} otherwise.
+     */
+    private static long checkEpochDay(long epochDay) {
+        return EPOCH_DAY.range().isValidValue(epochDay) ? epochDay : INVALID;
+    }
+
+    private static int twoDigits(byte[] src, int index) {
+        int tens = src[index] - '0';
+        int units = src[index + 1] - '0';
+        if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+            return -1;
+        }
+        return tens * 10 + units;
+    }
+
+    private static int writeDigits(long value, int minDigits, byte[] dest, int position) {
+        int digits = 1;
+        for (long v = value / 10; v != 0; v /= 10) {
+            digits++;
+        }
+        digits = Math.max(digits, minDigits);
+        for (int i = position + digits - 1; i >= position; i--, value /= 10) {
+            dest[i] = (byte) ('0' + value % 10);
+        }
+        return position + digits;
+    }
+
+    private static int isoLengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return isIsoLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package com.gebogebo.kronology.indian;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.ValueRange;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A date-time without a time-zone in the Indian National calendar system, such as {@code 1948-07-27T10:15:30}.
+ *
+ * <p>
+ * This is the {@link ChronoLocalDateTime} of {@link IndianNationalChronology}, returned by
+ * {@link IndianNationalDate#atTime(LocalTime)} and {@link IndianNationalChronology#localDateTime}. It holds an
+ * {@link IndianNationalDate} and a {@link LocalTime}, and the time based operations only convert the date again when
+ * the day changes, so adding hours or adjusting the time within a day keeps the same date instance.
+ * <p>
+ * The conversion of instants, such as event timestamps, computes the local date-time arithmetically from the offset.
+ * For India Standard Time (+05:30), as a {@link ZoneOffset} or as the {@code Asia/Kolkata} zone after its last
+ * transition, the offset isn't looked up in the zone rules at all. The date of the most recently converted day is
+ * also reused, so a stream of timestamps from the same day converts the Saka date only once.
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateTime implements ChronoLocalDateTime<IndianNationalDate>, Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -2146983409851312947L;
+
+    /**
+     * India Standard Time, the offset of the Indian National calendar's official use.
+     */
+    public static final ZoneOffset IST = ZoneOffset.ofHoursMinutes(5, 30);
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_DAY = NANOS_PER_SECOND * SECONDS_PER_DAY;
+
+    /**
+     * The epoch second from which {@code Asia/Kolkata} is fixed at +05:30, or {@code Long.MAX_VALUE} if its rules
+     * have any future transitions.
+     */
+    private static final long KOLKATA_FIXED_SINCE = kolkataFixedSince();
+
+    /**
+     * The date of the most recently converted epoch day. Races only lead to converting a date again.
+     */
+    private static volatile IndianNationalDate lastDate = IndianNationalDate.ofEpochDay(0);
+
+    private final IndianNationalDate date;
+    private final LocalTime time;
+
+    private IndianDateTime(IndianNationalDate date, LocalTime time) {
+        this.date = date;
+        this.time = time;
+    }
+
+    /**
+     * Obtains a date-time from a date and a time.
+     *
+     * @param date  the Indian date
+     * @param time  the time of day
+     * @return      the date-time
+     */
+    public static IndianDateTime of(IndianNationalDate date, LocalTime time) {
+        return new IndianDateTime(Objects.requireNonNull(date, "date"), Objects.requireNonNull(time, "time"));
+    }
+
+    /**
+     * Obtains a date-time from the Indian date fields and the time of day.
+     *
+     * @param prolepticYear       Indian proleptic-year
+     * @param month               Indian month-of-year, from 1 to 12
+     * @param dayOfMonth          Indian day-of-month, from 1 to 31
+     * @param hour                hour of day, from 0 to 23
+     * @param minute              minute of hour, from 0 to 59
+     * @param second              second of minute, from 0 to 59
+     * @return                    the date-time
+     * @throws DateTimeException  if any field is invalid
+     */
+    public static IndianDateTime of(int prolepticYear, int month, int dayOfMonth, int hour, int minute, int second) {
+        return new IndianDateTime(new IndianNationalDate(prolepticYear, month, dayOfMonth),
+                                  LocalTime.of(hour, minute, second));
+    }
+
+    /**
+     * Obtains the Indian date-time of an ISO date-time.
+     *
+     * @param isoDateTime  the ISO date-time
+     * @return             the date-time
+     */
+    public static IndianDateTime of(LocalDateTime isoDateTime) {
+        return new IndianDateTime(dateOfEpochDay(isoDateTime.toLocalDate().toEpochDay()), isoDateTime.toLocalTime());
+    }
+
+    /**
+     * Obtains an Indian date-time from another temporal having a date and a time.
+     *
+     * @param temporal            the temporal to convert
+     * @return                    the date-time
+     * @throws DateTimeException  if the temporal doesn't have a date or a time
+     */
+    public static IndianDateTime from(TemporalAccessor temporal) {
+        if (temporal instanceof IndianDateTime) {
+            return (IndianDateTime) temporal;
+        }
+        if (temporal instanceof IndianZonedDateTime) {
+            return ((IndianZonedDateTime) temporal).toLocalDateTime();
+        }
+        if (temporal instanceof LocalDateTime) {
+            return of((LocalDateTime) temporal);
+        }
+        IndianNationalDate date = (IndianNationalDate) IndianNationalChronology.INSTANCE.date(temporal);
+        return new IndianDateTime(date, LocalTime.from(temporal));
+    }
+
+    /**
+     * Obtains the Indian date-time of an instant in the given time-zone.
+     *
+     * @param instant             the instant
+     * @param zone                the time-zone
+     * @return                    the date-time
+     * @throws DateTimeException  if the result is out of the supported range
+     */
+    public static IndianDateTime ofInstant(Instant instant, ZoneId zone) {
+        long epochSecond = instant.getEpochSecond();
+        return ofEpochSecond(epochSecond, instant.getNano(), offsetAt(epochSecond, zone));
+    }
+
+    /**
+     * Obtains the Indian date-time of the given seconds from 1970-01-01T00:00:00Z at a fixed offset.
+     *
+     * @param epochSecond         the seconds from the epoch
+     * @param nanoOfSecond        the nanosecond within the second, from 0 to 999,999,999
+     * @param offset              the offset of the local date-time
+     * @return                    the date-time
+     * @throws DateTimeException  if the result is out of the supported range
+     */
+    public static IndianDateTime ofEpochSecond(long epochSecond, int nanoOfSecond, ZoneOffset offset) {
+        ChronoField.NANO_OF_SECOND.checkValidValue(nanoOfSecond);
+        long localSecond = Math.addExact(epochSecond, offset.getTotalSeconds());
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        long secondOfDay = Math.floorMod(localSecond, SECONDS_PER_DAY);
+        return new IndianDateTime(dateOfEpochDay(epochDay),
+                                  LocalTime.ofNanoOfDay(secondOfDay * NANOS_PER_SECOND + nanoOfSecond));
+    }
+
+    /**
+     * Obtains the Indian date-time of the given milliseconds from 1970-01-01T00:00:00Z at a fixed offset, such as
+     * {@link #IST}.
+     *
+     * @param epochMilli          the milliseconds from the epoch
+     * @param offset              the offset of the local date-time
+     * @return                    the date-time
+     * @throws DateTimeException  if the result is out of the supported range
+     */
+    public static IndianDateTime ofEpochMilli(long epochMilli, ZoneOffset offset) {
+        return ofEpochSecond(Math.floorDiv(epochMilli, 1000), Math.floorMod(epochMilli, 1000) * 1_000_000,
+                             offset);
+    }
+
+    @Override
+    public IndianNationalDate toLocalDate() {
+        return date;
+    }
+
+    @Override
+    public LocalTime toLocalTime() {
+        return time;
+    }
+
+    /**
+     * Gets the ISO date-time of this date-time.
+     *
+     * @return  the ISO date-time
+     */
+    public LocalDateTime toIsoLocalDateTime() {
+        return LocalDateTime.of(LocalDate.ofEpochDay(date.toEpochDay()), time);
+    }
+
+    @Override
+    public boolean isSupported(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field.isTimeBased() || date.isSupported(field);
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field.isTimeBased() ? time.range(field) : date.range(field);
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field.isTimeBased() ? time.getLong(field) : date.getLong(field);
+        }
+        return field.getFrom(this);
+    }
+
+    @Override
+    public IndianDateTime with(TemporalAdjuster adjuster) {
+        if (adjuster instanceof IndianNationalDate) {
+            return with((IndianNationalDate) adjuster, time);
+        }
+        if (adjuster instanceof LocalTime) {
+            return with(date, (LocalTime) adjuster);
+        }
+        if (adjuster instanceof IndianDateTime) {
+            return (IndianDateTime) adjuster;
+        }
+        return from(adjuster.adjustInto(this));
+    }
+
+    @Override
+    public IndianDateTime with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            if (field.isTimeBased()) {
+                return with(date, time.with(field, newValue));
+            }
+            return with(date.with(field, newValue), time);
+        }
+        return from(field.adjustInto(this, newValue));
+    }
+
+    @Override
+    public IndianDateTime plus(TemporalAmount amount) {
+        return from(amount.addTo(this));
+    }
+
+    @Override
+    public IndianDateTime plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            ChronoUnit f = (ChronoUnit) unit;
+            switch (f) {
+                case NANOS:
+                    return plusTime(amountToAdd, 1);
+                case MICROS:
+                    return plusTime(amountToAdd, 1000);
+                case MILLIS:
+                    return plusTime(amountToAdd, 1_000_000);
+                case SECONDS:
+                    return plusTime(amountToAdd, NANOS_PER_SECOND);
+                case MINUTES:
+                    return plusTime(amountToAdd, 60 * NANOS_PER_SECOND);
+                case HOURS:
+                    return plusTime(amountToAdd, 3600 * NANOS_PER_SECOND);
+                case HALF_DAYS:
+                    return plusTime(amountToAdd, NANOS_PER_DAY / 2);
+                default:
+                    return with(date.plus(amountToAdd, unit), time);
+            }
+        }
+        return from(unit.addTo(this, amountToAdd));
+    }
+
+    @Override
+    public IndianDateTime minus(TemporalAmount amount) {
+        return from(amount.subtractFrom(this));
+    }
+
+    @Override
+    public IndianDateTime minus(long amountToSubtract, TemporalUnit unit) {
+        return amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                                                  : plus(-amountToSubtract, unit);
+    }
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        IndianDateTime end = from(endExclusive);
+        if (unit instanceof ChronoUnit) {
+            if (unit.isTimeBased()) {
+                return toIsoLocalDateTime().until(end.toIsoLocalDateTime(), unit);
+            }
+            // a day is complete only if the end time isn't before the start time, as in LocalDateTime
+            IndianNationalDate endDate = end.date;
+            if (endDate.isAfter(date) && end.time.isBefore(time)) {
+                endDate = endDate.minus(1, DAYS);
+            } else if (endDate.isBefore(date) && end.time.isAfter(time)) {
+                endDate = endDate.plus(1, DAYS);
+            }
+            return date.until(endDate, unit);
+        }
+        return unit.between(this, end);
+    }
+
+    @Override
+    public IndianZonedDateTime atZone(ZoneId zone) {
+        return IndianZonedDateTime.of(this, zone);
+    }
+
+    @Override
+    public int compareTo(ChronoLocalDateTime<?> other) {
+        if (other instanceof IndianDateTime) {
+            IndianDateTime otherDateTime = (IndianDateTime) other;
+            int cmp = date.compareTo(otherDateTime.date);
+            return cmp != 0 ? cmp : time.compareTo(otherDateTime.time);
+        }
+        return ChronoLocalDateTime.super.compareTo(other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IndianDateTime)) {
+            return false;
+        }
+        IndianDateTime other = (IndianDateTime) o;
+        return date.equals(other.date) && time.equals(other.time);
+    }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode() ^ time.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return date.toString() + 'T' + time.toString();
+    }
+
+    /**
+     * Gets the offset of the zone at the instant, without looking up the rules of a fixed offset or of India
+     * Standard Time.
+     */
+    /* pkg pvt */ static ZoneOffset offsetAt(long epochSecond, ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return (ZoneOffset) zone;
+        }
+        if (epochSecond >= KOLKATA_FIXED_SINCE && isKolkata(zone)) {
+            return IST;
+        }
+        ZoneRules rules = zone.getRules();
+        return rules.getOffset(rules.isFixedOffset() ? Instant.EPOCH : Instant.ofEpochSecond(epochSecond));
+    }
+
+    private static boolean isKolkata(ZoneId zone) {
+        String id = zone.getId();
+        return id.equals("Asia/Kolkata") || id.equals("Asia/Calcutta");
+    }
+
+    private static long kolkataFixedSince() {
+        ZoneRules rules = ZoneId.of("Asia/Kolkata").getRules();
+        List<ZoneOffsetTransition> transitions = rules.getTransitions();
+        if (!rules.getTransitionRules().isEmpty() || transitions.isEmpty()
+                || !transitions.get(transitions.size() - 1).getOffsetAfter().equals(IST)) {
+            return Long.MAX_VALUE;
+        }
+        return transitions.get(transitions.size() - 1).toEpochSecond();
+    }
+
+    /**
+     * Gets the date of the epoch day, reusing the most recently converted one if it's the same day.
+     */
+    private static IndianNationalDate dateOfEpochDay(long epochDay) {
+        IndianNationalDate cached = lastDate;
+        if (cached.toEpochDay() == epochDay) {
+            return cached;
+        }
+        IndianNationalDate date = IndianNationalDate.ofEpochDay(epochDay);
+        lastDate = date;
+        return date;
+    }
+
+    /**
+     * Adds an amount of a time based unit, converting the date only if the day changes.
+     *
+     * @param amount        the amount to add
+     * @param nanosPerUnit  length of the unit in nanoseconds, a divisor of a day
+     */
+    private IndianDateTime plusTime(long amount, long nanosPerUnit) {
+        long unitsPerDay = NANOS_PER_DAY / nanosPerUnit;
+        long days = Math.floorDiv(amount, unitsPerDay);
+        long nanos = Math.floorMod(amount, unitsPerDay) * nanosPerUnit;
+        long nanoOfDay = time.toNanoOfDay() + nanos;
+        if (nanoOfDay >= NANOS_PER_DAY) {
+            nanoOfDay -= NANOS_PER_DAY;
+            days = Math.addExact(days, 1);
+        }
+        LocalTime newTime = nanos == 0 ? time : LocalTime.ofNanoOfDay(nanoOfDay);
+        IndianNationalDate newDate = days == 0 ? date : date.plus(days, DAYS);
+        return with(newDate, newTime);
+    }
+
+    private IndianDateTime with(IndianNationalDate newDate, LocalTime newTime) {
+        return newDate == date && newTime == time ? this : new IndianDateTime(newDate, newTime);
+    }
+}
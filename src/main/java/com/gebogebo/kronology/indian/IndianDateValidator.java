@@ -0,0 +1,134 @@
+package com.gebogebo.kronology.indian;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+
+/**
+ * Bulk validation of Saka dates held in primitive arrays.
+ *
+ * <p>
+ * The dates are given either as separate year, month and day of month arrays or as
+ * {@linkplain IndianPackedDate packed dates}. A date is valid if the month is from 1 to 12, the day of month is within
+ * the {@linkplain IndianNationalDate#lengthOfMonth() length of the month} (Chaitra has 31 days in a leap year and 30
+ * otherwise) and the date is within the range supported by {@link IndianNationalDate}.
+ * <p>
+ * The validation doesn't throw for any values of the fields, which makes it suitable for checking a batch of rows
+ * loaded from an external system in a single pass. The invalid rows are returned as a bitmap, where the bit
+ * {@code row % 64} of the word {@code row / 64} is set if the row is invalid, and the reason of each row can be
+ * collected as an error code.
+ *
+ * @implSpec
+ * This class is stateless and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianDateValidator {
+
+    /**
+     * Error codes of a row.
+     */
+    public static final byte VALID = 0;
+    public static final byte INVALID_MONTH = 1;
+    public static final byte INVALID_DAY_OF_MONTH = 2;
+    public static final byte OUT_OF_RANGE = 3;
+
+    /**
+     * Every date of the years in this span is within the range of {@link IndianNationalDate}.
+     */
+    private static final int MIN_SAFE_YEAR = -1_000_000_077;
+    private static final int MAX_SAFE_YEAR = 999_999_920;
+
+    private IndianDateValidator() {
+    }
+
+    /**
+     * Validates the dates given as separate fields.
+     *
+     * @param years                      Indian proleptic-years of the rows
+     * @param months                     Indian months-of-year of the rows, at least as many as the years
+     * @param daysOfMonth                Indian days-of-month of the rows, at least as many as the years
+     * @param errorCodes                 array receiving the error code of each row, or null if not needed
+     * @return                           bitmap of the invalid rows
+     * @throws IllegalArgumentException  if an array is shorter than the years
+     */
+    public static long[] validate(int[] years, int[] months, int[] daysOfMonth, byte[] errorCodes) {
+        int rows = years.length;
+        if (months.length < rows || daysOfMonth.length < rows || (errorCodes != null && errorCodes.length < rows)) {
+            throw new IllegalArgumentException("All the arrays must have at least " + rows + " elements");
+        }
+        long[] invalidRows = new long[(rows + 63) >>> 6];
+        for (int row = 0; row < rows; row++) {
+            byte errorCode = errorCode(years[row], months[row], daysOfMonth[row]);
+            if (errorCode != VALID) {
+                invalidRows[row >>> 6] |= 1L << row;
+            }
+            if (errorCodes != null) {
+                errorCodes[row] = errorCode;
+            }
+        }
+        return invalidRows;
+    }
+
+    /**
+     * Validates the {@linkplain IndianPackedDate packed dates}.
+     *
+     * @param packedDates                the packed dates of the rows
+     * @param errorCodes                 array receiving the error code of each row, or null if not needed
+     * @return                           bitmap of the invalid rows
+     * @throws IllegalArgumentException  if the error codes array is shorter than the packed dates
+     */
+    public static long[] validate(int[] packedDates, byte[] errorCodes) {
+        int rows = packedDates.length;
+        if (errorCodes != null && errorCodes.length < rows) {
+            throw new IllegalArgumentException("The error codes array must have at least " + rows + " elements");
+        }
+        long[] invalidRows = new long[(rows + 63) >>> 6];
+        for (int row = 0; row < rows; row++) {
+            int packed = packedDates[row];
+            byte errorCode = errorCode(IndianPackedDate.year(packed), IndianPackedDate.month(packed),
+                    IndianPackedDate.dayOfMonth(packed));
+            if (errorCode != VALID) {
+                invalidRows[row >>> 6] |= 1L << row;
+            }
+            if (errorCodes != null) {
+                errorCodes[row] = errorCode;
+            }
+        }
+        return invalidRows;
+    }
+
+    /**
+     * Checks if the given row is set in the bitmap of invalid rows.
+     *
+     * @param invalidRows  bitmap returned by a validate method
+     * @param row          index of the row
+     * @return             <code>true</code> if the row is invalid
+     */
+    public static boolean isInvalid(long[] invalidRows, int row) {
+        return (invalidRows[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Validates a single date.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param month          Indian month-of-year
+     * @param dayOfMonth     Indian day-of-month
+     * @return               {@link #VALID} or the error code of the date
+     */
+    public static byte errorCode(int prolepticYear, int month, int dayOfMonth) {
+        if (month < 1 || month > 12) {
+            return INVALID_MONTH;
+        }
+        // Vaishakha to Bhadra have 31 days, Ashwin to Phalguna 30 and Chaitra 31 only in a leap year
+        if (dayOfMonth < 1 || dayOfMonth > (month <= 6 ? 31 : 30)
+                || (month == 1 && dayOfMonth == 31 && !IndianYearInfo.DEFAULT.isLeapYear(prolepticYear))) {
+            return INVALID_DAY_OF_MONTH;
+        }
+        if (prolepticYear < MIN_SAFE_YEAR || prolepticYear > MAX_SAFE_YEAR) {
+            long epochDay = IndianYearInfo.DEFAULT.toEpochDay(prolepticYear, month, dayOfMonth);
+            return EPOCH_DAY.range().isValidValue(epochDay) ? VALID : OUT_OF_RANGE;
+        }
+        return VALID;
+    }
+}
@@ -0,0 +1,410 @@
+package com.gebogebo.kronology.indian;
+
+import static java.time.temporal.ChronoField.*;
+
+import java.time.DateTimeException;
+import java.time.Year;
+import java.time.chrono.Chronology;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+import java.util.Objects;
+
+/**
+ * Fields of the Indian fiscal year, which runs from 1 April to 31 March (ISO), for Saka dates.
+ *
+ * <p>
+ * A fiscal year starts on 11 Chaitra, or on 12 Chaitra in a leap year, and is numbered by the Saka year it starts in,
+ * so the fiscal year 1948 (2026-27) runs from 11 Chaitra 1948 to 10 Chaitra 1949. Its quarters start on 1 April,
+ * 1 July, 1 October and 1 January (ISO), which are 0, 91, 183 and 275 days into the fiscal year whatever the leap
+ * years. All the fields are computed from the Saka year, month and day of month with a few arithmetic operations,
+ * without converting to an ISO date.
+ * <p>
+ * The fields are supported by {@link IndianNationalDate} and by the other temporals of
+ * {@link IndianNationalChronology}, such as {@link IndianDateTime}:
+ * <pre>{@code
+ *     int fiscalYear = date.get(IndianFiscalFields.FISCAL_YEAR);
+ *     IndianNationalDate firstDay = date.with(IndianFiscalFields.DAY_OF_FISCAL_YEAR, 1);
+ * }</pre>
+ * For bulk processing, the static methods take {@linkplain IndianPackedDate packed dates} and return fiscal years or
+ * quarter buckets, {@code fiscalYear * 4 + quarter - 1}, which can be used directly as keys or array indexes for
+ * aggregation, as the buckets of {@link IndianBucketer}.
+ *
+ * @implSpec
+ * This class is stateless and thread-safe, and all the fields are immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianFiscalFields {
+
+    /**
+     * The fiscal year, numbered by the Saka year it starts in.
+     */
+    public static final TemporalField FISCAL_YEAR = Field.FISCAL_YEAR;
+
+    /**
+     * The quarter of the fiscal year, from 1 to 4.
+     */
+    public static final TemporalField FISCAL_QUARTER = Field.FISCAL_QUARTER;
+
+    /**
+     * The day of the fiscal year, from 1 to 365/366.
+     */
+    public static final TemporalField DAY_OF_FISCAL_YEAR = Field.DAY_OF_FISCAL_YEAR;
+
+    /**
+     * Zero based day of fiscal year on which each quarter starts, and on which the following fiscal year starts in a
+     * non-leap year.
+     */
+    private static final int[] QUARTER_START_DAY = {0, 91, 183, 275, 365};
+
+    /**
+     * Zero based day of year of 11 Chaitra, on which a fiscal year starts in a non-leap year.
+     */
+    private static final int FISCAL_YEAR_START_DAY = 10;
+
+    /**
+     * Number of days of the previous fiscal year that fall in a Saka year, 355 whether it's a leap year or not.
+     */
+    private static final int DAYS_BEFORE_YEAR = 365 - FISCAL_YEAR_START_DAY;
+
+    private IndianFiscalFields() {
+    }
+
+    /**
+     * Gets the fiscal year of the given date. The date is expected to be valid and isn't checked.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param month          Indian month-of-year, from 1 to 12
+     * @param dayOfMonth     Indian day-of-month
+     * @return               the fiscal year, numbered by the Saka year it starts in
+     */
+    public static int fiscalYear(int prolepticYear, int month, int dayOfMonth) {
+        if (month > 1) {
+            return prolepticYear;
+        }
+        boolean isLeapYear = IndianYearInfo.DEFAULT.isLeapYear(prolepticYear);
+        return dayOfMonth - 1 < fiscalYearStartDay(isLeapYear) ? prolepticYear - 1 : prolepticYear;
+    }
+
+    /**
+     * Gets the day of fiscal year of the given date. The date is expected to be valid and isn't checked.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param month          Indian month-of-year, from 1 to 12
+     * @param dayOfMonth     Indian day-of-month
+     * @return               the day of the fiscal year, from 1 to 365/366
+     */
+    public static int dayOfFiscalYear(int prolepticYear, int month, int dayOfMonth) {
+        boolean isLeapYear = IndianYearInfo.DEFAULT.isLeapYear(prolepticYear);
+        int dayOfYear = IndianYearInfo.monthStartDayOfYear(month, isLeapYear) + dayOfMonth - 1;
+        int start = fiscalYearStartDay(isLeapYear);
+        return dayOfYear >= start ? dayOfYear - start + 1 : dayOfYear + DAYS_BEFORE_YEAR + 1;
+    }
+
+    /**
+     * Gets the fiscal quarter of the given date. The date is expected to be valid and isn't checked.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param month          Indian month-of-year, from 1 to 12
+     * @param dayOfMonth     Indian day-of-month
+     * @return               the quarter of the fiscal year, from 1 to 4
+     */
+    public static int fiscalQuarter(int prolepticYear, int month, int dayOfMonth) {
+        return quarterOfDay(dayOfFiscalYear(prolepticYear, month, dayOfMonth) - 1);
+    }
+
+    /**
+     * Gets the fiscal year of the packed date. The packed date is expected to be valid and isn't checked.
+     *
+     * @param packed  the packed date
+     * @return        the fiscal year, numbered by the Saka year it starts in
+     */
+    public static int fiscalYearOfPacked(int packed) {
+        return fiscalYear(IndianPackedDate.year(packed), IndianPackedDate.month(packed),
+                          IndianPackedDate.dayOfMonth(packed));
+    }
+
+    /**
+     * Gets the quarter bucket of the packed date. The packed date is expected to be valid and isn't checked.
+     *
+     * @param packed  the packed date
+     * @return        {@code fiscalYear * 4 + fiscalQuarter - 1} of the date
+     */
+    public static long fiscalQuarterOfPacked(int packed) {
+        int year = IndianPackedDate.year(packed);
+        int month = IndianPackedDate.month(packed);
+        int dayOfMonth = IndianPackedDate.dayOfMonth(packed);
+        return fiscalYear(year, month, dayOfMonth) * 4L + fiscalQuarter(year, month, dayOfMonth) - 1;
+    }
+
+    /**
+     * Writes the fiscal years of the packed dates from {@code from} (inclusive) to {@code to} (exclusive) into the
+     * destination, starting at index 0. The packed dates are expected to be valid and aren't checked.
+     *
+     * @param packed  the packed dates
+     * @param from    first index to bucket, inclusive
+     * @param to      last index to bucket, exclusive
+     * @param dest    the array to write the fiscal years to
+     */
+    public static void fiscalYearsOfPacked(int[] packed, int from, int to, int[] dest) {
+        Objects.checkFromToIndex(from, to, packed.length);
+        Objects.checkFromToIndex(0, to - from, dest.length);
+        for (int i = from; i < to; i++) {
+            dest[i - from] = fiscalYearOfPacked(packed[i]);
+        }
+    }
+
+    /**
+     * Writes the quarter buckets, {@code fiscalYear * 4 + fiscalQuarter - 1}, of the packed dates from {@code from}
+     * (inclusive) to {@code to} (exclusive) into the destination, starting at index 0. The packed dates are expected
+     * to be valid and aren't checked.
+     *
+     * @param packed  the packed dates
+     * @param from    first index to bucket, inclusive
+     * @param to      last index to bucket, exclusive
+     * @param dest    the array to write the quarter buckets to
+     */
+    public static void fiscalQuartersOfPacked(int[] packed, int from, int to, long[] dest) {
+        Objects.checkFromToIndex(from, to, packed.length);
+        Objects.checkFromToIndex(0, to - from, dest.length);
+        // the packed dates from quarterStart (inclusive) to quarterEnd (exclusive) belong to the quarter
+        int quarterStart = 0;
+        int quarterEnd = 0;
+        long quarter = 0;
+        for (int i = from; i < to; i++) {
+            int date = packed[i];
+            if (date < quarterStart || date >= quarterEnd) {
+                quarter = fiscalQuarterOfPacked(date);
+                quarterStart = packedOfEpochDay(startEpochDayOfFiscalQuarter(quarter));
+                quarterEnd = packedOfEpochDay(startEpochDayOfFiscalQuarter(quarter + 1));
+            }
+            dest[i - from] = quarter;
+        }
+    }
+
+    /**
+     * Gets the first day of the given fiscal year.
+     *
+     * @param fiscalYear  the fiscal year, numbered by the Saka year it starts in
+     * @return            11 Chaitra, or 12 Chaitra in a leap year, of the year
+     */
+    public static IndianNationalDate startOfFiscalYear(int fiscalYear) {
+        return IndianNationalDate.ofEpochDay(startEpochDayOfFiscalQuarter(fiscalYear * 4L));
+    }
+
+    /**
+     * Gets the first day of the given quarter bucket.
+     *
+     * @param quarter  quarter bucket, {@code fiscalYear * 4 + fiscalQuarter - 1}
+     * @return         the first day of the quarter
+     */
+    public static IndianNationalDate startOfFiscalQuarter(long quarter) {
+        return IndianNationalDate.ofEpochDay(startEpochDayOfFiscalQuarter(quarter));
+    }
+
+    /**
+     * Gets the zero based day of year on which the fiscal year starts.
+     */
+    private static int fiscalYearStartDay(boolean isLeapYear) {
+        return isLeapYear ? FISCAL_YEAR_START_DAY + 1 : FISCAL_YEAR_START_DAY;
+    }
+
+    /**
+     * Gets the quarter of the given zero based day of fiscal year.
+     */
+    private static int quarterOfDay(int dayOfFiscalYear) {
+        return dayOfFiscalYear < QUARTER_START_DAY[2] ? (dayOfFiscalYear < QUARTER_START_DAY[1] ? 1 : 2)
+                                                      : (dayOfFiscalYear < QUARTER_START_DAY[3] ? 3 : 4);
+    }
+
+    /**
+     * Gets the epoch day of the first day of the given fiscal year.
+     */
+    private static long startEpochDayOfFiscalYear(long fiscalYear) {
+        IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+        return yearInfo.yearStartEpochDay(fiscalYear) + fiscalYearStartDay(yearInfo.isLeapYear(fiscalYear));
+    }
+
+    /**
+     * Gets the epoch day of the first day of the given quarter bucket.
+     */
+    private static long startEpochDayOfFiscalQuarter(long quarter) {
+        int quarterOfYear = Math.floorMod(quarter, 4);
+        return startEpochDayOfFiscalYear(Math.floorDiv(quarter, 4)) + QUARTER_START_DAY[quarterOfYear];
+    }
+
+    /**
+     * Packs the date of the given epoch day, clamping the years out of the range of packed dates to the smallest or
+     * the largest {@code int}.
+     */
+    private static int packedOfEpochDay(long epochDay) {
+        int year = IndianYearInfo.DEFAULT.prolepticYear(epochDay);
+        if (year < IndianPackedDate.MIN_YEAR) {
+            return Integer.MIN_VALUE;
+        }
+        return year > IndianPackedDate.MAX_YEAR ? Integer.MAX_VALUE : IndianPackedDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Gets the length of the given fiscal year, which has a 29 February (ISO) when the following Saka year is a leap
+     * year.
+     */
+    private static int lengthOfFiscalYear(long fiscalYear) {
+        return IndianYearInfo.DEFAULT.lengthOfYear(fiscalYear + 1);
+    }
+
+    /**
+     * Gets the length of the given quarter of a fiscal year.
+     */
+    private static int lengthOfFiscalQuarter(long fiscalYear, int fiscalQuarter) {
+        int end = fiscalQuarter == 4 ? lengthOfFiscalYear(fiscalYear) : QUARTER_START_DAY[fiscalQuarter];
+        return end - QUARTER_START_DAY[fiscalQuarter - 1];
+    }
+
+    /**
+     * Implementation of the fields.
+     */
+    private enum Field implements TemporalField {
+        FISCAL_YEAR("FiscalYear", ChronoUnit.YEARS, ChronoUnit.FOREVER,
+                    ValueRange.of(Year.MIN_VALUE, Year.MAX_VALUE)),
+        FISCAL_QUARTER("FiscalQuarter", IsoFields.QUARTER_YEARS, ChronoUnit.YEARS, ValueRange.of(1, 4)),
+        DAY_OF_FISCAL_YEAR("DayOfFiscalYear", ChronoUnit.DAYS, ChronoUnit.YEARS, ValueRange.of(1, 365, 366));
+
+        private final String name;
+        private final TemporalUnit baseUnit;
+        private final TemporalUnit rangeUnit;
+        private final ValueRange range;
+
+        Field(String name, TemporalUnit baseUnit, TemporalUnit rangeUnit, ValueRange range) {
+            this.name = name;
+            this.baseUnit = baseUnit;
+            this.rangeUnit = rangeUnit;
+            this.range = range;
+        }
+
+        @Override
+        public TemporalUnit getBaseUnit() {
+            return baseUnit;
+        }
+
+        @Override
+        public TemporalUnit getRangeUnit() {
+            return rangeUnit;
+        }
+
+        @Override
+        public ValueRange range() {
+            return range;
+        }
+
+        @Override
+        public boolean isDateBased() {
+            return true;
+        }
+
+        @Override
+        public boolean isTimeBased() {
+            return false;
+        }
+
+        @Override
+        public boolean isSupportedBy(TemporalAccessor temporal) {
+            if (temporal instanceof IndianNationalDate) {
+                return true;
+            }
+            return temporal.isSupported(EPOCH_DAY)
+                   && IndianNationalChronology.INSTANCE.equals(Chronology.from(temporal));
+        }
+
+        @Override
+        public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+            IndianNationalDate date = toDate(temporal);
+            if (this == DAY_OF_FISCAL_YEAR) {
+                return ValueRange.of(1, lengthOfFiscalYear(getFrom(date, FISCAL_YEAR)));
+            }
+            return range;
+        }
+
+        @Override
+        public long getFrom(TemporalAccessor temporal) {
+            return getFrom(toDate(temporal), this);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+            IndianNationalDate date = toDate(temporal);
+            int fiscalYear = (int) getFrom(date, FISCAL_YEAR);
+            int dayOfFiscalYear = (int) getFrom(date, DAY_OF_FISCAL_YEAR);
+            long epochDay;
+            switch (this) {
+                case FISCAL_YEAR: {
+                    long newYear = range.checkValidValue(newValue, this);
+                    epochDay = startEpochDayOfFiscalYear(newYear)
+                               + Math.min(dayOfFiscalYear, lengthOfFiscalYear(newYear)) - 1;
+                    break;
+                }
+                case FISCAL_QUARTER: {
+                    int newQuarter = range.checkValidIntValue(newValue, this);
+                    int quarter = quarterOfDay(dayOfFiscalYear - 1);
+                    int dayOfQuarter = dayOfFiscalYear - QUARTER_START_DAY[quarter - 1];
+                    epochDay = startEpochDayOfFiscalYear(fiscalYear) + QUARTER_START_DAY[newQuarter - 1]
+                               + Math.min(dayOfQuarter, lengthOfFiscalQuarter(fiscalYear, newQuarter)) - 1;
+                    break;
+                }
+                default: {
+                    ValueRange valid = ValueRange.of(1, lengthOfFiscalYear(fiscalYear));
+                    epochDay = startEpochDayOfFiscalYear(fiscalYear) + valid.checkValidIntValue(newValue, this) - 1;
+                    break;
+                }
+            }
+            return (R) temporal.plus(epochDay - date.toEpochDay(), ChronoUnit.DAYS);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        /**
+         * Gets the Saka date of a supported temporal.
+         */
+        private IndianNationalDate toDate(TemporalAccessor temporal) {
+            if (temporal instanceof IndianNationalDate) {
+                return (IndianNationalDate) temporal;
+            }
+            if (!isSupportedBy(temporal)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + name);
+            }
+            try {
+                return (IndianNationalDate) IndianNationalChronology.INSTANCE.date(temporal);
+            } catch (DateTimeException e) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + name, e);
+            }
+        }
+
+        /**
+         * Gets the value of a field from the Saka fields of a date.
+         */
+        private static long getFrom(IndianNationalDate date, Field field) {
+            int year = (int) date.getLong(YEAR);
+            int month = (int) date.getLong(MONTH_OF_YEAR);
+            int dayOfMonth = (int) date.getLong(DAY_OF_MONTH);
+            switch (field) {
+                case FISCAL_YEAR:
+                    return fiscalYear(year, month, dayOfMonth);
+                case FISCAL_QUARTER:
+                    return fiscalQuarter(year, month, dayOfMonth);
+                default:
+                    return dayOfFiscalYear(year, month, dayOfMonth);
+            }
+        }
+    }
+}
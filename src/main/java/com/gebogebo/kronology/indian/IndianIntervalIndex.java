@@ -0,0 +1,414 @@
+package com.gebogebo.kronology.indian;
+
+import static java.nio.file.StandardOpenOption.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable index of intervals of Saka dates, each identified by an {@code int} id, answering which intervals
+ * overlap a range of dates, such as a week or a month, or contain a given date.
+ *
+ * <p>
+ * The index is an augmented interval tree laid out in a sorted array. The intervals are sorted by their first day and
+ * the array is read as an implicit balanced binary search tree: the leaves are at the even positions, and the node at
+ * position {@code i} with {@code k} trailing one bits is at level {@code k}, with its children at
+ * {@code i - 2^(k-1)} and {@code i + 2^(k-1)}. Each node also holds the largest last day of its subtree, which lets a
+ * query skip the subtrees that end before the queried range. The index is built in bulk with a sort and a single
+ * bottom-up pass, and a query takes {@code O(log n + k)} time for {@code k} matching intervals, without allocation.
+ * <p>
+ * The ids of the matching intervals are written into an {@code int} array, in the order of the first days of the
+ * intervals. The methods return the number of matching intervals, which is larger than the number of ids written
+ * when the array is too small; {@link #count(long, long)} gives the number of matches without writing any id.
+ * <p>
+ * The index can be written to a file with {@link #writeTo(Path)} and mapped back from it with {@link #map(Path)},
+ * in which case the queries read the mapped file directly and the index is ready as soon as it's mapped. The file
+ * holds a version byte and the number of intervals, followed by the first days, the last days, the largest last days
+ * and the ids of the intervals, as big-endian {@code int}s.
+ * <p>
+ * Epoch days used by this class are the same as {@link IndianNationalDate#toEpochDay()}, where day 0 is 1970-01-01
+ * (ISO), and are limited to the range of an {@code int} (about 5.8 million years either side of 1970). Intervals and
+ * queried ranges include both their first and their last day.
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianIntervalIndex {
+
+    /**
+     * Version of the file format.
+     */
+    private static final byte SERIAL_VERSION = 1;
+
+    /**
+     * Size of the header of the file: the version, three zero bytes and the number of intervals.
+     */
+    private static final int HEADER = 8;
+
+    /**
+     * Number of sections of the file, each holding an {@code int} per interval.
+     */
+    private static final int SECTIONS = 4;
+
+    /**
+     * Largest number of intervals in an index, so that it fits in a single buffer.
+     */
+    public static final int MAX_SIZE = (Integer.MAX_VALUE - HEADER) / (SECTIONS * Integer.BYTES);
+
+    /**
+     * Level of the subtrees that are scanned linearly rather than descended into.
+     */
+    private static final int SCAN_LEVEL = 3;
+
+    private static final int[] NO_IDS = new int[0];
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int rootLevel;
+    private final IntBuffer firstDays;
+    private final IntBuffer lastDays;
+    private final IntBuffer maxLastDays;
+    private final IntBuffer ids;
+
+    private IndianIntervalIndex(ByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+        this.rootLevel = rootLevel(size);
+        this.firstDays = section(buffer, size, 0);
+        this.lastDays = section(buffer, size, 1);
+        this.maxLastDays = section(buffer, size, 2);
+        this.ids = section(buffer, size, 3);
+    }
+
+    /**
+     * Builds an index of the given intervals, identified by their position in the arrays.
+     *
+     * @param firstEpochDays             the first epoch day of each interval
+     * @param lastEpochDays              the last epoch day of each interval
+     * @return                           the index of the intervals
+     * @throws DateTimeException         if an interval ends before it starts or is outside the range of an {@code int}
+     * @throws IllegalArgumentException  if the arrays have different lengths or are longer than {@link #MAX_SIZE}
+     */
+    public static IndianIntervalIndex of(long[] firstEpochDays, long[] lastEpochDays) {
+        return build(firstEpochDays, lastEpochDays, null);
+    }
+
+    /**
+     * Builds an index of the given intervals, identified by the given ids.
+     *
+     * @param firstEpochDays             the first epoch day of each interval
+     * @param lastEpochDays              the last epoch day of each interval
+     * @param ids                        the id of each interval, which doesn't have to be unique
+     * @return                           the index of the intervals
+     * @throws DateTimeException         if an interval ends before it starts or is outside the range of an {@code int}
+     * @throws IllegalArgumentException  if the arrays have different lengths or are longer than {@link #MAX_SIZE}
+     */
+    public static IndianIntervalIndex of(long[] firstEpochDays, long[] lastEpochDays, int[] ids) {
+        return build(firstEpochDays, lastEpochDays, Objects.requireNonNull(ids, "ids"));
+    }
+
+    private static IndianIntervalIndex build(long[] firstEpochDays, long[] lastEpochDays, int[] ids) {
+        int size = firstEpochDays.length;
+        if (lastEpochDays.length != size || (ids != null && ids.length != size)) {
+            throw new IllegalArgumentException("Arrays of different lengths: " + size + " first days, "
+                                               + lastEpochDays.length + " last days"
+                                               + (ids == null ? "" : ", " + ids.length + " ids"));
+        }
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("Too many intervals: " + size + " (max " + MAX_SIZE + ")");
+        }
+        // sorts the intervals by first day, then by position, with the position in the lower bits
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            int first = checkEpochDay(firstEpochDays[i]);
+            int last = checkEpochDay(lastEpochDays[i]);
+            if (last < first) {
+                throw new DateTimeException("Interval " + i + " ends before it starts: " + firstEpochDays[i]
+                                            + " - " + lastEpochDays[i]);
+            }
+            keys[i] = (long) first << 32 | i;
+        }
+        Arrays.parallelSort(keys);
+
+        int[] firstDays = new int[size];
+        int[] lastDays = new int[size];
+        int[] sortedIds = new int[size];
+        for (int j = 0; j < size; j++) {
+            int i = (int) keys[j];
+            firstDays[j] = (int) (keys[j] >> 32);
+            lastDays[j] = (int) lastEpochDays[i];
+            sortedIds[j] = ids == null ? i : ids[i];
+        }
+        int[] maxLastDays = maxLastDays(lastDays);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER + SECTIONS * Integer.BYTES * size);
+        buffer.put(SERIAL_VERSION).put((byte) 0).put((byte) 0).put((byte) 0).putInt(size);
+        IntBuffer ints = buffer.asIntBuffer();
+        ints.put(firstDays).put(lastDays).put(maxLastDays).put(sortedIds);
+        buffer.clear();
+        return new IndianIntervalIndex(buffer, size);
+    }
+
+    /**
+     * Computes the largest last day of the subtree of each node, level by level from the leaves up. The last node at
+     * each level may have its right child beyond the end of the array, in which case the largest last day of the
+     * partial subtree at the end of the array, tracked along the way, stands for it.
+     */
+    private static int[] maxLastDays(int[] lastDays) {
+        int size = lastDays.length;
+        int[] max = new int[size];
+        int lastIndex = 0;
+        int lastMax = 0;
+        for (int i = 0; i < size; i += 2) {
+            lastIndex = i;
+            lastMax = max[i] = lastDays[i];
+        }
+        for (int level = 1; 1L << level <= size; level++) {
+            int half = 1 << (level - 1);
+            for (long i = (half << 1) - 1; i < size; i += 4L * half) {
+                int node = (int) i;
+                int left = max[node - half];
+                int right = node + (long) half < size ? max[node + half] : lastMax;
+                max[node] = Math.max(lastDays[node], Math.max(left, right));
+            }
+            // moves to the parent of the last subtree
+            lastIndex = (lastIndex >> level & 1) != 0 ? lastIndex - half : lastIndex + half;
+            if (lastIndex < size && max[lastIndex] > lastMax) {
+                lastMax = max[lastIndex];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Maps an index from a file written by {@link #writeTo(Path)}. Only the header and the length of the file are
+     * checked; the file must not be modified while the index is in use.
+     *
+     * @param file          the file to map
+     * @return              the index backed by the mapped file
+     * @throws IOException  if the file can't be read or is not an index
+     */
+    public static IndianIntervalIndex map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            long length = channel.size();
+            if (length < HEADER || length > Integer.MAX_VALUE) {
+                throw new IOException("Invalid IndianIntervalIndex file length: " + length);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            byte version = buffer.get(0);
+            if (version != SERIAL_VERSION) {
+                throw new IOException("Unsupported IndianIntervalIndex version: " + version);
+            }
+            int size = buffer.getInt(4);
+            if (size < 0 || size > MAX_SIZE || HEADER + (long) SECTIONS * Integer.BYTES * size != length) {
+                throw new IOException("Invalid IndianIntervalIndex size: " + size + " in " + length + " bytes");
+            }
+            return new IndianIntervalIndex(buffer, size);
+        }
+    }
+
+    /**
+     * Writes this index to a file, replacing its content, so it can be mapped with {@link #map(Path)}.
+     *
+     * @param file          the file to write
+     * @throws IOException  if the file can't be written
+     */
+    public void writeTo(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            ByteBuffer content = buffer.duplicate();
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of intervals in this index.
+     *
+     * @return  the number of intervals
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes the ids of the intervals that overlap the given range of epoch days into the given array.
+     *
+     * @param firstEpochDay  the first epoch day of the range, inclusive
+     * @param lastEpochDay   the last epoch day of the range, inclusive
+     * @param dest           the array to write the ids into
+     * @param offset         the index in the array to start writing at
+     * @return               the number of overlapping intervals, of which only the ids that fit in the array are
+     *                       written
+     */
+    public int overlapping(long firstEpochDay, long lastEpochDay, int[] dest, int offset) {
+        Objects.checkFromIndexSize(offset, 0, dest.length);
+        return query(firstEpochDay, lastEpochDay, dest, offset);
+    }
+
+    /**
+     * Writes the ids of the intervals that overlap the given range of dates into the given array.
+     *
+     * @param first   the first date of the range, inclusive
+     * @param last    the last date of the range, inclusive
+     * @param dest    the array to write the ids into
+     * @param offset  the index in the array to start writing at
+     * @return        the number of overlapping intervals, of which only the ids that fit in the array are written
+     */
+    public int overlapping(IndianNationalDate first, IndianNationalDate last, int[] dest, int offset) {
+        return overlapping(first.toEpochDay(), last.toEpochDay(), dest, offset);
+    }
+
+    /**
+     * Writes the ids of the intervals that overlap the given month into the given array.
+     *
+     * @param month   the month
+     * @param dest    the array to write the ids into
+     * @param offset  the index in the array to start writing at
+     * @return        the number of overlapping intervals, of which only the ids that fit in the array are written
+     */
+    public int overlapping(IndianYearMonth month, int[] dest, int offset) {
+        return overlapping(month.startEpochDay(), month.endEpochDay(), dest, offset);
+    }
+
+    /**
+     * Gets the ids of the intervals that overlap the given range of epoch days.
+     *
+     * @param firstEpochDay  the first epoch day of the range, inclusive
+     * @param lastEpochDay   the last epoch day of the range, inclusive
+     * @return               the ids of the overlapping intervals, in the order of their first days
+     */
+    public int[] overlapping(long firstEpochDay, long lastEpochDay) {
+        int[] dest = new int[count(firstEpochDay, lastEpochDay)];
+        query(firstEpochDay, lastEpochDay, dest, 0);
+        return dest;
+    }
+
+    /**
+     * Writes the ids of the intervals that contain the given epoch day into the given array.
+     *
+     * @param epochDay  the epoch day
+     * @param dest      the array to write the ids into
+     * @param offset    the index in the array to start writing at
+     * @return          the number of intervals containing the day, of which only the ids that fit in the array are
+     *                  written
+     */
+    public int stabbing(long epochDay, int[] dest, int offset) {
+        return overlapping(epochDay, epochDay, dest, offset);
+    }
+
+    /**
+     * Writes the ids of the intervals that contain the given date into the given array.
+     *
+     * @param date    the date
+     * @param dest    the array to write the ids into
+     * @param offset  the index in the array to start writing at
+     * @return        the number of intervals containing the date, of which only the ids that fit in the array are
+     *                written
+     */
+    public int stabbing(IndianNationalDate date, int[] dest, int offset) {
+        long epochDay = date.toEpochDay();
+        return overlapping(epochDay, epochDay, dest, offset);
+    }
+
+    /**
+     * Counts the intervals that overlap the given range of epoch days.
+     *
+     * @param firstEpochDay  the first epoch day of the range, inclusive
+     * @param lastEpochDay   the last epoch day of the range, inclusive
+     * @return               the number of overlapping intervals
+     */
+    public int count(long firstEpochDay, long lastEpochDay) {
+        return query(firstEpochDay, lastEpochDay, NO_IDS, 0);
+    }
+
+    private int query(long firstEpochDay, long lastEpochDay, int[] dest, int offset) {
+        if (size == 0 || firstEpochDay > lastEpochDay || firstEpochDay > Integer.MAX_VALUE
+            || lastEpochDay < Integer.MIN_VALUE) {
+            return 0;
+        }
+        int first = (int) Math.max(firstEpochDay, Integer.MIN_VALUE);
+        int last = (int) Math.min(lastEpochDay, Integer.MAX_VALUE);
+        return collect((1 << rootLevel) - 1, rootLevel, first, last, dest, offset, 0);
+    }
+
+    /**
+     * Collects the intervals of the subtree of the given node that overlap the range, in order. The node and its
+     * right subtree may be beyond the end of the array, in which case only its left subtree is visited.
+     */
+    private int collect(int node, int level, int first, int last, int[] dest, int offset, int count) {
+        if (level <= SCAN_LEVEL) {
+            // a small subtree: scans its intervals until they start after the range
+            int from = node >> level << level;
+            int to = (int) Math.min(from + (2L << level) - 1, size);
+            for (int i = from; i < to && firstDays.get(i) <= last; i++) {
+                if (lastDays.get(i) >= first) {
+                    count = emit(i, dest, offset, count);
+                }
+            }
+            return count;
+        }
+        int half = 1 << (level - 1);
+        int left = node - half;
+        if (left >= size || maxLastDays.get(left) >= first) {
+            count = collect(left, level - 1, first, last, dest, offset, count);
+        }
+        if (node < size && firstDays.get(node) <= last) {
+            if (lastDays.get(node) >= first) {
+                count = emit(node, dest, offset, count);
+            }
+            count = collect(node + half, level - 1, first, last, dest, offset, count);
+        }
+        return count;
+    }
+
+    private int emit(int position, int[] dest, int offset, int count) {
+        if (offset + count < dest.length) {
+            dest[offset + count] = ids.get(position);
+        }
+        return count + 1;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "IndianIntervalIndex[]";
+        }
+        int root = (1 << rootLevel) - 1;
+        return "IndianIntervalIndex[" + size + " intervals, " + IndianNationalDate.ofEpochDay(firstDays.get(0)) + " - "
+               + IndianNationalDate.ofEpochDay(maxLastDays.get(root)) + "]";
+    }
+
+    /**
+     * Gets the level of the root of the implicit tree of the given number of intervals, -1 if there's none.
+     */
+    private static int rootLevel(int size) {
+        return 31 - Integer.numberOfLeadingZeros(size);
+    }
+
+    /**
+     * Gets a section of the buffer as {@code int}s.
+     */
+    private static IntBuffer section(ByteBuffer buffer, int size, int section) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(HEADER + section * Integer.BYTES * size);
+        slice.limit(slice.position() + Integer.BYTES * size);
+        return slice.slice().asIntBuffer();
+    }
+
+    private static int checkEpochDay(long epochDay) {
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            throw new DateTimeException("Epoch day is out of range for IndianIntervalIndex: " + epochDay);
+        }
+        return (int) epochDay;
+    }
+}
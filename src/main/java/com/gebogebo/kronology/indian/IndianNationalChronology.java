@@ -3,11 +3,17 @@ package com.gebogebo.kronology.indian;
 import static java.lang.String.*;
 
 import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.chrono.AbstractChronology;
 import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
 import java.time.chrono.Era;
-import java.time.chrono.IsoChronology;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.ValueRange;
@@ -64,6 +70,13 @@ public class IndianNationalChronology extends AbstractChronology {
      */
     public static final IndianNationalChronology INSTANCE = new IndianNationalChronology();
 
+    /**
+     * Creates the chronology. Use {@link #INSTANCE} instead; the constructor is only public because the
+     * {@link java.util.ServiceLoader} requires it to create the {@link java.time.chrono.Chronology} service.
+     */
+    public IndianNationalChronology() {
+    }
+
     /**
      * Gets the Id for this {@code Chronology}.
      *
@@ -107,22 +120,104 @@ public class IndianNationalChronology extends AbstractChronology {
         return IndianNationalDate.of(LocalDate.ofEpochDay(epochDay + EPOCH_DAY_WRT_ISO));
     }
 
+    /**
+     * Obtains an Indian date from another temporal.
+     * <p>
+     * The common types are converted directly: the ISO dates and date-times through their {@code LocalDate}, and
+     * the dates of other chronologies through their epoch day. Any other temporal supporting
+     * {@link ChronoField#EPOCH_DAY} is converted through it, which is also what {@link LocalDate#from} would do.
+     *
+     * @param temporal            the temporal to convert
+     * @return                    the Indian date
+     * @throws DateTimeException  if the temporal doesn't have a date
+     */
     @Override
     public ChronoLocalDate date(TemporalAccessor temporal) {
         if (temporal instanceof IndianNationalDate) {
             return (IndianNationalDate) temporal;
         }
-        try {
-            return IndianNationalDate.of(LocalDate.from(temporal));
-        } catch (DateTimeException e) {
-            throw new DateTimeException(format("Unable to obtain IndianDate from TemporalAccessor: %s of type %s",
-                                        temporal, temporal.getClass()));
+        if (temporal instanceof LocalDate) {
+            return IndianNationalDate.of((LocalDate) temporal);
+        }
+        if (temporal instanceof LocalDateTime) {
+            return IndianNationalDate.of(((LocalDateTime) temporal).toLocalDate());
+        }
+        if (temporal instanceof OffsetDateTime) {
+            return IndianNationalDate.of(((OffsetDateTime) temporal).toLocalDate());
+        }
+        if (temporal instanceof ZonedDateTime) {
+            return IndianNationalDate.of(((ZonedDateTime) temporal).toLocalDate());
         }
+        if (temporal instanceof ChronoLocalDate) {
+            return IndianNationalDate.ofEpochDay(((ChronoLocalDate) temporal).toEpochDay());
+        }
+        if (temporal instanceof ChronoLocalDateTime) {
+            return IndianNationalDate.ofEpochDay(((ChronoLocalDateTime<?>) temporal).toLocalDate().toEpochDay());
+        }
+        if (temporal instanceof ChronoZonedDateTime) {
+            return IndianNationalDate.ofEpochDay(((ChronoZonedDateTime<?>) temporal).toLocalDate().toEpochDay());
+        }
+        if (temporal.isSupported(ChronoField.EPOCH_DAY)) {
+            return IndianNationalDate.ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+        }
+        throw new DateTimeException("Unable to obtain IndianDate from TemporalAccessor: " + temporal + " of type "
+                                    + temporal.getClass().getName());
+    }
+
+    /**
+     * Obtains the Indian date of the instant in the given time-zone.
+     *
+     * @param instant  the instant
+     * @param zone     the time-zone of the date
+     * @return         the Indian date
+     */
+    public IndianNationalDate date(Instant instant, ZoneId zone) {
+        return IndianNationalDate.of(LocalDate.ofInstant(instant, zone));
+    }
+
+    @Override
+    public IndianDateTime localDateTime(TemporalAccessor temporal) {
+        return IndianDateTime.from(temporal);
+    }
+
+    @Override
+    public IndianZonedDateTime zonedDateTime(TemporalAccessor temporal) {
+        return IndianZonedDateTime.from(temporal);
+    }
+
+    @Override
+    public IndianZonedDateTime zonedDateTime(Instant instant, ZoneId zone) {
+        return IndianZonedDateTime.ofInstant(instant, zone);
+    }
+
+    /**
+     * Obtains the current Indian date from the system clock in the default time-zone.
+     * <p>
+     * The date is cached by the {@link IndianClock} of the zone until the next midnight.
+     *
+     * @return  the current Indian date
+     */
+    @Override
+    public IndianNationalDate dateNow() {
+        return IndianClock.systemDefaultZone().today();
+    }
+
+    /**
+     * Obtains the current Indian date from the system clock in the given time-zone.
+     * <p>
+     * The date is cached by the {@link IndianClock} of the zone until the next midnight.
+     *
+     * @param zone  the zone to use
+     * @return      the current Indian date
+     */
+    @Override
+    public IndianNationalDate dateNow(ZoneId zone) {
+        return IndianClock.system(zone).today();
     }
 
     @Override
     public boolean isLeapYear(long prolepticYear) {
-        return IsoChronology.INSTANCE.isLeapYear(prolepticYear + YEARS_BEHIND_ISO_YEAR);
+        return IndianYearInfo.DEFAULT.isLeapYear(prolepticYear);
     }
 
     @Override
@@ -147,13 +242,15 @@ public class IndianNationalChronology extends AbstractChronology {
 
     @Override
     public ValueRange range(ChronoField field) {
-        if(!dateNow().isSupported(field)) {
+        if(!IndianNationalDate.isSupportedField(field)) {
             throw new DateTimeException(format("Field %s not supported in IndianNationalChronology", field));
         }
 
         switch (field) {
             case DAY_OF_MONTH:
                 return ValueRange.of(1, 30, 31);
+            case ALIGNED_WEEK_OF_MONTH:
+                return ValueRange.of(1, 5);
             default:
                 return field.range();
         }
@@ -1,19 +1,16 @@
 package com.gebogebo.kronology.indian;
 
-import static com.gebogebo.kronology.indian.IndianNationalChronology.YEARS_BEHIND_ISO_YEAR;
 import static java.time.temporal.ChronoField.*;
 import static java.time.temporal.ChronoUnit.*;
 
 import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.Year;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.ChronoPeriod;
-import java.time.chrono.IsoChronology;
 import java.time.temporal.*;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -45,45 +42,10 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
     private static final long serialVersionUID = -8252231876281470680L;
 
     /**
-     * Number of days in a leap and a non-leap year.
+     * The epoch day returned by {@link #tryToEpochDay(int, int, int)} and {@link #tryOfYearDay(int, int)} for an
+     * invalid date. It's outside the range of {@link ChronoField#EPOCH_DAY}, so no valid date has it.
      */
-    private static final short daysInALeapYear = 366;
-    private static final short daysInANonLeapYear = 365;
-
-    /**
-     * Internal data objects to represent Indian months using {@code IndianMonth} instances.
-     */
-    private static final List<IndianMonth> leapMonths = new ArrayList<>(12);
-    private static final List<IndianMonth> months = new ArrayList<>(12);
-    static {
-        leapMonths.add(new IndianMonth(1, 81, 111, 0));
-        leapMonths.add(new IndianMonth(2, 112, 142,0));
-        leapMonths.add(new IndianMonth(3, 143, 173,0));
-        leapMonths.add(new IndianMonth(4, 174, 204,0));
-        leapMonths.add(new IndianMonth(5, 205, 235,0));
-        leapMonths.add(new IndianMonth(6, 236, 266, 0));
-        leapMonths.add(new IndianMonth(7, 267, 296, 0));
-        leapMonths.add(new IndianMonth(8, 297, 326, 0));
-        leapMonths.add(new IndianMonth(9, 327, 356, 0));
-        leapMonths.add(new IndianMonth(10, 357, 366, 0));
-        leapMonths.add(new IndianMonth(10, 1, 20, -1));
-        leapMonths.add(new IndianMonth(11, 21, 50, -1));
-        leapMonths.add(new IndianMonth(12, 51, 80, -1));
-
-        months.add(new IndianMonth(1, 81, 110, 0));
-        months.add(new IndianMonth(2, 111, 141,0));
-        months.add(new IndianMonth(3, 142, 172,0));
-        months.add(new IndianMonth(4, 173, 203,0));
-        months.add(new IndianMonth(5, 204, 234,0));
-        months.add(new IndianMonth(6, 235, 265, 0));
-        months.add(new IndianMonth(7, 266, 295, 0));
-        months.add(new IndianMonth(8, 296, 325, 0));
-        months.add(new IndianMonth(9, 326, 355, 0));
-        months.add(new IndianMonth(10, 356, 365, 0));
-        months.add(new IndianMonth(10, 1, 20, -1));
-        months.add(new IndianMonth(11, 21, 50, -1));
-        months.add(new IndianMonth(12, 51, 80, -1));
-    }
+    public static final long INVALID_EPOCH_DAY = Long.MIN_VALUE;
 
     private final IndianEra era;
     private final int year;
@@ -110,9 +72,10 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
     /**
      * Creates an instance with given proleptic year, month and day.
      *
-     * @param prolepticYear  the indian proleptic-year
-     * @param month          the Indian month-of-year, from 1 to 12
-     * @param dayOfMonth     the Indian day-of-month, from 1 to 31
+     * @param prolepticYear       the indian proleptic-year
+     * @param month               the Indian month-of-year, from 1 to 12
+     * @param dayOfMonth          the Indian day-of-month, from 1 to 31
+     * @throws DateTimeException  if the date is invalid
      */
     /* pkg pvt */ IndianNationalDate(int prolepticYear, int month, int dayOfMonth) {
         this(prolepticYear, month, dayOfMonth, toLocalDate(prolepticYear, month, dayOfMonth));
@@ -126,15 +89,61 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
      * @return               IndianNationDate instance
      */
     public static IndianNationalDate of(int prolepticYear, int dayOfYear) {
-        boolean isLeapYear = IsoChronology.INSTANCE.isLeapYear(prolepticYear + YEARS_BEHIND_ISO_YEAR);
-        int daysInYear = isLeapYear ? daysInALeapYear : daysInANonLeapYear;
-        if(dayOfYear < 1 || dayOfYear > daysInYear) {
-            throw new DateTimeException(String.format("Invalid value for DayOfYear (valid values 1 - 365/66): %d",
-                                            dayOfYear));
+        long epochDay = tryOfYearDay(prolepticYear, dayOfYear);
+        if (epochDay == INVALID_EPOCH_DAY) {
+            if (dayOfYear >= 1 && dayOfYear <= IndianYearInfo.DEFAULT.lengthOfYear(prolepticYear)) {
+                throw new DateTimeException("Date out of range: " + prolepticYear + ", day of year " + dayOfYear);
+            }
+            throw new DateTimeException("Invalid value for DayOfYear (valid values 1 - 365/66): " + dayOfYear);
+        }
+        return ofEpochDay(epochDay);
+    }
+
+    /**
+     * Checks if the given fields make a valid date.
+     * <p>
+     * The month must be from 1 to 12, the day of month within the length of the month and the date within the
+     * supported range. Unlike the factory methods, no exception is thrown for an invalid date.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param month          Indian month-of-year
+     * @param dayOfMonth     Indian day-of-month
+     * @return               <code>true</code> if the date is valid
+     */
+    public static boolean isValid(int prolepticYear, int month, int dayOfMonth) {
+        return IndianDateValidator.errorCode(prolepticYear, month, dayOfMonth) == IndianDateValidator.VALID;
+    }
+
+    /**
+     * Gets the epoch day of the given date, without throwing for an invalid date.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param month          Indian month-of-year
+     * @param dayOfMonth     Indian day-of-month
+     * @return               the epoch day (1970-01-01 Iso is 0), or {@link #INVALID_EPOCH_DAY} if the date is invalid
+     */
+    public static long tryToEpochDay(int prolepticYear, int month, int dayOfMonth) {
+        if (!isValid(prolepticYear, month, dayOfMonth)) {
+            return INVALID_EPOCH_DAY;
+        }
+        return IndianYearInfo.DEFAULT.toEpochDay(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Gets the epoch day of the given day of year, without throwing for an invalid day of year.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param dayOfYear      Indian day-of-year, from 1 to 365 or 366
+     * @return               the epoch day (1970-01-01 Iso is 0), or {@link #INVALID_EPOCH_DAY} if the day of year is
+     *                       invalid or out of the supported range
+     */
+    public static long tryOfYearDay(int prolepticYear, int dayOfYear) {
+        IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+        if (dayOfYear < 1 || dayOfYear > yearInfo.lengthOfYear(prolepticYear)) {
+            return INVALID_EPOCH_DAY;
         }
-        int isoYear = prolepticYear + YEARS_BEHIND_ISO_YEAR + ((dayOfYear + 80) > daysInYear ? 1 : 0);
-        int isoDayOfYear = (dayOfYear + 80) % daysInYear;
-        return of(LocalDate.ofYearDay(isoYear, isoDayOfYear));
+        long epochDay = yearInfo.yearStartEpochDay(prolepticYear) + dayOfYear - 1;
+        return EPOCH_DAY.range().isValidValue(epochDay) ? epochDay : INVALID_EPOCH_DAY;
     }
 
     /**
@@ -145,16 +154,7 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
      * @throws DateTimeException  If the given {@code LocalDate} can't be mapped to a {@code IndianNationalDate}.
      */
     public static IndianNationalDate of(LocalDate localDate) {
-        int dayOfYear = localDate.get(DAY_OF_YEAR);
-        return (localDate.isLeapYear() ? leapMonths : months)
-                .stream()
-                .filter(m -> m.isThisMonth(dayOfYear))
-                .findFirst()
-                .map(m -> new IndianNationalDate(localDate.get(YEAR) + m.yearDelta - YEARS_BEHIND_ISO_YEAR,
-                        m.indianMonth,
-                        m.getIndianDayOfMonth(dayOfYear),
-                        localDate))
-                .orElseThrow(() -> new DateTimeException(String.format("Can't convert %s to Indian date.", localDate.toString())));
+        return of(localDate.toEpochDay(), localDate);
     }
 
     /**
@@ -167,27 +167,44 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
      * @throws DateTimeException   if the Indian date parameters are invalid
      */
     public static LocalDate toLocalDate(int indianProlepticYear, int indianMonth, int indianDayOfMonth) {
-        // corresponding isoYear
-        int isoYear = indianProlepticYear +
-                        (isNextIsoYear(indianMonth, indianDayOfMonth) ? 1 : 0) +
-                        YEARS_BEHIND_ISO_YEAR;
-
-        boolean isLeapYear = IsoChronology.INSTANCE.isLeapYear(isoYear);
-        IndianMonth filteredIndianMonth = (isLeapYear ? leapMonths : months)
-                .stream()
-                .filter(m -> m.indianMonth == indianMonth)
-                .findFirst()
-                .orElseThrow(() -> new DateTimeException(""));
-
-        // iso day of the year
-        int dayOfYear = (int)filteredIndianMonth.isoDayOfYearRange.getMinimum() + indianDayOfMonth - 1;
-
-        int daysInYear = isLeapYear ? daysInALeapYear  : daysInANonLeapYear;
-        // if iso day of the year exceeds the number of days in this year, we adjust accordingly
-        if(dayOfYear > daysInYear) {
-            dayOfYear = dayOfYear - daysInYear;
+        long epochDay = tryToEpochDay(indianProlepticYear, indianMonth, indianDayOfMonth);
+        if (epochDay == INVALID_EPOCH_DAY) {
+            throw invalidDate(indianProlepticYear, indianMonth, indianDayOfMonth);
         }
-        return LocalDate.ofYearDay(isoYear, dayOfYear);
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Obtains an {@code IndianNationalDate} instance from the epoch day count.
+     *
+     * <p>
+     *     The epoch day count is the same as used by {@link LocalDate#ofEpochDay(long)}, where day 0 is
+     *     1970-01-01 (ISO), and matches the value returned by {@link #toEpochDay()}. Note that
+     *     {@link IndianNationalChronology#dateEpochDay(long)} counts days from 0000-01-01 (Saka) instead.
+     *
+     * @param epochDay            the epoch day to convert
+     * @return                    the {@code IndianNationalDate} instance for the given epoch day
+     * @throws DateTimeException  if the epoch day exceeds the supported date range
+     */
+    public static IndianNationalDate ofEpochDay(long epochDay) {
+        return of(epochDay, LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Obtains an {@code IndianNationalDate} instance from the epoch day and the corresponding {@link LocalDate}.
+     *
+     * @param epochDay   the epoch day (1970-01-01 Iso is 0)
+     * @param localDate  the {@link LocalDate} for the same epoch day
+     * @return           the {@code IndianNationalDate} instance for the given epoch day
+     */
+    private static IndianNationalDate of(long epochDay, LocalDate localDate) {
+        IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+        int prolepticYear = yearInfo.prolepticYear(epochDay);
+        boolean isLeapYear = yearInfo.isLeapYear(prolepticYear);
+        int dayOfYear = (int) (epochDay - yearInfo.yearStartEpochDay(prolepticYear));
+        int month = IndianYearInfo.monthOfDayOfYear(dayOfYear, isLeapYear);
+        int dayOfMonth = dayOfYear - IndianYearInfo.monthStartDayOfYear(month, isLeapYear) + 1;
+        return new IndianNationalDate(prolepticYear, month, dayOfMonth, localDate);
     }
 
     /**
@@ -212,19 +229,33 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
      */
     @Override
     public int lengthOfMonth() {
-        // Vaishaka to Bhadra
-        if(month >= 2 && month <= 6) {
-            return 31;
-        }
-        // Ashwin to Phalguna
-        if(month >= 7 && month <= 12) {
-            return 30;
+        return IndianYearInfo.DEFAULT.lengthOfMonth(year, month);
+    }
+
+    @Override
+    public long toEpochDay() {
+        return localDate.toEpochDay();
+    }
+
+    @Override
+    public int compareTo(ChronoLocalDate other) {
+        if (!(other instanceof IndianNationalDate)) {
+            return ChronoLocalDate.super.compareTo(other);
         }
-        // Chaitra
-        if(month == 1) {
-            return isLeapYear() ? 31 : 30;
+        IndianNationalDate otherDate = (IndianNationalDate) other;
+        int cmp = Integer.compare(year, otherDate.year);
+        if (cmp == 0) {
+            cmp = Integer.compare(month, otherDate.month);
+            if (cmp == 0) {
+                cmp = Integer.compare(dayOfMonth, otherDate.dayOfMonth);
+            }
         }
-        throw new DateTimeException("IndianNationalDate instance created with an invalid month: " + month);
+        return cmp;
+    }
+
+    @Override
+    public IndianDateTime atTime(LocalTime localTime) {
+        return IndianDateTime.of(this, localTime);
     }
 
     @Override
@@ -232,8 +263,30 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
         if(!(endExclusive instanceof IndianNationalDate)) {
             throw new UnsupportedOperationException("This operation is supported for dates from IndianChronology only");
         }
-        IndianNationalDate indianEndDate = (IndianNationalDate) endExclusive;
-        return localDate.until(indianEndDate.localDate, unit);
+        IndianNationalDate end = (IndianNationalDate) endExclusive;
+        if (!(unit instanceof ChronoUnit)) {
+            return unit.between(this, end);
+        }
+        switch ((ChronoUnit) unit) {
+            case DAYS:
+                return end.toEpochDay() - toEpochDay();
+            case WEEKS:
+                return (end.toEpochDay() - toEpochDay()) / 7;
+            case MONTHS:
+                return monthsUntil(end);
+            case YEARS:
+                return monthsUntil(end) / 12;
+            case DECADES:
+                return monthsUntil(end) / 120;
+            case CENTURIES:
+                return monthsUntil(end) / 1200;
+            case MILLENNIA:
+                return monthsUntil(end) / 12000;
+            case ERAS:
+                return end.getLong(ERA) - getLong(ERA);
+            default:
+                throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
     }
 
     @Override
@@ -241,13 +294,95 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
         if(!(endDateExclusive instanceof IndianNationalDate)) {
             throw new UnsupportedOperationException("This operation is supported for dates from IndianChronology only");
         }
-        IndianNationalDate indianEndDate = (IndianNationalDate) endDateExclusive;
-        return localDate.until(indianEndDate.localDate);
+        IndianNationalDate end = (IndianNationalDate) endDateExclusive;
+        // same as LocalDate.until(ChronoLocalDate), with Saka months
+        long totalMonths = end.getProlepticMonth() - getProlepticMonth();
+        int days = end.dayOfMonth - dayOfMonth;
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            days = (int) (end.toEpochDay() - plusMonths(totalMonths).toEpochDay());
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= end.lengthOfMonth();
+        }
+        return getChronology().period(Math.toIntExact(totalMonths / 12), (int) (totalMonths % 12), days);
+    }
+
+    @Override
+    public IndianNationalDate with(TemporalField field, long newValue) {
+        if (!(field instanceof ChronoField)) {
+            return (IndianNationalDate) ChronoLocalDate.super.with(field, newValue);
+        }
+        if(!isSupported(field)) {
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        ChronoField f = (ChronoField) field;
+        f.checkValidValue(newValue);
+        switch (f) {
+            case DAY_OF_MONTH:
+                return new IndianNationalDate(year, month, (int) newValue);
+            case MONTH_OF_YEAR:
+                return resolvePreviousValid(year, (int) newValue, dayOfMonth);
+            case DAY_OF_YEAR:
+                return of(year, (int) newValue);
+            case DAY_OF_WEEK:
+                return plusDays(newValue - getLong(DAY_OF_WEEK));
+            case ALIGNED_WEEK_OF_MONTH:
+            case ALIGNED_WEEK_OF_YEAR:
+                return plusWeeks(newValue - getLong(f));
+            case EPOCH_DAY:
+                return ofEpochDay(newValue);
+            case PROLEPTIC_MONTH:
+                return plusMonths(newValue - getProlepticMonth());
+            case YEAR:
+                return resolvePreviousValid((int) newValue, month, dayOfMonth);
+            case YEAR_OF_ERA:
+                return resolvePreviousValid(year >= 1 ? (int) newValue : 1 - (int) newValue, month, dayOfMonth);
+            case ERA:
+                return newValue == era.getValue() ? this : resolvePreviousValid(1 - year, month, dayOfMonth);
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+    }
+
+    @Override
+    public IndianNationalDate plus(long amountToAdd, TemporalUnit unit) {
+        if (!(unit instanceof ChronoUnit)) {
+            return (IndianNationalDate) ChronoLocalDate.super.plus(amountToAdd, unit);
+        }
+        switch ((ChronoUnit) unit) {
+            case DAYS:
+                return plusDays(amountToAdd);
+            case WEEKS:
+                return plusWeeks(amountToAdd);
+            case MONTHS:
+                return plusMonths(amountToAdd);
+            case YEARS:
+                return plusYears(amountToAdd);
+            case DECADES:
+                return plusYears(Math.multiplyExact(amountToAdd, 10));
+            case CENTURIES:
+                return plusYears(Math.multiplyExact(amountToAdd, 100));
+            case MILLENNIA:
+                return plusYears(Math.multiplyExact(amountToAdd, 1000));
+            case ERAS:
+                return with(ERA, Math.addExact(getLong(ERA), amountToAdd));
+            default:
+                throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+    }
+
+    @Override
+    public IndianNationalDate minus(long amountToSubtract, TemporalUnit unit) {
+        return amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                : plus(-amountToSubtract, unit);
     }
 
     @Override
     public long getLong(TemporalField field) {
-        if(!(field instanceof ChronoField) || !isSupported(field)) {
+        if (!(field instanceof ChronoField)) {
+            return field.getFrom(this);
+        }
+        if(!isSupported(field)) {
             throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
         }
         ChronoField f = (ChronoField) field;
@@ -257,7 +392,18 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
             case MONTH_OF_YEAR:
                 return month;
             case DAY_OF_YEAR:
-                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+                return getDayOfYear();
+            case DAY_OF_WEEK:
+                // 1970-01-01 (epoch day 0) is a Thursday
+                return Math.floorMod(localDate.toEpochDay() + 3, 7) + 1;
+            case ALIGNED_WEEK_OF_MONTH:
+                return (dayOfMonth - 1) / 7 + 1;
+            case ALIGNED_WEEK_OF_YEAR:
+                return (getDayOfYear() - 1) / 7 + 1;
+            case EPOCH_DAY:
+                return localDate.toEpochDay();
+            case PROLEPTIC_MONTH:
+                return getProlepticMonth();
             case YEAR:
                 return year;
             case YEAR_OF_ERA:
@@ -284,6 +430,9 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
                 return ValueRange.of(1, 12);
             case DAY_OF_YEAR:
                 return ValueRange.of(1, lengthOfYear());
+            case ALIGNED_WEEK_OF_MONTH:
+                // every month has 30 or 31 days
+                return ValueRange.of(1, 5);
             case YEAR_OF_ERA:
                 return (year <= 0 ? ValueRange.of(1, Year.MAX_VALUE + 1) : ValueRange.of(1, Year.MAX_VALUE));
             default:
@@ -293,13 +442,30 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
 
     @Override
     public boolean isSupported(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return isSupportedField(field);
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    /**
+     * Checks if the field is supported, which doesn't depend on the date.
+     *
+     * @param field  the field to check
+     * @return       <code>true</code> if the field is supported
+     */
+    /* pkg pvt */ static boolean isSupportedField(TemporalField field) {
         return field  == DAY_OF_MONTH ||
                 field == MONTH_OF_YEAR ||
                 field == YEAR ||
                 field == YEAR_OF_ERA ||
                 field == ERA ||
                 field == EPOCH_DAY ||
-                field == DAY_OF_YEAR;
+                field == DAY_OF_YEAR ||
+                field == DAY_OF_WEEK ||
+                field == ALIGNED_WEEK_OF_MONTH ||
+                field == ALIGNED_WEEK_OF_YEAR ||
+                field == PROLEPTIC_MONTH;
     }
 
     @Override
@@ -307,12 +473,41 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
         return unit  == MONTHS ||
                 unit == ERAS ||
                 unit == YEARS ||
+                unit == WEEKS ||
                 unit == DAYS;
     }
 
     @Override
     public String toString() {
-        return String.format("%04d-%02d-%02d", year, month, dayOfMonth);
+        String text = IndianDateStringTable.string(toEpochDay());
+        if (text != null) {
+            return text;
+        }
+        // same as String.format("%04d-%02d-%02d"), without initializing the Formatter on the first call
+        StringBuilder builder = new StringBuilder(10);
+        if (year < 0) {
+            builder.append('-');
+            appendPadded(builder, -(long) year, 3);
+        } else {
+            appendPadded(builder, year, 4);
+        }
+        builder.append('-');
+        appendPadded(builder, month, 2);
+        builder.append('-');
+        appendPadded(builder, dayOfMonth, 2);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the non-negative value, padded with zeros to the given width.
+     */
+    private static void appendPadded(StringBuilder builder, long value, int width) {
+        for (long limit = 10, digits = 1; digits < width; limit *= 10, digits++) {
+            if (value < limit) {
+                builder.append('0');
+            }
+        }
+        builder.append(value);
     }
 
     @Override
@@ -332,72 +527,72 @@ public final class IndianNationalDate implements ChronoLocalDate, Serializable {
     }
 
     /**
-     * Determines if a given Indian month and day falls in the same Iso year or in the next one.
-     *
-     * <p>
-     *     Indian year doesn't align with the Iso year perfectly. Indian year starts on March 21/22 because of which it
-     *     is possible that the Indian year number stays the same but the corresponding Iso year number changes. This
-     *     method can be used to determine if the given Indian date falls in the same Iso year or in the next.
-     *
-     * @param indianMonth       month of an Indian date
-     * @param indianDayOfMonth  day of month of an Indian date
-     * @return                  <code>true</code> if the given Indian date falls in the next Iso year,
-     *                          <code>false</code> otherwise.
+     * Gets the day of year, from 1 to 365/366.
      */
-    private static boolean isNextIsoYear(int indianMonth, int indianDayOfMonth) {
-        if(indianMonth < 10) return false;  // for the first 9 months (Chaitra to Agrahayana)
-        if(indianMonth > 10) return true;   // for the last 2 months (Magha and Phalguna)
-        return indianDayOfMonth > 10;       // if the month is Pausa and day is more than 10
+    private int getDayOfYear() {
+        return (int) (localDate.toEpochDay() - IndianYearInfo.DEFAULT.yearStartEpochDay(year)) + 1;
     }
 
     /**
-     * An internal representation of a month in Saka chronology.
-     *
-     * <p>
-     * Use this class to translate Iso date into corresponding Saka date.
-     *
-     * @implSpec
-     * This class is immutable and thread-safe.
+     * Gets the number of months from 0000-01 (Saka).
+     */
+    private long getProlepticMonth() {
+        return year * 12L + month - 1;
+    }
+
+    /**
+     * Gets the number of complete Saka months until the given date, as {@link LocalDate#until(Temporal, TemporalUnit)}
+     * does with Iso months: a month is complete once the day of month of the end is reached.
      */
-    private static class IndianMonth {
-        private final ValueRange isoDayOfYearRange;
-        private final int indianMonth;
-        private final int yearDelta;
-
-        /**
-         * A private constructor to initialize an instance with the given parameters.
-         *
-         * @param indianMonth      Indian month for this instance
-         * @param minIsoDayOfYear  minimum iso day of year corresponding to this Indian month
-         * @param maxIsoDayOfYear  maximum iso day of year corresponding to this Indian month
-         * @param yearDelta        the difference between the Iso year and the Indian year for this month
-         */
-        private IndianMonth(int indianMonth, int minIsoDayOfYear, int maxIsoDayOfYear, int yearDelta) {
-            this.indianMonth = indianMonth;
-            this.isoDayOfYearRange = ValueRange.of(minIsoDayOfYear, maxIsoDayOfYear);
-            this.yearDelta = yearDelta;
+    private long monthsUntil(IndianNationalDate end) {
+        long packed = getProlepticMonth() * 32L + dayOfMonth;
+        long endPacked = end.getProlepticMonth() * 32L + end.dayOfMonth;
+        return (endPacked - packed) / 32;
+    }
+
+    private IndianNationalDate plusDays(long days) {
+        return days == 0 ? this : ofEpochDay(Math.addExact(localDate.toEpochDay(), days));
+    }
+
+    private IndianNationalDate plusWeeks(long weeks) {
+        return plusDays(Math.multiplyExact(weeks, 7));
+    }
+
+    private IndianNationalDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
         }
+        long prolepticMonth = Math.addExact(getProlepticMonth(), months);
+        int newYear = YEAR.checkValidIntValue(Math.floorDiv(prolepticMonth, 12));
+        return resolvePreviousValid(newYear, Math.floorMod(prolepticMonth, 12) + 1, dayOfMonth);
+    }
 
-        private boolean isThisMonth(int isoDayOfYear) {
-            return isoDayOfYearRange.isValidIntValue(isoDayOfYear);
+    private IndianNationalDate plusYears(long years) {
+        if (years == 0) {
+            return this;
         }
+        return resolvePreviousValid(YEAR.checkValidIntValue(Math.addExact(year, years)), month, dayOfMonth);
+    }
 
-        /**
-         * Gets a day of month in the Indian calendar for the given Iso day of year.
-         *
-         * @param isoDayOfYear  Iso day of year
-         * @return              a day of month in this Indian month
-         */
-        private int getIndianDayOfMonth(int isoDayOfYear) {
-            if(!isThisMonth(isoDayOfYear)) {
-                throw new DateTimeException("");
-            }
-            int result = isoDayOfYear - (int)isoDayOfYearRange.getMinimum() + 1;
-            if((int)isoDayOfYearRange.getMinimum() == 1) {
-                // we add 10 days to accommodate the 10th month (Pausha) that starts on Dec 22.
-                result += 10;
-            }
-            return result;
+    /**
+     * Creates the exception for an invalid date, describing the first invalid field.
+     */
+    private static DateTimeException invalidDate(int prolepticYear, int month, int dayOfMonth) {
+        switch (IndianDateValidator.errorCode(prolepticYear, month, dayOfMonth)) {
+            case IndianDateValidator.INVALID_MONTH:
+                return new DateTimeException("Invalid value for MonthOfYear (valid values 1 - 12): " + month);
+            case IndianDateValidator.INVALID_DAY_OF_MONTH:
+                return new DateTimeException("Invalid date: " + prolepticYear + "-" + month + "-" + dayOfMonth);
+            default:
+                return new DateTimeException("Date out of range: " + prolepticYear + "-" + month + "-" + dayOfMonth);
         }
     }
+
+    /**
+     * Obtains a date with the given fields, moving the day of month back to the last valid day of the month.
+     */
+    private static IndianNationalDate resolvePreviousValid(int prolepticYear, int month, int dayOfMonth) {
+        int lengthOfMonth = IndianYearInfo.DEFAULT.lengthOfMonth(prolepticYear, month);
+        return new IndianNationalDate(prolepticYear, month, Math.min(dayOfMonth, lengthOfMonth));
+    }
 }
@@ -0,0 +1,129 @@
+package com.gebogebo.kronology.indian;
+
+import static java.time.temporal.ChronoField.*;
+
+import java.time.DateTimeException;
+
+/**
+ * Static methods for Saka dates packed into an {@code int}.
+ *
+ * <p>
+ * A packed date holds the proleptic year in the upper 23 bits, the month in the next 4 bits and the day of month in
+ * the lowest 5 bits, i.e. {@code year << 9 | month << 5 | dayOfMonth}. Packed dates compare in the same order as the
+ * dates they represent, so arrays of them can be sorted and searched as plain {@code int}s, and they can be used to
+ * store and move large numbers of dates without creating {@link IndianNationalDate} instances.
+ *
+ * @implSpec
+ * This class is stateless and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianPackedDate {
+
+    /**
+     * The minimum and the maximum proleptic year that can be packed.
+     */
+    public static final int MIN_YEAR = -(1 << 22);
+    public static final int MAX_YEAR = (1 << 22) - 1;
+
+    private IndianPackedDate() {
+    }
+
+    /**
+     * Packs the given date fields. The fields are expected to be valid and aren't checked.
+     *
+     * @param prolepticYear  Indian proleptic-year, from {@link #MIN_YEAR} to {@link #MAX_YEAR}
+     * @param month          Indian month-of-year, from 1 to 12
+     * @param dayOfMonth     Indian day-of-month, from 1 to 31
+     * @return               the packed date
+     */
+    public static int pack(int prolepticYear, int month, int dayOfMonth) {
+        return prolepticYear << 9 | month << 5 | dayOfMonth;
+    }
+
+    /**
+     * Gets the proleptic year of the packed date.
+     *
+     * @param packed  the packed date
+     * @return        Indian proleptic-year
+     */
+    public static int year(int packed) {
+        return packed >> 9;
+    }
+
+    /**
+     * Gets the month of the packed date.
+     *
+     * @param packed  the packed date
+     * @return        Indian month-of-year
+     */
+    public static int month(int packed) {
+        return (packed >>> 5) & 0xF;
+    }
+
+    /**
+     * Gets the day of month of the packed date.
+     *
+     * @param packed  the packed date
+     * @return        Indian day-of-month
+     */
+    public static int dayOfMonth(int packed) {
+        return packed & 0x1F;
+    }
+
+    /**
+     * Packs the given date.
+     *
+     * @param date                the date to pack
+     * @return                    the packed date
+     * @throws DateTimeException  if the year of the date can't be packed
+     */
+    public static int of(IndianNationalDate date) {
+        return pack(checkYear(date.get(YEAR)), date.get(MONTH_OF_YEAR), date.get(DAY_OF_MONTH));
+    }
+
+    /**
+     * Packs the date of the given epoch day, where day 0 is 1970-01-01 (ISO).
+     *
+     * @param epochDay            the epoch day
+     * @return                    the packed date
+     * @throws DateTimeException  if the year of the date can't be packed
+     */
+    public static int ofEpochDay(long epochDay) {
+        IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+        int year = checkYear(yearInfo.prolepticYear(EPOCH_DAY.checkValidValue(epochDay)));
+        boolean isLeapYear = yearInfo.isLeapYear(year);
+        int dayOfYear = (int) (epochDay - yearInfo.yearStartEpochDay(year));
+        int month = IndianYearInfo.monthOfDayOfYear(dayOfYear, isLeapYear);
+        return pack(year, month, dayOfYear - IndianYearInfo.monthStartDayOfYear(month, isLeapYear) + 1);
+    }
+
+    /**
+     * Gets the epoch day of the packed date. The packed date is expected to be valid and isn't checked.
+     *
+     * @param packed  the packed date
+     * @return        epoch day of the date, where day 0 is 1970-01-01 (ISO)
+     */
+    public static long toEpochDay(int packed) {
+        return IndianYearInfo.DEFAULT.toEpochDay(year(packed), month(packed), dayOfMonth(packed));
+    }
+
+    /**
+     * Gets the date represented by the packed date. The packed date is expected to be valid and isn't checked.
+     *
+     * @param packed  the packed date
+     * @return        the {@code IndianNationalDate} instance
+     */
+    public static IndianNationalDate toDate(int packed) {
+        return IndianNationalDate.ofEpochDay(toEpochDay(packed));
+    }
+
+    private static int checkYear(int prolepticYear) {
+        if (prolepticYear < MIN_YEAR || prolepticYear > MAX_YEAR) {
+            throw new DateTimeException(String.format("Year can't be packed (valid values %d - %d): %d",
+                    MIN_YEAR, MAX_YEAR, prolepticYear));
+        }
+        return prolepticYear;
+    }
+}
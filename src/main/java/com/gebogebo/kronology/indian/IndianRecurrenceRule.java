@@ -0,0 +1,489 @@
+package com.gebogebo.kronology.indian;
+
+import static com.gebogebo.kronology.indian.IndianYearInfo.*;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A recurrence rule, similar to the iCalendar {@code RRULE}, with month and year semantics of the Saka calendar.
+ *
+ * <p>
+ * A rule describes occurrences such as "every 1 Chaitra", "the last day of every month" or "the second Monday of
+ * Shravana". Occurrences are produced lazily, in ascending order, through an iterator or a stream. Every occurrence
+ * is computed arithmetically from the epoch day of the period (day, week, month or year) it falls in, so producing
+ * the next occurrence never scans individual days.
+ * <p>
+ * Periods that can't hold an occurrence, for example the 31st day in a 30 day month, are skipped just like in
+ * {@code RRULE}. An interval can be applied with {@link #withInterval(int, IndianNationalDate)}, in which case the
+ * periods are counted from the period of the given anchor date.
+ * <p>
+ * Epoch days used by this class are the same as {@link IndianNationalDate#toEpochDay()}, where day 0 is 1970-01-01
+ * (ISO).
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ * All the methods accept and return non-null values.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianRecurrenceRule {
+
+    /**
+     * Frequencies supported by a recurrence rule. Each frequency defines the period an occurrence falls in.
+     */
+    private enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY,
+        YEARLY
+    }
+
+    /**
+     * Number of months in a 400 year cycle, after which both the leap years and the days of week repeat.
+     */
+    private static final int MONTHS_PER_CYCLE = 4800;
+    private static final int YEARS_PER_CYCLE = 400;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final long anchorPeriod;
+    private final int month;
+    private final int dayOfMonth;
+    private final int ordinal;
+    private final DayOfWeek dayOfWeek;
+
+    /**
+     * Creates an instance with the given parameters. The parameters are expected to be validated by the caller.
+     *
+     * @param frequency     frequency of the rule
+     * @param interval      number of periods between two occurrences
+     * @param anchorPeriod  period from which the interval is counted
+     * @param month         Indian month-of-year for a yearly rule, 0 otherwise
+     * @param dayOfMonth    day of month, negative values count from the end of month, 0 if the rule uses day of week
+     * @param ordinal       ordinal of the day of week in the month, negative values count from the end of month
+     * @param dayOfWeek     day of week for weekly rules and the rules using the ordinal, null otherwise
+     */
+    private IndianRecurrenceRule(Frequency frequency, int interval, long anchorPeriod, int month, int dayOfMonth,
+                                 int ordinal, DayOfWeek dayOfWeek) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.anchorPeriod = anchorPeriod;
+        this.month = month;
+        this.dayOfMonth = dayOfMonth;
+        this.ordinal = ordinal;
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    /**
+     * Obtains a rule that occurs every day.
+     *
+     * @return  a daily rule
+     */
+    public static IndianRecurrenceRule daily() {
+        return new IndianRecurrenceRule(Frequency.DAILY, 1, 0, 0, 0, 0, null);
+    }
+
+    /**
+     * Obtains a rule that occurs every week on the given day of week.
+     *
+     * @param dayOfWeek  day of week of the occurrences
+     * @return           a weekly rule
+     */
+    public static IndianRecurrenceRule weekly(DayOfWeek dayOfWeek) {
+        Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+        return new IndianRecurrenceRule(Frequency.WEEKLY, 1, 0, 0, 0, 0, dayOfWeek);
+    }
+
+    /**
+     * Obtains a rule that occurs every month on the given day of month.
+     *
+     * <p>
+     *     Negative values count from the end of the month, -1 being the last day of the month. Months that don't have
+     *     the given day (for example the 31st day in Kartika) are skipped.
+     *
+     * @param dayOfMonth          day of month, from 1 to 31 or from -31 to -1
+     * @return                    a monthly rule
+     * @throws DateTimeException  if the day of month is invalid
+     */
+    public static IndianRecurrenceRule monthly(int dayOfMonth) {
+        checkDayOfMonth(dayOfMonth, 31);
+        return new IndianRecurrenceRule(Frequency.MONTHLY, 1, 0, 0, dayOfMonth, 0, null);
+    }
+
+    /**
+     * Obtains a rule that occurs every month on the given occurrence of the day of week, for example the second
+     * Monday of the month.
+     *
+     * <p>
+     *     Negative ordinals count from the end of the month, -1 being the last given day of week in the month. Months
+     *     that don't have the fifth occurrence of the day of week are skipped.
+     *
+     * @param ordinal             occurrence of the day of week in the month, from 1 to 5 or from -5 to -1
+     * @param dayOfWeek           day of week of the occurrences
+     * @return                    a monthly rule
+     * @throws DateTimeException  if the ordinal is invalid
+     */
+    public static IndianRecurrenceRule monthly(int ordinal, DayOfWeek dayOfWeek) {
+        checkOrdinal(ordinal);
+        Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+        return new IndianRecurrenceRule(Frequency.MONTHLY, 1, 0, 0, 0, ordinal, dayOfWeek);
+    }
+
+    /**
+     * Obtains a rule that occurs every year on the given month and day of month, for example 1 Chaitra.
+     *
+     * <p>
+     *     Negative values for the day of month count from the end of the month. 31 Chaitra only occurs in leap years.
+     *
+     * @param month               Indian month-of-year, from 1 to 12
+     * @param dayOfMonth          day of month, from 1 to the maximum length of the month or the negative equivalent
+     * @return                    a yearly rule
+     * @throws DateTimeException  if the month or the day of month is invalid
+     */
+    public static IndianRecurrenceRule yearly(int month, int dayOfMonth) {
+        MONTH_OF_YEAR.checkValidIntValue(month);
+        checkDayOfMonth(dayOfMonth, lengthOfMonth(month, true));
+        return new IndianRecurrenceRule(Frequency.YEARLY, 1, 0, month, dayOfMonth, 0, null);
+    }
+
+    /**
+     * Obtains a rule that occurs every year on the given occurrence of the day of week in the given month, for example
+     * the second Monday of Shravana.
+     *
+     * @param month               Indian month-of-year, from 1 to 12
+     * @param ordinal             occurrence of the day of week in the month, from 1 to 5 or from -5 to -1
+     * @param dayOfWeek           day of week of the occurrences
+     * @return                    a yearly rule
+     * @throws DateTimeException  if the month or the ordinal is invalid
+     */
+    public static IndianRecurrenceRule yearly(int month, int ordinal, DayOfWeek dayOfWeek) {
+        MONTH_OF_YEAR.checkValidIntValue(month);
+        checkOrdinal(ordinal);
+        Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+        return new IndianRecurrenceRule(Frequency.YEARLY, 1, 0, month, 0, ordinal, dayOfWeek);
+    }
+
+    /**
+     * Returns a copy of this rule that occurs in every {@code interval}-th period, counted from the period of the
+     * given anchor date.
+     *
+     * @param interval            number of periods between two occurrences, 1 or more
+     * @param anchor              the date whose period is the first period of the rule
+     * @return                    a rule with the given interval
+     * @throws DateTimeException  if the interval is invalid or the resulting rule can never occur
+     */
+    public IndianRecurrenceRule withInterval(int interval, IndianNationalDate anchor) {
+        if (interval < 1) {
+            throw new DateTimeException("Invalid interval for IndianRecurrenceRule (valid values 1 or more): "
+                                            + interval);
+        }
+        IndianRecurrenceRule rule = new IndianRecurrenceRule(frequency, interval, periodOf(anchor.toEpochDay()),
+                                                             month, dayOfMonth, ordinal, dayOfWeek);
+        rule.checkOccurs();
+        return rule;
+    }
+
+    /**
+     * Gets the first occurrence on or after the given epoch day.
+     *
+     * @param epochDay  the epoch day to start from
+     * @return          epoch day of the first occurrence on or after the given epoch day
+     */
+    public long nextEpochDay(long epochDay) {
+        long period = alignedPeriod(periodOf(epochDay));
+        // terminates within a 400 year cycle as the rule is known to occur
+        while (true) {
+            long occurrence = occurrenceIn(period);
+            if (occurrence != Long.MIN_VALUE && occurrence >= epochDay) {
+                return occurrence;
+            }
+            period += interval;
+        }
+    }
+
+    /**
+     * Gets the first occurrence on or after the given date.
+     *
+     * @param date  the date to start from
+     * @return      the first occurrence on or after the given date
+     */
+    public IndianNationalDate next(IndianNationalDate date) {
+        return IndianNationalDate.ofEpochDay(nextEpochDay(date.toEpochDay()));
+    }
+
+    /**
+     * Gets a lazy iterator over the epoch days of the occurrences on or after the given epoch day.
+     *
+     * @param fromEpochDay  the epoch day to start from, inclusive
+     * @return              an unbounded iterator over the occurrences
+     */
+    public PrimitiveIterator.OfLong epochDays(long fromEpochDay) {
+        return new PrimitiveIterator.OfLong() {
+            private long next = nextEpochDay(fromEpochDay);
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public long nextLong() {
+                long current = next;
+                next = nextEpochDay(current + 1);
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Gets a lazy, ordered stream of the epoch days of the occurrences on or after the given epoch day.
+     *
+     * <p>
+     *     The stream is unbounded, use {@link LongStream#takeWhile} or {@link LongStream#limit} to bound it.
+     *
+     * @param fromEpochDay  the epoch day to start from, inclusive
+     * @return              an unbounded stream of the occurrences
+     */
+    public LongStream epochDayStream(long fromEpochDay) {
+        Spliterator.OfLong spliterator = Spliterators.spliteratorUnknownSize(epochDays(fromEpochDay),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL |
+                Spliterator.IMMUTABLE);
+        return StreamSupport.longStream(spliterator, false);
+    }
+
+    /**
+     * Gets a lazy iterator over the occurrences on or after the given date.
+     *
+     * @param from  the date to start from, inclusive
+     * @return      an unbounded iterator over the occurrences
+     */
+    public Iterator<IndianNationalDate> iterator(IndianNationalDate from) {
+        PrimitiveIterator.OfLong epochDays = epochDays(from.toEpochDay());
+        return new Iterator<IndianNationalDate>() {
+            @Override
+            public boolean hasNext() {
+                return epochDays.hasNext();
+            }
+
+            @Override
+            public IndianNationalDate next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return IndianNationalDate.ofEpochDay(epochDays.nextLong());
+            }
+        };
+    }
+
+    /**
+     * Gets a lazy, ordered stream of the occurrences on or after the given date.
+     *
+     * <p>
+     *     The stream is unbounded, use {@link Stream#takeWhile} or {@link Stream#limit} to bound it.
+     *
+     * @param from  the date to start from, inclusive
+     * @return      an unbounded stream of the occurrences
+     */
+    public Stream<IndianNationalDate> stream(IndianNationalDate from) {
+        return epochDayStream(from.toEpochDay()).mapToObj(IndianNationalDate::ofEpochDay);
+    }
+
+    /**
+     * Writes the epoch days of the occurrences in the given window into the given array.
+     *
+     * <p>
+     *     Writing stops when either the window or the array is exhausted. If the array fills up, the remaining
+     *     occurrences can be obtained by calling this method again starting one day after the last written occurrence.
+     *
+     * @param fromEpochDay         the first epoch day of the window, inclusive
+     * @param toEpochDayExclusive  the last epoch day of the window, exclusive
+     * @param dest                 the array to write the occurrences into
+     * @param offset               the index in the array to start writing at
+     * @return                     the number of occurrences written
+     */
+    public int occurrences(long fromEpochDay, long toEpochDayExclusive, long[] dest, int offset) {
+        Objects.checkFromIndexSize(offset, 0, dest.length);
+        int count = 0;
+        long next = fromEpochDay;
+        while (offset + count < dest.length && next < toEpochDayExclusive) {
+            long occurrence = nextEpochDay(next);
+            if (occurrence >= toEpochDayExclusive) {
+                break;
+            }
+            dest[offset + count++] = occurrence;
+            next = occurrence + 1;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IndianRecurrenceRule that = (IndianRecurrenceRule) o;
+        return frequency == that.frequency &&
+                interval == that.interval &&
+                anchorPeriod == that.anchorPeriod &&
+                month == that.month &&
+                dayOfMonth == that.dayOfMonth &&
+                ordinal == that.ordinal &&
+                dayOfWeek == that.dayOfWeek;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, interval, anchorPeriod, month, dayOfMonth, ordinal, dayOfWeek);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FREQ=").append(frequency).append(";INTERVAL=").append(interval);
+        if (month != 0) {
+            sb.append(";BYMONTH=").append(month);
+        }
+        if (dayOfMonth != 0) {
+            sb.append(";BYMONTHDAY=").append(dayOfMonth);
+        }
+        if (dayOfWeek != null) {
+            sb.append(";BYDAY=");
+            if (ordinal != 0) {
+                sb.append(ordinal);
+            }
+            sb.append(dayOfWeek.name(), 0, 2);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Gets the period that contains the given epoch day.
+     *
+     * @param epochDay  epoch day
+     * @return          index of the day, week, proleptic month or proleptic year depending on the frequency
+     */
+    private long periodOf(long epochDay) {
+        switch (frequency) {
+            case DAILY:
+                return epochDay;
+            case WEEKLY:
+                // 1970-01-01 is a Thursday, weeks start on Monday
+                return Math.floorDiv(epochDay + 3, 7);
+            default:
+                int year = IndianYearInfo.DEFAULT.prolepticYear(epochDay);
+                if (frequency == Frequency.YEARLY) {
+                    return year;
+                }
+                int dayOfYear = (int) (epochDay - IndianYearInfo.DEFAULT.yearStartEpochDay(year));
+                int monthOfYear = monthOfDayOfYear(dayOfYear, IndianYearInfo.DEFAULT.isLeapYear(year));
+                return year * 12L + monthOfYear - 1;
+        }
+    }
+
+    /**
+     * Gets the first period, on or after the given period, that is selected by the interval of this rule.
+     *
+     * @param period  the period to align
+     * @return        aligned period
+     */
+    private long alignedPeriod(long period) {
+        if (interval == 1) {
+            return period;
+        }
+        return anchorPeriod + Math.floorDiv(period - anchorPeriod + interval - 1, interval) * interval;
+    }
+
+    /**
+     * Gets the occurrence in the given period.
+     *
+     * @param period  index of the day, week, proleptic month or proleptic year depending on the frequency
+     * @return        epoch day of the occurrence, or {@code Long.MIN_VALUE} if the period doesn't have an occurrence
+     */
+    private long occurrenceIn(long period) {
+        switch (frequency) {
+            case DAILY:
+                return period;
+            case WEEKLY:
+                return period * 7 - 3 + dayOfWeek.ordinal();
+            case MONTHLY:
+                return occurrenceInMonth(Math.floorDiv(period, 12), Math.floorMod(period, 12) + 1);
+            default:
+                return occurrenceInMonth(period, month);
+        }
+    }
+
+    /**
+     * Gets the occurrence in the given Indian month.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param monthOfYear    Indian month-of-year
+     * @return               epoch day of the occurrence, or {@code Long.MIN_VALUE} if the month doesn't have one
+     */
+    private long occurrenceInMonth(long prolepticYear, int monthOfYear) {
+        boolean isLeapYear = IndianYearInfo.DEFAULT.isLeapYear(prolepticYear);
+        long start = IndianYearInfo.DEFAULT.monthStartEpochDay(prolepticYear, monthOfYear);
+        int length = lengthOfMonth(monthOfYear, isLeapYear);
+        if (dayOfWeek == null) {
+            int day = dayOfMonth > 0 ? dayOfMonth : length + dayOfMonth + 1;
+            return day >= 1 && day <= length ? start + day - 1 : Long.MIN_VALUE;
+        }
+        long occurrence;
+        if (ordinal > 0) {
+            occurrence = start + Math.floorMod(dayOfWeek.ordinal() - dayOfWeekIndex(start), 7) + 7L * (ordinal - 1);
+        } else {
+            long end = start + length - 1;
+            occurrence = end - Math.floorMod(dayOfWeekIndex(end) - dayOfWeek.ordinal(), 7) + 7L * (ordinal + 1);
+        }
+        return occurrence >= start && occurrence < start + length ? occurrence : Long.MIN_VALUE;
+    }
+
+    /**
+     * Verifies that this rule occurs at least once in a 400 year cycle, after which the calendar repeats itself.
+     *
+     * @throws DateTimeException  if the rule never occurs
+     */
+    private void checkOccurs() {
+        if (frequency == Frequency.DAILY || frequency == Frequency.WEEKLY) {
+            return;
+        }
+        int periods = frequency == Frequency.YEARLY ? YEARS_PER_CYCLE : MONTHS_PER_CYCLE;
+        for (int i = 0; i < periods; i++) {
+            if (occurrenceIn(anchorPeriod + (long) i * interval) != Long.MIN_VALUE) {
+                return;
+            }
+        }
+        throw new DateTimeException("IndianRecurrenceRule never occurs: " + this);
+    }
+
+    /**
+     * Gets the zero based day of week, Monday being 0, of the given epoch day.
+     */
+    private static int dayOfWeekIndex(long epochDay) {
+        return Math.floorMod(epochDay + 3, 7);
+    }
+
+    private static void checkDayOfMonth(int dayOfMonth, int maxDayOfMonth) {
+        if (dayOfMonth == 0 || dayOfMonth > maxDayOfMonth || dayOfMonth < -maxDayOfMonth) {
+            throw new DateTimeException(String.format("Invalid day of month for IndianRecurrenceRule "
+                                        + "(valid values 1 - %d or -%d - -1): %d",
+                                        maxDayOfMonth, maxDayOfMonth, dayOfMonth));
+        }
+    }
+
+    private static void checkOrdinal(int ordinal) {
+        if (ordinal == 0 || ordinal > 5 || ordinal < -5) {
+            throw new DateTimeException("Invalid ordinal for IndianRecurrenceRule (valid values 1 - 5 or -5 - -1): "
+                                            + ordinal);
+        }
+    }
+}
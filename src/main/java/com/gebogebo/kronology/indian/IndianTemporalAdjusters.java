@@ -0,0 +1,211 @@
+package com.gebogebo.kronology.indian;
+
+import static java.time.temporal.ChronoField.*;
+
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjuster;
+
+/**
+ * Common and useful {@link TemporalAdjuster}s for the Saka calendar, such as the last day of the Saka month or the
+ * next 1 Chaitra.
+ *
+ * <p>
+ * The adjusters are singletons without any state. They compute the adjusted date arithmetically from the Saka fields
+ * and can be used with any temporal that supports the {@link java.time.temporal.ChronoField#EPOCH_DAY} field, such as
+ * {@link java.time.LocalDate}, in which case the temporal is adjusted to the epoch day of the result. An
+ * {@link IndianNationalDate} is adjusted directly from its fields.
+ * <pre>{@code
+ *     IndianNationalDate monthEnd = date.with(IndianTemporalAdjusters.lastDayOfMonth());
+ *     LocalDate newYear = LocalDate.now().with(IndianTemporalAdjusters.firstDayOfNextYear());
+ * }</pre>
+ * <p>
+ * The Saka quarters are the groups of three months starting with Chaitra, Ashadha, Ashwin and Pausha.
+ *
+ * @implSpec
+ * This class is stateless and thread-safe, and all the adjusters are immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianTemporalAdjusters {
+
+    private IndianTemporalAdjusters() {
+    }
+
+    /**
+     * Gets the adjuster returning the first day of the Saka month.
+     *
+     * @return  the first day of month adjuster
+     */
+    public static TemporalAdjuster firstDayOfMonth() {
+        return Adjuster.FIRST_DAY_OF_MONTH;
+    }
+
+    /**
+     * Gets the adjuster returning the last day of the Saka month.
+     *
+     * @return  the last day of month adjuster
+     */
+    public static TemporalAdjuster lastDayOfMonth() {
+        return Adjuster.LAST_DAY_OF_MONTH;
+    }
+
+    /**
+     * Gets the adjuster returning the first day of the next Saka month.
+     *
+     * @return  the first day of next month adjuster
+     */
+    public static TemporalAdjuster firstDayOfNextMonth() {
+        return Adjuster.FIRST_DAY_OF_NEXT_MONTH;
+    }
+
+    /**
+     * Gets the adjuster returning the same day of month in the next Saka month, or its last day if the next month is
+     * shorter.
+     *
+     * @return  the same day of next month adjuster
+     */
+    public static TemporalAdjuster sameDayOfNextMonth() {
+        return Adjuster.SAME_DAY_OF_NEXT_MONTH;
+    }
+
+    /**
+     * Gets the adjuster returning the first day of the Saka quarter.
+     *
+     * @return  the first day of quarter adjuster
+     */
+    public static TemporalAdjuster firstDayOfQuarter() {
+        return Adjuster.FIRST_DAY_OF_QUARTER;
+    }
+
+    /**
+     * Gets the adjuster returning the last day of the Saka quarter.
+     *
+     * @return  the last day of quarter adjuster
+     */
+    public static TemporalAdjuster lastDayOfQuarter() {
+        return Adjuster.LAST_DAY_OF_QUARTER;
+    }
+
+    /**
+     * Gets the adjuster returning the first day (1 Chaitra) of the Saka year.
+     *
+     * @return  the first day of year adjuster
+     */
+    public static TemporalAdjuster firstDayOfYear() {
+        return Adjuster.FIRST_DAY_OF_YEAR;
+    }
+
+    /**
+     * Gets the adjuster returning the last day (30 Phalguna) of the Saka year.
+     *
+     * @return  the last day of year adjuster
+     */
+    public static TemporalAdjuster lastDayOfYear() {
+        return Adjuster.LAST_DAY_OF_YEAR;
+    }
+
+    /**
+     * Gets the adjuster returning the first day (1 Chaitra) of the next Saka year.
+     *
+     * @return  the first day of next year adjuster
+     */
+    public static TemporalAdjuster firstDayOfNextYear() {
+        return Adjuster.FIRST_DAY_OF_NEXT_YEAR;
+    }
+
+    /**
+     * The adjusters, each computing the epoch day of the result from the Saka fields of the temporal.
+     */
+    private enum Adjuster implements TemporalAdjuster {
+        FIRST_DAY_OF_MONTH {
+            @Override
+            long adjust(int year, int month, int dayOfMonth) {
+                return IndianYearInfo.DEFAULT.monthStartEpochDay(year, month);
+            }
+        },
+        LAST_DAY_OF_MONTH {
+            @Override
+            long adjust(int year, int month, int dayOfMonth) {
+                IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+                return yearInfo.monthStartEpochDay(year, month) + yearInfo.lengthOfMonth(year, month) - 1;
+            }
+        },
+        FIRST_DAY_OF_NEXT_MONTH {
+            @Override
+            long adjust(int year, int month, int dayOfMonth) {
+                IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+                return yearInfo.monthStartEpochDay(year, month) + yearInfo.lengthOfMonth(year, month);
+            }
+        },
+        SAME_DAY_OF_NEXT_MONTH {
+            @Override
+            long adjust(int year, int month, int dayOfMonth) {
+                long nextYear = month == 12 ? year + 1L : year;
+                int nextMonth = month == 12 ? 1 : month + 1;
+                IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+                int day = Math.min(dayOfMonth, yearInfo.lengthOfMonth(nextYear, nextMonth));
+                return yearInfo.toEpochDay(nextYear, nextMonth, day);
+            }
+        },
+        FIRST_DAY_OF_QUARTER {
+            @Override
+            long adjust(int year, int month, int dayOfMonth) {
+                return IndianYearInfo.DEFAULT.monthStartEpochDay(year, month - (month - 1) % 3);
+            }
+        },
+        LAST_DAY_OF_QUARTER {
+            @Override
+            long adjust(int year, int month, int dayOfMonth) {
+                // the last months of the quarters have 31, 31, 30 and 30 days, in all the years
+                int lastMonth = month - (month - 1) % 3 + 2;
+                return IndianYearInfo.DEFAULT.toEpochDay(year, lastMonth, lastMonth <= 6 ? 31 : 30);
+            }
+        },
+        FIRST_DAY_OF_YEAR {
+            @Override
+            long adjust(int year, int month, int dayOfMonth) {
+                return IndianYearInfo.DEFAULT.yearStartEpochDay(year);
+            }
+        },
+        LAST_DAY_OF_YEAR {
+            @Override
+            long adjust(int year, int month, int dayOfMonth) {
+                return IndianYearInfo.DEFAULT.yearStartEpochDay(year + 1L) - 1;
+            }
+        },
+        FIRST_DAY_OF_NEXT_YEAR {
+            @Override
+            long adjust(int year, int month, int dayOfMonth) {
+                return IndianYearInfo.DEFAULT.yearStartEpochDay(year + 1L);
+            }
+        };
+
+        /**
+         * Computes the epoch day of the adjusted date.
+         *
+         * @param year        Indian proleptic-year of the temporal
+         * @param month       Indian month-of-year of the temporal
+         * @param dayOfMonth  Indian day-of-month of the temporal
+         * @return            epoch day of the adjusted date
+         */
+        abstract long adjust(int year, int month, int dayOfMonth);
+
+        @Override
+        public Temporal adjustInto(Temporal temporal) {
+            if (temporal instanceof IndianNationalDate) {
+                IndianNationalDate date = (IndianNationalDate) temporal;
+                return IndianNationalDate.ofEpochDay(adjust(date.get(YEAR), date.get(MONTH_OF_YEAR),
+                        date.get(DAY_OF_MONTH)));
+            }
+            long epochDay = temporal.getLong(EPOCH_DAY);
+            IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+            int year = yearInfo.prolepticYear(epochDay);
+            boolean isLeapYear = yearInfo.isLeapYear(year);
+            int dayOfYear = (int) (epochDay - yearInfo.yearStartEpochDay(year));
+            int month = IndianYearInfo.monthOfDayOfYear(dayOfYear, isLeapYear);
+            int dayOfMonth = dayOfYear - IndianYearInfo.monthStartDayOfYear(month, isLeapYear) + 1;
+            return temporal.with(EPOCH_DAY, adjust(year, month, dayOfMonth));
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.gebogebo.kronology.indian;
+
+import static com.gebogebo.kronology.indian.IndianNationalChronology.YEARS_BEHIND_ISO_YEAR;
+
+import java.time.DateTimeException;
+
+/**
+ * A precomputed table of the Saka years in a span, used by all the conversions and field computations.
+ *
+ * <p>
+ * For every year in the span, the table holds the epoch day of the first day of each month (the last entry being the
+ * first day of the following year) and the leap year flag, in flat primitive arrays. Converting between an epoch day
+ * and a Saka date, or getting the length of a month, takes a couple of array loads for the years in the span. The
+ * years outside of the span are computed arithmetically, with the same results.
+ * <p>
+ * The {@linkplain #DEFAULT default table}, which is used by {@link IndianNationalDate} and
+ * {@link IndianNationalChronology}, covers the years from 1800 to 2200 (Saka). The span can be changed with the
+ * {@code com.gebogebo.kronology.indian.IndianYearInfo.firstYear} and
+ * {@code com.gebogebo.kronology.indian.IndianYearInfo.lastYear} system properties, which are read once.
+ * <p>
+ * Epoch days used by this class are the same as {@link IndianNationalDate#toEpochDay()}, where day 0 is 1970-01-01
+ * (ISO).
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianYearInfo {
+
+    /**
+     * Number of days in a 400 year cycle and from 0000-01-01 to 1970-01-01 in the Iso calendar.
+     */
+    /* pkg pvt */ static final long DAYS_PER_400_YEARS = 146097L;
+    /* pkg pvt */ static final long DAYS_0000_TO_1970 = (DAYS_PER_400_YEARS * 5L) - (30L * 365L + 7L);
+
+    /**
+     * Zero based day of year on which each month starts, for non-leap years followed by leap years, and the month of
+     * each zero based day of year, for non-leap years followed by leap years.
+     */
+    private static final short[] MONTH_START_DAY_OF_YEAR = new short[26];
+    private static final byte[] MONTH_OF_DAY_OF_YEAR = new byte[2 * 366];
+    static {
+        for (int leap = 0; leap <= 1; leap++) {
+            int day = 0;
+            for (int month = 1; month <= 12; month++) {
+                MONTH_START_DAY_OF_YEAR[13 * leap + month - 1] = (short) day;
+                int length = month == 1 ? 30 + leap : month <= 6 ? 31 : 30;
+                for (int end = day + length; day < end; day++) {
+                    MONTH_OF_DAY_OF_YEAR[366 * leap + day] = (byte) month;
+                }
+            }
+            MONTH_START_DAY_OF_YEAR[13 * leap + 12] = (short) day;
+        }
+    }
+
+    /**
+     * The table used by all the conversions, covering the years from 1800 to 2200 (Saka) unless configured otherwise.
+     */
+    public static final IndianYearInfo DEFAULT = of(
+            Integer.getInteger("com.gebogebo.kronology.indian.IndianYearInfo.firstYear", 1800),
+            Integer.getInteger("com.gebogebo.kronology.indian.IndianYearInfo.lastYear", 2200));
+
+    private final int firstYear;
+    private final int lastYear;
+
+    /**
+     * Epoch day of the first day of every month in the span, 12 entries per year, and of the year after the span.
+     */
+    private final long[] monthStarts;
+
+    /**
+     * Leap year flag of every year in the span.
+     */
+    private final boolean[] leapYears;
+
+    /**
+     * Creates a table for the given span.
+     *
+     * @param firstYear  the first year of the span, inclusive
+     * @param lastYear   the last year of the span, inclusive
+     */
+    private IndianYearInfo(int firstYear, int lastYear) {
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        int years = lastYear - firstYear + 1;
+        this.monthStarts = new long[12 * years + 1];
+        this.leapYears = new boolean[years];
+        long yearStart = computeYearStartEpochDay(firstYear);
+        for (int i = 0; i < years; i++) {
+            boolean isLeapYear = computeLeapYear((long) firstYear + i);
+            leapYears[i] = isLeapYear;
+            for (int month = 1; month <= 12; month++) {
+                monthStarts[12 * i + month - 1] = yearStart + monthStartDayOfYear(month, isLeapYear);
+            }
+            yearStart += isLeapYear ? 366 : 365;
+        }
+        monthStarts[12 * years] = yearStart;
+    }
+
+    /**
+     * Obtains a table for the given span of Saka years.
+     *
+     * @param firstYear           the first year of the span, inclusive
+     * @param lastYear            the last year of the span, inclusive
+     * @return                    a table for the span
+     * @throws DateTimeException  if the span is empty or longer than 100000 years
+     */
+    public static IndianYearInfo of(int firstYear, int lastYear) {
+        if (lastYear < firstYear || (long) lastYear - firstYear >= 100_000) {
+            throw new DateTimeException(String.format("Invalid span for IndianYearInfo: %d - %d", firstYear, lastYear));
+        }
+        return new IndianYearInfo(firstYear, lastYear);
+    }
+
+    /**
+     * Gets the first year of the span.
+     *
+     * @return  the first year covered by the table
+     */
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * Gets the last year of the span.
+     *
+     * @return  the last year covered by the table
+     */
+    public int getLastYear() {
+        return lastYear;
+    }
+
+    /**
+     * Checks if the given year is a leap year.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @return               <code>true</code> if the year is a leap year
+     */
+    public boolean isLeapYear(long prolepticYear) {
+        if (prolepticYear >= firstYear && prolepticYear <= lastYear) {
+            return leapYears[(int) (prolepticYear - firstYear)];
+        }
+        return computeLeapYear(prolepticYear);
+    }
+
+    /**
+     * Gets the number of days in the given year.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @return               365 or 366
+     */
+    public int lengthOfYear(long prolepticYear) {
+        return isLeapYear(prolepticYear) ? 366 : 365;
+    }
+
+    /**
+     * Gets the number of days in the given month.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param month          Indian month-of-year, from 1 to 12
+     * @return               30 or 31
+     */
+    public int lengthOfMonth(long prolepticYear, int month) {
+        if (prolepticYear >= firstYear && prolepticYear <= lastYear) {
+            int index = 12 * (int) (prolepticYear - firstYear) + month - 1;
+            return (int) (monthStarts[index + 1] - monthStarts[index]);
+        }
+        return lengthOfMonth(month, computeLeapYear(prolepticYear));
+    }
+
+    /**
+     * Gets the epoch day of the first day (1 Chaitra) of the given year.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @return               epoch day of the first day of the year
+     */
+    public long yearStartEpochDay(long prolepticYear) {
+        if (prolepticYear >= firstYear && prolepticYear <= lastYear) {
+            return monthStarts[12 * (int) (prolepticYear - firstYear)];
+        }
+        return computeYearStartEpochDay(prolepticYear);
+    }
+
+    /**
+     * Gets the epoch day of the first day of the given month.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param month          Indian month-of-year, from 1 to 12
+     * @return               epoch day of the first day of the month
+     */
+    public long monthStartEpochDay(long prolepticYear, int month) {
+        if (prolepticYear >= firstYear && prolepticYear <= lastYear) {
+            return monthStarts[12 * (int) (prolepticYear - firstYear) + month - 1];
+        }
+        return computeYearStartEpochDay(prolepticYear) + monthStartDayOfYear(month, computeLeapYear(prolepticYear));
+    }
+
+    /**
+     * Gets the epoch day of the given date. The month is expected to be valid, the day of month isn't checked.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param month          Indian month-of-year, from 1 to 12
+     * @param dayOfMonth     Indian day-of-month
+     * @return               epoch day of the date
+     */
+    public long toEpochDay(long prolepticYear, int month, int dayOfMonth) {
+        return monthStartEpochDay(prolepticYear, month) + dayOfMonth - 1;
+    }
+
+    /**
+     * Gets the Indian proleptic-year that contains the given epoch day.
+     *
+     * @param epochDay  epoch day
+     * @return          Indian proleptic-year containing the epoch day
+     */
+    public int prolepticYear(long epochDay) {
+        int years = lastYear - firstYear + 1;
+        if (epochDay >= monthStarts[0] && epochDay < monthStarts[12 * years]) {
+            // the estimate is off by at most a year because of the uneven distribution of leap days
+            int index = (int) Math.min(years - 1, (epochDay - monthStarts[0]) * 400 / DAYS_PER_400_YEARS);
+            if (epochDay < monthStarts[12 * index]) {
+                index--;
+            } else if (epochDay >= monthStarts[12 * index + 12]) {
+                index++;
+            }
+            return firstYear + index;
+        }
+        return computeProlepticYear(epochDay);
+    }
+
+    /**
+     * Gets the zero based day of year on which the given month starts.
+     *
+     * @param month       Indian month-of-year, from 1 to 12
+     * @param isLeapYear  <code>true</code> if the year is a leap year
+     * @return            zero based day of year of the first day of the month
+     */
+    /* pkg pvt */ static int monthStartDayOfYear(int month, boolean isLeapYear) {
+        return MONTH_START_DAY_OF_YEAR[(isLeapYear ? 13 : 0) + month - 1];
+    }
+
+    /**
+     * Gets the month that contains the given zero based day of year.
+     *
+     * @param dayOfYear   zero based day of year, from 0 to 364/365
+     * @param isLeapYear  <code>true</code> if the year is a leap year
+     * @return            Indian month-of-year, from 1 to 12
+     */
+    /* pkg pvt */ static int monthOfDayOfYear(int dayOfYear, boolean isLeapYear) {
+        return MONTH_OF_DAY_OF_YEAR[(isLeapYear ? 366 : 0) + dayOfYear];
+    }
+
+    /**
+     * Gets the length of the given month.
+     *
+     * @param month       Indian month-of-year, from 1 to 12
+     * @param isLeapYear  <code>true</code> if the year is a leap year
+     * @return            number of days in the month
+     */
+    /* pkg pvt */ static int lengthOfMonth(int month, boolean isLeapYear) {
+        int index = (isLeapYear ? 13 : 0) + month - 1;
+        return MONTH_START_DAY_OF_YEAR[index + 1] - MONTH_START_DAY_OF_YEAR[index];
+    }
+
+    @Override
+    public String toString() {
+        return "IndianYearInfo[" + firstYear + " - " + lastYear + "]";
+    }
+
+    /**
+     * Computes the leap year flag arithmetically. The Indian leap-year pattern exactly matches ISO.
+     */
+    private static boolean computeLeapYear(long prolepticYear) {
+        return isIsoLeapYear(prolepticYear + YEARS_BEHIND_ISO_YEAR);
+    }
+
+    /**
+     * Checks if the given Iso year is a leap year.
+     *
+     * @param isoYear  the Iso year
+     * @return         <code>true</code> if the year is a leap year
+     */
+    /* pkg pvt */ static boolean isIsoLeapYear(long isoYear) {
+        return ((isoYear & 3) == 0) && ((isoYear % 100) != 0 || (isoYear % 400) == 0);
+    }
+
+    /**
+     * Computes the epoch day of the first day of the year arithmetically.
+     *
+     * <p>
+     *     The Indian year always starts on the 81st day of the corresponding Iso year (March 22 in a non-leap year and
+     *     March 21 in a leap year), so the start is computed from the Iso year start.
+     */
+    private static long computeYearStartEpochDay(long prolepticYear) {
+        return isoYearStartEpochDay(prolepticYear + YEARS_BEHIND_ISO_YEAR) + 80;
+    }
+
+    /**
+     * Gets the epoch day of January 1 of the given Iso year, with the same arithmetic as
+     * {@code LocalDate.toEpochDay()} but for any year.
+     *
+     * @param isoYear  the Iso year
+     * @return         the epoch day of the first day of the year
+     */
+    /* pkg pvt */ static long isoYearStartEpochDay(long isoYear) {
+        long total = 365 * isoYear;
+        if (isoYear >= 0) {
+            total += (isoYear + 3) / 4 - (isoYear + 99) / 100 + (isoYear + 399) / 400;
+        } else {
+            total -= isoYear / -4 - isoYear / -100 + isoYear / -400;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Computes the year that contains the epoch day arithmetically.
+     */
+    private static int computeProlepticYear(long epochDay) {
+        // the estimate is off by at most a year because of the uneven distribution of leap days
+        long year = Math.floorDiv((epochDay - computeYearStartEpochDay(0)) * 400, DAYS_PER_400_YEARS);
+        if (computeYearStartEpochDay(year + 1) <= epochDay) {
+            year++;
+        } else if (computeYearStartEpochDay(year) > epochDay) {
+            year--;
+        }
+        return (int) year;
+    }
+}
@@ -0,0 +1,371 @@
+package com.gebogebo.kronology.indian;
+
+import static java.time.temporal.ChronoField.*;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A month of a Saka year, such as {@code 1948-07} (Ashwin 1948), the Saka counterpart of {@link YearMonth}.
+ *
+ * <p>
+ * The year and the month are stored as an {@code int} in the layout of {@link IndianPackedDate} with a day of month
+ * of 0, which is also the hash code, so instances are cheap keys of hash maps and compare in chronological order.
+ * The epoch day of the first day and the length of the month are computed once on creation, which makes
+ * {@link #lengthOfMonth()}, {@link #atDay(int)}, {@link #startEpochDay()} and {@link #endEpochDay()} simple field
+ * accesses.
+ * <p>
+ * A Saka month always overlaps two ISO months, since it starts between the 20th and the 23rd of an ISO month. The
+ * span is available as {@link #isoStart()} and {@link #isoEnd()}, and the days in common with any ISO month as
+ * {@link #overlap(YearMonth)}.
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianYearMonth implements Comparable<IndianYearMonth>, Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 4183265913478307592L;
+
+    private final int packed;
+    private final transient long startEpochDay;
+    private final transient int lengthOfMonth;
+
+    /**
+     * Creates an instance for the given, valid year and month.
+     *
+     * @param prolepticYear  Indian proleptic-year
+     * @param month          Indian month-of-year, from 1 to 12
+     */
+    private IndianYearMonth(int prolepticYear, int month) {
+        IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+        this.packed = IndianPackedDate.pack(prolepticYear, month, 0);
+        this.startEpochDay = yearInfo.monthStartEpochDay(prolepticYear, month);
+        this.lengthOfMonth = yearInfo.lengthOfMonth(prolepticYear, month);
+    }
+
+    /**
+     * Obtains an instance for the given year and month.
+     *
+     * @param prolepticYear       Indian proleptic-year, from {@link IndianPackedDate#MIN_YEAR} to
+     *                            {@link IndianPackedDate#MAX_YEAR}
+     * @param month               Indian month-of-year, from 1 to 12
+     * @return                    the year-month
+     * @throws DateTimeException  if the year or the month is invalid
+     */
+    public static IndianYearMonth of(int prolepticYear, int month) {
+        if (prolepticYear < IndianPackedDate.MIN_YEAR || prolepticYear > IndianPackedDate.MAX_YEAR) {
+            throw new DateTimeException("Invalid value for IndianYearMonth year (valid values "
+                                        + IndianPackedDate.MIN_YEAR + " - " + IndianPackedDate.MAX_YEAR + "): "
+                                        + prolepticYear);
+        }
+        MONTH_OF_YEAR.checkValidValue(month);
+        return new IndianYearMonth(prolepticYear, month);
+    }
+
+    /**
+     * Obtains the year-month of the given date.
+     *
+     * @param date                the date
+     * @return                    the year-month of the date
+     * @throws DateTimeException  if the year of the date is out of the range of a year-month
+     */
+    public static IndianYearMonth from(IndianNationalDate date) {
+        return of(date.get(YEAR), date.get(MONTH_OF_YEAR));
+    }
+
+    /**
+     * Obtains the year-month of the given epoch day, where day 0 is 1970-01-01 (ISO).
+     *
+     * @param epochDay            the epoch day
+     * @return                    the year-month of the date
+     * @throws DateTimeException  if the epoch day is out of the range of a year-month
+     */
+    public static IndianYearMonth ofEpochDay(long epochDay) {
+        return ofPacked(IndianPackedDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Obtains the year-month of the given {@linkplain IndianPackedDate packed date}, or of a value returned by
+     * {@link #getPacked()}. The year and the month are expected to be valid and aren't checked.
+     *
+     * @param packed  the packed date or year-month
+     * @return        the year-month
+     */
+    public static IndianYearMonth ofPacked(int packed) {
+        return new IndianYearMonth(IndianPackedDate.year(packed), IndianPackedDate.month(packed));
+    }
+
+    /**
+     * Gets the proleptic year.
+     *
+     * @return  Indian proleptic-year
+     */
+    public int getYear() {
+        return IndianPackedDate.year(packed);
+    }
+
+    /**
+     * Gets the month of year.
+     *
+     * @return  Indian month-of-year, from 1 to 12
+     */
+    public int getMonthValue() {
+        return IndianPackedDate.month(packed);
+    }
+
+    /**
+     * Gets the year and the month packed in the layout of {@link IndianPackedDate}, with a day of month of 0.
+     *
+     * @return  the packed year-month
+     */
+    public int getPacked() {
+        return packed;
+    }
+
+    /**
+     * Gets the number of months from 0000-01 (Saka), as the {@link java.time.temporal.ChronoField#PROLEPTIC_MONTH}
+     * of the dates in the month.
+     *
+     * @return  the proleptic month
+     */
+    public long getProlepticMonth() {
+        return getYear() * 12L + getMonthValue() - 1;
+    }
+
+    /**
+     * Checks if the year is a leap year, where Chaitra has 31 days.
+     *
+     * @return  <code>true</code> if the year is a leap year
+     */
+    public boolean isLeapYear() {
+        return IndianYearInfo.DEFAULT.isLeapYear(getYear());
+    }
+
+    /**
+     * Gets the length of the month in days.
+     *
+     * @return  the length of the month, 30 or 31
+     */
+    public int lengthOfMonth() {
+        return lengthOfMonth;
+    }
+
+    /**
+     * Gets the length of the year in days.
+     *
+     * @return  the length of the year, 365 or 366
+     */
+    public int lengthOfYear() {
+        return IndianYearInfo.DEFAULT.lengthOfYear(getYear());
+    }
+
+    /**
+     * Gets the epoch day of the first day of the month, where day 0 is 1970-01-01 (ISO).
+     *
+     * @return  the epoch day of the first day
+     */
+    public long startEpochDay() {
+        return startEpochDay;
+    }
+
+    /**
+     * Gets the epoch day of the last day of the month, where day 0 is 1970-01-01 (ISO).
+     *
+     * @return  the epoch day of the last day, inclusive
+     */
+    public long endEpochDay() {
+        return startEpochDay + lengthOfMonth - 1;
+    }
+
+    /**
+     * Checks if the day of month is valid for this month.
+     *
+     * @param dayOfMonth  Indian day-of-month
+     * @return            <code>true</code> if the day is in the month
+     */
+    public boolean isValidDay(int dayOfMonth) {
+        return dayOfMonth >= 1 && dayOfMonth <= lengthOfMonth;
+    }
+
+    /**
+     * Gets the date of the given day of this month.
+     *
+     * @param dayOfMonth          Indian day-of-month
+     * @return                    the date
+     * @throws DateTimeException  if the day isn't in the month
+     */
+    public IndianNationalDate atDay(int dayOfMonth) {
+        if (!isValidDay(dayOfMonth)) {
+            throw new DateTimeException("Invalid value for DayOfMonth (valid values 1 - " + lengthOfMonth + "): "
+                                        + dayOfMonth);
+        }
+        return IndianNationalDate.ofEpochDay(startEpochDay + dayOfMonth - 1);
+    }
+
+    /**
+     * Gets the last date of this month.
+     *
+     * @return  the last date of the month
+     */
+    public IndianNationalDate atEndOfMonth() {
+        return IndianNationalDate.ofEpochDay(endEpochDay());
+    }
+
+    /**
+     * Gets the year-month with the given number of months added.
+     *
+     * @param months              the months to add, may be negative
+     * @return                    the year-month
+     * @throws DateTimeException  if the result is out of the range of a year-month
+     */
+    public IndianYearMonth plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        long prolepticMonth = Math.addExact(getProlepticMonth(), months);
+        long year = Math.floorDiv(prolepticMonth, 12);
+        if (year < IndianPackedDate.MIN_YEAR || year > IndianPackedDate.MAX_YEAR) {
+            throw new DateTimeException("Invalid value for IndianYearMonth year (valid values "
+                                        + IndianPackedDate.MIN_YEAR + " - " + IndianPackedDate.MAX_YEAR + "): "
+                                        + year);
+        }
+        return new IndianYearMonth((int) year, Math.floorMod(prolepticMonth, 12) + 1);
+    }
+
+    /**
+     * Gets the year-month with the given number of months subtracted.
+     *
+     * @param months              the months to subtract, may be negative
+     * @return                    the year-month
+     * @throws DateTimeException  if the result is out of the range of a year-month
+     */
+    public IndianYearMonth minusMonths(long months) {
+        return months == Long.MIN_VALUE ? plusMonths(Long.MAX_VALUE).plusMonths(1) : plusMonths(-months);
+    }
+
+    /**
+     * Gets the year-month with the given number of years added.
+     *
+     * @param years               the years to add, may be negative
+     * @return                    the year-month
+     * @throws DateTimeException  if the result is out of the range of a year-month
+     */
+    public IndianYearMonth plusYears(long years) {
+        return plusMonths(Math.multiplyExact(years, 12));
+    }
+
+    /**
+     * Gets the first day of the month in the ISO calendar.
+     *
+     * @return  the ISO date of the first day
+     */
+    public LocalDate isoStart() {
+        return LocalDate.ofEpochDay(startEpochDay);
+    }
+
+    /**
+     * Gets the last day of the month in the ISO calendar.
+     *
+     * @return  the ISO date of the last day
+     */
+    public LocalDate isoEnd() {
+        return LocalDate.ofEpochDay(endEpochDay());
+    }
+
+    /**
+     * Gets the number of days this month has in common with the given ISO month.
+     *
+     * @param isoYearMonth  the ISO month
+     * @return              the days in both months, 0 if they don't overlap
+     */
+    public int overlap(YearMonth isoYearMonth) {
+        long isoStart = isoYearMonth.atDay(1).toEpochDay();
+        long isoEnd = isoStart + isoYearMonth.lengthOfMonth() - 1;
+        return (int) Math.max(0, Math.min(isoEnd, endEpochDay()) - Math.max(isoStart, startEpochDay) + 1);
+    }
+
+    /**
+     * Gets the epoch days of the month in order. The stream is sized and splits evenly for parallel processing.
+     *
+     * @return  the stream of epoch days
+     */
+    public LongStream epochDays() {
+        return LongStream.rangeClosed(startEpochDay, endEpochDay());
+    }
+
+    /**
+     * Gets the dates of the month in order. The stream is sized and splits evenly for parallel processing.
+     *
+     * @return  the stream of dates
+     */
+    public Stream<IndianNationalDate> days() {
+        return epochDays().mapToObj(IndianNationalDate::ofEpochDay);
+    }
+
+    @Override
+    public int compareTo(IndianYearMonth other) {
+        return Integer.compare(packed, other.packed);
+    }
+
+    /**
+     * Checks if this year-month is after the given one.
+     *
+     * @param other  the other year-month
+     * @return       <code>true</code> if this is after the other
+     */
+    public boolean isAfter(IndianYearMonth other) {
+        return packed > other.packed;
+    }
+
+    /**
+     * Checks if this year-month is before the given one.
+     *
+     * @param other  the other year-month
+     * @return       <code>true</code> if this is before the other
+     */
+    public boolean isBefore(IndianYearMonth other) {
+        return packed < other.packed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof IndianYearMonth && packed == ((IndianYearMonth) o).packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return packed;
+    }
+
+    @Override
+    public String toString() {
+        int year = getYear();
+        int month = getMonthValue();
+        String yearText = year < 0 ? "-" + pad(-year, 3) : pad(year, 4);
+        return yearText + (month < 10 ? "-0" : "-") + month;
+    }
+
+    private static String pad(int value, int width) {
+        String text = Integer.toString(value);
+        return text.length() >= width ? text : "000".substring(0, width - text.length()) + text;
+    }
+
+    /**
+     * Recomputes the transient fields after deserialization.
+     *
+     * @return  an equal year-month with all the fields set
+     */
+    private Object readResolve() {
+        return ofPacked(packed);
+    }
+}
@@ -0,0 +1,286 @@
+package com.gebogebo.kronology.indian;
+
+import static java.time.temporal.ChronoField.*;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A date-time with a time-zone in the Indian National calendar system, such as
+ * {@code 1948-07-27T10:15:30+05:30[Asia/Kolkata]}.
+ *
+ * <p>
+ * This is the {@link ChronoZonedDateTime} of {@link IndianNationalChronology}, returned by
+ * {@link IndianNationalChronology#zonedDateTime(Instant, ZoneId)} and {@link IndianDateTime#atZone(ZoneId)}. It
+ * follows the rules of {@link java.time.ZonedDateTime}: the date based units and fields are applied to the local
+ * date-time, keeping the offset if it's still valid, while the time based units are applied to the instant. A local
+ * date-time in a gap is moved forward by the length of the gap, and one in an overlap takes the earlier offset unless
+ * the previous offset is still valid.
+ * <p>
+ * The conversion of an instant uses the India Standard Time fast path of
+ * {@link IndianDateTime#ofInstant(Instant, ZoneId)}.
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianZonedDateTime implements ChronoZonedDateTime<IndianNationalDate>, Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 7419036211524803361L;
+
+    private final IndianDateTime dateTime;
+    private final ZoneOffset offset;
+    private final ZoneId zone;
+
+    private IndianZonedDateTime(IndianDateTime dateTime, ZoneOffset offset, ZoneId zone) {
+        this.dateTime = dateTime;
+        this.offset = offset;
+        this.zone = zone;
+    }
+
+    /**
+     * Obtains a zoned date-time from a local date-time, using the earlier offset in an overlap and moving a
+     * date-time in a gap forward by the length of the gap.
+     *
+     * @param dateTime  the local date-time
+     * @param zone      the time-zone
+     * @return          the zoned date-time
+     */
+    public static IndianZonedDateTime of(IndianDateTime dateTime, ZoneId zone) {
+        return ofLocal(Objects.requireNonNull(dateTime, "dateTime"), Objects.requireNonNull(zone, "zone"), null);
+    }
+
+    /**
+     * Obtains the zoned date-time of an instant.
+     *
+     * @param instant             the instant
+     * @param zone                the time-zone
+     * @return                    the zoned date-time
+     * @throws DateTimeException  if the result is out of the supported range
+     */
+    public static IndianZonedDateTime ofInstant(Instant instant, ZoneId zone) {
+        return ofEpochSecond(instant.getEpochSecond(), instant.getNano(), zone);
+    }
+
+    /**
+     * Obtains an Indian zoned date-time from another temporal having a time-zone.
+     *
+     * @param temporal            the temporal to convert
+     * @return                    the zoned date-time
+     * @throws DateTimeException  if the temporal doesn't have a time-zone and an instant or a date and a time
+     */
+    public static IndianZonedDateTime from(TemporalAccessor temporal) {
+        if (temporal instanceof IndianZonedDateTime) {
+            return (IndianZonedDateTime) temporal;
+        }
+        ZoneId zone = ZoneId.from(temporal);
+        if (temporal.isSupported(INSTANT_SECONDS)) {
+            return ofEpochSecond(temporal.getLong(INSTANT_SECONDS), temporal.get(NANO_OF_SECOND), zone);
+        }
+        return of(IndianDateTime.from(temporal), zone);
+    }
+
+    @Override
+    public IndianDateTime toLocalDateTime() {
+        return dateTime;
+    }
+
+    @Override
+    public IndianNationalDate toLocalDate() {
+        return dateTime.toLocalDate();
+    }
+
+    @Override
+    public LocalTime toLocalTime() {
+        return dateTime.toLocalTime();
+    }
+
+    @Override
+    public ZoneOffset getOffset() {
+        return offset;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public IndianZonedDateTime withEarlierOffsetAtOverlap() {
+        ZoneOffsetTransition transition = zone.getRules().getTransition(dateTime.toIsoLocalDateTime());
+        if (transition != null && transition.isOverlap() && !transition.getOffsetBefore().equals(offset)) {
+            return new IndianZonedDateTime(dateTime, transition.getOffsetBefore(), zone);
+        }
+        return this;
+    }
+
+    @Override
+    public IndianZonedDateTime withLaterOffsetAtOverlap() {
+        ZoneOffsetTransition transition = zone.getRules().getTransition(dateTime.toIsoLocalDateTime());
+        if (transition != null && transition.isOverlap() && !transition.getOffsetAfter().equals(offset)) {
+            return new IndianZonedDateTime(dateTime, transition.getOffsetAfter(), zone);
+        }
+        return this;
+    }
+
+    @Override
+    public IndianZonedDateTime withZoneSameLocal(ZoneId zone) {
+        return this.zone.equals(zone) ? this : ofLocal(dateTime, zone, offset);
+    }
+
+    @Override
+    public IndianZonedDateTime withZoneSameInstant(ZoneId zone) {
+        return this.zone.equals(zone) ? this : ofEpochSecond(toEpochSecond(), dateTime.toLocalTime().getNano(), zone);
+    }
+
+    @Override
+    public boolean isSupported(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field == INSTANT_SECONDS || field == OFFSET_SECONDS || dateTime.isSupported(field);
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    @Override
+    public IndianZonedDateTime with(TemporalAdjuster adjuster) {
+        if (adjuster instanceof IndianNationalDate || adjuster instanceof LocalTime
+                || adjuster instanceof IndianDateTime) {
+            return ofLocal(dateTime.with(adjuster), zone, offset);
+        }
+        if (adjuster instanceof Instant) {
+            return ofInstant((Instant) adjuster, zone);
+        }
+        if (adjuster instanceof ZoneOffset) {
+            return ofLocal(dateTime, zone, (ZoneOffset) adjuster);
+        }
+        return from(adjuster.adjustInto(this));
+    }
+
+    @Override
+    public IndianZonedDateTime with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            if (field == INSTANT_SECONDS) {
+                return ofEpochSecond(newValue, dateTime.toLocalTime().getNano(), zone);
+            }
+            if (field == OFFSET_SECONDS) {
+                return ofLocal(dateTime, zone, ZoneOffset.ofTotalSeconds(OFFSET_SECONDS.checkValidIntValue(newValue)));
+            }
+            return ofLocal(dateTime.with(field, newValue), zone, offset);
+        }
+        return from(field.adjustInto(this, newValue));
+    }
+
+    @Override
+    public IndianZonedDateTime plus(TemporalAmount amount) {
+        return from(amount.addTo(this));
+    }
+
+    @Override
+    public IndianZonedDateTime plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            if (unit.isDateBased()) {
+                return ofLocal(dateTime.plus(amountToAdd, unit), zone, offset);
+            }
+            return ofInstant(toInstant().plus(amountToAdd, unit), zone);
+        }
+        return from(unit.addTo(this, amountToAdd));
+    }
+
+    @Override
+    public IndianZonedDateTime minus(TemporalAmount amount) {
+        return from(amount.subtractFrom(this));
+    }
+
+    @Override
+    public IndianZonedDateTime minus(long amountToSubtract, TemporalUnit unit) {
+        return amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                                                  : plus(-amountToSubtract, unit);
+    }
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        IndianZonedDateTime end = from(endExclusive).withZoneSameInstant(zone);
+        if (unit instanceof ChronoUnit) {
+            if (unit.isDateBased()) {
+                return dateTime.until(end.dateTime, unit);
+            }
+            return toInstant().until(end.toInstant(), unit);
+        }
+        return unit.between(this, end);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IndianZonedDateTime)) {
+            return false;
+        }
+        IndianZonedDateTime other = (IndianZonedDateTime) o;
+        return dateTime.equals(other.dateTime) && offset.equals(other.offset) && zone.equals(other.zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return dateTime.hashCode() ^ offset.hashCode() ^ Integer.rotateLeft(zone.hashCode(), 3);
+    }
+
+    @Override
+    public String toString() {
+        String text = dateTime.toString() + offset.toString();
+        return offset == zone ? text : text + '[' + zone.toString() + ']';
+    }
+
+    private static IndianZonedDateTime ofEpochSecond(long epochSecond, int nanoOfSecond, ZoneId zone) {
+        ZoneOffset offset = IndianDateTime.offsetAt(epochSecond, zone);
+        return new IndianZonedDateTime(IndianDateTime.ofEpochSecond(epochSecond, nanoOfSecond, offset), offset, zone);
+    }
+
+    /**
+     * Resolves the offset of a local date-time, keeping the preferred offset if it's valid.
+     */
+    private static IndianZonedDateTime ofLocal(IndianDateTime dateTime, ZoneId zone, ZoneOffset preferredOffset) {
+        if (zone instanceof ZoneOffset) {
+            return new IndianZonedDateTime(dateTime, (ZoneOffset) zone, zone);
+        }
+        ZoneRules rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            return new IndianZonedDateTime(dateTime, rules.getOffset(Instant.EPOCH), zone);
+        }
+        List<ZoneOffset> validOffsets = rules.getValidOffsets(dateTime.toIsoLocalDateTime());
+        if (validOffsets.size() == 1) {
+            return new IndianZonedDateTime(dateTime, validOffsets.get(0), zone);
+        }
+        if (validOffsets.isEmpty()) {
+            ZoneOffsetTransition gap = rules.getTransition(dateTime.toIsoLocalDateTime());
+            IndianDateTime shifted = dateTime.plus(gap.getDuration().getSeconds(), ChronoUnit.SECONDS);
+            return new IndianZonedDateTime(shifted, gap.getOffsetAfter(), zone);
+        }
+        ZoneOffset offset = preferredOffset != null && validOffsets.contains(preferredOffset) ? preferredOffset
+                                                                                              : validOffsets.get(0);
+        return new IndianZonedDateTime(dateTime, offset, zone);
+    }
+}
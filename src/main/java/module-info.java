@@ -0,0 +1,16 @@
+/**
+ * The Indian National (Saka) calendar system for the {@code java.time} API.
+ *
+ * <p>
+ * The module provides {@link com.gebogebo.kronology.indian.IndianNationalChronology} as a
+ * {@link java.time.chrono.Chronology} service, so that {@code Chronology.of("indian")} finds it on the module path as
+ * well as on the class path, where it's registered in {@code META-INF/services}.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+module com.gebogebo.kronology.indian {
+    exports com.gebogebo.kronology.indian;
+
+    provides java.time.chrono.Chronology with com.gebogebo.kronology.indian.IndianNationalChronology;
+}
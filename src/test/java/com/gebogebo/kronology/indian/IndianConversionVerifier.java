@@ -0,0 +1,529 @@
+package com.gebogebo.kronology.indian;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.time.LocalDate;
+import java.time.chrono.ChronoLocalDate;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Verifies every conversion path of the library against a reference, exhaustively over a span of epoch days, in
+ * parallel on a {@link ForkJoinPool}.
+ *
+ * <p>
+ * The reference Saka date of each day is computed from the definition of the calendar, independently of
+ * {@link IndianYearInfo}: the year starts on the 81st day of the ISO year 78 years later, the leap years are the same
+ * as ISO, and the months have 30 or 31 (Chaitra), 31 (Vaishakha to Bhadra) and 30 days. The reference is advanced
+ * day by day and every day is checked with:
+ * <ul>
+ *     <li>{@link IndianNationalDate#ofEpochDay(long)} and {@link IndianNationalDate#of(LocalDate)}</li>
+ *     <li>{@link IndianNationalDate#of(int, int)} with the day of year and {@link IndianNationalChronology#date(int,
+ *     int, int)}</li>
+ *     <li>{@link IndianNationalDate#toLocalDate(int, int, int)} and {@link IndianNationalDate#tryToEpochDay(int, int,
+ *     int)}</li>
+ *     <li>{@link IndianNationalChronology#dateEpochDay(long)}, which counts days from 0000-01-01 (Saka)</li>
+ *     <li>{@link IndianPackedDate} for the years it supports</li>
+ *     <li>{@link IndianNationalDate#toString()}, formatting and parsing through {@link IndianDateText} for the Saka
+ *     and the ISO dates, which must match {@link LocalDate#toString()} for the years 0 to 9999</li>
+ * </ul>
+ * More checks, such as an optimized conversion to be trusted, are added with {@link #withCheck(String, Check)}.
+ * <p>
+ * The span is split into ranges of {@code spanDays} days, verified in parallel, and the first mismatches, by epoch
+ * day, are reported with their count. The whole range of years can be verified from the command line:
+ * <pre>{@code
+ *     java -cp target/classes:target/test-classes com.gebogebo.kronology.indian.IndianConversionVerifier \
+ *          -1000000 1000000
+ * }</pre>
+ *
+ * @implSpec
+ * This class is immutable and thread-safe.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public final class IndianConversionVerifier {
+
+    /**
+     * Default number of days verified by a task, and default number of mismatches reported.
+     */
+    public static final int DEFAULT_SPAN_DAYS = 1 << 16;
+    public static final int DEFAULT_MAX_MISMATCHES = 20;
+
+    private static final long MIN_EPOCH_DAY = ChronoField.EPOCH_DAY.range().getMinimum();
+    private static final long MAX_EPOCH_DAY = ChronoField.EPOCH_DAY.range().getMaximum();
+
+    /**
+     * A check of a conversion path against the reference Saka date of an epoch day.
+     */
+    @FunctionalInterface
+    public interface Check {
+
+        /**
+         * Checks the conversion of a day.
+         *
+         * @param epochDay       the epoch day (1970-01-01 Iso is 0)
+         * @param prolepticYear  the reference Saka year
+         * @param month          the reference Saka month
+         * @param dayOfMonth     the reference Saka day of month
+         * @return               <code>null</code> if the conversion is correct, the wrong result otherwise
+         */
+        Object verify(long epochDay, int prolepticYear, int month, int dayOfMonth);
+    }
+
+    private final int spanDays;
+    private final int maxMismatches;
+    private final ForkJoinPool pool;
+    private final Map<String, Check> checks;
+
+    private IndianConversionVerifier(int spanDays, int maxMismatches, ForkJoinPool pool, Map<String, Check> checks) {
+        this.spanDays = spanDays;
+        this.maxMismatches = maxMismatches;
+        this.pool = pool;
+        this.checks = checks;
+    }
+
+    /**
+     * Obtains a verifier of the conversion paths of the library, running on the common pool.
+     *
+     * @return  a verifier with the default span and number of reported mismatches
+     */
+    public static IndianConversionVerifier of() {
+        return of(DEFAULT_SPAN_DAYS, DEFAULT_MAX_MISMATCHES, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Obtains a verifier of the conversion paths of the library.
+     *
+     * @param spanDays                   number of days verified by a task
+     * @param maxMismatches              number of mismatches reported
+     * @param pool                       pool running the tasks
+     * @return                           a verifier
+     * @throws IllegalArgumentException  if the span is not positive or the number of mismatches is negative
+     */
+    public static IndianConversionVerifier of(int spanDays, int maxMismatches, ForkJoinPool pool) {
+        if (spanDays < 1 || maxMismatches < 0) {
+            throw new IllegalArgumentException("Invalid span or mismatches: " + spanDays + ", " + maxMismatches);
+        }
+        return new IndianConversionVerifier(spanDays, maxMismatches, pool, Collections.emptyMap());
+    }
+
+    /**
+     * Returns a copy of this verifier that also runs the given check on every day.
+     *
+     * @param name   name of the check, used in the mismatches
+     * @param check  the check
+     * @return       a verifier with the check added
+     */
+    public IndianConversionVerifier withCheck(String name, Check check) {
+        Map<String, Check> newChecks = new LinkedHashMap<>(checks);
+        newChecks.put(name, check);
+        return new IndianConversionVerifier(spanDays, maxMismatches, pool, Collections.unmodifiableMap(newChecks));
+    }
+
+    /**
+     * Verifies the Saka years from {@code fromYear} to {@code toYear}, inclusive, within the supported range.
+     *
+     * @param fromYear  the first Saka year, inclusive
+     * @param toYear    the last Saka year, inclusive
+     * @return          the result of the verification
+     */
+    public Result verifyYears(long fromYear, long toYear) {
+        long from = Math.max(MIN_EPOCH_DAY, yearStart(Math.max(fromYear, Integer.MIN_VALUE)));
+        long to = Math.min(MAX_EPOCH_DAY, yearStart(Math.min(toYear, Integer.MAX_VALUE - 1L) + 1) - 1);
+        return verify(from, to);
+    }
+
+    /**
+     * Verifies the epoch days from {@code fromEpochDay} to {@code toEpochDay}, inclusive.
+     *
+     * @param fromEpochDay               the first epoch day, inclusive
+     * @param toEpochDay                 the last epoch day, inclusive
+     * @return                           the result of the verification
+     * @throws IllegalArgumentException  if the range is empty or outside of the supported range
+     */
+    public Result verify(long fromEpochDay, long toEpochDay) {
+        if (fromEpochDay > toEpochDay || fromEpochDay < MIN_EPOCH_DAY || toEpochDay > MAX_EPOCH_DAY) {
+            throw new IllegalArgumentException("Invalid range of epoch days: " + fromEpochDay + " - " + toEpochDay);
+        }
+        long start = System.nanoTime();
+        Result result = pool.invoke(new VerifyTask(fromEpochDay, toEpochDay));
+        return new Result(result.days, result.mismatchCount, result.mismatches, System.nanoTime() - start);
+    }
+
+    /**
+     * Verifies the Saka years given on the command line, the whole supported range by default, and exits with the
+     * status 1 if there is any mismatch.
+     *
+     * @param args  first and last Saka years, and optionally the span of days of a task
+     */
+    public static void main(String[] args) {
+        long fromYear = args.length > 0 ? Long.parseLong(args[0]) : Long.MIN_VALUE;
+        long toYear = args.length > 1 ? Long.parseLong(args[1]) : Long.MAX_VALUE;
+        int spanDays = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SPAN_DAYS;
+        Result result = of(spanDays, DEFAULT_MAX_MISMATCHES, ForkJoinPool.commonPool()).verifyYears(fromYear, toYear);
+        System.out.println(result);
+        if (!result.isSuccess()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Splits a range of days until it fits in a span, and merges the results keeping the first mismatches.
+     */
+    private final class VerifyTask extends RecursiveTask<Result> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+
+        VerifyTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Result compute() {
+            if (to - from < spanDays) {
+                return verifySpan(from, to);
+            }
+            long middle = from + (to - from) / 2;
+            VerifyTask right = new VerifyTask(middle + 1, to);
+            right.fork();
+            Result left = new VerifyTask(from, middle).compute();
+            return left.merge(right.join(), maxMismatches);
+        }
+    }
+
+    /**
+     * Verifies every day of a range, advancing the reference date day by day.
+     */
+    private Result verifySpan(long from, long to) {
+        List<Mismatch> mismatches = new ArrayList<>();
+        long mismatchCount = 0;
+        byte[] expected = new byte[24];
+        byte[] text = new byte[24];
+
+        // reference date of the first day, from the ISO day of year
+        LocalDate first = LocalDate.ofEpochDay(from);
+        int year = first.getYear() - 78;
+        int dayOfYear = first.getDayOfYear() - 80;
+        if (dayOfYear < 1) {
+            year--;
+            dayOfYear += lengthOfYear(year);
+        }
+        int month = 1;
+        int dayOfMonth = dayOfYear;
+        while (dayOfMonth > lengthOfMonth(year, month)) {
+            dayOfMonth -= lengthOfMonth(year, month++);
+        }
+
+        for (long epochDay = from; epochDay <= to; epochDay++) {
+            String path = null;
+            Object actual = null;
+            int length = format(year, month, dayOfMonth, expected);
+            try {
+                LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+                IndianNationalDate date = IndianNationalDate.ofEpochDay(epochDay);
+                String string;
+                if (!matches(date, year, month, dayOfMonth, epochDay)) {
+                    path = "ofEpochDay";
+                    actual = date;
+                } else if (!matches(date = IndianNationalDate.of(localDate), year, month, dayOfMonth, epochDay)) {
+                    path = "of(LocalDate)";
+                    actual = date;
+                } else if (!matches(date = IndianNationalDate.of(year, dayOfYear), year, month, dayOfMonth,
+                                    epochDay)) {
+                    path = "of(year, dayOfYear)";
+                    actual = date;
+                } else if (!matches(IndianNationalChronology.INSTANCE.date(year, month, dayOfMonth), year, month,
+                                    dayOfMonth, epochDay)) {
+                    path = "Chronology.date";
+                    actual = IndianNationalChronology.INSTANCE.date(year, month, dayOfMonth);
+                } else if (!IndianNationalDate.toLocalDate(year, month, dayOfMonth).equals(localDate)) {
+                    path = "toLocalDate";
+                    actual = IndianNationalDate.toLocalDate(year, month, dayOfMonth);
+                } else if (IndianNationalDate.tryToEpochDay(year, month, dayOfMonth) != epochDay) {
+                    path = "tryToEpochDay";
+                    actual = IndianNationalDate.tryToEpochDay(year, month, dayOfMonth);
+                } else if (!matches(IndianNationalChronology.INSTANCE.dateEpochDay(
+                        epochDay - IndianNationalChronology.EPOCH_DAY_WRT_ISO), year, month, dayOfMonth, epochDay)) {
+                    path = "dateEpochDay";
+                    actual = IndianNationalChronology.INSTANCE.dateEpochDay(
+                            epochDay - IndianNationalChronology.EPOCH_DAY_WRT_ISO);
+                } else if (year >= IndianPackedDate.MIN_YEAR && year <= IndianPackedDate.MAX_YEAR
+                           && (IndianPackedDate.ofEpochDay(epochDay) != IndianPackedDate.pack(year, month, dayOfMonth)
+                               || IndianPackedDate.toEpochDay(IndianPackedDate.of(date)) != epochDay)) {
+                    path = "IndianPackedDate";
+                    actual = IndianPackedDate.toDate(IndianPackedDate.ofEpochDay(epochDay));
+                } else if (!equals(string = date.toString(), expected, length)) {
+                    path = "toString";
+                    actual = string;
+                } else if (IndianDateText.formatIndian(epochDay, text, 0) != length
+                           || !Arrays.equals(text, 0, length, expected, 0, length)) {
+                    path = "formatIndian";
+                    actual = new String(text, 0, IndianDateText.formatIndian(epochDay, text, 0), US_ASCII);
+                } else if (IndianDateText.parseIndian(expected, 0, length) != epochDay) {
+                    path = "parseIndian";
+                    actual = IndianDateText.parseIndian(expected, 0, length);
+                } else {
+                    // the ISO text has the same format, which is the format of LocalDate.toString() for 0 to 9999
+                    int isoLength = format(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth(),
+                                           expected);
+                    if (IndianDateText.formatIso(epochDay, text, 0) != isoLength
+                        || !Arrays.equals(text, 0, isoLength, expected, 0, isoLength)) {
+                        path = "formatIso";
+                        actual = new String(text, 0, IndianDateText.formatIso(epochDay, text, 0), US_ASCII);
+                    } else if (IndianDateText.parseIso(expected, 0, isoLength) != epochDay) {
+                        path = "parseIso";
+                        actual = IndianDateText.parseIso(expected, 0, isoLength);
+                    } else {
+                        for (Map.Entry<String, Check> check : checks.entrySet()) {
+                            actual = check.getValue().verify(epochDay, year, month, dayOfMonth);
+                            if (actual != null) {
+                                path = check.getKey();
+                                break;
+                            }
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                path = path == null ? "exception" : path;
+                actual = e;
+            }
+            if (path != null && mismatchCount++ < maxMismatches) {
+                length = format(year, month, dayOfMonth, expected);
+                mismatches.add(new Mismatch(epochDay, new String(expected, 0, length, US_ASCII), path,
+                                            String.valueOf(actual)));
+            }
+
+            // next reference date
+            if (dayOfMonth < lengthOfMonth(year, month)) {
+                dayOfMonth++;
+                dayOfYear++;
+            } else if (month < 12) {
+                month++;
+                dayOfMonth = 1;
+                dayOfYear++;
+            } else {
+                year++;
+                month = 1;
+                dayOfMonth = 1;
+                dayOfYear = 1;
+            }
+        }
+        return new Result(to - from + 1, mismatchCount, mismatches, 0);
+    }
+
+    private static boolean matches(ChronoLocalDate chronoDate, int year, int month, int dayOfMonth, long epochDay) {
+        IndianNationalDate date = (IndianNationalDate) chronoDate;
+        return date.getLong(ChronoField.YEAR) == year && date.getLong(ChronoField.MONTH_OF_YEAR) == month
+               && date.getLong(ChronoField.DAY_OF_MONTH) == dayOfMonth
+               && date.toEpochDay() == epochDay;
+    }
+
+    /**
+     * Formats the date as {@code String.format("%04d-%02d-%02d")}, with 3 digits after the sign of a negative year,
+     * and returns the length of the text.
+     */
+    private static int format(long year, int month, int dayOfMonth, byte[] dest) {
+        // 4 digits, or a sign and 3 digits, and the digits beyond
+        int length = 4;
+        for (long value = Math.abs(year) / (year < 0 ? 1000 : 10000); value != 0; value /= 10) {
+            length++;
+        }
+        dest[length] = '-';
+        dest[length + 1] = (byte) ('0' + month / 10);
+        dest[length + 2] = (byte) ('0' + month % 10);
+        dest[length + 3] = '-';
+        dest[length + 4] = (byte) ('0' + dayOfMonth / 10);
+        dest[length + 5] = (byte) ('0' + dayOfMonth % 10);
+        long value = Math.abs(year);
+        for (int i = length - 1; i >= (year < 0 ? 1 : 0); i--, value /= 10) {
+            dest[i] = (byte) ('0' + value % 10);
+        }
+        if (year < 0) {
+            dest[0] = '-';
+        }
+        return length + 6;
+    }
+
+    private static boolean equals(String string, byte[] text, int length) {
+        if (string.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (string.charAt(i) != text[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLeapYear(long year) {
+        long isoYear = year + 78;
+        return isoYear % 4 == 0 && (isoYear % 100 != 0 || isoYear % 400 == 0);
+    }
+
+    private static int lengthOfYear(long year) {
+        return isLeapYear(year) ? 366 : 365;
+    }
+
+    private static int lengthOfMonth(long year, int month) {
+        return month == 1 ? (isLeapYear(year) ? 31 : 30) : month <= 6 ? 31 : 30;
+    }
+
+    private static long yearStart(long year) {
+        return LocalDate.of((int) Math.max(LocalDate.MIN.getYear(), Math.min(LocalDate.MAX.getYear(), year + 78)), 1, 1)
+                        .toEpochDay() + 80;
+    }
+
+    /**
+     * A conversion path that didn't give the reference result for a day.
+     */
+    public static final class Mismatch {
+
+        private final long epochDay;
+        private final String expected;
+        private final String path;
+        private final String actual;
+
+        Mismatch(long epochDay, String expected, String path, String actual) {
+            this.epochDay = epochDay;
+            this.expected = expected;
+            this.path = path;
+            this.actual = actual;
+        }
+
+        /**
+         * Gets the epoch day of the mismatch.
+         *
+         * @return  the epoch day (1970-01-01 Iso is 0)
+         */
+        public long getEpochDay() {
+            return epochDay;
+        }
+
+        /**
+         * Gets the reference Saka date, in the {@code yyyy-MM-dd} format.
+         *
+         * @return  the expected date
+         */
+        public String getExpected() {
+            return expected;
+        }
+
+        /**
+         * Gets the name of the conversion path.
+         *
+         * @return  the first path of the day that didn't give the reference result
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Gets the result of the conversion path.
+         *
+         * @return  the wrong result, or the exception thrown
+         */
+        public String getActual() {
+            return actual;
+        }
+
+        @Override
+        public String toString() {
+            return "epoch day " + epochDay + " (" + expected + "): " + path + " gave " + actual;
+        }
+    }
+
+    /**
+     * The result of a verification: the number of days verified, and the first mismatches with their count.
+     */
+    public static final class Result {
+
+        private final long days;
+        private final long mismatchCount;
+        private final List<Mismatch> mismatches;
+        private final long nanos;
+
+        Result(long days, long mismatchCount, List<Mismatch> mismatches, long nanos) {
+            this.days = days;
+            this.mismatchCount = mismatchCount;
+            this.mismatches = Collections.unmodifiableList(mismatches);
+            this.nanos = nanos;
+        }
+
+        /**
+         * Gets the number of days verified.
+         *
+         * @return  the number of days
+         */
+        public long getDays() {
+            return days;
+        }
+
+        /**
+         * Gets the number of days with a mismatch.
+         *
+         * @return  the number of mismatches, including the ones not reported
+         */
+        public long getMismatchCount() {
+            return mismatchCount;
+        }
+
+        /**
+         * Gets the first mismatches, by epoch day.
+         *
+         * @return  up to the maximum number of reported mismatches
+         */
+        public List<Mismatch> getMismatches() {
+            return mismatches;
+        }
+
+        /**
+         * Gets the time taken by the verification.
+         *
+         * @return  the wall-clock time in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Checks if all the conversion paths gave the reference result on all the days.
+         *
+         * @return  <code>true</code> if there is no mismatch
+         */
+        public boolean isSuccess() {
+            return mismatchCount == 0;
+        }
+
+        private Result merge(Result next, int maxMismatches) {
+            List<Mismatch> merged = new ArrayList<>(mismatches);
+            for (int i = 0; i < next.mismatches.size() && merged.size() < maxMismatches; i++) {
+                merged.add(next.mismatches.get(i));
+            }
+            return new Result(days + next.days, mismatchCount + next.mismatchCount, merged, 0);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(String.format(
+                    "Verified %d days (%.0f years) in %.1f s at %.1f M days/s: %d mismatches", days, days / 365.2425,
+                    nanos / 1e9, days * 1e3 / Math.max(nanos, 1), mismatchCount));
+            for (Mismatch mismatch : mismatches) {
+                builder.append(System.lineSeparator()).append("  ").append(mismatch);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.gebogebo.kronology.indian;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link IndianDateScanner} with regular expressions followed by {@link IndianNationalDate} factories on
+ * finding the Saka dates of a Gazette-like text.
+ *
+ * <p>
+ * The text has one date, numeric or named, every few hundred characters. The regular expressions are a numeric and a
+ * named one, with the English month names only, applied one after the other as an indexing stage would. The best
+ * time per megabyte of a few rounds is printed for each, and for the scanner on the UTF-8 bytes of the text:
+ * <pre>{@code
+ *     java -cp target/classes:target/test-classes com.gebogebo.kronology.indian.IndianDateScannerBenchmark 8
+ * }</pre>
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class IndianDateScannerBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final String[] MONTHS = {
+        "Chaitra", "Vaishakha", "Jyeshtha", "Ashadha", "Shravana", "Bhadra", "Ashwin", "Kartika",
+        "Agrahayana", "Pausha", "Magha", "Phalguna"
+    };
+    private static final Pattern NUMERIC = Pattern.compile("\\b(\\d{4})-(\\d{1,2})-(\\d{1,2})\\b");
+    private static final Pattern NAMED = Pattern.compile("\\b(\\d{1,2})\\s+(" + String.join("|", MONTHS)
+                                                         + ")\\s+(\\d{1,7})\\b", Pattern.CASE_INSENSITIVE);
+
+    public static void main(String[] args) {
+        int megabytes = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        String text = text(megabytes << 20);
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        double size = utf8.length / (double) (1 << 20);
+
+        long regexNanos = Long.MAX_VALUE;
+        long charNanos = Long.MAX_VALUE;
+        long byteNanos = Long.MAX_VALUE;
+        long[] sums = new long[3];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            sums[0] = regex(text);
+            regexNanos = Math.min(regexNanos, System.nanoTime() - start);
+            long[] sum = new long[1];
+            start = System.nanoTime();
+            IndianDateScanner.INSTANCE.scan(text, (from, to, packed) -> sum[0] += packed);
+            charNanos = Math.min(charNanos, System.nanoTime() - start);
+            sums[1] = sum[0];
+            sum[0] = 0;
+            start = System.nanoTime();
+            IndianDateScanner.INSTANCE.scan(utf8, (from, to, packed) -> sum[0] += packed);
+            byteNanos = Math.min(byteNanos, System.nanoTime() - start);
+            sums[2] = sum[0];
+        }
+        if (sums[0] != sums[1] || sums[1] != sums[2]) {
+            throw new IllegalStateException("The dates found differ");
+        }
+        System.out.printf("regex     %8.2f ms/MiB%n", regexNanos / 1e6 / size);
+        System.out.printf("scan char %8.2f ms/MiB%n", charNanos / 1e6 / size);
+        System.out.printf("scan utf8 %8.2f ms/MiB%n", byteNanos / 1e6 / size);
+    }
+
+    private static long regex(String text) {
+        long sum = 0;
+        Matcher matcher = NUMERIC.matcher(text);
+        while (matcher.find()) {
+            sum += packed(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)),
+                          Integer.parseInt(matcher.group(3)));
+        }
+        matcher = NAMED.matcher(text);
+        while (matcher.find()) {
+            int month = 0;
+            while (!MONTHS[month].equalsIgnoreCase(matcher.group(2))) {
+                month++;
+            }
+            sum += packed(Integer.parseInt(matcher.group(3)), month + 1, Integer.parseInt(matcher.group(1)));
+        }
+        return sum;
+    }
+
+    private static int packed(int year, int month, int dayOfMonth) {
+        try {
+            return IndianPackedDate.of((IndianNationalDate) IndianNationalChronology.INSTANCE.date(year, month,
+                                                                                                    dayOfMonth));
+        } catch (DateTimeException e) {
+            return 0;
+        }
+    }
+
+    private static String text(int length) {
+        Random random = new Random(42);
+        String[] words = {"the", "notification", "of", "Government", "section", "12", "under", "dated", "No.", "2026"};
+        StringBuilder builder = new StringBuilder(length + 64);
+        while (builder.length() < length) {
+            for (int i = 0; i < 40; i++) {
+                builder.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            int year = 1900 + random.nextInt(60);
+            int month = random.nextInt(12) + 1;
+            int day = random.nextInt(30) + 1;
+            if (random.nextBoolean()) {
+                builder.append(year).append(month < 10 ? "-0" : "-").append(month).append(day < 10 ? "-0" : "-")
+                       .append(day);
+            } else {
+                builder.append(day).append(' ').append(MONTHS[month - 1]).append(' ').append(year);
+            }
+            builder.append(". ");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.gebogebo.kronology.indian;
+
+import java.util.Random;
+
+/**
+ * Compares {@link IndianNationalDate#toString()} and {@link IndianDateText#formatIndian(long, byte[], int)} with and
+ * without the {@link IndianDateStringTable} on dates within a few years of today, as logs and API responses render
+ * them.
+ *
+ * <p>
+ * The best time per date of a few rounds is printed for each:
+ * <pre>{@code
+ *     java -cp target/classes:target/test-classes com.gebogebo.kronology.indian.IndianDateStringTableBenchmark
+ * }</pre>
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class IndianDateStringTableBenchmark {
+
+    private static final int ROUNDS = 10;
+    private static final int DATES = 1 << 20;
+
+    public static void main(String[] args) {
+        long today = IndianClock.systemDefaultZone().today().toEpochDay();
+        Random random = new Random(42);
+        IndianNationalDate[] dates = new IndianNationalDate[DATES];
+        for (int i = 0; i < DATES; i++) {
+            dates[i] = IndianNationalDate.ofEpochDay(today - random.nextInt(3 * 365));
+        }
+
+        IndianDateStringTable.disable();
+        double[] rendered = run(dates);
+        IndianDateStringTable.enable(4 * 365, 365);
+        double[] table = run(dates);
+        IndianDateStringTable.disable();
+        System.out.printf("toString     %6.1f ns/date, with table %6.1f ns/date%n", rendered[0], table[0]);
+        System.out.printf("formatIndian %6.1f ns/date, with table %6.1f ns/date%n", rendered[1], table[1]);
+    }
+
+    private static double[] run(IndianNationalDate[] dates) {
+        long stringNanos = Long.MAX_VALUE;
+        long bytesNanos = Long.MAX_VALUE;
+        byte[] text = new byte[16];
+        long sum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (IndianNationalDate date : dates) {
+                sum += date.toString().length();
+            }
+            stringNanos = Math.min(stringNanos, System.nanoTime() - start);
+            start = System.nanoTime();
+            for (IndianNationalDate date : dates) {
+                sum += IndianDateText.formatIndian(date.toEpochDay(), text, 0);
+            }
+            bytesNanos = Math.min(bytesNanos, System.nanoTime() - start);
+        }
+        if (sum != 20L * ROUNDS * dates.length) {
+            throw new IllegalStateException("Unexpected length: " + sum);
+        }
+        return new double[] {stringNanos / (double) dates.length, bytesNanos / (double) dates.length};
+    }
+}
@@ -0,0 +1,124 @@
+package com.gebogebo.kronology.indian;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Compares {@link IndianDateTime} with {@link LocalDateTime} on converting, ordering and formatting event timestamps.
+ *
+ * <p>
+ * The timestamps are the milliseconds of a week of events in India, in order. They are converted through the zone
+ * {@code Asia/Kolkata} and through the +05:30 offset, and the results are then sorted in a shuffled order and
+ * formatted with {@code toString()}. The best time per timestamp of a few rounds is printed for each step:
+ * <pre>{@code
+ *     java -cp target/classes:target/test-classes com.gebogebo.kronology.indian.IndianDateTimeBenchmark 1000000
+ * }</pre>
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class IndianDateTimeBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final ZoneId KOLKATA = ZoneId.of("Asia/Kolkata");
+
+    public static void main(String[] args) {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long[] epochMillis = new long[events];
+        long start = Instant.parse("2026-10-19T00:00:00Z").toEpochMilli();
+        long step = 7 * 86_400_000L / events;
+        for (int i = 0; i < events; i++) {
+            epochMillis[i] = start + i * step;
+        }
+
+        LocalDateTime[] isoDateTimes = new LocalDateTime[events];
+        IndianDateTime[] indianDateTimes = new IndianDateTime[events];
+        report("zone", epochMillis,
+               m -> LocalDateTime.ofInstant(Instant.ofEpochMilli(m), KOLKATA), isoDateTimes,
+               m -> IndianDateTime.ofInstant(Instant.ofEpochMilli(m), KOLKATA), indianDateTimes);
+        report("+05:30", epochMillis,
+               m -> LocalDateTime.ofInstant(Instant.ofEpochMilli(m), IndianDateTime.IST), isoDateTimes,
+               m -> IndianDateTime.ofEpochMilli(m, IndianDateTime.IST), indianDateTimes);
+
+        shuffle(isoDateTimes, indianDateTimes);
+        long isoNanos = Long.MAX_VALUE;
+        long indianNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            isoNanos = Math.min(isoNanos, time(() -> Arrays.sort(isoDateTimes.clone())));
+            indianNanos = Math.min(indianNanos, time(() -> Arrays.sort(indianDateTimes.clone())));
+        }
+        print("sort", events, isoNanos, indianNanos);
+
+        isoNanos = Long.MAX_VALUE;
+        indianNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            isoNanos = Math.min(isoNanos, time(() -> blackhole(isoDateTimes, o -> o.toString().length())));
+            indianNanos = Math.min(indianNanos, time(() -> blackhole(indianDateTimes, o -> o.toString().length())));
+        }
+        print("toString", events, isoNanos, indianNanos);
+    }
+
+    private static void report(String name, long[] epochMillis, LongFunction<LocalDateTime> isoConverter,
+                               LocalDateTime[] isoResults, LongFunction<IndianDateTime> indianConverter,
+                               IndianDateTime[] indianResults) {
+        long isoNanos = Long.MAX_VALUE;
+        long indianNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            isoNanos = Math.min(isoNanos, time(() -> {
+                for (int i = 0; i < epochMillis.length; i++) {
+                    isoResults[i] = isoConverter.apply(epochMillis[i]);
+                }
+            }));
+            indianNanos = Math.min(indianNanos, time(() -> {
+                for (int i = 0; i < epochMillis.length; i++) {
+                    indianResults[i] = indianConverter.apply(epochMillis[i]);
+                }
+            }));
+        }
+        for (int i = 0; i < epochMillis.length; i++) {
+            if (!indianResults[i].toIsoLocalDateTime().equals(isoResults[i])) {
+                throw new IllegalStateException("The conversions differ at " + epochMillis[i]);
+            }
+        }
+        print("convert " + name, epochMillis.length, isoNanos, indianNanos);
+    }
+
+    private static void shuffle(LocalDateTime[] isoDateTimes, IndianDateTime[] indianDateTimes) {
+        Random random = new Random(42);
+        for (int i = isoDateTimes.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            LocalDateTime iso = isoDateTimes[i];
+            isoDateTimes[i] = isoDateTimes[j];
+            isoDateTimes[j] = iso;
+            IndianDateTime indian = indianDateTimes[i];
+            indianDateTimes[i] = indianDateTimes[j];
+            indianDateTimes[j] = indian;
+        }
+    }
+
+    private static <T> void blackhole(T[] values, ToLongFunction<T> function) {
+        long sum = 0;
+        for (T value : values) {
+            sum += function.applyAsLong(value);
+        }
+        if (sum == 42) {
+            System.out.print("");
+        }
+    }
+
+    private static long time(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+
+    private static void print(String step, int events, long isoNanos, long indianNanos) {
+        System.out.printf("%-16s LocalDateTime %6.1f ns/event, IndianDateTime %6.1f ns/event%n", step,
+                          (double) isoNanos / events, (double) indianNanos / events);
+    }
+}
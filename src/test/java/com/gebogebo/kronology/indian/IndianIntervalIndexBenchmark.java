@@ -0,0 +1,75 @@
+package com.gebogebo.kronology.indian;
+
+import java.util.Random;
+
+/**
+ * Compares a linear scan of intervals of Saka dates with an {@link IndianIntervalIndex}, finding the intervals that
+ * overlap a random week or month within a few years, as booking and entitlement lookups do.
+ *
+ * <p>
+ * The best time per query of a few rounds is printed for each:
+ * <pre>{@code
+ *     java -cp target/classes:target/test-classes com.gebogebo.kronology.indian.IndianIntervalIndexBenchmark
+ * }</pre>
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class IndianIntervalIndexBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int INTERVALS = 2_000_000;
+    private static final int QUERIES = 200;
+    private static final int YEARS = 5;
+
+    public static void main(String[] args) {
+        long firstDay = new IndianNationalDate(1945, 1, 1).toEpochDay();
+        Random random = new Random(42);
+        long[] first = new long[INTERVALS];
+        long[] last = new long[INTERVALS];
+        for (int i = 0; i < INTERVALS; i++) {
+            first[i] = firstDay + random.nextInt(YEARS * 365);
+            last[i] = first[i] + (random.nextInt(20) == 0 ? random.nextInt(365) : random.nextInt(14));
+        }
+        long start = System.nanoTime();
+        IndianIntervalIndex index = IndianIntervalIndex.of(first, last);
+        System.out.printf("built %d intervals in %d ms%n", INTERVALS, (System.nanoTime() - start) / 1_000_000);
+
+        for (int days : new int[] {7, 30}) {
+            long[] from = new long[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                from[i] = firstDay + random.nextInt(YEARS * 365);
+            }
+            int[] dest = new int[INTERVALS];
+            long scanNanos = Long.MAX_VALUE;
+            long indexNanos = Long.MAX_VALUE;
+            long scanCount = 0;
+            long indexCount = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                start = System.nanoTime();
+                for (long queryFrom : from) {
+                    long queryTo = queryFrom + days - 1;
+                    int count = 0;
+                    for (int i = 0; i < INTERVALS; i++) {
+                        if (first[i] <= queryTo && last[i] >= queryFrom) {
+                            dest[count++] = i;
+                        }
+                    }
+                    scanCount += count;
+                }
+                scanNanos = Math.min(scanNanos, System.nanoTime() - start);
+                start = System.nanoTime();
+                for (long queryFrom : from) {
+                    indexCount += index.overlapping(queryFrom, queryFrom + days - 1, dest, 0);
+                }
+                indexNanos = Math.min(indexNanos, System.nanoTime() - start);
+            }
+            if (scanCount != indexCount) {
+                throw new IllegalStateException("Unexpected count: " + indexCount + " instead of " + scanCount);
+            }
+            System.out.printf("%2d days: scan %8.1f us/query, index %8.1f us/query, %d matches/query%n", days,
+                              scanNanos / 1000.0 / QUERIES, indexNanos / 1000.0 / QUERIES,
+                              scanCount / ROUNDS / QUERIES);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.gebogebo.kronology.indian;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures the time to the first conversion of a fresh JVM, which is what short-lived command line and serverless
+ * jobs pay on every run.
+ *
+ * <p>
+ * Each run starts a new JVM twice, once with an empty main method and once looking up the chronology by its id,
+ * converting a {@code LocalDate} and printing the Saka date. The medians of the wall-clock times of both and their
+ * difference, the time spent on the first conversion, are printed. The JVM options given after the number of runs
+ * are passed to the started JVMs, so that the effect of an AppCDS archive built with the {@code appcds} profile can be
+ * compared:
+ * <pre>{@code
+ *     java -cp target/classes:target/test-classes com.gebogebo.kronology.indian.IndianStartupBenchmark 20
+ *     java -cp target/indian-national-calendar-0.0.1-SNAPSHOT.jar:target/test-classes \
+ *          com.gebogebo.kronology.indian.IndianStartupBenchmark 20 \
+ *          -XX:SharedArchiveFile=target/indian-national-calendar-0.0.1-SNAPSHOT.jsa
+ * }</pre>
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class IndianStartupBenchmark {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        List<String> options = args.length > 1 ? Arrays.asList(args).subList(1, args.length) : List.of();
+
+        long[] baselineNanos = new long[runs];
+        long[] conversionNanos = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            // alternated so that a change of the machine's load affects both
+            baselineNanos[run] = time(options, Baseline.class);
+            conversionNanos[run] = time(options, FirstConversion.class);
+        }
+        long baseline = median(baselineNanos);
+        long conversion = median(conversionNanos);
+        System.out.printf("JVM options: %s%n", options);
+        System.out.printf("Empty JVM: %.1f ms, first conversion: %.1f ms, time to first conversion: %.1f ms%n",
+                          baseline / 1e6, conversion / 1e6, (conversion - baseline) / 1e6);
+    }
+
+    /**
+     * Starts a JVM running the given class with the class path of this JVM and returns its wall-clock time.
+     */
+    private static long time(List<String> options, Class<?> mainClass) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).inheritIO().start();
+        int exitCode = process.waitFor();
+        long nanos = System.nanoTime() - start;
+        if (exitCode != 0) {
+            throw new IllegalStateException(mainClass.getSimpleName() + " failed with exit code " + exitCode);
+        }
+        return nanos;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * An empty JVM, the baseline of the measurements.
+     */
+    public static final class Baseline {
+        public static void main(String[] args) {
+        }
+    }
+
+    /**
+     * A JVM doing a single conversion, the way a command line job would.
+     */
+    public static final class FirstConversion {
+        public static void main(String[] args) {
+            ChronoLocalDate date = Chronology.of("Indian").date(LocalDate.of(1947, 8, 15));
+            if (!date.toString().equals("1869-05-24")) {
+                throw new IllegalStateException("Unexpected conversion: " + date);
+            }
+        }
+    }
+}
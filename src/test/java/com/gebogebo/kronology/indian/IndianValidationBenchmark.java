@@ -0,0 +1,83 @@
+package com.gebogebo.kronology.indian;
+
+import java.time.DateTimeException;
+import java.util.Random;
+
+/**
+ * Compares the throwing and the non-throwing conversions of a feed of Saka dates with a share of invalid rows.
+ *
+ * <p>
+ * The rows are converted to epoch days through {@link IndianNationalDate#toLocalDate(int, int, int)}, catching the
+ * exception of the invalid rows, and through {@link IndianNationalDate#tryToEpochDay(int, int, int)}. The time per
+ * row of each is printed for every share of invalid rows, after a few warm up rounds:
+ * <pre>{@code
+ *     java -cp target/classes:target/test-classes com.gebogebo.kronology.indian.IndianValidationBenchmark 1000000
+ * }</pre>
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class IndianValidationBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        for (int invalidPercent : new int[] {0, 1, 10, 50}) {
+            int[] years = new int[rows];
+            int[] months = new int[rows];
+            int[] daysOfMonth = new int[rows];
+            fill(years, months, daysOfMonth, invalidPercent);
+
+            long throwingNanos = Long.MAX_VALUE;
+            long tryNanos = Long.MAX_VALUE;
+            long checksum = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                checksum += convertThrowing(years, months, daysOfMonth);
+                throwingNanos = Math.min(throwingNanos, System.nanoTime() - start);
+                start = System.nanoTime();
+                checksum -= convertTry(years, months, daysOfMonth);
+                tryNanos = Math.min(tryNanos, System.nanoTime() - start);
+            }
+            if (checksum != 0) {
+                throw new IllegalStateException("The conversions differ");
+            }
+            System.out.printf("%2d%% invalid: throwing %.1f ns/row, try %.1f ns/row%n", invalidPercent,
+                              (double) throwingNanos / rows, (double) tryNanos / rows);
+        }
+    }
+
+    /**
+     * Fills the rows with dates from 1900 to 2000 (Saka), making the given share invalid by their day of month.
+     */
+    private static void fill(int[] years, int[] months, int[] daysOfMonth, int invalidPercent) {
+        Random random = new Random(invalidPercent);
+        for (int row = 0; row < years.length; row++) {
+            years[row] = 1900 + random.nextInt(100);
+            months[row] = 1 + random.nextInt(12);
+            daysOfMonth[row] = random.nextInt(100) < invalidPercent ? 32 : 1 + random.nextInt(30);
+        }
+    }
+
+    private static long convertThrowing(int[] years, int[] months, int[] daysOfMonth) {
+        long sum = 0;
+        for (int row = 0; row < years.length; row++) {
+            try {
+                sum += IndianNationalDate.toLocalDate(years[row], months[row], daysOfMonth[row]).toEpochDay();
+            } catch (DateTimeException e) {
+                sum--;
+            }
+        }
+        return sum;
+    }
+
+    private static long convertTry(int[] years, int[] months, int[] daysOfMonth) {
+        long sum = 0;
+        for (int row = 0; row < years.length; row++) {
+            long epochDay = IndianNationalDate.tryToEpochDay(years[row], months[row], daysOfMonth[row]);
+            sum += epochDay == IndianNationalDate.INVALID_EPOCH_DAY ? -1 : epochDay;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,70 @@
+package com.gebogebo.kronology.indian;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A clock whose instant is set by the tests, and can be read from other threads.
+ *
+ * <p>
+ * The clocks obtained with {@link #withZone(ZoneId)} share the instant of this clock, so moving any of them moves them
+ * all.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+/* pkg pvt */ final class MutableClock extends Clock {
+
+    private final AtomicReference<Instant> instant;
+    private final ZoneId zone;
+
+    /* pkg pvt */ MutableClock(Instant instant, ZoneId zone) {
+        this(new AtomicReference<>(Objects.requireNonNull(instant, "instant")), zone);
+    }
+
+    private MutableClock(AtomicReference<Instant> instant, ZoneId zone) {
+        this.instant = instant;
+        this.zone = Objects.requireNonNull(zone, "zone");
+    }
+
+    /* pkg pvt */ void setInstant(Instant newInstant) {
+        instant.set(Objects.requireNonNull(newInstant, "instant"));
+    }
+
+    /* pkg pvt */ void setMillis(long millis) {
+        instant.set(Instant.ofEpochMilli(millis));
+    }
+
+    /* pkg pvt */ void advance(Duration duration) {
+        instant.updateAndGet(current -> current.plus(duration));
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId newZone) {
+        return newZone.equals(zone) ? this : new MutableClock(instant, newZone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant.get();
+    }
+
+    @Override
+    public long millis() {
+        return instant.get().toEpochMilli();
+    }
+
+    @Override
+    public String toString() {
+        return "MutableClock[" + instant.get() + "," + zone + "]";
+    }
+}
@@ -0,0 +1,77 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static java.time.temporal.ChronoField.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Tests the {@link IndianBucketer} class against the conversion through {@code ZonedDateTime}.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianBucketer {
+
+    @Test
+    public void testIstBoundary() {
+        // 1 Chaitra 1946 starts at 2024-03-21T00:00+05:30, which is 2024-03-20T18:30Z
+        long start = Instant.parse("2024-03-20T18:30:00Z").toEpochMilli();
+        assertThat(IndianBucketer.IST.monthOfEpochMilli(start - 1), is(1945 * 12L + 11));
+        assertThat(IndianBucketer.IST.monthOfEpochMilli(start), is(1946 * 12L));
+        assertThat(IndianBucketer.IST.yearOfEpochSecond(start / 1000), is(1946));
+        assertThat(IndianBucketer.startOfMonth(1946 * 12L), is(new IndianNationalDate(1946, 1, 1)));
+    }
+
+    @Test
+    public void testZones() {
+        Stream.of(ZoneOffset.ofHoursMinutes(5, 30), ZoneId.of("Asia/Kolkata"), ZoneId.of("America/New_York"),
+                ZoneId.of("Europe/London"), ZoneId.of("Australia/Lord_Howe"), ZoneOffset.ofHours(-12))
+                .forEach(TestIndianBucketer::verifyZone);
+    }
+
+    /**
+     * Verifies the buckets of random instants, including the instants outside of the cached window, in the zone.
+     */
+    private static void verifyZone(ZoneId zone) {
+        IndianBucketer bucketer = IndianBucketer.of(zone);
+        Random random = new Random(zone.hashCode());
+        long[] millis = new long[5000];
+        for (int i = 0; i < millis.length; i++) {
+            long range = i % 10 == 0 ? 20_000_000_000_000L : 4_000_000_000_000L;
+            millis[i] = (long) ((random.nextDouble() - 0.5) * 2 * range);
+        }
+        // sort a part of the input to exercise the month and year caches of the bulk methods
+        Arrays.sort(millis, 0, 2500);
+
+        long[] days = new long[millis.length];
+        long[] months = new long[millis.length];
+        int[] years = new int[millis.length];
+        bucketer.daysOfEpochMillis(millis, 0, millis.length, days);
+        bucketer.monthsOfEpochMillis(millis, 0, millis.length, months);
+        bucketer.yearsOfEpochMillis(millis, 0, millis.length, years);
+        for (int i = 0; i < millis.length; i++) {
+            Instant instant = Instant.ofEpochMilli(millis[i]);
+            LocalDate local = instant.atZone(zone).toLocalDate();
+            IndianNationalDate expected = IndianNationalDate.of(local);
+            long expectedMonth = expected.get(YEAR) * 12L + expected.get(MONTH_OF_YEAR) - 1;
+            String message = zone + " " + instant;
+
+            assertThat(message, bucketer.dayOfEpochMilli(millis[i]), is(local.toEpochDay()));
+            assertThat(message, bucketer.dayOfEpochSecond(instant.getEpochSecond()), is(local.toEpochDay()));
+            assertThat(message, bucketer.monthOfEpochMilli(millis[i]), is(expectedMonth));
+            assertThat(message, bucketer.yearOfEpochMilli(millis[i]), is(expected.get(YEAR)));
+            assertThat(message, days[i], is(local.toEpochDay()));
+            assertThat(message, months[i], is(expectedMonth));
+            assertThat(message, years[i], is(expected.get(YEAR)));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests the {@link IndianCalendarScheduler} class with a clock moved by the tests.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianCalendarScheduler {
+
+    private final MutableClock clock = new MutableClock(Instant.EPOCH, ZoneOffset.UTC);
+    private IndianCalendarScheduler scheduler;
+
+    @After
+    public void close() {
+        if (scheduler != null) {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    public void testBoundaries() {
+        // 28 Phalguna 1948 at 23:00 IST, two days before the end of the year
+        set(new IndianNationalDate(1948, 12, 28).toEpochDay(), LocalTime.of(23, 0));
+        scheduler = IndianCalendarScheduler.create(IndianCalendarScheduler.IST, clock, 10, Runnable::run);
+        List<String> fired = Collections.synchronizedList(new ArrayList<>());
+        scheduler.atEveryDayEnd(epochDay -> fired.add("end " + IndianNationalDate.ofEpochDay(epochDay)));
+        scheduler.atEveryMonthStart(epochDay -> fired.add("month " + IndianNationalDate.ofEpochDay(epochDay)));
+        IndianCalendarScheduler.Task year = scheduler.atEveryYearStart(
+                epochDay -> fired.add("year " + IndianNationalDate.ofEpochDay(epochDay)));
+        assertThat(year.getEpochDay(), is(new IndianNationalDate(1949, 1, 1).toEpochDay()));
+        assertThat(scheduler.getPendingCount(), is(3L));
+
+        set(new IndianNationalDate(1948, 12, 29).toEpochDay(), LocalTime.of(0, 0, 1));
+        await(() -> fired.size() == 1);
+        assertThat(fired, is(Collections.singletonList("end 1948-12-28")));
+
+        // a jump of the clock fires every missed occurrence
+        set(new IndianNationalDate(1949, 1, 2).toEpochDay(), LocalTime.NOON);
+        await(() -> fired.size() == 6);
+        assertThat(fired.get(1), is("end 1948-12-29"));
+        // the end of the year is the start of the next one, in any order
+        assertThat(fired.subList(2, 5).containsAll(Arrays.asList("end 1948-12-30", "month 1949-01-01",
+                                                                 "year 1949-01-01")), is(true));
+        assertThat(fired.get(5), is("end 1949-01-01"));
+        assertThat(year.getEpochDay(), is(new IndianNationalDate(1950, 1, 1).toEpochDay()));
+        assertThat(scheduler.getPendingCount(), is(3L));
+        assertThat(scheduler.getFiredCount(), is(6L));
+    }
+
+    @Test
+    public void testDeadlines() {
+        long today = new IndianNationalDate(1948, 7, 27).toEpochDay();
+        set(today, LocalTime.of(9, 0));
+        scheduler = IndianCalendarScheduler.create(ZoneOffset.UTC, clock, 10, Runnable::run);
+        Random random = new Random(42);
+        int count = 20_000;
+        long[] deadlines = new long[count];
+        AtomicLongArray firedAt = new AtomicLongArray(count);
+        List<IndianCalendarScheduler.Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // from a few seconds to a few years ahead, and some in the past, except for the cancelled ones
+            long epochDay = i % 10 == 0 ? today + 1 + random.nextInt(2000)
+                                        : today - 1 + (i % 3 == 0 ? random.nextInt(3) : random.nextInt(2000));
+            LocalTime time = LocalTime.ofSecondOfDay(random.nextInt(86400));
+            deadlines[i] = epochDay * 86_400_000L + time.toSecondOfDay() * 1000L;
+            int id = i;
+            tasks.add(scheduler.schedule(epochDay, time, epochDay1 -> firedAt.set(id, clock.millis())));
+        }
+        // cancel every tenth task
+        for (int i = 0; i < count; i += 10) {
+            assertThat(tasks.get(i).cancel(), is(true));
+            assertThat(tasks.get(i).cancel(), is(false));
+        }
+        long end = (today + 2000) * 86_400_000L;
+        for (long now = clock.millis(); now < end; now += random.nextInt(3) == 0 ? 3_000_000_000L : 10_000_000L) {
+            clock.setMillis(now);
+            long current = now;
+            await(() -> {
+                for (int i = 0; i < count; i++) {
+                    if (i % 10 != 0 && deadlines[i] <= current && firedAt.get(i) == 0) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+        clock.setMillis(end);
+        await(() -> scheduler.getPendingCount() == 0);
+        for (int i = 0; i < count; i++) {
+            if (i % 10 == 0) {
+                assertThat(tasks.get(i).isCancelled(), is(true));
+                assertThat(firedAt.get(i), is(0L));
+            } else {
+                assertTrue("task " + i + " fired early", firedAt.get(i) >= deadlines[i]);
+                assertThat(tasks.get(i).isDone(), is(true));
+            }
+        }
+        assertThat(scheduler.getFiredCount(), is(count - count / 10L));
+    }
+
+    @Test
+    public void testRecurrenceRule() {
+        long today = new IndianNationalDate(1948, 1, 1).toEpochDay();
+        set(today, LocalTime.of(18, 0));
+        scheduler = IndianCalendarScheduler.create(IndianCalendarScheduler.IST, clock, 10, Runnable::run);
+        List<Long> fired = Collections.synchronizedList(new ArrayList<>());
+        // the last day of every month at 17:30, already past today
+        IndianCalendarScheduler.Task task = scheduler.scheduleAtEvery(IndianRecurrenceRule.monthly(-1),
+                                                                      LocalTime.of(17, 30), fired::add);
+        assertThat(task.isRecurring(), is(true));
+        assertThat(task.getEpochDay(), is(new IndianNationalDate(1948, 1, 30).toEpochDay()));
+        set(new IndianNationalDate(1948, 4, 1).toEpochDay(), LocalTime.NOON);
+        await(() -> fired.size() == 3);
+        assertThat(fired, is(Arrays.asList(new IndianNationalDate(1948, 1, 30).toEpochDay(),
+                                           new IndianNationalDate(1948, 2, 31).toEpochDay(),
+                                           new IndianNationalDate(1948, 3, 31).toEpochDay())));
+        assertThat(task.cancel(), is(true));
+        set(new IndianNationalDate(1948, 6, 1).toEpochDay(), LocalTime.NOON);
+        assertThat(scheduler.getPendingCount(), is(0L));
+        sleep(50);
+        assertThat(fired.size(), is(3));
+    }
+
+    @Test
+    public void testDefaultExecutor() throws InterruptedException {
+        scheduler = IndianCalendarScheduler.create();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicLong day = new AtomicLong();
+        scheduler.schedule(new IndianNationalDate(1948, 1, 1).atTime(LocalTime.NOON), epochDay -> {
+            day.set(epochDay);
+            latch.countDown();
+        });
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(day.get(), is(new IndianNationalDate(1948, 1, 1).toEpochDay()));
+        scheduler.close();
+        try {
+            scheduler.schedule(0, LocalTime.NOON, epochDay -> { });
+            fail("closed");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        scheduler = IndianCalendarScheduler.create(IndianCalendarScheduler.IST, clock, 10, Runnable::run);
+        try {
+            scheduler.schedule(Long.MAX_VALUE / 1000, LocalTime.NOON, epochDay -> { });
+            fail("out of range");
+        } catch (DateTimeException e) {
+            // expected
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("timed out");
+            }
+            sleep(1);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sets the clock to the given time in IST on the given epoch day.
+     */
+    private void set(long epochDay, LocalTime istTime) {
+        clock.setMillis(epochDay * 86_400_000L + istTime.toSecondOfDay() * 1000L - 19_800_000L);
+    }
+}
@@ -7,7 +7,10 @@ import static org.junit.Assert.fail;
 
 import java.time.*;
 import java.time.chrono.*;
+import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.stream.Stream;
 
 /**
@@ -67,4 +70,51 @@ public class TestIndianChronologyDateFromTemporalAccessor {
                     ThaiBuddhistDate.now())
                 .forEach(IndianNationalChronology.INSTANCE::date);
     }
+
+    @Test
+    public void testFastPathsAgainstLocalDate() {
+        for (LocalDate localDate = LocalDate.of(1999, 12, 1); localDate.getYear() < 2001;
+             localDate = localDate.plusDays(3)) {
+            ChronoLocalDate expected = IndianNationalDate.of(localDate);
+            LocalDateTime dateTime = localDate.atTime(23, 30);
+            ZonedDateTime zonedDateTime = dateTime.atZone(ZoneId.of("Asia/Kolkata"));
+            Stream.of(localDate,
+                        dateTime,
+                        dateTime.atOffset(ZoneOffset.ofHours(-10)),
+                        zonedDateTime,
+                        HijrahDate.from(localDate),
+                        HijrahDate.from(localDate).atTime(LocalTime.NOON),
+                        JapaneseDate.from(localDate).atTime(LocalTime.NOON).atZone(ZoneOffset.UTC),
+                        new EpochDayAccessor(localDate.toEpochDay()))
+                    .forEach(t -> assertThat(t.toString(), IndianNationalChronology.INSTANCE.date(t), is(expected)));
+            assertThat(IndianNationalChronology.INSTANCE.date(zonedDateTime.toInstant(), ZoneId.of("Asia/Kolkata")),
+                    is(expected));
+            assertThat(IndianNationalChronology.INSTANCE.date(zonedDateTime.toInstant(), ZoneOffset.UTC),
+                    is(IndianNationalDate.of(zonedDateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDate())));
+        }
+    }
+
+    /**
+     * A temporal of an unknown type, which only supports the epoch day.
+     */
+    private static final class EpochDayAccessor implements TemporalAccessor {
+        private final long epochDay;
+
+        private EpochDayAccessor(long epochDay) {
+            this.epochDay = epochDay;
+        }
+
+        @Override
+        public boolean isSupported(TemporalField field) {
+            return field == ChronoField.EPOCH_DAY;
+        }
+
+        @Override
+        public long getLong(TemporalField field) {
+            if (field != ChronoField.EPOCH_DAY) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            return epochDay;
+        }
+    }
 }
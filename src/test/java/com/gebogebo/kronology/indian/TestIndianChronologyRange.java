@@ -54,6 +54,26 @@ public class TestIndianChronologyRange {
         verifyRange(DAY_OF_YEAR, 1L, 365L, 366L);
     }
 
+    @Test
+    public void testRangeDayOfWeek() {
+        verifyRange(DAY_OF_WEEK, 1L, 7L, 7L);
+    }
+
+    @Test
+    public void testRangeAlignedWeekOfMonth() {
+        verifyRange(ALIGNED_WEEK_OF_MONTH, 1L, 5L, 5L);
+    }
+
+    @Test
+    public void testRangeAlignedWeekOfYear() {
+        verifyRange(ALIGNED_WEEK_OF_YEAR, 1L, 53L, 53L);
+    }
+
+    @Test
+    public void testRangeProlepticMonth() {
+        verifyRange(PROLEPTIC_MONTH, -999999999L * 12, 999999999L * 12 + 11, 999999999L * 12 + 11);
+    }
+
     /**
      * Tests the unsupported {@code ChronoField} by IndianNationalChronology.
      */
@@ -61,12 +81,9 @@ public class TestIndianChronologyRange {
     public void testUnsupportedFields() {
         Stream.of(ALIGNED_DAY_OF_WEEK_IN_MONTH,
                 ALIGNED_DAY_OF_WEEK_IN_YEAR,
-                ALIGNED_WEEK_OF_MONTH,
-                ALIGNED_WEEK_OF_YEAR,
                 AMPM_OF_DAY,
                 CLOCK_HOUR_OF_AMPM,
                 CLOCK_HOUR_OF_DAY,
-                DAY_OF_WEEK,
                 HOUR_OF_AMPM,
                 HOUR_OF_DAY,
                 INSTANT_SECONDS,
@@ -79,7 +96,6 @@ public class TestIndianChronologyRange {
                 NANO_OF_SECOND,
                 NANO_OF_DAY,
                 OFFSET_SECONDS,
-                PROLEPTIC_MONTH,
                 SECOND_OF_DAY,
                 SECOND_OF_MINUTE).forEach(f -> {
             try {
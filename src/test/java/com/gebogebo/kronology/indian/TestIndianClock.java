@@ -0,0 +1,60 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Tests the {@link IndianClock} class with a clock moved around the midnight.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianClock {
+
+    private static final ZoneId KOLKATA = ZoneId.of("Asia/Kolkata");
+
+    @Test
+    public void testRollover() {
+        MutableClock clock = new MutableClock(instant(2026, 3, 21, 23, 59, 59), KOLKATA);
+        IndianClock indianClock = IndianClock.of(clock);
+        IndianNationalDate today = indianClock.today();
+        assertThat(today.toString(), is("1947-12-30"));
+        assertThat(indianClock.today(), sameInstance(today));
+
+        clock.setInstant(instant(2026, 3, 22, 0, 0, 0));
+        assertThat(indianClock.today().toString(), is("1948-01-01"));
+
+        // the clock going backwards
+        clock.setInstant(instant(2026, 3, 21, 12, 0, 0));
+        assertThat(indianClock.today().toString(), is("1947-12-30"));
+    }
+
+    @Test
+    public void testAgainstLocalDate() {
+        MutableClock clock = new MutableClock(instant(2025, 1, 1, 0, 0, 0), ZoneId.of("America/New_York"));
+        IndianClock indianClock = IndianClock.of(clock);
+        for (int hours = 0; hours < 24 * 400; hours += 7) {
+            clock.setInstant(instant(2025, 1, 1, 0, 0, 0).plusSeconds(hours * 3600L));
+            assertThat(indianClock.today(), is(IndianNationalDate.of(LocalDate.now(clock))));
+        }
+    }
+
+    @Test
+    public void testSystem() {
+        assertThat(IndianClock.system(KOLKATA), sameInstance(IndianClock.system(KOLKATA)));
+        assertThat(IndianClock.system(KOLKATA).getZone(), is(KOLKATA));
+        assertThat(IndianNationalChronology.INSTANCE.dateNow(KOLKATA),
+                is(IndianNationalChronology.INSTANCE.date(LocalDate.now(KOLKATA))));
+    }
+
+    private static Instant instant(int year, int month, int day, int hour, int minute, int second) {
+        return LocalDateTime.of(year, month, day, hour, minute, second).atZone(KOLKATA).toInstant();
+    }
+}
@@ -0,0 +1,57 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.temporal.ChronoField;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs the {@link IndianConversionVerifier} over the years used in practice and the ends of the supported range, and
+ * tests its reporting of mismatches.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianConversionVerifier {
+
+    @Test
+    public void testYearsInUse() {
+        IndianConversionVerifier.Result result = IndianConversionVerifier.of().verifyYears(-3000, 5000);
+        assertThat(result.toString(), result.isSuccess(), is(true));
+        assertThat(result.getDays(), is(IndianYearInfo.DEFAULT.yearStartEpochDay(5001)
+                                        - IndianYearInfo.DEFAULT.yearStartEpochDay(-3000)));
+    }
+
+    @Test
+    public void testEndsOfRange() {
+        long min = ChronoField.EPOCH_DAY.range().getMinimum();
+        long max = ChronoField.EPOCH_DAY.range().getMaximum();
+        IndianConversionVerifier verifier = IndianConversionVerifier.of();
+        IndianConversionVerifier.Result first = verifier.verify(min, min + 500_000);
+        IndianConversionVerifier.Result last = verifier.verify(max - 500_000, max);
+        assertThat(first.toString(), first.isSuccess(), is(true));
+        assertThat(last.toString(), last.isSuccess(), is(true));
+    }
+
+    @Test
+    public void testMismatches() {
+        // a broken conversion of the last day of Phalguna, checked in small spans so that the results are merged
+        IndianConversionVerifier verifier = IndianConversionVerifier.of(100, 5, ForkJoinPool.commonPool())
+                .withCheck("broken", (epochDay, year, month, dayOfMonth) ->
+                        month == 12 && dayOfMonth == 30 ? IndianPackedDate.pack(year, 12, 31) : null);
+        IndianConversionVerifier.Result result = verifier.verifyYears(1900, 1999);
+        assertThat(result.isSuccess(), is(false));
+        assertThat(result.getMismatchCount(), is(100L));
+        List<IndianConversionVerifier.Mismatch> mismatches = result.getMismatches();
+        assertThat(mismatches.size(), is(5));
+        for (int i = 0; i < mismatches.size(); i++) {
+            IndianConversionVerifier.Mismatch mismatch = mismatches.get(i);
+            assertThat(mismatch.getPath(), is("broken"));
+            assertThat(mismatch.getExpected(), is((1900 + i) + "-12-30"));
+            assertThat(mismatch.getEpochDay(), is(new IndianNationalDate(1900 + i, 12, 30).toEpochDay()));
+        }
+    }
+}
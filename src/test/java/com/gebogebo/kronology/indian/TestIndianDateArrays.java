@@ -0,0 +1,115 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+/**
+ * Tests the {@link IndianDateArrays} class against {@link Arrays#sort(int[])} and linear scans.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateArrays {
+
+    private static final long FROM = LocalDate.of(2020, 1, 1).toEpochDay();
+
+    @Test
+    public void testSortPackedDates() {
+        Random random = new Random(33);
+        for (int length : new int[] {0, 1, 20, 47, 48, 1000, 50_000}) {
+            int[] packed = new int[length];
+            long[] epochDays = new long[length];
+            for (int i = 0; i < length; i++) {
+                // mostly recent dates with a few far away ones, including negative years
+                epochDays[i] = i % 50 == 0 ? random.nextInt() / 4 : FROM + random.nextInt(3000);
+                packed[i] = IndianPackedDate.ofEpochDay(epochDays[i]);
+            }
+            int[] expectedPacked = packed.clone();
+            Arrays.sort(expectedPacked);
+            long[] expectedEpochDays = epochDays.clone();
+            Arrays.sort(expectedEpochDays);
+
+            int[] order = IndianDateArrays.argsort(packed);
+            int[] epochDayOrder = IndianDateArrays.argsort(epochDays);
+            for (int i = 0; i < length; i++) {
+                assertThat(packed[order[i]], is(expectedPacked[i]));
+                assertThat(epochDays[epochDayOrder[i]], is(expectedEpochDays[i]));
+                // stable
+                if (i > 0 && packed[order[i]] == packed[order[i - 1]]) {
+                    assertThat(order[i] > order[i - 1], is(true));
+                }
+            }
+            assertThat(order, is(epochDayOrder));
+
+            int[] payload = order.clone();
+            IndianDateArrays.sort(packed, payload);
+            assertThat(packed, is(expectedPacked));
+            IndianDateArrays.sort(epochDays);
+            assertThat(epochDays, is(expectedEpochDays));
+        }
+    }
+
+    @Test
+    public void testSortRange() {
+        long[] epochDays = new long[200];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = epochDays.length - i;
+        }
+        IndianDateArrays.sort(epochDays, null, 50, 150);
+        assertThat(epochDays[49], is(151L));
+        assertThat(epochDays[50], is(51L));
+        assertThat(epochDays[149], is(150L));
+        assertThat(epochDays[150], is(50L));
+    }
+
+    @Test
+    public void testRanges() {
+        Random random = new Random(3);
+        int[] packed = new int[20_000];
+        long[] epochDays = new long[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            epochDays[i] = FROM + random.nextInt(1500);
+            packed[i] = IndianPackedDate.ofEpochDay(epochDays[i]);
+        }
+        IndianDateArrays.sort(packed);
+        IndianDateArrays.sort(epochDays);
+
+        for (int year = 1941; year <= 1947; year++) {
+            int y = year;
+            int[] range = IndianDateArrays.rangeOfYear(packed, year);
+            verifyRange(range, packed.length, i -> IndianPackedDate.year(packed[i]) == y);
+            assertThat(IndianDateArrays.rangeOfYear(epochDays, year), is(range));
+            for (int month = 1; month <= 12; month++) {
+                int m = month;
+                int[] monthRange = IndianDateArrays.rangeOfMonth(packed, year, month);
+                verifyRange(monthRange, packed.length,
+                        i -> IndianPackedDate.year(packed[i]) == y && IndianPackedDate.month(packed[i]) == m);
+                assertThat(IndianDateArrays.rangeOfMonth(epochDays, year, month), is(monthRange));
+            }
+        }
+
+        int from = IndianPackedDate.pack(1942, 5, 10);
+        int to = IndianPackedDate.pack(1943, 2, 3);
+        int[] window = IndianDateArrays.rangeOfDates(packed, from, to);
+        verifyRange(window, packed.length, i -> packed[i] >= from && packed[i] <= to);
+        assertThat(IndianDateArrays.rangeOfDates(epochDays, IndianPackedDate.toEpochDay(from),
+                IndianPackedDate.toEpochDay(to)), is(window));
+        int[] empty = IndianDateArrays.rangeOfDates(packed, to, from);
+        assertThat(empty[1], is(empty[0]));
+    }
+
+    /**
+     * Verifies that exactly the indexes in the range match.
+     */
+    private static void verifyRange(int[] range, int length, IntPredicate matches) {
+        for (int i = 0; i < length; i++) {
+            assertThat("index " + i, matches.test(i), is(i >= range[0] && i < range[1]));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Tests the {@link IndianDateFileConverter} class.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateFileConverter {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testIsoToSaka() throws IOException {
+        StringBuilder input = new StringBuilder("id,date,comment,\"other date\"\r\n");
+        StringBuilder expected = new StringBuilder("id,date,comment,\"other date\"\r\n");
+        LocalDate date = LocalDate.of(1890, 1, 1);
+        for (int i = 0; i < 2000; i++, date = date.plusDays(37)) {
+            LocalDate other = date.minusDays(i * 11L);
+            String saka = IndianNationalDate.of(date).toString();
+            String otherSaka = IndianNationalDate.of(other).toString();
+            input.append(i).append(',').append(date).append(",\"a, b\",\"").append(other).append("\"\r\n");
+            expected.append(i).append(',').append(saka).append(",\"a, b\",\"").append(otherSaka).append("\"\r\n");
+        }
+        // the last line doesn't end with a line break and has an invalid date
+        input.append("x,2023-02-32,,");
+        expected.append("x,2023-02-32,,");
+
+        // small segments so that the file is split into many segments converted in parallel
+        IndianDateFileConverter converter = new IndianDateFileConverter(IndianDateFileConverter.Direction.ISO_TO_SAKA,
+                ',', new int[] {1, 3}, 3, 256);
+        Path in = write("in.csv", input.toString());
+        Path out = folder.getRoot().toPath().resolve("out.csv");
+        IndianDateFileConverter.Summary summary = converter.convert(in, out);
+        assertThat(read(out), is(expected.toString()));
+        assertThat(summary.getLines(), is(2002L));
+        assertThat(summary.getConvertedFields(), is(4000L));
+        assertThat(summary.getBytes(), is(Files.size(in)));
+
+        // and back to Iso
+        IndianDateFileConverter reverse = new IndianDateFileConverter(IndianDateFileConverter.Direction.SAKA_TO_ISO,
+                ',', new int[] {1, 3}, 2, 1 << 20);
+        Path back = folder.getRoot().toPath().resolve("back.csv");
+        reverse.convert(out, back);
+        assertThat(read(back), is(input.toString()));
+    }
+
+    @Test
+    public void testTabDelimitedSakaToIso() throws IOException {
+        Path in = write("in.tsv", "1942-01-01\t1942-12-30\n1941-12-30\t-079-10-11\n1941-13-01\t1941-12-31\n");
+        Path out = folder.getRoot().toPath().resolve("out.tsv");
+        new IndianDateFileConverter(IndianDateFileConverter.Direction.SAKA_TO_ISO, '\t', new int[] {0, 1}, 1, 32)
+                .convert(in, out);
+        assertThat(read(out), is("2020-03-21\t2021-03-21\n2020-03-20\t0000-01-01\n1941-13-01\t1941-12-31\n"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testLineLongerThanSegment() throws IOException {
+        Path in = write("long.csv", "2020-01-01,2020-01-01,2020-01-01\n2020-01-01\n");
+        new IndianDateFileConverter(IndianDateFileConverter.Direction.ISO_TO_SAKA, ',', new int[] {0}, 1, 8)
+                .convert(in, folder.getRoot().toPath().resolve("long.out"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDelimiter() {
+        new IndianDateFileConverter(IndianDateFileConverter.Direction.ISO_TO_SAKA, '"', new int[] {0}, 1, 8);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(folder.getRoot().toPath().resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,226 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests the {@link IndianDateHistogram} class with concurrent increments, rollups and serialization.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateHistogram {
+
+    // 1 Chaitra 1945 to the end of Phalguna 1948
+    private static final long FIRST = new IndianNationalDate(1945, 1, 1).toEpochDay();
+    private static final long LAST = new IndianNationalDate(1949, 1, 1).toEpochDay() - 1;
+
+    @Test
+    public void testConcurrentIncrements() throws Exception {
+        IndianDateHistogram histogram = IndianDateHistogram.of(FIRST, LAST, 4);
+        int days = (int) (LAST - FIRST + 1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        histogram.increment(FIRST + i % days);
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        IndianDateHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.total(), is(400_000L));
+        for (int i = 0; i < days; i++) {
+            long expected = 8L * (50_000 / days + (i < 50_000 % days ? 1 : 0));
+            assertThat(snapshot.count(FIRST + i), is(expected));
+            assertThat(histogram.count(FIRST + i), is(expected));
+        }
+        assertThat(histogram.getOutOfWindowCount(), is(0L));
+    }
+
+    @Test
+    public void testSnapshotSeesWholeIncrements() throws Exception {
+        IndianDateHistogram histogram = IndianDateHistogram.of(FIRST, LAST, 2);
+        // each bulk increment counts the first and the last day, so a snapshot always sees equal counts
+        long[] batch = {FIRST, LAST};
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int t = 0; t < 4; t++) {
+                executor.submit(() -> {
+                    while (!done.get()) {
+                        histogram.incrementAll(batch, 0, batch.length);
+                    }
+                });
+            }
+            for (int i = 0; i < 200; i++) {
+                IndianDateHistogram.Snapshot snapshot = histogram.snapshot();
+                assertThat(snapshot.count(FIRST), is(snapshot.count(LAST)));
+            }
+        } finally {
+            done.set(true);
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSnapshotUnderSustainedIncrements() throws Exception {
+        // a single stripe over the largest window, so every drain is long and every increment lands on it
+        long last = FIRST + IndianDateHistogram.MAX_DAYS - 1;
+        IndianDateHistogram histogram = IndianDateHistogram.of(FIRST, last, 1);
+        long[] batch = {FIRST, last};
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int t = 0; t < 3; t++) {
+                executor.submit(() -> {
+                    while (!done.get()) {
+                        histogram.incrementAll(batch, 0, batch.length);
+                        histogram.increment(FIRST + 1);
+                    }
+                });
+            }
+            Future<Long> snapshots = executor.submit(() -> {
+                long previous = 0;
+                for (int i = 0; i < 20; i++) {
+                    IndianDateHistogram.Snapshot snapshot = histogram.snapshot();
+                    assertThat(snapshot.count(FIRST), is(snapshot.count(last)));
+                    assertThat(snapshot.total() >= previous, is(true));
+                    previous = snapshot.total();
+                }
+                return previous;
+            });
+            long total = snapshots.get(30, TimeUnit.SECONDS);
+            // the increments go on after the snapshots
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (histogram.snapshot().total() == total) {
+                assertThat(System.nanoTime() < deadline, is(true));
+                Thread.sleep(1);
+            }
+        } finally {
+            done.set(true);
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testRollups() {
+        IndianDateHistogram histogram = IndianDateHistogram.of(new IndianNationalDate(1945, 6, 10),
+                                                               new IndianNationalDate(1948, 3, 20));
+        Random random = new Random(42);
+        long[] naive = new long[(int) (LAST - FIRST + 1)];
+        for (int i = 0; i < 20_000; i++) {
+            long epochDay = FIRST + random.nextInt(naive.length);
+            if (histogram.add(epochDay, 3)) {
+                naive[(int) (epochDay - FIRST)] += 3;
+            }
+        }
+        IndianDateHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.firstMonth(), is(IndianYearMonth.of(1945, 6)));
+        assertThat(snapshot.firstYear(), is(1945));
+
+        long[] months = snapshot.monthCounts();
+        assertThat(months.length, is(7 + 24 + 3));
+        for (int i = 0; i < months.length; i++) {
+            IndianYearMonth month = IndianYearMonth.of(1945, 6).plusMonths(i);
+            long expected = 0;
+            for (long day = month.startEpochDay(); day <= month.endEpochDay(); day++) {
+                expected += naive[(int) (day - FIRST)];
+            }
+            assertThat(month.toString(), months[i], is(expected));
+            assertThat(month.toString(), snapshot.countOfMonth(month), is(expected));
+        }
+
+        long[] years = snapshot.yearCounts();
+        assertThat(years.length, is(4));
+        long total = 0;
+        for (int i = 0; i < years.length; i++) {
+            long expected = 0;
+            for (int month = 1; month <= 12; month++) {
+                expected += snapshot.countOfMonth(IndianYearMonth.of(1945 + i, month));
+            }
+            assertThat(years[i], is(expected));
+            assertThat(snapshot.countOfYear(1945 + i), is(expected));
+            total += expected;
+        }
+        assertThat(snapshot.total(), is(total));
+        assertThat(histogram.getOutOfWindowCount(), is(3 * 20_000L - total));
+    }
+
+    @Test
+    public void testMergeAndSerialization() throws IOException {
+        IndianDateHistogram first = IndianDateHistogram.of(FIRST, FIRST + 99);
+        IndianDateHistogram second = IndianDateHistogram.of(FIRST + 50, FIRST + 199);
+        for (long day = FIRST; day < FIRST + 200; day++) {
+            first.add(day, day - FIRST);
+            second.add(day, -1);
+        }
+        IndianDateHistogram.Snapshot merged = first.snapshot().merge(second.snapshot());
+        assertThat(merged.getFirstEpochDay(), is(FIRST));
+        assertThat(merged.getLastEpochDay(), is(FIRST + 199));
+        assertThat(merged.count(FIRST + 10), is(10L));
+        assertThat(merged.count(FIRST + 60), is(59L));
+        assertThat(merged.count(FIRST + 150), is(-1L));
+
+        byte[] bytes = merged.toByteArray();
+        assertThat(IndianDateHistogram.Snapshot.fromByteArray(bytes), is(merged));
+        // an empty snapshot has no counts to write
+        assertThat(IndianDateHistogram.of(FIRST, LAST).snapshot().toByteArray().length, is(21));
+
+        IndianDateHistogram total = IndianDateHistogram.of(FIRST + 100, LAST);
+        total.add(IndianDateHistogram.Snapshot.fromByteArray(bytes));
+        assertThat(total.count(FIRST + 150), is(-1L));
+        assertThat(total.getOutOfWindowCount(), is(merged.count(FIRST, FIRST + 99)));
+
+        bytes[0] = 9;
+        try {
+            IndianDateHistogram.Snapshot.fromByteArray(bytes);
+            fail("unsupported version");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Unsupported IndianDateHistogram version: 9"));
+        }
+    }
+
+    @Test
+    public void testWindow() {
+        IndianDateHistogram histogram = IndianDateHistogram.of(FIRST, FIRST, 3);
+        assertThat(histogram.getStripes(), is(4));
+        assertThat(histogram.increment(new IndianNationalDate(1945, 1, 1)), is(true));
+        assertThat(histogram.increment(FIRST - 1), is(false));
+        assertThat(histogram.incrementAll(new long[] {FIRST, FIRST + 1, FIRST}, 0, 3), is(2));
+        assertThat(histogram.count(FIRST), is(3L));
+        assertThat(histogram.getOutOfWindowCount(), is(2L));
+        try {
+            IndianDateHistogram.of(FIRST, FIRST - 1);
+            fail("empty window");
+        } catch (DateTimeException e) {
+            // expected
+        }
+        try {
+            IndianDateHistogram.of(FIRST, FIRST + IndianDateHistogram.MAX_DAYS);
+            fail("window too long");
+        } catch (DateTimeException e) {
+            // expected
+        }
+    }
+}
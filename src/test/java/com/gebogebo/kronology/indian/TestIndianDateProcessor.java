@@ -0,0 +1,212 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the {@link IndianDateProcessor} class.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateProcessor {
+
+    @Test
+    public void testDates() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            IndianDateProcessor<LocalDate, IndianNationalDate> processor =
+                    IndianDateProcessor.toDates(LocalDate::toEpochDay, executor, 64);
+            Collector<IndianNationalDate> collector = new Collector<>(7);
+            processor.subscribe(collector);
+            try (SubmissionPublisher<LocalDate> publisher = new SubmissionPublisher<>(executor, 16)) {
+                publisher.subscribe(processor);
+                for (int i = 0; i < 5000; i++) {
+                    publisher.submit(LocalDate.of(1890, 1, 1).plusDays(i * 13L));
+                }
+            }
+            assertThat(collector.done.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(collector.items.size(), is(5000));
+            for (int i = 0; i < 5000; i++) {
+                LocalDate expected = LocalDate.of(1890, 1, 1).plusDays(i * 13L);
+                assertThat(collector.items.get(i), is(IndianNationalDate.of(expected)));
+            }
+            assertThat(processor.getReceivedCount(), is(5000L));
+            assertThat(processor.getEmittedCount(), is(5000L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBackpressure() {
+        IndianDateProcessor<Long, String> processor = IndianDateProcessor.toStrings(Long::longValue, Runnable::run, 4);
+        Upstream upstream = new Upstream();
+        processor.onSubscribe(upstream);
+        // nothing is requested before there is a subscriber
+        assertThat(upstream.requested, is(0L));
+
+        Collector<String> collector = new Collector<>(0);
+        processor.subscribe(collector);
+        assertThat(upstream.requested, is(8L));
+        for (long i = 0; i < 8; i++) {
+            processor.onNext(LocalDate.of(2024, 3, 21).toEpochDay() + i);
+        }
+        assertThat(collector.items.size(), is(0));
+
+        collector.subscription.request(3);
+        assertThat(collector.items, is(list("1946-01-01", "1946-01-02", "1946-01-03")));
+        // a batch and a remaining item are buffered, so no more is requested
+        assertThat(upstream.requested, is(8L));
+
+        collector.subscription.request(2);
+        assertThat(collector.items.size(), is(5));
+        assertThat(upstream.requested, is(13L));
+        assertThat(processor.getBatchCount(), is(2L));
+
+        processor.onComplete();
+        assertThat(collector.done.getCount(), is(1L));
+        collector.subscription.request(Long.MAX_VALUE);
+        assertThat(collector.items.size(), is(8));
+        assertThat(collector.done.getCount(), is(0L));
+        assertThat(collector.error == null, is(true));
+    }
+
+    @Test
+    public void testCompletionWithoutDemand() {
+        IndianDateProcessor<Long, String> processor = IndianDateProcessor.toStrings(Long::longValue, Runnable::run, 4);
+        processor.onSubscribe(new Upstream());
+        Collector<String> collector = new Collector<>(0);
+        processor.subscribe(collector);
+        // exactly the published items are requested, so there is no demand left when the upstream completes
+        collector.subscription.request(2);
+        processor.onNext(LocalDate.of(2024, 3, 21).toEpochDay());
+        processor.onNext(LocalDate.of(2024, 3, 22).toEpochDay());
+        assertThat(collector.items, is(list("1946-01-01", "1946-01-02")));
+        processor.onComplete();
+        assertThat(collector.done.getCount(), is(0L));
+        assertThat(collector.error == null, is(true));
+    }
+
+    @Test
+    public void testPackedDates() {
+        IndianDateProcessor<Long, Integer> processor = IndianDateProcessor.toPackedDates(Long::longValue,
+                Runnable::run, 3);
+        Collector<Integer> collector = new Collector<>(Long.MAX_VALUE);
+        processor.subscribe(collector);
+        processor.onSubscribe(new Upstream());
+        processor.onNext(LocalDate.of(2024, 3, 21).toEpochDay());
+        processor.onNext(LocalDate.of(1947, 8, 15).toEpochDay());
+        processor.onComplete();
+        assertThat(collector.items, is(list(IndianPackedDate.pack(1946, 1, 1), IndianPackedDate.pack(1869, 5, 24))));
+        assertThat(collector.done.getCount(), is(0L));
+    }
+
+    @Test
+    public void testInvalidItem() {
+        IndianDateProcessor<Long, IndianNationalDate> processor = IndianDateProcessor.toDates(Long::longValue,
+                Runnable::run, 3);
+        Collector<IndianNationalDate> collector = new Collector<>(Long.MAX_VALUE);
+        Upstream upstream = new Upstream();
+        processor.subscribe(collector);
+        processor.onSubscribe(upstream);
+        processor.onNext(0L);
+        processor.onNext(Long.MAX_VALUE);
+        assertThat(collector.error, instanceOf(DateTimeException.class));
+        assertThat(upstream.cancelled, is(true));
+    }
+
+    @Test
+    public void testSecondSubscriber() {
+        IndianDateProcessor<Long, String> processor = IndianDateProcessor.toStrings(Long::longValue);
+        processor.subscribe(new Collector<>(1));
+        Collector<String> second = new Collector<>(1);
+        processor.subscribe(second);
+        assertThat(second.error, instanceOf(IllegalStateException.class));
+    }
+
+    @SafeVarargs
+    private static <T> List<T> list(T... items) {
+        List<T> list = new ArrayList<>();
+        for (T item : items) {
+            list.add(item);
+        }
+        return list;
+    }
+
+    /**
+     * A subscription recording the requests of the processor.
+     */
+    private static class Upstream implements Flow.Subscription {
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * A subscriber collecting the items, requesting the given number of items whenever the previous ones arrived.
+     */
+    private static class Collector<T> implements Flow.Subscriber<T> {
+        private final long requestSize;
+        private final List<T> items = new ArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private long outstanding;
+        private volatile Throwable error;
+
+        private Collector(long requestSize) {
+            this.requestSize = requestSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (requestSize > 0) {
+                outstanding = requestSize;
+                subscription.request(requestSize);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            if (requestSize > 0 && requestSize != Long.MAX_VALUE && --outstanding == 0) {
+                outstanding = requestSize;
+                subscription.request(requestSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Tests the {@link IndianDateRenderer} class.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateRenderer {
+
+    private static final LocalDate INDEPENDENCE_DAY = LocalDate.of(1947, 8, 15);
+
+    @Test
+    public void testEnglish() {
+        IndianNationalDate date = IndianNationalDate.of(INDEPENDENCE_DAY);
+        assertThat(render(IndianDateRenderer.ENGLISH, date), is("Friday, 24 Shravana 1869"));
+        assertThat(IndianDateRenderer.ENGLISH.withNativeDigits(true).appendDate(date, new StringBuilder()).toString(),
+                is("24 Shravana 1869"));
+        assertThat(IndianDateRenderer.ENGLISH.appendDate(new IndianNationalDate(-78, 10, 11), new StringBuilder())
+                .toString(), is("11 Pausha -78"));
+    }
+
+    @Test
+    public void testHindi() {
+        IndianNationalDate date = IndianNationalDate.of(INDEPENDENCE_DAY);
+        IndianDateRenderer hindi = IndianDateRenderer.of(new Locale("hi", "IN"));
+        assertThat(hindi, is(IndianDateRenderer.HINDI));
+        // Shukravar, 24 Shravan 1869
+        assertThat(render(hindi, date), is("\u0936\u0941\u0915\u094d\u0930\u0935\u093e\u0930, 24 "
+                + "\u0936\u094d\u0930\u093e\u0935\u0923 1869"));
+        // the same with Devanagari digits
+        assertThat(render(hindi.withNativeDigits(true), date), is("\u0936\u0941\u0915\u094d\u0930\u0935\u093e\u0930, "
+                + "\u0968\u096a \u0936\u094d\u0930\u093e\u0935\u0923 \u0967\u096e\u096c\u096f"));
+    }
+
+    @Test
+    public void testAllLanguages() {
+        for (IndianDateRenderer renderer : new IndianDateRenderer[] {IndianDateRenderer.ENGLISH,
+                IndianDateRenderer.HINDI, IndianDateRenderer.MARATHI, IndianDateRenderer.GUJARATI,
+                IndianDateRenderer.BENGALI}) {
+            assertThat(IndianDateRenderer.of(renderer.getLocale()), is(renderer));
+            for (boolean nativeDigits : new boolean[] {false, true}) {
+                IndianDateRenderer r = renderer.withNativeDigits(nativeDigits);
+                for (int i = 0; i < 800; i++) {
+                    LocalDate localDate = INDEPENDENCE_DAY.plusDays(i * 29L);
+                    IndianNationalDate date = IndianNationalDate.of(localDate);
+                    String expected = render(r, date);
+                    assertThat(r.appendFullDate(localDate.toEpochDay(), new StringBuilder()).toString(), is(expected));
+                    ByteBuffer buffer = ByteBuffer.allocate(128);
+                    r.writeFullDate(localDate.toEpochDay(), buffer);
+                    assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8), is(expected));
+                    buffer.clear();
+                    r.writeFullDate(date, buffer);
+                    assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8), is(expected));
+                }
+            }
+        }
+        assertThat(IndianDateRenderer.of(Locale.FRENCH), is(IndianDateRenderer.ENGLISH));
+    }
+
+    @Test
+    public void testNamesAndNumbers() {
+        StringBuilder builder = new StringBuilder();
+        IndianDateRenderer.ENGLISH.appendMonthName(12, builder).append(' ');
+        IndianDateRenderer.ENGLISH.appendDayOfWeekName(DayOfWeek.SUNDAY, builder).append(' ');
+        IndianDateRenderer.ENGLISH.appendNumber(Long.MIN_VALUE, builder).append(' ');
+        IndianDateRenderer.ENGLISH.appendNumber(0, builder);
+        assertThat(builder.toString(), is("Phalguna Sunday -9223372036854775808 0"));
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        IndianDateRenderer.BENGALI.withNativeDigits(true).writeNumber(1907, buffer);
+        // 1907 in Bengali digits
+        assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8),
+                is("\u09e7\u09ef\u09e6\u09ed"));
+    }
+
+    private static String render(IndianDateRenderer renderer, IndianNationalDate date) {
+        return renderer.appendFullDate(date, new StringBuilder()).toString();
+    }
+}
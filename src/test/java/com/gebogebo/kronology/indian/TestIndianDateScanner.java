@@ -0,0 +1,139 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tests the {@link IndianDateScanner} class on numeric and named dates in English and Indian languages.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateScanner {
+
+    private static final IndianDateScanner SCANNER = IndianDateScanner.INSTANCE;
+
+    @Test
+    public void testEnglish() {
+        String text = "Notified on 12 Shravana 1946 and 1946-05-13; amended on the 3rd sravana, 1946.\n"
+                      + "Effective from 1 CHAITRA\n1947 (1946-1-2).";
+        assertThat(scan(text), is(Arrays.asList(
+                "12 Shravana 1946=1946-05-12", "1946-05-13=1946-05-13", "3rd sravana, 1946=1946-05-03",
+                "1 CHAITRA\n1947=1947-01-01", "1946-1-2=1946-01-02")));
+    }
+
+    @Test
+    public void testIndianLanguages() {
+        // 12 Shravana 1946 in Hindi with Devanagari digits
+        String hindi = "\u0926\u093f\u0928\u093e\u0902\u0915 \u0967\u0968 \u0936\u094d\u0930\u093e\u0935\u0923 "
+                       + "\u0967\u096f\u096a\u096c \u0915\u094b";
+        // 5 Ashadha 1946 with the nukta composed and precomposed, ASCII digits
+        String ashadha = "5 \u0906\u0937\u093e\u0922\u093c 1946, 6 \u0906\u0937\u093e\u095d 1946";
+        // 20 Magha 1945 in Bengali with Bengali digits, 1 Kartika 1948 in Gujarati with Gujarati digits
+        String others = "\u09e8\u09e6 \u09ae\u09be\u0998 \u09e7\u09ef\u09ea\u09eb / "
+                        + "\u0ae7 \u0a95\u0abe\u0ab0\u0aa4\u0a95 \u0ae7\u0aef\u0aea\u0aee";
+        assertThat(dates(hindi), is(Collections.singletonList("1946-05-12")));
+        assertThat(dates(ashadha), is(Arrays.asList("1946-04-05", "1946-04-06")));
+        assertThat(dates(others), is(Arrays.asList("1945-11-20", "1948-08-01")));
+    }
+
+    @Test
+    public void testRejected() {
+        for (String text : new String[] {
+                "a1946-05-12", "19460-05-12", "1946-05-123", "1946-13-01", "31 Kartika 1946",
+                "12 Shravanax 1946", "123 Shravana 1946", "12Shravana 1946", "12 Shravana1946", "12 Shravana 1946a",
+                "31 Chaitra 1945", "12 Shravana 99999999", "x12 Shravana 1946", "12 Foo 1946", "12 Shravana",
+                "1946-05-12a", "1946-05-12th", "1946-05-12\u0915"}) {
+            assertThat(text, scan(text), is(Collections.<String>emptyList()));
+        }
+        // a leap year has 31 days in Chaitra
+        assertThat(dates("31 Chaitra 1946"), is(Collections.singletonList("1946-01-31")));
+        assertThat(dates("1946-05-12-"), is(Collections.singletonList("1946-05-12")));
+    }
+
+    @Test
+    public void testUtf8MatchesChars() {
+        Random random = new Random(42);
+        String[] pieces = {
+            " ", "\n", "lorem ", "ipsum, ", "\u0926\u093f\u0928\u093e\u0902\u0915 ", "\ud83d\ude00", "1946-05-12",
+            "12 Shravana 1946", "\u0967\u0968 \u0936\u094d\u0930\u093e\u0935\u0923 \u0967\u096f\u096a\u096c",
+            "7th Pausha 1870", "42", "2026-10-19", "0001-01-01"
+        };
+        for (int round = 0; round < 200; round++) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < 40; i++) {
+                builder.append(pieces[random.nextInt(pieces.length)]);
+            }
+            String text = builder.toString();
+            List<String> fromChars = dates(text);
+            List<String> fromBytes = new ArrayList<>();
+            byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+            SCANNER.scan(utf8, (start, end, packed) -> {
+                String found = new String(utf8, start, end - start, StandardCharsets.UTF_8);
+                assertThat(found, SCANNER.scan(found, (s, e, p) -> assertThat(p, is(packed))), is(1));
+                fromBytes.add(IndianPackedDate.toDate(packed).toString());
+            });
+            assertThat(text, fromBytes, is(fromChars));
+        }
+    }
+
+    @Test
+    public void testRange() {
+        String text = "on 1946-05-12 and 12 Shravana 1946";
+        assertThat(SCANNER.scan(text, 3, 13, (start, end, packed) -> assertThat(start, is(3))), is(1));
+        // the date doesn't fit in the range, or doesn't start at a word boundary
+        assertThat(SCANNER.scan(text, 3, 12, (start, end, packed) -> { }), is(0));
+        assertThat(SCANNER.scan(text, 4, 13, (start, end, packed) -> { }), is(0));
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        assertThat(SCANNER.scan(utf8, 14, utf8.length, (start, end, packed) -> assertThat(start, is(18))), is(1));
+    }
+
+    @Test
+    public void testScanAll() {
+        List<String> documents = new ArrayList<>();
+        byte[][] utf8Documents = new byte[500][];
+        for (int i = 0; i < utf8Documents.length; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (int j = 0; j < i % 7; j++) {
+                builder.append("item ").append(j).append(" due on ").append(j + 1).append(" Magha 1946.\n");
+            }
+            documents.add(builder.toString());
+            utf8Documents[i] = builder.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        AtomicLongArray counts = new AtomicLongArray(documents.size());
+        long total = SCANNER.scanAll(documents, (document, start, end, packed) -> counts.incrementAndGet(document));
+        long utf8Total = SCANNER.scanAll(utf8Documents, (document, start, end, packed) -> {
+            assertThat(IndianPackedDate.month(packed), is(11));
+            counts.decrementAndGet(document);
+        });
+        assertThat(utf8Total, is(total));
+        long expected = 0;
+        for (int i = 0; i < documents.size(); i++) {
+            expected += i % 7;
+            assertThat(counts.get(i), is(0L));
+        }
+        assertThat(total, is(expected));
+    }
+
+    private static List<String> scan(String text) {
+        List<String> found = new ArrayList<>();
+        SCANNER.scan(text, (start, end, packed) -> found.add(text.substring(start, end) + "="
+                                                             + IndianPackedDate.toDate(packed)));
+        return found;
+    }
+
+    private static List<String> dates(String text) {
+        List<String> found = new ArrayList<>();
+        SCANNER.scan(text, (start, end, packed) -> found.add(IndianPackedDate.toDate(packed).toString()));
+        return found;
+    }
+}
@@ -0,0 +1,189 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests the {@link IndianDateSet} class against a {@link BitSet} of epoch days.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateSet {
+
+    // the random days are 100,000 days either side of 1990-01-01
+    private static final int ORIGIN = (int) LocalDate.of(1990, 1, 1).toEpochDay() - 100_000;
+    private static final int SPAN = 200_000;
+
+    @Test
+    public void testAddContainsRemove() {
+        IndianDateSet set = new IndianDateSet();
+        IndianNationalDate date = new IndianNationalDate(1946, 5, 12);
+        set.add(date);
+        set.add(-1);
+        set.add(-65537);
+        assertThat(set.contains(date), is(true));
+        assertThat(set.contains(-1), is(true));
+        assertThat(set.contains(-65537), is(true));
+        assertThat(set.contains(-65536), is(false));
+        assertThat(set.cardinality(), is(3L));
+
+        set.remove(date);
+        assertThat(set.contains(date), is(false));
+        assertThat(set.toEpochDayArray(), is(new int[] {-65537, -1}));
+    }
+
+    @Test
+    public void testRanges() {
+        IndianDateSet set = new IndianDateSet();
+        // a whole Saka year of blackout
+        IndianNationalDate from = new IndianNationalDate(1945, 1, 1);
+        IndianNationalDate to = new IndianNationalDate(1946, 1, 1);
+        set.addRange(from, to);
+        assertThat(set.cardinality(), is(365L));
+        set.removeRange(new IndianNationalDate(1945, 5, 1), new IndianNationalDate(1945, 6, 1));
+        assertThat(set.cardinality(), is(365L - 31));
+        assertThat(set.contains(new IndianNationalDate(1945, 4, 31)), is(true));
+        assertThat(set.contains(new IndianNationalDate(1945, 5, 15)), is(false));
+        assertThat(set.nextEpochDay(new IndianNationalDate(1945, 5, 1).toEpochDay()),
+                is(new IndianNationalDate(1945, 6, 1).toEpochDay()));
+        assertThat(set.nextEpochDay(to.toEpochDay()), is(Long.MIN_VALUE));
+
+        List<IndianNationalDate> dates = new ArrayList<>();
+        set.forEach(dates::add);
+        assertThat(dates.get(0), is(from));
+        assertThat(dates.get(dates.size() - 1), is(new IndianNationalDate(1945, 12, 30)));
+    }
+
+    @Test
+    public void testRandomOperations() throws IOException {
+        Random random = new Random(1946);
+        for (int round = 0; round < 8; round++) {
+            IndianDateSet a = new IndianDateSet();
+            IndianDateSet b = new IndianDateSet();
+            BitSet expectedA = new BitSet();
+            BitSet expectedB = new BitSet();
+            populate(random, a, expectedA);
+            populate(random, b, expectedB);
+            verify(a, expectedA);
+            verify(b, expectedB);
+
+            IndianDateSet union = new IndianDateSet(a);
+            union.or(b);
+            BitSet expectedUnion = (BitSet) expectedA.clone();
+            expectedUnion.or(expectedB);
+            verify(union, expectedUnion);
+
+            IndianDateSet intersection = new IndianDateSet(a);
+            intersection.and(b);
+            BitSet expectedIntersection = (BitSet) expectedA.clone();
+            expectedIntersection.and(expectedB);
+            verify(intersection, expectedIntersection);
+            assertThat(a.intersects(b), is(expectedA.intersects(expectedB)));
+
+            IndianDateSet difference = new IndianDateSet(a);
+            difference.andNot(b);
+            BitSet expectedDifference = (BitSet) expectedA.clone();
+            expectedDifference.andNot(expectedB);
+            verify(difference, expectedDifference);
+
+            IndianDateSet read = IndianDateSet.fromByteArray(union.toByteArray());
+            assertThat(read, is(union));
+            verify(read, expectedUnion);
+        }
+    }
+
+    @Test
+    public void testEqualsAcrossContainers() {
+        // the same days in a run container and in an array or a bitmap container
+        for (int days : new int[] {100, 5000}) {
+            IndianDateSet ranges = new IndianDateSet();
+            IndianDateSet singles = new IndianDateSet();
+            ranges.addRange(1000, 1000 + days);
+            for (int day = 1000; day < 1000 + days; day++) {
+                singles.add(day);
+            }
+            assertThat(singles, is(ranges));
+            assertThat(singles.hashCode(), is(ranges.hashCode()));
+            assertThat(singles.intersects(ranges), is(true));
+
+            singles.remove(1000 + days / 2);
+            assertThat(singles.equals(ranges), is(false));
+            IndianDateSet other = new IndianDateSet();
+            other.add(1000 + days / 2);
+            assertThat(singles.intersects(other), is(false));
+            assertThat(ranges.intersects(other), is(true));
+            assertThat(other.intersects(ranges), is(true));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidSerializedForm() throws IOException {
+        IndianDateSet.fromByteArray(new byte[] {9, 0, 0, 0, 0});
+    }
+
+    @Test(expected = IOException.class)
+    public void testEmptyBitmapContainer() throws IOException {
+        // version, one container with key 0, of the bitmap type and without any bit set
+        byte[] bytes = new byte[1 + 4 + 4 + 1 + 8192];
+        bytes[0] = 1;
+        bytes[4] = 1;
+        bytes[9] = 1;
+        IndianDateSet.fromByteArray(bytes);
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnsortedContainerKeys() throws IOException {
+        // two array containers of one day each, with keys 1 and 0
+        IndianDateSet.fromByteArray(new byte[] {1, 0, 0, 0, 2, 0, 0, 0, 1, 0, 0, 0, 0, 5, 0, 0, 0, 0, 0, 0, 0, 0, 5});
+    }
+
+    /**
+     * Applies random single day and range operations to the set and to the expected bits, indexed by the offset of
+     * the epoch day from {@link #ORIGIN}.
+     */
+    private static void populate(Random random, IndianDateSet set, BitSet expected) {
+        for (int i = 0; i < 3000; i++) {
+            int day = ORIGIN + random.nextInt(SPAN);
+            int operation = random.nextInt(10);
+            if (operation < 6) {
+                set.add(day);
+                expected.set(day - ORIGIN);
+            } else if (operation < 8) {
+                set.remove(day);
+                expected.clear(day - ORIGIN);
+            } else {
+                int length = random.nextInt(operation == 8 ? 5000 : 300);
+                if (operation == 8) {
+                    set.addRange(day, day + length);
+                    expected.set(day - ORIGIN, day - ORIGIN + length);
+                } else {
+                    set.removeRange(day, day + length);
+                    expected.clear(day - ORIGIN, day - ORIGIN + length);
+                }
+            }
+        }
+    }
+
+    private static void verify(IndianDateSet set, BitSet expected) {
+        int[] expectedDays = expected.stream().map(offset -> offset + ORIGIN).toArray();
+        assertThat(set.cardinality(), is((long) expectedDays.length));
+        // hamcrest compares arrays element by element through reflection, which is slow for a hundred thousand days
+        assertArrayEquals(expectedDays, set.toEpochDayArray());
+        assertArrayEquals(expectedDays, set.epochDayStream().toArray());
+        for (int offset = 0; offset < SPAN + 5000; offset += 97) {
+            assertThat(set.contains(ORIGIN + offset), is(expected.get(offset)));
+            int next = expected.nextSetBit(offset);
+            assertThat(set.nextEpochDay(ORIGIN + offset), is(next < 0 ? Long.MIN_VALUE : (long) next + ORIGIN));
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.gebogebo.kronology.indian.IndianDateStreamCodec.EncodedDates;
+import com.gebogebo.kronology.indian.IndianDateStreamCodec.Encoding;
+
+/**
+ * Tests the {@link IndianDateStreamCodec} class by round trips of sorted, unsorted and extreme epoch days.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateStreamCodec {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        for (Encoding encoding : Encoding.values()) {
+            for (int blockSize : new int[] {1, 7, IndianDateStreamCodec.DEFAULT_BLOCK_SIZE}) {
+                IndianDateStreamCodec codec = IndianDateStreamCodec.of(encoding, blockSize);
+                for (long[] epochDays : samples()) {
+                    byte[] bytes = codec.encode(epochDays);
+                    assertThat(encoding + " " + blockSize, codec.decode(bytes), is(epochDays));
+                    assertThat(bytes.length <= codec.maxEncodedLength(epochDays.length), is(true));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSortedDatesAreCompact() {
+        long[] epochDays = new long[10_000];
+        long epochDay = new IndianNationalDate(1948, 1, 1).toEpochDay();
+        Random random = new Random(7);
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDay += random.nextInt(3);
+            epochDays[i] = epochDay;
+        }
+        for (Encoding encoding : Encoding.values()) {
+            IndianDateStreamCodec codec = IndianDateStreamCodec.of(encoding);
+            codec.encode(epochDays);
+            assertThat(encoding.toString(), codec.getStatistics().getBytesPerDate() < 1.2, is(true));
+        }
+    }
+
+    @Test
+    public void testRandomAccess() throws IOException {
+        long[] epochDays = samples()[2];
+        for (Encoding encoding : Encoding.values()) {
+            IndianDateStreamCodec codec = IndianDateStreamCodec.of(encoding, 16);
+            ByteBuffer buffer = ByteBuffer.wrap(codec.encode(epochDays));
+            EncodedDates dates = codec.open(buffer);
+            assertThat(buffer.remaining(), is(0));
+            assertThat(dates.size(), is(epochDays.length));
+            assertThat(dates.blockCount(), is((epochDays.length + 15) / 16));
+            assertThat(dates.getEncoding(), is(encoding));
+            for (int i = epochDays.length - 1; i >= 0; i--) {
+                assertThat(dates.getEpochDay(i), is(epochDays[i]));
+            }
+            assertThat(dates.get(3), is(IndianNationalDate.ofEpochDay(epochDays[3])));
+
+            long[] block = new long[16];
+            int last = dates.blockCount() - 1;
+            int count = dates.decodeBlock(last, block, 0);
+            assertThat(count, is(epochDays.length - last * 16));
+            assertThat(Arrays.copyOf(block, count), is(Arrays.copyOfRange(epochDays, last * 16, epochDays.length)));
+            try {
+                dates.getEpochDay(epochDays.length);
+                fail("index past the end");
+            } catch (IndexOutOfBoundsException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testBufferPositions() throws IOException {
+        IndianDateStreamCodec codec = IndianDateStreamCodec.of(Encoding.VARINT_DELTA);
+        long[] first = {1, 2, 3};
+        long[] second = {-20, 40};
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        buffer.put((byte) 42);
+        codec.encode(first, buffer);
+        codec.encode(second, 1, 2, buffer);
+        buffer.flip();
+        assertThat(buffer.get(), is((byte) 42));
+        assertThat(codec.decode(buffer), is(first));
+        assertThat(codec.decode(buffer), is(new long[] {40}));
+        assertThat(buffer.hasRemaining(), is(false));
+
+        ByteBuffer small = ByteBuffer.allocate(20);
+        try {
+            codec.encode(first, small);
+            fail("buffer too small");
+        } catch (BufferOverflowException e) {
+            assertThat(small.position(), is(0));
+        }
+    }
+
+    @Test
+    public void testStreams() throws IOException {
+        IndianDateStreamCodec codec = IndianDateStreamCodec.of(Encoding.BIT_PACKED, 5);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long[][] samples = samples();
+        for (long[] epochDays : samples) {
+            codec.encode(epochDays, out);
+        }
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        for (long[] epochDays : samples) {
+            assertThat(codec.decode(in), is(epochDays));
+        }
+        assertThat(in.available(), is(0));
+    }
+
+    @Test
+    public void testDates() throws IOException {
+        IndianDateStreamCodec codec = IndianDateStreamCodec.of(Encoding.VARINT_DELTA);
+        List<IndianNationalDate> dates = List.of(new IndianNationalDate(1948, 7, 27),
+                                                 new IndianNationalDate(-5, 12, 30),
+                                                 new IndianNationalDate(1948, 1, 1));
+        ByteBuffer buffer = ByteBuffer.allocate(codec.maxEncodedLength(dates.size()));
+        codec.encodeDates(dates, buffer);
+        buffer.flip();
+        assertThat(codec.decodeDates(buffer), is(dates));
+    }
+
+    @Test
+    public void testInvalid() {
+        IndianDateStreamCodec codec = IndianDateStreamCodec.of(Encoding.BIT_PACKED);
+        try {
+            codec.encode(new long[] {0, ChronoField.EPOCH_DAY.range().getMaximum() + 1});
+            fail("epoch day out of range");
+        } catch (DateTimeException e) {
+            // expected
+        }
+        byte[] bytes = codec.encode(new long[] {1, 2, 3});
+        bytes[0] = 9;
+        try {
+            codec.decode(bytes);
+            fail("unsupported version");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Unsupported encoded dates version: 9"));
+        }
+        try {
+            codec.decode(Arrays.copyOf(codec.encode(new long[] {1, 2, 3}), 20));
+            fail("truncated");
+        } catch (IOException e) {
+            // expected
+        }
+        try {
+            IndianDateStreamCodec.of(Encoding.BIT_PACKED, 0);
+            fail("block size 0");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCorruptInput() throws IOException {
+        // a varint block whose last date runs on into the bytes following the encoded dates
+        IndianDateStreamCodec varint = IndianDateStreamCodec.of(Encoding.VARINT_DELTA);
+        long[] epochDays = {1, 2, 3};
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        varint.encode(epochDays, buffer);
+        int end = buffer.position();
+        varint.encode(epochDays, buffer);
+        buffer.put(end - 1, (byte) 0x82);
+        buffer.flip();
+        EncodedDates dates = varint.open(buffer.duplicate());
+        assertThat(dates.getEpochDay(1), is(2L));
+        try {
+            dates.getEpochDay(2);
+            fail("varint past the end of the block");
+        } catch (BufferUnderflowException e) {
+            // expected
+        }
+        assertDecodeFails(varint, Arrays.copyOf(buffer.array(), buffer.limit()), "Truncated block of encoded dates");
+
+        // the offset of the only block past the end of the data
+        byte[] bytes = varint.encode(epochDays);
+        ByteBuffer.wrap(bytes).putInt(22, 3);
+        assertDecodeFails(varint, bytes, "Invalid offset of block 0: 3 (valid values 0 - 2)");
+        ByteBuffer.wrap(bytes).putInt(22, 0).putLong(14, Long.MAX_VALUE);
+        assertDecodeFails(varint, bytes, "Invalid reference epoch day of block 0: " + Long.MAX_VALUE);
+
+        // bit widths out of range, and a bit width needing more bytes than the block has
+        IndianDateStreamCodec bitPacked = IndianDateStreamCodec.of(Encoding.BIT_PACKED);
+        bytes = bitPacked.encode(epochDays);
+        int bitWidth = 14 + 12;
+        bytes[bitWidth] = 65;
+        assertDecodeFails(bitPacked, bytes, "Invalid bit width of block 0: 65 (valid values 0 - 40)");
+        bytes[bitWidth] = -1;
+        assertDecodeFails(bitPacked, bytes, "Invalid bit width of block 0: -1 (valid values 0 - 40)");
+        bytes[bitWidth] = 40;
+        assertDecodeFails(bitPacked, bytes, "Truncated block 0 of encoded dates: 16 bytes expected, 2 available");
+    }
+
+    @Test
+    public void testStatistics() throws IOException {
+        IndianDateStreamCodec codec = IndianDateStreamCodec.of(Encoding.VARINT_DELTA);
+        byte[] bytes = codec.encode(new long[] {10, 11, 12, 13});
+        codec.decode(bytes);
+        IndianDateStreamCodec.Statistics statistics = codec.getStatistics();
+        assertThat(statistics.getEncodedDates(), is(4L));
+        assertThat(statistics.getEncodedBytes(), is((long) bytes.length));
+        assertThat(statistics.getDecodedDates(), is(4L));
+        assertThat(statistics.toString().startsWith("Encoded 4 dates in " + bytes.length + " bytes"), is(true));
+    }
+
+    private static long[][] samples() {
+        Random random = new Random(42);
+        long[] sorted = new long[1000];
+        long[] unsorted = new long[333];
+        long epochDay = -800_000;
+        for (int i = 0; i < sorted.length; i++) {
+            epochDay += random.nextInt(5);
+            sorted[i] = epochDay;
+        }
+        for (int i = 0; i < unsorted.length; i++) {
+            unsorted[i] = random.nextInt(2_000_000) - 1_000_000;
+        }
+        long min = ChronoField.EPOCH_DAY.range().getMinimum();
+        long max = ChronoField.EPOCH_DAY.range().getMaximum();
+        return new long[][] {new long[0], {42}, unsorted, sorted, {min, max, min, 0, max}, {5, 5, 5, 5, 5, 5, 5, 5}};
+    }
+
+    private static void assertDecodeFails(IndianDateStreamCodec codec, byte[] bytes, String message) {
+        try {
+            codec.decode(bytes);
+            fail(message);
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is(message));
+        }
+    }
+}
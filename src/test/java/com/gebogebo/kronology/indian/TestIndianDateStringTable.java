@@ -0,0 +1,105 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.After;
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.stream.LongStream;
+
+/**
+ * Tests the {@link IndianDateStringTable} class with a clock that is moved across days.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateStringTable {
+
+    private static final long TODAY = new IndianNationalDate(1948, 7, 27).toEpochDay();
+
+    @After
+    public void disable() {
+        IndianDateStringTable.disable();
+    }
+
+    @Test
+    public void testDisabled() {
+        assertThat(IndianDateStringTable.isEnabled(), is(false));
+        assertThat(IndianDateStringTable.string(TODAY), is(nullValue()));
+        assertThat(IndianNationalDate.ofEpochDay(TODAY).toString(), is("1948-07-27"));
+    }
+
+    @Test
+    public void testWindow() {
+        MutableClock clock = noonUtc(TODAY);
+        IndianDateStringTable.enable(30, 60, IndianClock.of(clock));
+        assertThat(IndianDateStringTable.isEnabled(), is(true));
+        byte[] text = new byte[16];
+        byte[] rendered = new byte[16];
+        for (long epochDay = TODAY - 100; epochDay <= TODAY + 100; epochDay++) {
+            String string = IndianNationalDate.ofEpochDay(epochDay).toString();
+            boolean inWindow = epochDay >= TODAY - 30 && epochDay <= TODAY + 60;
+            assertThat(string, IndianDateStringTable.string(epochDay), is(inWindow ? string : null));
+            if (inWindow) {
+                assertThat(IndianNationalDate.ofEpochDay(epochDay).toString(), is(sameInstance(string)));
+                assertThat(new String(IndianDateStringTable.utf8(epochDay), StandardCharsets.UTF_8), is(string));
+            }
+            int length = IndianDateText.formatIndian(epochDay, text, 3);
+            int renderedLength = IndianDateText.renderIndian(epochDay, rendered, 3);
+            assertThat(length, is(renderedLength));
+            assertThat(new String(text, 3, length - 3, StandardCharsets.US_ASCII), is(string));
+        }
+    }
+
+    @Test
+    public void testRebase() {
+        MutableClock clock = noonUtc(TODAY);
+        IndianDateStringTable.enable(10, 10, IndianClock.of(clock));
+        String kept = IndianDateStringTable.string(TODAY + 5);
+        assertThat(IndianDateStringTable.string(TODAY + 15), is(nullValue()));
+
+        // the window moves at the first lookup outside of it after the date changed
+        clock.advance(Duration.ofDays(7));
+        assertThat(IndianDateStringTable.string(TODAY - 10), is(notNullValue()));
+        assertThat(IndianDateStringTable.string(TODAY + 15), is("1948-08-12"));
+        assertThat(IndianDateStringTable.string(TODAY - 10), is(nullValue()));
+        assertThat(IndianDateStringTable.string(TODAY + 5), is(sameInstance(kept)));
+    }
+
+    @Test
+    public void testConcurrentLookups() {
+        MutableClock clock = noonUtc(TODAY);
+        IndianDateStringTable.enable(2000, 2000, IndianClock.of(clock));
+        LongStream.range(0, 200_000).parallel().forEach(i -> {
+            long epochDay = TODAY - 2500 + (i * 7919) % 5000;
+            String string = IndianNationalDate.ofEpochDay(epochDay).toString();
+            assertThat(string, IndianDateText.parseIndian(string.getBytes(StandardCharsets.US_ASCII), 0,
+                                                          string.length()), is(epochDay));
+        });
+        IndianConversionVerifier.Result result = IndianConversionVerifier.of().verify(TODAY - 2500, TODAY + 2500);
+        assertThat(result.toString(), result.isSuccess(), is(true));
+    }
+
+    @Test
+    public void testInvalidWindow() {
+        try {
+            IndianDateStringTable.enable(-1, 10);
+            fail("negative days");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertThat(IndianDateStringTable.isEnabled(), is(false));
+    }
+
+    private static MutableClock noonUtc(long epochDay) {
+        return new MutableClock(Instant.ofEpochSecond(epochDay * 86400 + 43200), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,112 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static java.time.temporal.ChronoField.*;
+import static java.time.temporal.ChronoUnit.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+/**
+ * Tests the {@link IndianDateTime} class against {@link LocalDateTime}.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateTime {
+
+    private static final ZoneId[] ZONES = {ZoneId.of("Asia/Kolkata"), ZoneId.of("Asia/Calcutta"), IndianDateTime.IST,
+                                           ZoneOffset.UTC, ZoneId.of("America/New_York"), ZoneOffset.ofHours(-11)};
+
+    @Test
+    public void testOfInstant() {
+        Random random = new Random(42);
+        long from = LocalDateTime.of(1900, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long to = LocalDateTime.of(2100, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        for (int i = 0; i < 20_000; i++) {
+            Instant instant = Instant.ofEpochSecond(from + (long) (random.nextDouble() * (to - from)),
+                                                    random.nextInt(1_000_000_000));
+            for (ZoneId zone : ZONES) {
+                IndianDateTime dateTime = IndianDateTime.ofInstant(instant, zone);
+                assertThat(dateTime.toIsoLocalDateTime(), is(LocalDateTime.ofInstant(instant, zone)));
+            }
+            long epochMilli = instant.toEpochMilli();
+            assertThat(IndianDateTime.ofEpochMilli(epochMilli, IndianDateTime.IST).toIsoLocalDateTime(),
+                    is(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), IndianDateTime.IST)));
+        }
+    }
+
+    @Test
+    public void testPlusAndUntil() {
+        LocalDateTime iso = LocalDateTime.of(2024, 3, 20, 22, 45, 10, 123_456_789);
+        IndianDateTime dateTime = IndianDateTime.of(iso);
+        ChronoUnit[] units = {NANOS, MICROS, MILLIS, SECONDS, MINUTES, HOURS, HALF_DAYS, DAYS, WEEKS};
+        long[] amounts = {0, 1, -1, 7, -59, 1000, -86_401, 123_456_789_012L, Integer.MIN_VALUE};
+        for (ChronoUnit unit : units) {
+            for (long amount : amounts) {
+                if (unit.compareTo(HOURS) > 0 && Math.abs(amount) > 1_000_000) {
+                    continue;
+                }
+                // LocalDateTime adds 256 half days as 256 days, so the half days are compared as hours
+                LocalDateTime expected = unit == HALF_DAYS ? iso.plusHours(amount * 12) : iso.plus(amount, unit);
+                IndianDateTime actual = dateTime.plus(amount, unit);
+                assertThat(unit + " " + amount, actual.toIsoLocalDateTime(), is(expected));
+                assertThat(actual.minus(amount, unit), is(dateTime));
+                assertThat(unit + " " + amount, dateTime.until(actual, unit), is(iso.until(expected, unit)));
+            }
+        }
+        assertThat(dateTime.plus(Duration.ofMinutes(90)).toIsoLocalDateTime(), is(iso.plusMinutes(90)));
+        IndianDateTime midMonth = IndianDateTime.of(1946, 5, 12, 8, 0, 0);
+        assertThat(midMonth.until(midMonth.plus(1, MONTHS).minus(1, NANOS), MONTHS), is(0L));
+        assertThat(midMonth.until(midMonth.plus(1, MONTHS), MONTHS), is(1L));
+    }
+
+    @Test
+    public void testSameDateWithinDay() {
+        IndianDateTime dateTime = IndianDateTime.of(1948, 7, 27, 1, 0, 0);
+        assertThat(dateTime.plus(22, HOURS).toLocalDate(), sameInstance(dateTime.toLocalDate()));
+        assertThat(dateTime.with(HOUR_OF_DAY, 23).toLocalDate(), sameInstance(dateTime.toLocalDate()));
+        assertThat(dateTime.with(LocalTime.NOON).toLocalDate(), sameInstance(dateTime.toLocalDate()));
+        assertThat(dateTime.plus(23, HOURS).toString(), is("1948-07-28T00:00"));
+        assertThat(dateTime.minus(2, HOURS).toString(), is("1948-07-26T23:00"));
+    }
+
+    @Test
+    public void testFieldsAndAdjusters() {
+        IndianDateTime dateTime = IndianDateTime.of(1946, 1, 31, 10, 15, 30);
+        assertThat(dateTime.get(YEAR), is(1946));
+        assertThat(dateTime.get(MONTH_OF_YEAR), is(1));
+        assertThat(dateTime.get(DAY_OF_MONTH), is(31));
+        assertThat(dateTime.get(MINUTE_OF_HOUR), is(15));
+        assertThat(dateTime.isSupported(ALIGNED_DAY_OF_WEEK_IN_MONTH), is(false));
+        assertThat(dateTime.isSupported(NANO_OF_DAY), is(true));
+        assertThat(dateTime.with(DAY_OF_MONTH, 5).toString(), is("1946-01-05T10:15:30"));
+        assertThat(dateTime.plus(1, YEARS).toString(), is("1947-01-30T10:15:30"));
+        assertThat(dateTime.with(IndianTemporalAdjusters.lastDayOfYear()).toString(), is("1946-12-30T10:15:30"));
+        assertThat(DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm").format(dateTime), is("31/01/1946 10:15"));
+    }
+
+    @Test
+    public void testChronologyAndOrdering() {
+        LocalDateTime iso = LocalDateTime.of(2026, 10, 19, 9, 30);
+        IndianDateTime dateTime = IndianNationalChronology.INSTANCE.localDateTime(iso);
+        assertThat(dateTime.toString(), is("1948-07-27T09:30"));
+        assertThat(IndianNationalDate.of(iso.toLocalDate()).atTime(iso.toLocalTime()), is(dateTime));
+        assertThat(dateTime.compareTo(dateTime.plus(1, NANOS)) < 0, is(true));
+        assertThat(dateTime.compareTo(dateTime.minus(1, DAYS).plus(23, HOURS)) > 0, is(true));
+        assertThat(dateTime.isBefore(iso.plusSeconds(1)), is(true));
+        assertThat(dateTime.isEqual(iso), is(true));
+        assertThat(IndianDateTime.from(iso.atZone(ZoneOffset.UTC)), is(dateTime));
+        assertThat(dateTime.toInstant(IndianDateTime.IST), is(iso.toInstant(IndianDateTime.IST)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static java.time.temporal.ChronoField.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.DateTimeException;
+import java.util.Random;
+
+/**
+ * Tests the {@link IndianDateValidator} class against the round trip through the epoch day.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateValidator {
+
+    @Test
+    public void testRandomRows() {
+        Random random = new Random(32);
+        int rows = 10_000;
+        int[] years = new int[rows];
+        int[] months = new int[rows];
+        int[] days = new int[rows];
+        int[] packed = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            years[row] = row % 100 == 0 ? random.nextInt() : 1800 + random.nextInt(400);
+            months[row] = random.nextInt(15) - 1;
+            days[row] = random.nextInt(34) - 1;
+            packed[row] = IndianPackedDate.pack(years[row] >> 10, months[row] & 0xF, days[row] & 0x1F);
+        }
+        byte[] errorCodes = new byte[rows];
+        long[] invalidRows = IndianDateValidator.validate(years, months, days, errorCodes);
+        byte[] packedErrorCodes = new byte[rows];
+        long[] packedInvalidRows = IndianDateValidator.validate(packed, packedErrorCodes);
+        for (int row = 0; row < rows; row++) {
+            byte expected = expectedErrorCode(years[row], months[row], days[row]);
+            String message = years[row] + "-" + months[row] + "-" + days[row];
+            assertThat(message, errorCodes[row], is(expected));
+            assertThat(message, IndianDateValidator.isInvalid(invalidRows, row), is(expected != 0));
+
+            int year = IndianPackedDate.year(packed[row]);
+            int month = IndianPackedDate.month(packed[row]);
+            int day = IndianPackedDate.dayOfMonth(packed[row]);
+            assertThat(packedErrorCodes[row], is(expectedErrorCode(year, month, day)));
+            assertThat(IndianDateValidator.isInvalid(packedInvalidRows, row), is(packedErrorCodes[row] != 0));
+        }
+    }
+
+    @Test
+    public void testChaitraAndRange() {
+        assertThat(IndianDateValidator.errorCode(1946, 1, 31), is(IndianDateValidator.VALID));
+        assertThat(IndianDateValidator.errorCode(1945, 1, 31), is(IndianDateValidator.INVALID_DAY_OF_MONTH));
+        assertThat(IndianDateValidator.errorCode(1945, 6, 31), is(IndianDateValidator.VALID));
+        assertThat(IndianDateValidator.errorCode(1945, 7, 31), is(IndianDateValidator.INVALID_DAY_OF_MONTH));
+        assertThat(IndianDateValidator.errorCode(1945, 13, 1), is(IndianDateValidator.INVALID_MONTH));
+        assertThat(IndianDateValidator.errorCode(999_999_921, 9, 30), is(IndianDateValidator.VALID));
+        assertThat(IndianDateValidator.errorCode(999_999_921, 10, 11), is(IndianDateValidator.OUT_OF_RANGE));
+        assertThat(IndianDateValidator.errorCode(Integer.MIN_VALUE, 1, 1), is(IndianDateValidator.OUT_OF_RANGE));
+    }
+
+    /**
+     * Gets the error code by converting the fields to an epoch day and back.
+     */
+    private static byte expectedErrorCode(int year, int month, int day) {
+        if (month < 1 || month > 12) {
+            return IndianDateValidator.INVALID_MONTH;
+        }
+        int maxDay = month == 1 ? 31 : month <= 6 ? 31 : 30;
+        if (day < 1 || day > maxDay) {
+            return IndianDateValidator.INVALID_DAY_OF_MONTH;
+        }
+        long epochDay = IndianYearInfo.DEFAULT.toEpochDay(year, month, day);
+        IndianNationalDate date;
+        try {
+            date = IndianNationalDate.ofEpochDay(epochDay);
+        } catch (DateTimeException e) {
+            return IndianDateValidator.OUT_OF_RANGE;
+        }
+        boolean roundTrip = date.get(YEAR) == year && date.get(MONTH_OF_YEAR) == month
+                && date.get(DAY_OF_MONTH) == day;
+        return roundTrip ? IndianDateValidator.VALID : IndianDateValidator.INVALID_DAY_OF_MONTH;
+    }
+}
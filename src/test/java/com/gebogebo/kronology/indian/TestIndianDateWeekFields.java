@@ -0,0 +1,73 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static java.time.temporal.ChronoField.*;
+import static java.time.temporal.ChronoUnit.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Tests the day of week, aligned week and proleptic month fields of {@link IndianNationalDate}, and the adjustments
+ * and additions using them.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianDateWeekFields {
+
+    @Test
+    public void testFields() {
+        LocalDate localDate = LocalDate.of(1895, 1, 1);
+        for (int i = 0; i < 3000; i++, localDate = localDate.plusDays(17)) {
+            IndianNationalDate date = IndianNationalDate.of(localDate);
+            String message = localDate.toString();
+            assertThat(message, date.getLong(DAY_OF_WEEK), is(localDate.getLong(DAY_OF_WEEK)));
+            assertThat(message, date.getLong(ALIGNED_WEEK_OF_MONTH), is((date.getLong(DAY_OF_MONTH) + 6) / 7));
+            assertThat(message, date.getLong(ALIGNED_WEEK_OF_YEAR), is((date.getLong(DAY_OF_YEAR) + 6) / 7));
+            long prolepticMonth = date.getLong(YEAR) * 12 + date.getLong(MONTH_OF_YEAR) - 1;
+            assertThat(message, date.getLong(PROLEPTIC_MONTH), is(prolepticMonth));
+
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                assertThat(message, date.with(TemporalAdjusters.next(dayOfWeek)),
+                        is(IndianNationalDate.of(localDate.with(TemporalAdjusters.next(dayOfWeek)))));
+                assertThat(message, date.with(DAY_OF_WEEK, dayOfWeek.getValue()),
+                        is(IndianNationalDate.of(localDate.with(DAY_OF_WEEK, dayOfWeek.getValue()))));
+            }
+        }
+    }
+
+    @Test
+    public void testWith() {
+        IndianNationalDate date = new IndianNationalDate(1946, 1, 31);
+        assertThat(date.with(ALIGNED_WEEK_OF_MONTH, 1), is(new IndianNationalDate(1946, 1, 3)));
+        assertThat(date.with(ALIGNED_WEEK_OF_YEAR, 3), is(new IndianNationalDate(1946, 1, 17)));
+        // moves back to the last day of Chaitra in a non-leap year
+        assertThat(date.with(PROLEPTIC_MONTH, 1945 * 12L), is(new IndianNationalDate(1945, 1, 30)));
+        assertThat(date.with(YEAR, 1947), is(new IndianNationalDate(1947, 1, 30)));
+        assertThat(date.with(MONTH_OF_YEAR, 7), is(new IndianNationalDate(1946, 7, 30)));
+        assertThat(date.with(DAY_OF_MONTH, 5), is(new IndianNationalDate(1946, 1, 5)));
+        assertThat(date.with(DAY_OF_YEAR, 32), is(new IndianNationalDate(1946, 2, 1)));
+        try {
+            new IndianNationalDate(1945, 1, 1).with(DAY_OF_MONTH, 31);
+            fail("Chaitra has 30 days in a non-leap year");
+        } catch (DateTimeException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testPlus() {
+        IndianNationalDate date = new IndianNationalDate(1946, 6, 31);
+        assertThat(date.plus(1, MONTHS), is(new IndianNationalDate(1946, 7, 30)));
+        assertThat(date.plus(-6, MONTHS), is(new IndianNationalDate(1945, 12, 30)));
+        assertThat(date.plus(2, WEEKS), is(new IndianNationalDate(1946, 7, 14)));
+        assertThat(date.minus(31, DAYS), is(new IndianNationalDate(1946, 5, 31)));
+        assertThat(date.plus(100, YEARS), is(new IndianNationalDate(2046, 6, 31)));
+    }
+}
@@ -0,0 +1,131 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static com.gebogebo.kronology.indian.IndianFiscalFields.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.ValueRange;
+
+/**
+ * Tests the {@link IndianFiscalFields} class against the fiscal years and quarters computed from ISO dates.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianFiscalFields {
+
+    @Test
+    public void testFieldsAgainstIso() {
+        LocalDate localDate = LocalDate.of(1895, 1, 1);
+        for (int i = 0; i < 20000; i++, localDate = localDate.plusDays(i % 5 == 0 ? 1 : 13)) {
+            IndianNationalDate date = IndianNationalDate.of(localDate);
+            String message = localDate.toString();
+            int isoFiscalYear = localDate.getMonthValue() >= 4 ? localDate.getYear() : localDate.getYear() - 1;
+            LocalDate fiscalStart = LocalDate.of(isoFiscalYear, 4, 1);
+            int quarter = (localDate.getMonthValue() + 8) % 12 / 3 + 1;
+
+            assertThat(message, date.getLong(FISCAL_YEAR), is(isoFiscalYear - 78L));
+            assertThat(message, date.get(FISCAL_QUARTER), is(quarter));
+            assertThat(message, date.getLong(DAY_OF_FISCAL_YEAR),
+                       is(fiscalStart.until(localDate, ChronoUnit.DAYS) + 1));
+            assertThat(message, date.range(DAY_OF_FISCAL_YEAR),
+                       is(ValueRange.of(1, fiscalStart.until(fiscalStart.plusYears(1), ChronoUnit.DAYS))));
+
+            int packed = IndianPackedDate.of(date);
+            assertThat(message, fiscalYearOfPacked(packed), is(isoFiscalYear - 78));
+            assertThat(message, fiscalQuarterOfPacked(packed), is((isoFiscalYear - 78) * 4L + quarter - 1));
+            assertThat(message, startOfFiscalQuarter(fiscalQuarterOfPacked(packed)),
+                       is(IndianNationalDate.of(fiscalStart.plusMonths((quarter - 1) * 3))));
+        }
+    }
+
+    @Test
+    public void testBoundaries() {
+        // 1 April 2026 is 11 Chaitra 1948, 1 April 2024 is 12 Chaitra 1946 in a leap year
+        assertThat(startOfFiscalYear(1948), is(new IndianNationalDate(1948, 1, 11)));
+        assertThat(startOfFiscalYear(1946), is(new IndianNationalDate(1946, 1, 12)));
+        assertThat(new IndianNationalDate(1948, 1, 10).get(FISCAL_YEAR), is(1947));
+        assertThat(new IndianNationalDate(1948, 1, 10).get(DAY_OF_FISCAL_YEAR), is(365));
+        assertThat(new IndianNationalDate(1946, 1, 11).get(DAY_OF_FISCAL_YEAR), is(366));
+        assertThat(new IndianNationalDate(1946, 1, 12).get(DAY_OF_FISCAL_YEAR), is(1));
+        assertThat(startOfFiscalQuarter(1948 * 4L + 3).toEpochDay(), is(LocalDate.of(2027, 1, 1).toEpochDay()));
+        assertThat(startOfFiscalQuarter(-1).toEpochDay(), is(LocalDate.of(78, 1, 1).toEpochDay()));
+    }
+
+    @Test
+    public void testWith() {
+        // 23 Shravana 1948 is 14 August 2026, in the second quarter
+        IndianNationalDate date = new IndianNationalDate(1948, 5, 23);
+        assertThat(date.with(DAY_OF_FISCAL_YEAR, 1), is(startOfFiscalYear(1948)));
+        assertThat(date.with(FISCAL_QUARTER, 4).toEpochDay(), is(LocalDate.of(2027, 2, 14).toEpochDay()));
+        assertThat(date.with(FISCAL_QUARTER, 1).toEpochDay(), is(LocalDate.of(2026, 5, 15).toEpochDay()));
+        assertThat(date.with(FISCAL_YEAR, 1900).toEpochDay(), is(LocalDate.of(1978, 8, 14).toEpochDay()));
+        // 31 March 2024 is the last day of a leap fiscal year
+        IndianNationalDate leapEnd = IndianNationalDate.of(LocalDate.of(2024, 3, 31));
+        assertThat(leapEnd.with(FISCAL_YEAR, 1946).toEpochDay(), is(LocalDate.of(2025, 3, 31).toEpochDay()));
+        // the last day of the fourth quarter of a leap fiscal year is clamped in the first quarter
+        assertThat(leapEnd.with(FISCAL_QUARTER, 1).toEpochDay(), is(LocalDate.of(2023, 6, 30).toEpochDay()));
+        try {
+            date.with(DAY_OF_FISCAL_YEAR, 366);
+            fail("the fiscal year 1948 has 365 days");
+        } catch (DateTimeException e) {
+            // expected
+        }
+        try {
+            date.with(FISCAL_QUARTER, 5);
+            fail("invalid quarter");
+        } catch (DateTimeException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testOtherTemporals() {
+        IndianDateTime dateTime = new IndianNationalDate(1948, 1, 5).atTime(LocalTime.NOON);
+        assertThat(dateTime.isSupported(FISCAL_YEAR), is(true));
+        assertThat(dateTime.get(FISCAL_YEAR), is(1947));
+        assertThat(dateTime.with(FISCAL_YEAR, 1948), is(new IndianNationalDate(1949, 1, 5).atTime(LocalTime.NOON)));
+        assertThat(LocalDate.of(2026, 10, 19).isSupported(FISCAL_YEAR), is(false));
+        assertThat(new IndianNationalDate(1948, 1, 5).isSupported(FISCAL_QUARTER), is(true));
+        assertThat(FISCAL_QUARTER.toString(), is("FiscalQuarter"));
+        try {
+            LocalDate.of(2026, 10, 19).get(FISCAL_YEAR);
+            fail("ISO dates don't have Saka fiscal years");
+        } catch (DateTimeException e) {
+            // expected
+        }
+        assertThat(ChronoField.EPOCH_DAY.isSupportedBy(dateTime), is(true));
+    }
+
+    @Test
+    public void testBulk() {
+        LocalDate localDate = LocalDate.of(2020, 1, 1);
+        int[] packed = new int[2000];
+        for (int i = 0; i < packed.length; i++) {
+            // runs of the same quarter, then jumps back and forth
+            localDate = localDate.plusDays(i % 100 == 99 ? -400 : 3);
+            packed[i] = IndianPackedDate.of(IndianNationalDate.of(localDate));
+        }
+        int[] years = new int[packed.length - 10];
+        long[] quarters = new long[packed.length - 10];
+        fiscalYearsOfPacked(packed, 5, packed.length - 5, years);
+        fiscalQuartersOfPacked(packed, 5, packed.length - 5, quarters);
+        for (int i = 0; i < years.length; i++) {
+            assertThat(years[i], is(fiscalYearOfPacked(packed[i + 5])));
+            assertThat(quarters[i], is(fiscalQuarterOfPacked(packed[i + 5])));
+        }
+        try {
+            fiscalYearsOfPacked(packed, 0, packed.length, years);
+            fail("destination too small");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Tests the {@link IndianIntervalIndex} class against linear scans of random intervals.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianIntervalIndex {
+
+    @Test
+    public void testRandomIntervals() {
+        Random random = new Random(42);
+        // sizes around the powers of two, where the implicit tree is partial
+        for (int size : new int[] {1, 2, 3, 7, 8, 9, 15, 16, 17, 100, 1023, 1024, 1025, 5000}) {
+            long[] first = new long[size];
+            long[] last = new long[size];
+            int[] ids = new int[size];
+            for (int i = 0; i < size; i++) {
+                first[i] = random.nextInt(3000);
+                // mostly short stays, with a few long entitlements
+                last[i] = first[i] + (random.nextInt(10) == 0 ? random.nextInt(2000) : random.nextInt(10));
+                ids[i] = 1_000_000 + i;
+            }
+            IndianIntervalIndex index = IndianIntervalIndex.of(first, last, ids);
+            assertThat(index.size(), is(size));
+            for (int query = 0; query < 300; query++) {
+                long from = random.nextInt(5200) - 100;
+                long to = from + random.nextInt(query % 3 == 0 ? 1 : 40);
+                int[] expected = scan(first, last, ids, from, to);
+                assertThat(sorted(index.overlapping(from, to)), is(expected));
+                assertThat(index.count(from, to), is(expected.length));
+                int[] dest = new int[expected.length + 2];
+                assertThat(index.overlapping(from, to, dest, 2), is(expected.length));
+                assertThat(sorted(Arrays.copyOfRange(dest, 2, dest.length)), is(expected));
+                assertThat(sorted(IntStream.range(0, index.stabbing(from, dest, 0)).map(i -> dest[i]).toArray()),
+                           is(scan(first, last, ids, from, from)));
+            }
+        }
+    }
+
+    @Test
+    public void testOrderAndSmallArray() {
+        long[] first = {30, 10, 20, 10, 0};
+        long[] last = {40, 15, 25, 12, 100};
+        IndianIntervalIndex index = IndianIntervalIndex.of(first, last);
+        // in the order of the first days, then of the positions
+        assertThat(index.overlapping(0, 50), is(new int[] {4, 1, 3, 2, 0}));
+        int[] dest = new int[2];
+        assertThat(index.overlapping(11, 21, dest, 0), is(4));
+        assertThat(dest, is(new int[] {4, 1}));
+        assertThat(index.overlapping(16, 19), is(new int[] {4}));
+        assertThat(index.overlapping(101, Long.MAX_VALUE), is(new int[0]));
+        assertThat(index.overlapping(Long.MIN_VALUE, -1), is(new int[0]));
+        assertThat(index.overlapping(40, 30), is(new int[0]));
+    }
+
+    @Test
+    public void testDates() {
+        IndianYearMonth month = IndianYearMonth.of(1948, 7);
+        long[] first = {month.startEpochDay() - 5, month.endEpochDay(), month.endEpochDay() + 1,
+                        month.startEpochDay() + 3};
+        long[] last = {month.startEpochDay() - 1, month.endEpochDay() + 10, month.endEpochDay() + 1,
+                       month.startEpochDay() + 3};
+        IndianIntervalIndex index = IndianIntervalIndex.of(first, last);
+        int[] dest = new int[4];
+        assertThat(index.overlapping(month, dest, 0), is(2));
+        assertThat(Arrays.copyOf(dest, 2), is(new int[] {3, 1}));
+        assertThat(index.overlapping(month.atDay(1), month.atDay(3), dest, 0), is(0));
+        assertThat(index.stabbing(month.atDay(4), dest, 0), is(1));
+        assertThat(dest[0], is(3));
+        assertThat(index.toString(), is("IndianIntervalIndex[4 intervals, 1948-06-27 - 1948-08-10]"));
+    }
+
+    @Test
+    public void testFile() throws IOException {
+        Random random = new Random(7);
+        int size = 100_000;
+        long[] first = new long[size];
+        long[] last = new long[size];
+        for (int i = 0; i < size; i++) {
+            first[i] = random.nextInt(Integer.MAX_VALUE) - (long) random.nextInt(Integer.MAX_VALUE);
+            last[i] = Math.min(Integer.MAX_VALUE, first[i] + random.nextInt(1 << 20));
+        }
+        IndianIntervalIndex index = IndianIntervalIndex.of(first, last);
+        Path file = Files.createTempFile("intervals", ".idx");
+        try {
+            index.writeTo(file);
+            assertThat(Files.size(file), is(8L + 16L * size));
+            IndianIntervalIndex mapped = IndianIntervalIndex.map(file);
+            assertThat(mapped.size(), is(size));
+            assertThat(mapped.toString(), is(index.toString()));
+            for (int query = 0; query < 1000; query++) {
+                long from = first[random.nextInt(size)] - random.nextInt(1 << 20);
+                long to = from + random.nextInt(1 << 18);
+                assertThat(mapped.overlapping(from, to), is(index.overlapping(from, to)));
+            }
+
+            IndianIntervalIndex.of(new long[0], new long[0]).writeTo(file);
+            IndianIntervalIndex empty = IndianIntervalIndex.map(file);
+            assertThat(empty.size(), is(0));
+            assertThat(empty.overlapping(Long.MIN_VALUE, Long.MAX_VALUE), is(new int[0]));
+            assertThat(empty.toString(), is("IndianIntervalIndex[]"));
+
+            Files.write(file, new byte[] {2, 0, 0, 0, 0, 0, 0, 0});
+            try {
+                IndianIntervalIndex.map(file);
+                fail("version");
+            } catch (IOException e) {
+                assertThat(e.getMessage(), is("Unsupported IndianIntervalIndex version: 2"));
+            }
+            Files.write(file, new byte[] {1, 0, 0, 0, 0, 0, 0, 1});
+            try {
+                IndianIntervalIndex.map(file);
+                fail("truncated");
+            } catch (IOException e) {
+                // expected
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testInvalidIntervals() {
+        try {
+            IndianIntervalIndex.of(new long[] {1, 2}, new long[] {3});
+            fail("lengths");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            IndianIntervalIndex.of(new long[] {5}, new long[] {4});
+            fail("ends before it starts");
+        } catch (DateTimeException e) {
+            // expected
+        }
+        try {
+            IndianIntervalIndex.of(new long[] {0}, new long[] {Integer.MAX_VALUE + 1L});
+            fail("out of range");
+        } catch (DateTimeException e) {
+            // expected
+        }
+    }
+
+    private static int[] scan(long[] first, long[] last, int[] ids, long from, long to) {
+        return IntStream.range(0, first.length).filter(i -> first[i] <= to && last[i] >= from).map(i -> ids[i])
+                        .sorted().toArray();
+    }
+
+    private static int[] sorted(int[] ids) {
+        int[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
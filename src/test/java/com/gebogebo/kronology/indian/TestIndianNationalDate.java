@@ -6,6 +6,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
 import java.time.LocalDate;
+import java.util.stream.LongStream;
 
 /**
  * Tests the {@code IndianNationalDate} class.
@@ -171,6 +172,17 @@ public class TestIndianNationalDate {
         testTranslation(new int[] {2020, 12, 1}, new int[] {1942, 9, 10});
     }
 
+    /**
+     * Test the epoch day conversion in both directions against the conversion from {@code LocalDate}.
+     */
+    @Test
+    public void testEpochDay() {
+        LongStream.rangeClosed(LocalDate.of(-2001, 1, 1).toEpochDay(), LocalDate.of(-1999, 1, 1).toEpochDay())
+                .forEach(TestIndianNationalDate::compareEpochDay);
+        LongStream.rangeClosed(LocalDate.of(1896, 1, 1).toEpochDay(), LocalDate.of(1912, 1, 1).toEpochDay())
+                .forEach(TestIndianNationalDate::compareEpochDay);
+    }
+
     /**
      * A utility method to test conversion between isoDate and indianDate.
      *
@@ -197,6 +209,30 @@ public class TestIndianNationalDate {
         assertThat("fromIsoDate(): day doesn't match", indianDate.get(DAY_OF_MONTH), is(indianDates[2]));
     }
 
+    /**
+     * Tests the text of the dates against the format it replaces, including the years with less than four digits and
+     * the negative years.
+     */
+    @Test
+    public void testToStringFormat() {
+        int[] years = {-123456, -1000, -999, -10, -1, 0, 1, 9, 99, 999, 1000, 1948, 123456};
+        for (int year : years) {
+            for (int month = 1; month <= 12; month += 11) {
+                IndianNationalDate date = IndianNationalDate.of(IndianNationalDate.toLocalDate(year, month, 9));
+                assertThat(date.toString(), is(String.format("%04d-%02d-%02d", year, month, 9)));
+            }
+        }
+    }
+
+    /**
+     * Tests the Indian date created from the given epoch day against the one created from the {@code LocalDate}.
+     */
+    private static void compareEpochDay(long epochDay) {
+        IndianNationalDate indianDate = IndianNationalDate.ofEpochDay(epochDay);
+        assertThat(indianDate, is(IndianNationalDate.of(LocalDate.ofEpochDay(epochDay))));
+        assertThat(indianDate.toEpochDay(), is(epochDay));
+    }
+
     /**
      * Tests the Iso date's components (year, month and day of month) by instantiating an Iso date from Indian date
      * components.
@@ -4,6 +4,8 @@ import org.junit.Test;
 import static com.gebogebo.kronology.indian.IndianNationalDate.of;
 import static java.time.LocalDate.now;
 import static java.time.LocalDate.of;
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.PROLEPTIC_MONTH;
 import static java.time.temporal.ChronoUnit.*;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -67,15 +69,58 @@ public class TestIndianNationalDateUntil {
         compareUntilValues(ld1, ld2);
     }
 
+    @Test
+    public void testMonthEnds() {
+        IndianNationalDate ashwinEnd = new IndianNationalDate(1946, 7, 30);
+        IndianNationalDate kartikaEnd = ashwinEnd.plus(1, MONTHS);
+        assertThat(kartikaEnd, is(new IndianNationalDate(1946, 8, 30)));
+        assertThat(ashwinEnd.until(kartikaEnd, MONTHS), is(1L));
+        assertThat(ashwinEnd.until(kartikaEnd), is(IndianNationalChronology.INSTANCE.period(0, 1, 0)));
+
+        // the 31st of Bhadra to the 30th of Ashwin is not a whole month
+        IndianNationalDate bhadraEnd = new IndianNationalDate(1946, 6, 31);
+        assertThat(bhadraEnd.plus(1, MONTHS), is(ashwinEnd));
+        assertThat(bhadraEnd.until(ashwinEnd, MONTHS), is(0L));
+        assertThat(bhadraEnd.until(ashwinEnd), is(IndianNationalChronology.INSTANCE.period(0, 0, 30)));
+
+        // the 31st of Chaitra in a leap year
+        IndianNationalDate leapChaitraEnd = new IndianNationalDate(1946, 1, 31);
+        assertThat(leapChaitraEnd.plus(1, YEARS), is(new IndianNationalDate(1947, 1, 30)));
+        assertThat(leapChaitraEnd.until(new IndianNationalDate(1947, 1, 30), YEARS), is(0L));
+        assertThat(leapChaitraEnd.until(new IndianNationalDate(1947, 2, 1), YEARS), is(1L));
+        assertThat(leapChaitraEnd.until(new IndianNationalDate(2046, 1, 31), CENTURIES), is(1L));
+    }
+
+    @Test
+    public void testPlusUntilRoundTrip() {
+        // every day of two years around the leap year 1946, to the days within two months either side
+        long first = new IndianNationalDate(1945, 12, 1).toEpochDay();
+        long last = new IndianNationalDate(1947, 2, 1).toEpochDay();
+        for (long epochDay = first; epochDay <= last; epochDay++) {
+            IndianNationalDate start = IndianNationalDate.ofEpochDay(epochDay);
+            for (int days = -70; days <= 70; days++) {
+                IndianNationalDate end = IndianNationalDate.ofEpochDay(epochDay + days);
+                long months = start.until(end, MONTHS);
+                assertThat(start + " " + end, months, is(sakaMonthsUntil(start, end)));
+                IndianNationalDate plusMonths = start.plus(months, MONTHS);
+                assertThat(start + " " + end, days >= 0 ? !plusMonths.isAfter(end) : !plusMonths.isBefore(end),
+                           is(true));
+                if (days >= 0) {
+                    // as with LocalDate, a period back to a shorter month is not undone when the day is clamped
+                    assertThat(start + " " + end, start.plus(start.until(end)), is(end));
+                }
+            }
+        }
+    }
+
     /**
-     * Tests the output of {@code until} for {@link LocalDate} and {@link IndianNationalDate}.
+     * Tests the output of {@code until} of {@link IndianNationalDate} against {@link LocalDate} for the days and
+     * against the Saka fields for the months and years.
      *
      * <p>
-     *     Since the days of month are aligned (starts at 12:00 am), a period between two dates be it in Iso or Indian
-     *     is same and that is why we test the output of the method {@link IndianNationalDate#until} by comparing it to
-     *     the output the same method in {@link LocalDate}.
-     *
-     *     This method also tests the other flavor of this method where the output is returned as {@code long}.
+     *     Since the days are aligned (starts at 12:00 am), a number of days between two dates be it in Iso or Indian
+     *     is same. The months and years are Saka months and years, which start on a different day than the Iso ones.
+     *     The period between two dates added back to the first date gives the second date.
      *
      * @param ld1 the starting date of the period
      * @param ld2 the ending date (exclusive) of the period
@@ -83,11 +128,28 @@ public class TestIndianNationalDateUntil {
     private void compareUntilValues(LocalDate ld1, LocalDate ld2) {
         IndianNationalDate id1 = of(ld1);
         IndianNationalDate id2 = of(ld2);
-        assertThat(id1.until(id2), is(ld1.until(ld2)));
-        assertThat(id2.until(id1), is(ld2.until(ld1))); // test reverse
+        assertThat(id1.plus(id1.until(id2)), is(id2));
+        assertThat(id1.until(id2).getChronology(), is(IndianNationalChronology.INSTANCE));
 
-        assertThat(id1.until(id2, YEARS), is(ld1.until(ld2, YEARS)));
-        assertThat(id1.until(id2, MONTHS), is(ld1.until(ld2, MONTHS)));
+        assertThat(id1.until(id2, YEARS), is(sakaMonthsUntil(id1, id2) / 12));
+        assertThat(id1.until(id2, MONTHS), is(sakaMonthsUntil(id1, id2)));
         assertThat(id1.until(id2, DAYS), is(ld1.until(ld2, DAYS)));
+        assertThat(id1.until(id2, WEEKS), is(ld1.until(ld2, WEEKS)));
+    }
+
+    /**
+     * Counts the whole Saka months between two dates from their fields: a month is whole once the day of month of the
+     * end date is reached.
+     */
+    private static long sakaMonthsUntil(IndianNationalDate start, IndianNationalDate end) {
+        long months = end.getLong(PROLEPTIC_MONTH) - start.getLong(PROLEPTIC_MONTH);
+        long startDay = start.getLong(DAY_OF_MONTH);
+        long endDay = end.getLong(DAY_OF_MONTH);
+        if (months > 0 && endDay < startDay) {
+            months--;
+        } else if (months < 0 && endDay > startDay) {
+            months++;
+        }
+        return months;
     }
 }
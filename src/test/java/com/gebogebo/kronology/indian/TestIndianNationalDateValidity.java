@@ -0,0 +1,66 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Tests the non-throwing validation methods of {@link IndianNationalDate} against the throwing ones.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianNationalDateValidity {
+
+    @Test
+    public void testAgainstThrowingMethods() {
+        int[] years = {-1_000_000_078, -1_000_000_077, -79, 0, 1941, 1942, 1943, 999_999_920, 999_999_921};
+        for (int year : years) {
+            for (int month = -1; month <= 13; month++) {
+                for (int dayOfMonth = 0; dayOfMonth <= 32; dayOfMonth++) {
+                    long epochDay = IndianNationalDate.tryToEpochDay(year, month, dayOfMonth);
+                    assertThat(IndianNationalDate.isValid(year, month, dayOfMonth),
+                            is(epochDay != IndianNationalDate.INVALID_EPOCH_DAY));
+                    try {
+                        LocalDate localDate = IndianNationalDate.toLocalDate(year, month, dayOfMonth);
+                        assertThat(localDate.toEpochDay(), is(epochDay));
+                        assertThat(new IndianNationalDate(year, month, dayOfMonth).toEpochDay(), is(epochDay));
+                    } catch (DateTimeException e) {
+                        assertThat(epochDay, is(IndianNationalDate.INVALID_EPOCH_DAY));
+                        expectDateTimeException(year, month, dayOfMonth);
+                    }
+                }
+            }
+            for (int dayOfYear = -1; dayOfYear <= 367; dayOfYear++) {
+                long epochDay = IndianNationalDate.tryOfYearDay(year, dayOfYear);
+                try {
+                    assertThat(IndianNationalDate.of(year, dayOfYear).toEpochDay(), is(epochDay));
+                } catch (DateTimeException e) {
+                    assertThat(epochDay, is(IndianNationalDate.INVALID_EPOCH_DAY));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLeapDay() {
+        assertThat(IndianNationalDate.isValid(1942, 1, 31), is(true));
+        assertThat(IndianNationalDate.isValid(1943, 1, 31), is(false));
+        assertThat(IndianNationalDate.tryToEpochDay(1942, 1, 31), is(LocalDate.of(2020, 4, 20).toEpochDay()));
+        assertThat(IndianNationalDate.tryOfYearDay(1942, 366), is(LocalDate.of(2021, 3, 21).toEpochDay()));
+        assertThat(IndianNationalDate.tryOfYearDay(1943, 366), is(IndianNationalDate.INVALID_EPOCH_DAY));
+    }
+
+    private static void expectDateTimeException(int year, int month, int dayOfMonth) {
+        try {
+            IndianNationalChronology.INSTANCE.date(year, month, dayOfMonth);
+            fail("Expected DateTimeException to be thrown for: " + year + "-" + month + "-" + dayOfMonth);
+        } catch (DateTimeException e) {
+            // expected
+        }
+    }
+}
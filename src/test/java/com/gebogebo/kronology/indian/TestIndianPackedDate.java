@@ -0,0 +1,41 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static java.time.temporal.ChronoField.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Tests the {@link IndianPackedDate} class.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianPackedDate {
+
+    @Test
+    public void testRoundTripAndOrder() {
+        int previous = Integer.MIN_VALUE;
+        for (long epochDay = LocalDate.of(-5, 1, 1).toEpochDay(); epochDay < LocalDate.of(5, 1, 1).toEpochDay();
+             epochDay++) {
+            IndianNationalDate date = IndianNationalDate.ofEpochDay(epochDay);
+            int packed = IndianPackedDate.ofEpochDay(epochDay);
+            assertThat(packed, is(IndianPackedDate.of(date)));
+            assertThat(IndianPackedDate.year(packed), is(date.get(YEAR)));
+            assertThat(IndianPackedDate.month(packed), is(date.get(MONTH_OF_YEAR)));
+            assertThat(IndianPackedDate.dayOfMonth(packed), is(date.get(DAY_OF_MONTH)));
+            assertThat(IndianPackedDate.toEpochDay(packed), is(epochDay));
+            assertThat(IndianPackedDate.toDate(packed), is(date));
+            assertThat(packed > previous, is(true));
+            previous = packed;
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testYearOutOfRange() {
+        IndianPackedDate.ofEpochDay(LocalDate.of(5_000_000, 1, 1).toEpochDay());
+    }
+}
@@ -0,0 +1,131 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static java.time.temporal.ChronoField.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Tests the {@link IndianRecurrenceRule} class.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianRecurrenceRule {
+
+    private static final long FROM = LocalDate.of(1896, 1, 1).toEpochDay();
+    private static final long TO = LocalDate.of(1912, 1, 1).toEpochDay();
+
+    @Test
+    public void testYearlyOnDayOfMonth() {
+        verifyAgainstScan(IndianRecurrenceRule.yearly(1, 1), d -> d.get(MONTH_OF_YEAR) == 1 && d.get(DAY_OF_MONTH) == 1);
+        // 31 Chaitra occurs only in leap years, 1900 (1822 Saka) is not a leap year
+        verifyAgainstScan(IndianRecurrenceRule.yearly(1, 31), d -> d.get(MONTH_OF_YEAR) == 1 && d.get(DAY_OF_MONTH) == 31);
+        verifyAgainstScan(IndianRecurrenceRule.yearly(12, -1), d -> d.get(MONTH_OF_YEAR) == 12 && d.get(DAY_OF_MONTH) == 30);
+    }
+
+    @Test
+    public void testMonthlyOnDayOfMonth() {
+        verifyAgainstScan(IndianRecurrenceRule.monthly(-1), d -> d.get(DAY_OF_MONTH) == d.lengthOfMonth());
+        verifyAgainstScan(IndianRecurrenceRule.monthly(31), d -> d.get(DAY_OF_MONTH) == 31);
+        verifyAgainstScan(IndianRecurrenceRule.monthly(15), d -> d.get(DAY_OF_MONTH) == 15);
+    }
+
+    @Test
+    public void testMonthlyOnDayOfWeek() {
+        verifyAgainstScan(IndianRecurrenceRule.monthly(2, DayOfWeek.MONDAY),
+                d -> dayOfWeek(d) == DayOfWeek.MONDAY && (d.get(DAY_OF_MONTH) - 1) / 7 == 1);
+        verifyAgainstScan(IndianRecurrenceRule.monthly(5, DayOfWeek.SUNDAY),
+                d -> dayOfWeek(d) == DayOfWeek.SUNDAY && (d.get(DAY_OF_MONTH) - 1) / 7 == 4);
+        verifyAgainstScan(IndianRecurrenceRule.monthly(-1, DayOfWeek.FRIDAY),
+                d -> dayOfWeek(d) == DayOfWeek.FRIDAY && d.get(DAY_OF_MONTH) + 7 > d.lengthOfMonth());
+    }
+
+    @Test
+    public void testYearlyOnDayOfWeek() {
+        verifyAgainstScan(IndianRecurrenceRule.yearly(5, 2, DayOfWeek.MONDAY),
+                d -> d.get(MONTH_OF_YEAR) == 5 && dayOfWeek(d) == DayOfWeek.MONDAY && (d.get(DAY_OF_MONTH) - 1) / 7 == 1);
+    }
+
+    @Test
+    public void testWeeklyAndDaily() {
+        verifyAgainstScan(IndianRecurrenceRule.weekly(DayOfWeek.WEDNESDAY), d -> dayOfWeek(d) == DayOfWeek.WEDNESDAY);
+        verifyAgainstScan(IndianRecurrenceRule.daily(), d -> true);
+    }
+
+    @Test
+    public void testInterval() {
+        IndianNationalDate anchor = new IndianNationalDate(1820, 3, 10);
+        IndianRecurrenceRule rule = IndianRecurrenceRule.monthly(1).withInterval(3, anchor);
+        verifyAgainstScan(rule, d -> d.get(DAY_OF_MONTH) == 1 &&
+                Math.floorMod(d.get(YEAR) * 12 + d.get(MONTH_OF_YEAR) - (1820 * 12 + 3), 3) == 0);
+    }
+
+    @Test
+    public void testStream() {
+        IndianNationalDate from = new IndianNationalDate(1946, 5, 12);
+        assertThat(IndianRecurrenceRule.yearly(1, 1).stream(from).limit(2).collect(Collectors.toList()),
+                is(Arrays.asList(new IndianNationalDate(1947, 1, 1), new IndianNationalDate(1948, 1, 1))));
+        assertThat(IndianRecurrenceRule.monthly(-1).next(from), is(new IndianNationalDate(1946, 5, 31)));
+    }
+
+    @Test
+    public void testOccurrencesIntoSmallArray() {
+        long[] dest = new long[5];
+        int count = IndianRecurrenceRule.daily().occurrences(FROM, TO, dest, 2);
+        assertThat(count, is(3));
+        assertThat(dest, is(new long[] {0, 0, FROM, FROM + 1, FROM + 2}));
+    }
+
+    @Test
+    public void testInvalidRules() {
+        expectDateTimeException(() -> IndianRecurrenceRule.monthly(0));
+        expectDateTimeException(() -> IndianRecurrenceRule.monthly(32));
+        expectDateTimeException(() -> IndianRecurrenceRule.monthly(6, DayOfWeek.MONDAY));
+        expectDateTimeException(() -> IndianRecurrenceRule.yearly(7, 31));
+        expectDateTimeException(() -> IndianRecurrenceRule.yearly(13, 1));
+        expectDateTimeException(() -> IndianRecurrenceRule.daily().withInterval(0, new IndianNationalDate(1946, 1, 1)));
+        // the 31st day of every Ashwin never occurs
+        expectDateTimeException(() -> IndianRecurrenceRule.monthly(31).withInterval(12, new IndianNationalDate(1946, 7, 1)));
+    }
+
+    /**
+     * Verifies the occurrences of the given rule against a day by day scan over the test window.
+     *
+     * @param rule      rule to verify
+     * @param expected  predicate that matches the expected occurrences
+     */
+    private static void verifyAgainstScan(IndianRecurrenceRule rule, Predicate<IndianNationalDate> expected) {
+        long[] scanned = LongStream.range(FROM, TO)
+                .filter(epochDay -> expected.test(IndianNationalDate.of(LocalDate.ofEpochDay(epochDay))))
+                .toArray();
+        long[] streamed = rule.epochDayStream(FROM).takeWhile(epochDay -> epochDay < TO).toArray();
+        assertThat(rule.toString(), streamed, is(scanned));
+
+        long[] bulk = new long[scanned.length + 1];
+        assertThat(rule.occurrences(FROM, TO, bulk, 1), is(scanned.length));
+        assertThat(Arrays.copyOfRange(bulk, 1, bulk.length), is(scanned));
+    }
+
+    private static DayOfWeek dayOfWeek(IndianNationalDate date) {
+        return LocalDate.from(date).getDayOfWeek();
+    }
+
+    private static void expectDateTimeException(Runnable runnable) {
+        try {
+            runnable.run();
+            fail("Expected DateTimeException");
+        } catch (DateTimeException e) {
+            // expected
+        }
+    }
+}
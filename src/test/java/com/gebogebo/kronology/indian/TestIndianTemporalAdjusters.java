@@ -0,0 +1,60 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static java.time.temporal.ChronoField.*;
+import static java.time.temporal.ChronoUnit.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjuster;
+
+/**
+ * Tests the {@link IndianTemporalAdjusters} class against the adjustments made with the date fields.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianTemporalAdjusters {
+
+    @Test
+    public void testAdjusters() {
+        for (LocalDate localDate = LocalDate.of(1998, 1, 1); localDate.getYear() < 2006;
+             localDate = localDate.plusDays(1)) {
+            IndianNationalDate date = IndianNationalDate.of(localDate);
+            int month = date.get(MONTH_OF_YEAR);
+            IndianNationalDate monthStart = date.with(DAY_OF_MONTH, 1);
+            IndianNationalDate quarterStart = monthStart.with(MONTH_OF_YEAR, month - (month - 1) % 3);
+            IndianNationalDate yearStart = date.with(DAY_OF_YEAR, 1);
+
+            verify(date, IndianTemporalAdjusters.firstDayOfMonth(), monthStart);
+            verify(date, IndianTemporalAdjusters.lastDayOfMonth(), date.with(DAY_OF_MONTH, date.lengthOfMonth()));
+            verify(date, IndianTemporalAdjusters.firstDayOfNextMonth(), monthStart.plus(1, MONTHS));
+            verify(date, IndianTemporalAdjusters.sameDayOfNextMonth(), date.plus(1, MONTHS));
+            verify(date, IndianTemporalAdjusters.firstDayOfQuarter(), quarterStart);
+            verify(date, IndianTemporalAdjusters.lastDayOfQuarter(), quarterStart.plus(3, MONTHS).minus(1, DAYS));
+            verify(date, IndianTemporalAdjusters.firstDayOfYear(), yearStart);
+            verify(date, IndianTemporalAdjusters.lastDayOfYear(), yearStart.plus(1, YEARS).minus(1, DAYS));
+            verify(date, IndianTemporalAdjusters.firstDayOfNextYear(), yearStart.plus(1, YEARS));
+        }
+    }
+
+    @Test
+    public void testSingletons() {
+        assertThat(IndianTemporalAdjusters.lastDayOfMonth() == IndianTemporalAdjusters.lastDayOfMonth(), is(true));
+        assertThat(new IndianNationalDate(1946, 12, 15).with(IndianTemporalAdjusters.sameDayOfNextMonth()),
+                is(new IndianNationalDate(1947, 1, 15)));
+        assertThat(new IndianNationalDate(1946, 6, 31).with(IndianTemporalAdjusters.sameDayOfNextMonth()),
+                is(new IndianNationalDate(1946, 7, 30)));
+    }
+
+    /**
+     * Verifies the adjuster on the Saka date and on the corresponding ISO date.
+     */
+    private static void verify(IndianNationalDate date, TemporalAdjuster adjuster,
+                               IndianNationalDate expected) {
+        assertThat(date.toString(), date.with(adjuster), is(expected));
+        LocalDate localDate = LocalDate.ofEpochDay(date.toEpochDay());
+        assertThat(date.toString(), localDate.with(adjuster), is(LocalDate.ofEpochDay(expected.toEpochDay())));
+    }
+}
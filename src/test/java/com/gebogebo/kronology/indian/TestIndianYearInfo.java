@@ -0,0 +1,79 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static java.time.temporal.ChronoField.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Tests the {@link IndianYearInfo} class, both within and outside of the span of the table.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianYearInfo {
+
+    @Test
+    public void testSmallSpan() {
+        // 1940 - 1950 (Saka) is 2018-03-22 to 2029-03-21 (ISO), the days around it use the arithmetic fallback
+        IndianYearInfo yearInfo = IndianYearInfo.of(1940, 1950);
+        long from = LocalDate.of(2016, 1, 1).toEpochDay();
+        long to = LocalDate.of(2031, 1, 1).toEpochDay();
+        verify(yearInfo, from, to);
+    }
+
+    @Test
+    public void testDefault() {
+        IndianYearInfo yearInfo = IndianYearInfo.DEFAULT;
+        assertThat(yearInfo.getFirstYear(), is(1800));
+        assertThat(yearInfo.getLastYear(), is(2200));
+        // the first and the last years of the span, and some years before the common era
+        verify(yearInfo, LocalDate.of(1876, 1, 1).toEpochDay(), LocalDate.of(1880, 1, 1).toEpochDay());
+        verify(yearInfo, LocalDate.of(2276, 1, 1).toEpochDay(), LocalDate.of(2280, 1, 1).toEpochDay());
+        verify(yearInfo, LocalDate.of(-3, 1, 1).toEpochDay(), LocalDate.of(1, 1, 1).toEpochDay());
+    }
+
+    @Test
+    public void testDayOfYear() {
+        assertThat(new IndianNationalDate(1946, 1, 1).getLong(DAY_OF_YEAR), is(1L));
+        assertThat(new IndianNationalDate(1946, 12, 30).getLong(DAY_OF_YEAR), is(366L));
+        assertThat(new IndianNationalDate(1945, 12, 30).getLong(DAY_OF_YEAR), is(365L));
+        assertThat(IndianNationalDate.of(1942, 277), is(new IndianNationalDate(1942, 10, 1)));
+    }
+
+    @Test
+    public void testInvalidSpan() {
+        try {
+            IndianYearInfo.of(1950, 1940);
+            fail("an empty span should be rejected");
+        } catch (DateTimeException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Verifies every epoch day in the range against the conversions of {@link LocalDate}.
+     */
+    private static void verify(IndianYearInfo yearInfo, long from, long to) {
+        for (long epochDay = from; epochDay < to; epochDay++) {
+            IndianNationalDate date = IndianNationalDate.of(LocalDate.ofEpochDay(epochDay));
+            int year = date.get(YEAR);
+            int month = date.get(MONTH_OF_YEAR);
+            int dayOfMonth = date.get(DAY_OF_MONTH);
+            LocalDate yearStart = LocalDate.of(year + 78, 1, 1).plusDays(80);
+            String message = LocalDate.ofEpochDay(epochDay).toString();
+
+            assertThat(message, yearInfo.prolepticYear(epochDay), is(year));
+            assertThat(message, yearInfo.toEpochDay(year, month, dayOfMonth), is(epochDay));
+            assertThat(message, yearInfo.yearStartEpochDay(year), is(yearStart.toEpochDay()));
+            assertThat(message, yearInfo.isLeapYear(year), is(yearStart.isLeapYear()));
+            assertThat(message, yearInfo.lengthOfYear(year), is(yearStart.lengthOfYear()));
+            assertThat(message, yearInfo.lengthOfMonth(year, month), is(date.lengthOfMonth()));
+            assertThat(message, date.toEpochDay(), is(epochDay));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static java.time.temporal.ChronoField.*;
+import static java.time.temporal.ChronoUnit.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the {@link IndianYearMonth} class against the month of the {@link IndianNationalDate}.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianYearMonth {
+
+    @Test
+    public void testAgainstDates() {
+        IndianYearMonth yearMonth = IndianYearMonth.of(1920, 1);
+        IndianYearMonth previous = yearMonth.minusMonths(1);
+        for (int i = 0; i < 12 * 50; i++) {
+            IndianNationalDate first = IndianNationalDate.of(1920, 1).plus(i, MONTHS);
+            assertThat(yearMonth, is(IndianYearMonth.from(first)));
+            assertThat(yearMonth, is(IndianYearMonth.ofEpochDay(first.toEpochDay() + first.lengthOfMonth() - 1)));
+            assertThat(yearMonth.getYear(), is(first.get(YEAR)));
+            assertThat(yearMonth.getMonthValue(), is(first.get(MONTH_OF_YEAR)));
+            assertThat(yearMonth.getProlepticMonth(), is(first.getLong(PROLEPTIC_MONTH)));
+            assertThat(yearMonth.lengthOfMonth(), is(first.lengthOfMonth()));
+            assertThat(yearMonth.lengthOfYear(), is(first.lengthOfYear()));
+            assertThat(yearMonth.atDay(1), is(first));
+            assertThat(yearMonth.atEndOfMonth(), is(first.with(DAY_OF_MONTH, first.lengthOfMonth())));
+            assertThat(yearMonth.startEpochDay(), is(first.toEpochDay()));
+            assertThat(yearMonth.isoStart(), is(LocalDate.from(first)));
+            assertThat(yearMonth.days().count(), is((long) first.lengthOfMonth()));
+            assertThat(IndianYearMonth.ofPacked(yearMonth.getPacked()), is(yearMonth));
+            assertThat(IndianYearMonth.ofPacked(IndianPackedDate.of(first)), is(yearMonth));
+            assertThat(yearMonth.compareTo(previous) > 0 && yearMonth.isAfter(previous), is(true));
+            assertThat(previous.isBefore(yearMonth), is(true));
+            assertThat(previous.plusMonths(1), is(yearMonth));
+            previous = yearMonth;
+            yearMonth = yearMonth.plusMonths(1);
+        }
+        assertThat(IndianYearMonth.of(1948, 7).plusYears(-2), is(IndianYearMonth.of(1946, 7)));
+        assertThat(IndianYearMonth.of(1948, 1).minusMonths(13), is(IndianYearMonth.of(1946, 12)));
+    }
+
+    @Test
+    public void testIsoOverlap() {
+        IndianYearMonth ashwin = IndianYearMonth.of(1948, 7);
+        assertThat(ashwin.isoStart(), is(LocalDate.of(2026, 9, 23)));
+        assertThat(ashwin.isoEnd(), is(LocalDate.of(2026, 10, 22)));
+        assertThat(ashwin.overlap(YearMonth.of(2026, 9)), is(8));
+        assertThat(ashwin.overlap(YearMonth.of(2026, 10)), is(22));
+        assertThat(ashwin.overlap(YearMonth.of(2026, 11)), is(0));
+        assertThat(ashwin.overlap(YearMonth.of(2025, 10)), is(0));
+    }
+
+    @Test
+    public void testDaysStream() {
+        IndianYearMonth chaitra = IndianYearMonth.of(1946, 1);
+        assertThat(chaitra.days().parallel().map(IndianNationalDate::toString).collect(Collectors.toList()),
+                is(chaitra.epochDays().mapToObj(d -> IndianNationalDate.ofEpochDay(d).toString())
+                        .collect(Collectors.toList())));
+        assertThat(chaitra.days().skip(30).findFirst().get().toString(), is("1946-01-31"));
+        assertThat(chaitra.epochDays().spliterator().getExactSizeIfKnown(), is(31L));
+    }
+
+    @Test
+    public void testInvalid() {
+        expectDateTimeException(() -> IndianYearMonth.of(1948, 13));
+        expectDateTimeException(() -> IndianYearMonth.of(IndianPackedDate.MAX_YEAR + 1, 1));
+        expectDateTimeException(() -> IndianYearMonth.of(IndianPackedDate.MAX_YEAR, 12).plusMonths(1));
+        expectDateTimeException(() -> IndianYearMonth.of(1947, 1).atDay(31));
+        expectDateTimeException(() -> IndianYearMonth.of(1947, 1).atDay(0));
+    }
+
+    @Test
+    public void testToStringAndSerialization() throws IOException, ClassNotFoundException {
+        assertThat(IndianYearMonth.of(1948, 7).toString(), is("1948-07"));
+        assertThat(IndianYearMonth.of(-5, 12).toString(), is("-005-12"));
+        assertThat(IndianYearMonth.of(12, 10).toString(), is("0012-10"));
+
+        IndianYearMonth yearMonth = IndianYearMonth.of(1946, 1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(yearMonth);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            IndianYearMonth read = (IndianYearMonth) in.readObject();
+            assertThat(read, is(yearMonth));
+            assertThat(read.lengthOfMonth(), is(31));
+            assertThat(read.startEpochDay(), is(yearMonth.startEpochDay()));
+        }
+    }
+
+    private static void expectDateTimeException(Runnable runnable) {
+        try {
+            runnable.run();
+            fail("Expected DateTimeException to be thrown");
+        } catch (DateTimeException e) {
+            // expected
+        }
+    }
+}
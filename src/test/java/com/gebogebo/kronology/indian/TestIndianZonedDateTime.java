@@ -0,0 +1,85 @@
+package com.gebogebo.kronology.indian;
+
+import org.junit.Test;
+import static java.time.temporal.ChronoField.*;
+import static java.time.temporal.ChronoUnit.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Tests the {@link IndianZonedDateTime} class against {@link ZonedDateTime}, around the daylight saving transitions.
+ *
+ * @author viraj
+ * @since Ashwin 1948 (Oct 2026)
+ */
+public class TestIndianZonedDateTime {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final ZoneId KOLKATA = ZoneId.of("Asia/Kolkata");
+
+    @Test
+    public void testPlusAcrossTransitions() {
+        ZonedDateTime iso = ZonedDateTime.of(2026, 3, 7, 2, 30, 0, 0, NEW_YORK);
+        IndianZonedDateTime dateTime = IndianNationalChronology.INSTANCE.zonedDateTime(iso.toInstant(), NEW_YORK);
+        verify(dateTime, iso);
+        ChronoUnit[] units = {SECONDS, MINUTES, HOURS, HALF_DAYS, DAYS, WEEKS};
+        for (ChronoUnit unit : units) {
+            for (long amount = -40; amount <= 800; amount += 7) {
+                // ZonedDateTime adds 256 half days as 256 days, so the half days are compared as hours
+                ZonedDateTime expected = unit == HALF_DAYS ? iso.plusHours(amount * 12) : iso.plus(amount, unit);
+                IndianZonedDateTime actual = dateTime.plus(amount, unit);
+                verify(actual, expected);
+                assertThat(unit + " " + amount, dateTime.until(actual, unit), is(iso.until(expected, unit)));
+            }
+        }
+    }
+
+    @Test
+    public void testGapAndOverlap() {
+        // 02:30 doesn't exist on 2026-03-08 and 01:30 occurs twice on 2026-11-01 in New York
+        LocalDateTime gap = LocalDateTime.of(2026, 3, 8, 2, 30);
+        verify(IndianDateTime.of(gap).atZone(NEW_YORK), gap.atZone(NEW_YORK));
+
+        ZonedDateTime overlap = LocalDateTime.of(2026, 11, 1, 1, 30).atZone(NEW_YORK);
+        IndianZonedDateTime dateTime = IndianDateTime.of(overlap.toLocalDateTime()).atZone(NEW_YORK);
+        verify(dateTime, overlap);
+        verify(dateTime.withLaterOffsetAtOverlap(), overlap.withLaterOffsetAtOverlap());
+        verify(dateTime.withLaterOffsetAtOverlap().withEarlierOffsetAtOverlap(), overlap);
+        verify(dateTime.withLaterOffsetAtOverlap().plus(1, DAYS), overlap.withLaterOffsetAtOverlap().plusDays(1));
+        verify(dateTime.plus(1, HOURS), overlap.plusHours(1));
+    }
+
+    @Test
+    public void testZonesAndFields() {
+        ZonedDateTime iso = ZonedDateTime.of(2026, 10, 19, 23, 0, 0, 0, KOLKATA);
+        IndianZonedDateTime dateTime = IndianZonedDateTime.from(iso);
+        assertThat(dateTime.toString(), is("1948-07-27T23:00+05:30[Asia/Kolkata]"));
+        verify(dateTime.withZoneSameInstant(NEW_YORK), iso.withZoneSameInstant(NEW_YORK));
+        verify(dateTime.withZoneSameLocal(NEW_YORK), iso.withZoneSameLocal(NEW_YORK));
+        verify(dateTime.with(HOUR_OF_DAY, 1), iso.withHour(1));
+        verify(dateTime.with(INSTANT_SECONDS, 0), iso.with(INSTANT_SECONDS, 0));
+        assertThat(dateTime.getLong(INSTANT_SECONDS), is(iso.toEpochSecond()));
+        assertThat(dateTime.get(OFFSET_SECONDS), is(19800));
+        assertThat(dateTime.with(DAY_OF_MONTH, 1).toLocalDate(), is(new IndianNationalDate(1948, 7, 1)));
+        assertThat(dateTime.with(IndianTemporalAdjusters.firstDayOfNextYear()).toString(),
+                is("1949-01-01T23:00+05:30[Asia/Kolkata]"));
+        assertThat(IndianZonedDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC).toString(),
+                is("1891-10-11T00:00Z"));
+        assertThat(dateTime.isBefore(iso.plusNanos(1)), is(true));
+        assertThat(dateTime.isEqual(iso), is(true));
+    }
+
+    private static void verify(IndianZonedDateTime actual, ZonedDateTime expected) {
+        assertThat(actual.toLocalDateTime().toIsoLocalDateTime(), is(expected.toLocalDateTime()));
+        assertThat(actual.getOffset(), is(expected.getOffset()));
+        assertThat(actual.getZone(), is(expected.getZone()));
+        assertThat(actual.toInstant(), is(expected.toInstant()));
+    }
+}